@@ -0,0 +1,88 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.util.LruCache;
+import com.google.android.gms.maps.model.BitmapDescriptor;
+import java.util.Arrays;
+
+/**
+ * A least recently used cache of {@link BitmapDescriptor}s bounded by the memory of the bitmaps
+ * they were created from.
+ *
+ * <p>Descriptors created from bytes are keyed by the content of the bytes with {@link BytesKey}, so
+ * markers sharing an icon only decode it once. Descriptors created from assets are keyed by the
+ * asset lookup key.
+ *
+ * <p>A single instance is shared by all the maps of the process, see {@link Convert}.
+ */
+class BitmapDescriptorCache {
+  // Size charged for descriptors whose bitmap is decoded by the Maps SDK, e.g. assets.
+  static final int UNKNOWN_ENTRY_SIZE = 16 * 1024;
+
+  private final LruCache<Object, Entry> cache;
+
+  private static final class Entry {
+    final BitmapDescriptor descriptor;
+    final int sizeInBytes;
+
+    Entry(BitmapDescriptor descriptor, int sizeInBytes) {
+      this.descriptor = descriptor;
+      this.sizeInBytes = sizeInBytes;
+    }
+  }
+
+  /** Key comparing the content of a byte array, its hash code is computed once. */
+  static final class BytesKey {
+    private final byte[] bytes;
+    private final int hashCode;
+
+    BytesKey(byte[] bytes) {
+      this.bytes = bytes;
+      this.hashCode = Arrays.hashCode(bytes);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof BytesKey)) {
+        return false;
+      }
+      BytesKey other = (BytesKey) o;
+      return hashCode == other.hashCode && Arrays.equals(bytes, other.bytes);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+  BitmapDescriptorCache(int maxSizeInBytes) {
+    cache =
+        new LruCache<Object, Entry>(maxSizeInBytes) {
+          @Override
+          protected int sizeOf(Object key, Entry entry) {
+            int keySize = key instanceof BytesKey ? ((BytesKey) key).bytes.length : 0;
+            return entry.sizeInBytes + keySize;
+          }
+        };
+  }
+
+  BitmapDescriptor get(Object key) {
+    Entry entry = cache.get(key);
+    return entry == null ? null : entry.descriptor;
+  }
+
+  void put(Object key, BitmapDescriptor descriptor, int sizeInBytes) {
+    cache.put(key, new Entry(descriptor, sizeInBytes));
+  }
+
+  int size() {
+    return cache.size();
+  }
+}
@@ -0,0 +1,69 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+/**
+ * Limits the rate of camera move events sent to Dart.
+ *
+ * <p>Moves reported faster than the maximum rate are coalesced: a single event is sent at the end
+ * of the interval, and the sender reads the camera position at that time so the latest one wins.
+ * All methods must be called on the main thread.
+ */
+class CameraMoveThrottler {
+  private final Handler handler = new Handler(Looper.getMainLooper());
+  private final Runnable sendEvent;
+  private final Runnable sendPendingEvent = this::sendPendingEvent;
+  private long minIntervalMillis;
+  private long lastEventTime;
+  private boolean pending;
+
+  CameraMoveThrottler(Runnable sendEvent) {
+    this.sendEvent = sendEvent;
+  }
+
+  /** Sets the maximum number of events per second, 0 or less sends every move. */
+  void setMaxEventsPerSecond(int maxEventsPerSecond) {
+    minIntervalMillis = maxEventsPerSecond > 0 ? 1000 / maxEventsPerSecond : 0;
+  }
+
+  void onCameraMove() {
+    long elapsed = SystemClock.uptimeMillis() - lastEventTime;
+    if (elapsed >= minIntervalMillis) {
+      handler.removeCallbacks(sendPendingEvent);
+      pending = false;
+      send();
+    } else if (!pending) {
+      pending = true;
+      handler.postDelayed(sendPendingEvent, minIntervalMillis - elapsed);
+    }
+  }
+
+  /** Sends the coalesced event now if there is one, e.g. before the camera idle event. */
+  void flush() {
+    if (pending) {
+      handler.removeCallbacks(sendPendingEvent);
+      sendPendingEvent();
+    }
+  }
+
+  void cancel() {
+    handler.removeCallbacks(sendPendingEvent);
+    pending = false;
+  }
+
+  private void sendPendingEvent() {
+    pending = false;
+    send();
+  }
+
+  private void send() {
+    lastEventTime = SystemClock.uptimeMillis();
+    sendEvent.run();
+  }
+}
@@ -8,9 +8,11 @@ import com.google.android.gms.maps.GoogleMap;
 import com.google.android.gms.maps.model.Circle;
 import com.google.android.gms.maps.model.CircleOptions;
 import io.flutter.plugin.common.MethodChannel;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 class CirclesController {
 
@@ -19,6 +21,8 @@ class CirclesController {
   private final MethodChannel methodChannel;
   private final float density;
   private GoogleMap googleMap;
+  private final ViewportCuller viewportCuller = new ViewportCuller();
+  private boolean cullingEnabled;
 
   CirclesController(MethodChannel methodChannel, float density) {
     this.circleIdToController = new HashMap<>();
@@ -56,10 +60,52 @@ class CirclesController {
         continue;
       }
       String circleId = (String) rawCircleId;
-      final CircleController circleController = circleIdToController.remove(circleId);
-      if (circleController != null) {
-        circleController.remove();
-        googleMapsCircleIdToDartCircleId.remove(circleController.getGoogleMapsCircleId());
+      viewportCuller.remove(circleId);
+      removeCircleFromMap(circleId);
+    }
+  }
+
+  private void removeCircleFromMap(String circleId) {
+    final CircleController circleController = circleIdToController.remove(circleId);
+    if (circleController != null) {
+      circleController.remove();
+      googleMapsCircleIdToDartCircleId.remove(circleController.getGoogleMapsCircleId());
+    }
+  }
+
+  /**
+   * Enables culling: circles added from then on are only added to the map while they intersect the
+   * visible region. Disabling it adds the culled circles back.
+   */
+  void setCullingEnabled(boolean cullingEnabled) {
+    if (this.cullingEnabled == cullingEnabled) {
+      return;
+    }
+    this.cullingEnabled = cullingEnabled;
+    if (!cullingEnabled) {
+      for (String circleId : viewportCuller.getIds()) {
+        if (!circleIdToController.containsKey(circleId)) {
+          addCircleToMap(circleId, viewportCuller.getOptions(circleId));
+        }
+      }
+      viewportCuller.clear();
+    }
+  }
+
+  /** Adds the circles that entered the visible region and removes the ones that left it. */
+  void onCameraIdle() {
+    if (!cullingEnabled || googleMap == null) {
+      return;
+    }
+    viewportCuller.setVisibleRegion(googleMap.getProjection().getVisibleRegion().latLngBounds);
+    Set<String> circleIdsInRegion = viewportCuller.idsInRegion();
+    for (String circleId : new ArrayList<>(viewportCuller.getIds())) {
+      boolean onMap = circleIdToController.containsKey(circleId);
+      boolean inRegion = circleIdsInRegion.contains(circleId);
+      if (onMap && !inRegion) {
+        removeCircleFromMap(circleId);
+      } else if (!onMap && inRegion) {
+        addCircleToMap(circleId, viewportCuller.getOptions(circleId));
       }
     }
   }
@@ -84,9 +130,26 @@ class CirclesController {
     CircleBuilder circleBuilder = new CircleBuilder(density);
     String circleId = Convert.interpretCircleOptions(circle, circleBuilder);
     CircleOptions options = circleBuilder.build();
+    if (cullingEnabled) {
+      ViewportCuller.Bounds bounds =
+          ViewportCuller.circleBounds(options.getCenter(), options.getRadius());
+      if (!viewportCuller.hasRegion()) {
+        viewportCuller.setVisibleRegion(googleMap.getProjection().getVisibleRegion().latLngBounds);
+      }
+      viewportCuller.put(circleId, circle, bounds);
+      if (!viewportCuller.isInRegion(bounds)) {
+        return;
+      }
+    }
     addCircle(circleId, options, circleBuilder.consumeTapEvents());
   }
 
+  private void addCircleToMap(String circleId, Object circle) {
+    CircleBuilder circleBuilder = new CircleBuilder(density);
+    Convert.interpretCircleOptions(circle, circleBuilder);
+    addCircle(circleId, circleBuilder.build(), circleBuilder.consumeTapEvents());
+  }
+
   private void addCircle(String circleId, CircleOptions circleOptions, boolean consumeTapEvents) {
     final Circle circle = googleMap.addCircle(circleOptions);
     CircleController controller = new CircleController(circle, consumeTapEvents, density);
@@ -99,6 +162,13 @@ class CirclesController {
       return;
     }
     String circleId = getCircleId(circle);
+    if (viewportCuller.getOptions(circleId) != null) {
+      CircleBuilder circleBuilder = new CircleBuilder(density);
+      Convert.interpretCircleOptions(circle, circleBuilder);
+      CircleOptions options = circleBuilder.build();
+      viewportCuller.put(
+          circleId, circle, ViewportCuller.circleBounds(options.getCenter(), options.getRadius()));
+    }
     CircleController circleController = circleIdToController.get(circleId);
     if (circleController != null) {
       Convert.interpretCircleOptions(circle, circleController);
@@ -33,6 +33,13 @@ import java.util.Map;
 
 /** Conversions between JSON-like values and GoogleMaps data types. */
 class Convert {
+  // Process-wide on purpose: a BitmapDescriptor isn't tied to a map, and apps showing several maps
+  // (e.g. a list with a lite mode map per row) use the same few icons in all of them. Conversions
+  // are static and have no map to scope the cache to. It holds at most 1/32 of the heap, capped at
+  // 32 MiB, and the least recently used icons are evicted first.
+  private static final BitmapDescriptorCache bitmapDescriptorCache =
+      new BitmapDescriptorCache(
+          (int) Math.min(Runtime.getRuntime().maxMemory() / 32, 32 * 1024 * 1024));
 
   // TODO(hamdikahloun): FlutterMain has been deprecated and should be replaced with FlutterLoader
   //  when it's available in Stable channel: https://github.com/flutter/flutter/issues/70923.
@@ -48,16 +55,14 @@ class Convert {
         }
       case "fromAsset":
         if (data.size() == 2) {
-          return BitmapDescriptorFactory.fromAsset(
-              FlutterMain.getLookupKeyForAsset(toString(data.get(1))));
+          return getBitmapFromAsset(FlutterMain.getLookupKeyForAsset(toString(data.get(1))));
         } else {
-          return BitmapDescriptorFactory.fromAsset(
+          return getBitmapFromAsset(
               FlutterMain.getLookupKeyForAsset(toString(data.get(1)), toString(data.get(2))));
         }
       case "fromAssetImage":
         if (data.size() == 3) {
-          return BitmapDescriptorFactory.fromAsset(
-              FlutterMain.getLookupKeyForAsset(toString(data.get(1))));
+          return getBitmapFromAsset(FlutterMain.getLookupKeyForAsset(toString(data.get(1))));
         } else {
           throw new IllegalArgumentException(
               "'fromAssetImage' Expected exactly 3 arguments, got: " + data.size());
@@ -72,8 +77,15 @@ class Convert {
   private static BitmapDescriptor getBitmapFromBytes(List<?> data) {
     if (data.size() == 2) {
       try {
-        Bitmap bitmap = toBitmap(data.get(1));
-        return BitmapDescriptorFactory.fromBitmap(bitmap);
+        final byte[] bytes = (byte[]) data.get(1);
+        final BitmapDescriptorCache.BytesKey key = new BitmapDescriptorCache.BytesKey(bytes);
+        BitmapDescriptor descriptor = bitmapDescriptorCache.get(key);
+        if (descriptor == null) {
+          Bitmap bitmap = toBitmap(bytes);
+          descriptor = BitmapDescriptorFactory.fromBitmap(bitmap);
+          bitmapDescriptorCache.put(key, descriptor, bitmap.getByteCount());
+        }
+        return descriptor;
       } catch (Exception e) {
         throw new IllegalArgumentException("Unable to interpret bytes as a valid image.", e);
       }
@@ -84,6 +96,15 @@ class Convert {
     }
   }
 
+  private static BitmapDescriptor getBitmapFromAsset(String assetKey) {
+    BitmapDescriptor descriptor = bitmapDescriptorCache.get(assetKey);
+    if (descriptor == null) {
+      descriptor = BitmapDescriptorFactory.fromAsset(assetKey);
+      bitmapDescriptorCache.put(assetKey, descriptor, BitmapDescriptorCache.UNKNOWN_ENTRY_SIZE);
+    }
+    return descriptor;
+  }
+
   private static boolean toBoolean(Object o) {
     return (Boolean) o;
   }
@@ -254,6 +275,17 @@ class Convert {
     return (Map<?, ?>) o;
   }
 
+  private static Map<String, String> toStringMap(Object o) {
+    Map<String, String> hashMap = new HashMap<>();
+    Map<?, ?> map = (Map<?, ?>) o;
+    for (Map.Entry<?, ?> entry : map.entrySet()) {
+      if (entry.getValue() != null) {
+        hashMap.put((String) entry.getKey(), (String) entry.getValue());
+      }
+    }
+    return hashMap;
+  }
+
   private static Map<String, Object> toObjectMap(Object o) {
     Map<String, Object> hashMap = new HashMap<>();
     Map<?, ?> map = (Map<?, ?>) o;
@@ -344,6 +376,14 @@ class Convert {
     if (trackCameraPosition != null) {
       sink.setTrackCameraPosition(toBoolean(trackCameraPosition));
     }
+    final Object maxCameraMoveEventsPerSecond = data.get("maxCameraMoveEventsPerSecond");
+    if (maxCameraMoveEventsPerSecond != null) {
+      sink.setMaxCameraMoveEventsPerSecond(toInt(maxCameraMoveEventsPerSecond));
+    }
+    final Object cullingEnabled = data.get("cullingEnabled");
+    if (cullingEnabled != null) {
+      sink.setCullingEnabled(toBoolean(cullingEnabled));
+    }
     final Object zoomGesturesEnabled = data.get("zoomGesturesEnabled");
     if (zoomGesturesEnabled != null) {
       sink.setZoomGesturesEnabled(toBoolean(zoomGesturesEnabled));
@@ -534,6 +574,10 @@ class Convert {
     if (zIndex != null) {
       sink.setZIndex(toFloat(zIndex));
     }
+    final Object simplify = data.get("simplify");
+    if (simplify != null) {
+      sink.setSimplify(toBoolean(simplify));
+    }
     final Object points = data.get("points");
     if (points != null) {
       sink.setPoints(toPoints(points));
@@ -593,12 +637,28 @@ class Convert {
   }
 
   private static List<LatLng> toPoints(Object o) {
+    if (o instanceof double[]) {
+      return toPoints((double[]) o);
+    }
     final List<?> data = toList(o);
     final List<LatLng> points = new ArrayList<>(data.size());
 
     for (Object rawPoint : data) {
       final List<?> point = toList(rawPoint);
-      points.add(new LatLng(toFloat(point.get(0)), toFloat(point.get(1))));
+      points.add(new LatLng(toDouble(point.get(0)), toDouble(point.get(1))));
+    }
+    return points;
+  }
+
+  /** Converts latitude and longitude pairs packed in a single array, as sent for a Float64List. */
+  private static List<LatLng> toPoints(double[] data) {
+    if (data.length % 2 != 0) {
+      throw new IllegalArgumentException(
+          "Packed points should have an even number of values, got: " + data.length);
+    }
+    final List<LatLng> points = new ArrayList<>(data.length / 2);
+    for (int i = 0; i < data.length; i += 2) {
+      points.add(new LatLng(data[i], data[i + 1]));
     }
     return points;
   }
@@ -679,6 +739,34 @@ class Convert {
     if (visible != null) {
       sink.setVisible(toBoolean(visible));
     }
+    final Object fetchTimeoutMillis = data.get("fetchTimeoutMillis");
+    if (fetchTimeoutMillis != null) {
+      sink.setFetchTimeoutMillis(toInt(fetchTimeoutMillis));
+    }
+    final Object diskCacheEnabled = data.get("diskCacheEnabled");
+    if (diskCacheEnabled != null) {
+      sink.setDiskCacheEnabled(toBoolean(diskCacheEnabled));
+    }
+    final Object diskCacheMaxAgeMillis = data.get("diskCacheMaxAgeMillis");
+    if (diskCacheMaxAgeMillis != null) {
+      sink.setDiskCacheMaxAgeMillis(((Number) diskCacheMaxAgeMillis).longValue());
+    }
+    final Object tileSize = data.get("tileSize");
+    if (tileSize != null) {
+      sink.setTileSize(toInt(tileSize));
+    }
+    final Object urlTemplate = data.get("urlTemplate");
+    if (urlTemplate != null) {
+      sink.setUrlTemplate(toString(urlTemplate));
+    }
+    final Object httpHeaders = data.get("httpHeaders");
+    if (httpHeaders != null) {
+      sink.setHttpHeaders(toStringMap(httpHeaders));
+    }
+    final Object heatmap = data.get("heatmap");
+    if (heatmap != null) {
+      sink.setHeatmap(toHeatmapOptions(heatmap));
+    }
     final String tileOverlayId = (String) data.get("tileOverlayId");
     if (tileOverlayId == null) {
       throw new IllegalArgumentException("tileOverlayId was null");
@@ -687,6 +775,55 @@ class Convert {
     }
   }
 
+  private static HeatmapTileProvider.Options toHeatmapOptions(Object o) {
+    final Map<?, ?> data = toMap(o);
+    final HeatmapTileProvider.Options options = new HeatmapTileProvider.Options();
+    final Object points = data.get("data");
+    if (points != null) {
+      options.data = toDoubleArray(points);
+    }
+    final Object radius = data.get("radius");
+    if (radius != null) {
+      options.radius = toInt(radius);
+    }
+    final Object opacity = data.get("opacity");
+    if (opacity != null) {
+      options.opacity = toDouble(opacity);
+    }
+    final Object maxIntensity = data.get("maxIntensity");
+    if (maxIntensity != null) {
+      options.maxIntensity = toDouble(maxIntensity);
+    }
+    final Object gradient = data.get("gradient");
+    if (gradient != null) {
+      final Map<?, ?> gradientData = toMap(gradient);
+      final List<?> colors = toList(gradientData.get("colors"));
+      final List<?> startPoints = toList(gradientData.get("startPoints"));
+      options.gradientColors = new int[colors.size()];
+      for (int i = 0; i < colors.size(); i++) {
+        options.gradientColors[i] = toInt(colors.get(i));
+      }
+      options.gradientStartPoints = new float[startPoints.size()];
+      for (int i = 0; i < startPoints.size(); i++) {
+        options.gradientStartPoints[i] = toFloat(startPoints.get(i));
+      }
+    }
+    return options;
+  }
+
+  /** Accepts a packed array, as sent for a Float64List, or a list of numbers. */
+  private static double[] toDoubleArray(Object o) {
+    if (o instanceof double[]) {
+      return (double[]) o;
+    }
+    final List<?> data = toList(o);
+    final double[] values = new double[data.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = toDouble(data.get(i));
+    }
+    return values;
+  }
+
   static Tile interpretTile(Map<String, ?> data) {
     int width = toInt(data.get("width"));
     int height = toInt(data.get("height"));
@@ -37,7 +37,7 @@ import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugin.platform.PlatformView;
-import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -59,6 +59,9 @@ final class GoogleMapController
   private final MethodChannel methodChannel;
   private final GoogleMapOptions options;
   @Nullable private MapView mapView;
+  @Nullable private final MapViewPool mapViewPool;
+  // Whether the view comes from the pool, in which case it is already created.
+  private final boolean mapViewReused;
   @Nullable private GoogleMap googleMap;
   private boolean trackCameraPosition = false;
   private boolean myLocationEnabled = false;
@@ -77,6 +80,9 @@ final class GoogleMapController
   private final PolylinesController polylinesController;
   private final CirclesController circlesController;
   private final TileOverlaysController tileOverlaysController;
+  private final MarkerClustersController markerClustersController;
+  private final CameraMoveThrottler cameraMoveThrottler;
+  private final SnapshotEncoder snapshotEncoder = new SnapshotEncoder();
   private List<Object> initialMarkers;
   private List<Object> initialPolygons;
   private List<Object> initialPolylines;
@@ -89,10 +95,23 @@ final class GoogleMapController
       BinaryMessenger binaryMessenger,
       LifecycleProvider lifecycleProvider,
       GoogleMapOptions options) {
+    this(id, context, binaryMessenger, lifecycleProvider, options, null);
+  }
+
+  GoogleMapController(
+      int id,
+      Context context,
+      BinaryMessenger binaryMessenger,
+      LifecycleProvider lifecycleProvider,
+      GoogleMapOptions options,
+      @Nullable MapViewPool mapViewPool) {
     this.id = id;
     this.context = context;
     this.options = options;
-    this.mapView = new MapView(context, options);
+    this.mapViewPool = mapViewPool;
+    MapView pooledMapView = mapViewPool != null ? mapViewPool.obtain(context, options) : null;
+    this.mapViewReused = pooledMapView != null;
+    this.mapView = mapViewReused ? pooledMapView : new MapView(context, options);
     this.density = context.getResources().getDisplayMetrics().density;
     methodChannel = new MethodChannel(binaryMessenger, "plugins.flutter.io/google_maps_" + id);
     methodChannel.setMethodCallHandler(this);
@@ -101,7 +120,13 @@ final class GoogleMapController
     this.polygonsController = new PolygonsController(methodChannel, density);
     this.polylinesController = new PolylinesController(methodChannel, density);
     this.circlesController = new CirclesController(methodChannel, density);
-    this.tileOverlaysController = new TileOverlaysController(methodChannel);
+    this.tileOverlaysController =
+        new TileOverlaysController(
+            methodChannel,
+            new File(
+                new File(context.getCacheDir(), "flutter_google_maps_tiles"), String.valueOf(id)));
+    this.markerClustersController = new MarkerClustersController(methodChannel, density);
+    this.cameraMoveThrottler = new CameraMoveThrottler(this::sendCameraMove);
   }
 
   @Override
@@ -129,6 +154,9 @@ final class GoogleMapController
   @Override
   public void onMapReady(GoogleMap googleMap) {
     this.googleMap = googleMap;
+    if (mapViewReused) {
+      MapViewPool.applyOptions(googleMap, options);
+    }
     this.googleMap.setIndoorEnabled(this.indoorEnabled);
     this.googleMap.setTrafficEnabled(this.trafficEnabled);
     this.googleMap.setBuildingsEnabled(this.buildingsEnabled);
@@ -144,6 +172,7 @@ final class GoogleMapController
     polylinesController.setGoogleMap(googleMap);
     circlesController.setGoogleMap(googleMap);
     tileOverlaysController.setGoogleMap(googleMap);
+    markerClustersController.setGoogleMap(googleMap);
     updateInitialMarkers();
     updateInitialPolygons();
     updateInitialPolylines();
@@ -210,15 +239,22 @@ final class GoogleMapController
         {
           if (googleMap != null) {
             final MethodChannel.Result _result = result;
+            final SnapshotEncoder.Options snapshotOptions = new SnapshotEncoder.Options();
+            snapshotOptions.format = call.argument("format");
+            final Number quality = call.argument("quality");
+            if (quality != null) {
+              snapshotOptions.quality = quality.intValue();
+            }
+            final Number scale = call.argument("scale");
+            if (scale != null) {
+              snapshotOptions.scale = scale.doubleValue();
+            }
+            snapshotOptions.filePath = call.argument("filePath");
             googleMap.snapshot(
                 new SnapshotReadyCallback() {
                   @Override
                   public void onSnapshotReady(Bitmap bitmap) {
-                    ByteArrayOutputStream stream = new ByteArrayOutputStream();
-                    bitmap.compress(Bitmap.CompressFormat.PNG, 100, stream);
-                    byte[] byteArray = stream.toByteArray();
-                    bitmap.recycle();
-                    _result.success(byteArray);
+                    snapshotEncoder.encode(bitmap, snapshotOptions, _result);
                   }
                 });
           } else {
@@ -248,11 +284,32 @@ final class GoogleMapController
           markersController.addMarkers(markersToAdd);
           List<Object> markersToChange = call.argument("markersToChange");
           markersController.changeMarkers(markersToChange);
+          List<Object> markerIdsToMove = call.argument("markerIdsToMove");
+          double[] markerPositions = call.argument("markerPositions");
+          markersController.moveMarkers(markerIdsToMove, markerPositions);
           List<Object> markerIdsToRemove = call.argument("markerIdsToRemove");
           markersController.removeMarkers(markerIdsToRemove);
           result.success(null);
           break;
         }
+      case "clusterItems#update":
+        {
+          List<Object> clusterItemsToAdd = call.argument("clusterItemsToAdd");
+          markerClustersController.addClusterItems(clusterItemsToAdd);
+          List<Object> clusterItemIdsToRemove = call.argument("clusterItemIdsToRemove");
+          markerClustersController.removeClusterItems(clusterItemIdsToRemove);
+          markerClustersController.updateClusters();
+          result.success(null);
+          break;
+        }
+      case "clusters#setOptions":
+        {
+          Integer gridSize = call.argument("gridSize");
+          Integer minClusterSize = call.argument("minClusterSize");
+          markerClustersController.setOptions(gridSize, minClusterSize);
+          result.success(null);
+          break;
+        }
       case "markers#showInfoWindow":
         {
           Object markerId = call.argument("markerId");
@@ -451,6 +508,13 @@ final class GoogleMapController
     if (!trackCameraPosition) {
       return;
     }
+    cameraMoveThrottler.onCameraMove();
+  }
+
+  private void sendCameraMove() {
+    if (googleMap == null || !trackCameraPosition) {
+      return;
+    }
     final Map<String, Object> arguments = new HashMap<>(2);
     arguments.put("position", Convert.cameraPositionToJson(googleMap.getCameraPosition()));
     methodChannel.invokeMethod("camera#onMove", arguments);
@@ -458,11 +522,21 @@ final class GoogleMapController
 
   @Override
   public void onCameraIdle() {
+    // Dart receives the final position before the idle event.
+    cameraMoveThrottler.flush();
+    markerClustersController.onCameraIdle();
+    polylinesController.onCameraIdle();
+    markersController.onCameraIdle();
+    circlesController.onCameraIdle();
+    polygonsController.onCameraIdle();
     methodChannel.invokeMethod("camera#onIdle", Collections.singletonMap("map", id));
   }
 
   @Override
   public boolean onMarkerClick(Marker marker) {
+    if (markerClustersController.hasMarker(marker.getId())) {
+      return markerClustersController.onMarkerTap(marker.getId());
+    }
     return markersController.onMarkerTap(marker.getId());
   }
 
@@ -502,9 +576,12 @@ final class GoogleMapController
       return;
     }
     disposed = true;
+    cameraMoveThrottler.cancel();
+    polylinesController.dispose();
+    snapshotEncoder.dispose();
     methodChannel.setMethodCallHandler(null);
     setGoogleMapListener(null);
-    destroyMapViewIfNecessary();
+    releaseMapViewIfNecessary();
     Lifecycle lifecycle = lifecycleProvider.getLifecycle();
     if (lifecycle != null) {
       lifecycle.removeObserver(this);
@@ -549,7 +626,9 @@ final class GoogleMapController
     if (disposed) {
       return;
     }
-    mapView.onCreate(null);
+    if (!mapViewReused) {
+      mapView.onCreate(null);
+    }
   }
 
   @Override
@@ -595,7 +674,7 @@ final class GoogleMapController
 
   @Override
   public void onRestoreInstanceState(Bundle bundle) {
-    if (disposed) {
+    if (disposed || mapViewReused) {
       return;
     }
     mapView.onCreate(bundle);
@@ -634,6 +713,21 @@ final class GoogleMapController
   @Override
   public void setTrackCameraPosition(boolean trackCameraPosition) {
     this.trackCameraPosition = trackCameraPosition;
+    if (!trackCameraPosition) {
+      cameraMoveThrottler.cancel();
+    }
+  }
+
+  @Override
+  public void setMaxCameraMoveEventsPerSecond(int maxCameraMoveEventsPerSecond) {
+    cameraMoveThrottler.setMaxEventsPerSecond(maxCameraMoveEventsPerSecond);
+  }
+
+  @Override
+  public void setCullingEnabled(boolean cullingEnabled) {
+    markersController.setCullingEnabled(cullingEnabled);
+    circlesController.setCullingEnabled(cullingEnabled);
+    polygonsController.setCullingEnabled(cullingEnabled);
   }
 
   @Override
@@ -821,6 +915,22 @@ final class GoogleMapController
     mapView = null;
   }
 
+  private void releaseMapViewIfNecessary() {
+    if (mapView == null) {
+      return;
+    }
+    if (mapViewPool == null) {
+      destroyMapViewIfNecessary();
+      return;
+    }
+    if (googleMap != null && myLocationEnabled && hasLocationPermission()) {
+      //noinspection ResourceType
+      googleMap.setMyLocationEnabled(false);
+    }
+    mapViewPool.release(mapView, googleMap);
+    mapView = null;
+  }
+
   public void setIndoorEnabled(boolean indoorEnabled) {
     this.indoorEnabled = indoorEnabled;
   }
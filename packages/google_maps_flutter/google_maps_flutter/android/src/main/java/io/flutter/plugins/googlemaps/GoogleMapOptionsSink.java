@@ -30,6 +30,10 @@ interface GoogleMapOptionsSink {
 
   void setTrackCameraPosition(boolean trackCameraPosition);
 
+  void setMaxCameraMoveEventsPerSecond(int maxCameraMoveEventsPerSecond);
+
+  void setCullingEnabled(boolean cullingEnabled);
+
   void setZoomGesturesEnabled(boolean zoomGesturesEnabled);
 
   void setLiteModeEnabled(boolean liteModeEnabled);
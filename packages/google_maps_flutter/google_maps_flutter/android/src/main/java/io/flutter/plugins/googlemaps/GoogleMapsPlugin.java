@@ -6,6 +6,7 @@ package io.flutter.plugins.googlemaps;
 
 import android.app.Activity;
 import android.app.Application.ActivityLifecycleCallbacks;
+import android.content.Context;
 import android.os.Bundle;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -17,6 +18,7 @@ import io.flutter.embedding.engine.plugins.FlutterPlugin;
 import io.flutter.embedding.engine.plugins.activity.ActivityAware;
 import io.flutter.embedding.engine.plugins.activity.ActivityPluginBinding;
 import io.flutter.embedding.engine.plugins.lifecycle.FlutterLifecycleAdapter;
+import io.flutter.plugin.common.MethodChannel;
 
 /**
  * Plugin for controlling a set of GoogleMap views to be shown as overlays on top of the Flutter
@@ -27,8 +29,12 @@ import io.flutter.embedding.engine.plugins.lifecycle.FlutterLifecycleAdapter;
 public class GoogleMapsPlugin implements FlutterPlugin, ActivityAware {
 
   @Nullable private Lifecycle lifecycle;
+  @Nullable private Activity activity;
+  @Nullable private MethodChannel methodChannel;
+  private final MapViewPool mapViewPool = new MapViewPool();
 
   private static final String VIEW_TYPE = "plugins.flutter.io/google_maps";
+  private static final String CHANNEL_NAME = "plugins.flutter.io/google_maps_plugin";
 
   @SuppressWarnings("deprecation")
   public static void registerWith(
@@ -51,13 +57,15 @@ public class GoogleMapsPlugin implements FlutterPlugin, ActivityAware {
                     public Lifecycle getLifecycle() {
                       return ((LifecycleOwner) activity).getLifecycle();
                     }
-                  }));
+                  },
+                  null));
     } else {
       registrar
           .platformViewRegistry()
           .registerViewFactory(
               VIEW_TYPE,
-              new GoogleMapFactory(registrar.messenger(), new ProxyLifecycleProvider(activity)));
+              new GoogleMapFactory(
+                  registrar.messenger(), new ProxyLifecycleProvider(activity), null));
     }
   }
 
@@ -67,6 +75,18 @@ public class GoogleMapsPlugin implements FlutterPlugin, ActivityAware {
 
   @Override
   public void onAttachedToEngine(FlutterPluginBinding binding) {
+    final Context applicationContext = binding.getApplicationContext();
+    methodChannel = new MethodChannel(binding.getBinaryMessenger(), CHANNEL_NAME);
+    methodChannel.setMethodCallHandler(
+        (call, result) -> {
+          if ("maps#prewarm".equals(call.method)) {
+            Integer poolSize = call.argument("poolSize");
+            mapViewPool.prewarm(applicationContext, activity, poolSize != null ? poolSize : 0);
+            result.success(null);
+          } else {
+            result.notImplemented();
+          }
+        });
     binding
         .getPlatformViewRegistry()
         .registerViewFactory(
@@ -79,22 +99,33 @@ public class GoogleMapsPlugin implements FlutterPlugin, ActivityAware {
                   public Lifecycle getLifecycle() {
                     return lifecycle;
                   }
-                }));
+                },
+                mapViewPool));
   }
 
   @Override
-  public void onDetachedFromEngine(FlutterPluginBinding binding) {}
+  public void onDetachedFromEngine(FlutterPluginBinding binding) {
+    if (methodChannel != null) {
+      methodChannel.setMethodCallHandler(null);
+      methodChannel = null;
+    }
+    mapViewPool.clear();
+  }
 
   // ActivityAware
 
   @Override
   public void onAttachedToActivity(ActivityPluginBinding binding) {
     lifecycle = FlutterLifecycleAdapter.getActivityLifecycle(binding);
+    activity = binding.getActivity();
   }
 
   @Override
   public void onDetachedFromActivity() {
     lifecycle = null;
+    activity = null;
+    // The pooled views hold the activity they were created with.
+    mapViewPool.clear();
   }
 
   @Override
@@ -0,0 +1,360 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.graphics.Bitmap;
+import com.google.android.gms.maps.model.Tile;
+import com.google.android.gms.maps.model.TileProvider;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tile provider rendering a heatmap of weighted points natively.
+ *
+ * <p>Each point adds its weight to the tile pixel it falls in, the pixels are blurred with a
+ * Gaussian kernel and mapped to colors of the gradient. Points are kept in a {@link PointQuadTree}
+ * in Web Mercator coordinates, so that a tile only visits the points near it. Rendered tiles are
+ * kept in the {@link TileCache} of the overlay.
+ *
+ * <p>The Maps SDK calls {@link #getTile} on its own background threads, the points and options are
+ * replaced as a whole with {@link #setOptions} so tiles never see a partial update.
+ */
+class HeatmapTileProvider implements TileProvider {
+  // Size of the rendered tiles in pixels. The heatmap is smooth, so tiles are rendered at the map
+  // tile size and scaled up by the Maps SDK on high density screens, a fraction of the work of
+  // rendering them at full resolution.
+  private static final int TILE_DIMENSION = 256;
+  private static final int COLOR_MAP_SIZE = 1000;
+  private static final int MAX_ZOOM = 22;
+
+  /** The points and how they are drawn. */
+  static final class Options {
+    static final int DEFAULT_RADIUS = 20;
+    static final double DEFAULT_OPACITY = 0.7;
+    static final int[] DEFAULT_GRADIENT_COLORS = {0xFF66E100, 0xFFFF0000};
+    static final float[] DEFAULT_GRADIENT_START_POINTS = {0.2f, 1f};
+
+    // Latitude, longitude and weight of each point.
+    double[] data = new double[0];
+    // Radius of the blur in pixels of a 256 pixels tile.
+    int radius = DEFAULT_RADIUS;
+    double opacity = DEFAULT_OPACITY;
+    int[] gradientColors = DEFAULT_GRADIENT_COLORS;
+    float[] gradientStartPoints = DEFAULT_GRADIENT_START_POINTS;
+    // Intensity drawn with the last gradient color, computed for each zoom level when 0 or less.
+    double maxIntensity;
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Options)) {
+        return false;
+      }
+      Options other = (Options) o;
+      return radius == other.radius
+          && opacity == other.opacity
+          && maxIntensity == other.maxIntensity
+          && Arrays.equals(data, other.data)
+          && Arrays.equals(gradientColors, other.gradientColors)
+          && Arrays.equals(gradientStartPoints, other.gradientStartPoints);
+    }
+
+    @Override
+    public int hashCode() {
+      int result = Arrays.hashCode(data);
+      result = 31 * result + radius;
+      result = 31 * result + Double.valueOf(opacity).hashCode();
+      result = 31 * result + Arrays.hashCode(gradientColors);
+      result = 31 * result + Arrays.hashCode(gradientStartPoints);
+      result = 31 * result + Double.valueOf(maxIntensity).hashCode();
+      return result;
+    }
+  }
+
+  private final TileCache tileCache;
+  private volatile State state;
+
+  HeatmapTileProvider(Options options, TileCache tileCache) {
+    this.tileCache = tileCache;
+    this.state = new State(options);
+  }
+
+  /**
+   * Replaces the points and options. Returns false if they are the same as the current ones, in
+   * which case the rendered tiles are still valid.
+   */
+  boolean setOptions(Options options) {
+    if (state.options.equals(options)) {
+      return false;
+    }
+    state = new State(options);
+    return true;
+  }
+
+  @Override
+  public Tile getTile(int x, int y, int zoom) {
+    Tile cachedTile = tileCache.get(x, y, zoom);
+    if (cachedTile != null) {
+      return cachedTile;
+    }
+    State state = this.state;
+    Tile tile = render(state, x, y, zoom);
+    // Tiles rendered while the options were replaced are not cached.
+    if (state == this.state) {
+      tileCache.put(x, y, zoom, tile);
+    }
+    return tile;
+  }
+
+  private static Tile render(State state, int x, int y, int zoom) {
+    double tileWidth = 1.0 / (1 << zoom);
+    int radius = state.options.radius;
+    double padding = radius * tileWidth / TILE_DIMENSION;
+    double minX = x * tileWidth - padding;
+    double maxX = (x + 1) * tileWidth + padding;
+    double minY = y * tileWidth - padding;
+    double maxY = (y + 1) * tileWidth + padding;
+
+    int gridDimension = TILE_DIMENSION + 2 * radius;
+    double[] intensities = new double[gridDimension * gridDimension];
+    double scale = TILE_DIMENSION / tileWidth;
+    boolean empty =
+        !addWeights(state, intensities, gridDimension, minX, maxX, minX, minY, maxY, scale, 0);
+    // Points on the other side of the antimeridian.
+    if (minX < 0) {
+      empty &=
+          !addWeights(state, intensities, gridDimension, minX + 1, 1, minX, minY, maxY, scale, -1);
+    }
+    if (maxX > 1) {
+      empty &=
+          !addWeights(state, intensities, gridDimension, 0, maxX - 1, minX, minY, maxY, scale, 1);
+    }
+    if (empty) {
+      return TileProvider.NO_TILE;
+    }
+
+    double[] blurred = blur(intensities, gridDimension, radius, state.kernel);
+    double maxIntensity = state.maxIntensity(zoom);
+    int[] colorMap = state.colorMap;
+    int[] pixels = new int[TILE_DIMENSION * TILE_DIMENSION];
+    for (int i = 0; i < pixels.length; i++) {
+      double intensity = blurred[i];
+      if (intensity > 0) {
+        int colorIndex = (int) (intensity / maxIntensity * (COLOR_MAP_SIZE - 1));
+        pixels[i] = colorMap[Math.min(colorIndex, COLOR_MAP_SIZE - 1)];
+      }
+    }
+    Bitmap bitmap =
+        Bitmap.createBitmap(pixels, TILE_DIMENSION, TILE_DIMENSION, Bitmap.Config.ARGB_8888);
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    bitmap.compress(Bitmap.CompressFormat.PNG, 100, stream);
+    bitmap.recycle();
+    return new Tile(TILE_DIMENSION, TILE_DIMENSION, stream.toByteArray());
+  }
+
+  /**
+   * Adds the weights of the points between {@code searchMinX} and {@code searchMaxX} to the grid
+   * whose top left corner is at {@code minX}, {@code minY}. The points are shifted by {@code
+   * worldOffset} worlds horizontally. Returns whether any point was found.
+   */
+  private static boolean addWeights(
+      State state,
+      double[] intensities,
+      int gridDimension,
+      double searchMinX,
+      double searchMaxX,
+      double minX,
+      double minY,
+      double maxY,
+      double scale,
+      int worldOffset) {
+    List<Integer> indices = state.index.search(searchMinX, minY, searchMaxX, maxY);
+    for (int index : indices) {
+      int column = (int) ((state.xs[index] + worldOffset - minX) * scale);
+      int row = (int) ((state.ys[index] - minY) * scale);
+      if (column >= 0 && column < gridDimension && row >= 0 && row < gridDimension) {
+        intensities[row * gridDimension + column] += state.weights[index];
+      }
+    }
+    return !indices.isEmpty();
+  }
+
+  /**
+   * Convolves the grid with the separable kernel, returning the {@link #TILE_DIMENSION} square at
+   * its center. The weights are scattered from the non-zero cells since most cells are empty.
+   */
+  private static double[] blur(double[] grid, int gridDimension, int radius, double[] kernel) {
+    // Horizontal pass, keeping every row since the vertical pass reads the padding rows.
+    double[] horizontal = new double[gridDimension * TILE_DIMENSION];
+    boolean[] nonEmptyRows = new boolean[gridDimension];
+    for (int row = 0; row < gridDimension; row++) {
+      for (int column = 0; column < gridDimension; column++) {
+        double value = grid[row * gridDimension + column];
+        if (value == 0) {
+          continue;
+        }
+        nonEmptyRows[row] = true;
+        int from = Math.max(radius, column - radius);
+        int to = Math.min(radius + TILE_DIMENSION - 1, column + radius);
+        for (int target = from; target <= to; target++) {
+          horizontal[row * TILE_DIMENSION + target - radius] +=
+              value * kernel[target - column + radius];
+        }
+      }
+    }
+    // Vertical pass, row by row so that the inner loop reads and writes contiguous pixels.
+    double[] blurred = new double[TILE_DIMENSION * TILE_DIMENSION];
+    for (int row = 0; row < gridDimension; row++) {
+      if (!nonEmptyRows[row]) {
+        continue;
+      }
+      int from = Math.max(radius, row - radius);
+      int to = Math.min(radius + TILE_DIMENSION - 1, row + radius);
+      int source = row * TILE_DIMENSION;
+      for (int target = from; target <= to; target++) {
+        double weight = kernel[target - row + radius];
+        int destination = (target - radius) * TILE_DIMENSION;
+        for (int column = 0; column < TILE_DIMENSION; column++) {
+          blurred[destination + column] += horizontal[source + column] * weight;
+        }
+      }
+    }
+    return blurred;
+  }
+
+  /** The options and everything derived from them, only the max intensities change later. */
+  private static final class State {
+    final Options options;
+    final double[] xs;
+    final double[] ys;
+    final double[] weights;
+    final PointQuadTree<Integer> index = new PointQuadTree<>(0, 0, 1, 1);
+    final double[] kernel;
+    final int[] colorMap;
+    private final double[] maxIntensityPerZoom = new double[MAX_ZOOM + 1];
+
+    State(Options options) {
+      if (options.data.length % 3 != 0) {
+        throw new IllegalArgumentException(
+            "Heatmap data should have 3 values per point, got: " + options.data.length);
+      }
+      if (options.radius < 1) {
+        throw new IllegalArgumentException("Heatmap radius should be positive: " + options.radius);
+      }
+      if (options.gradientColors.length == 0
+          || options.gradientColors.length != options.gradientStartPoints.length) {
+        throw new IllegalArgumentException(
+            "Heatmap gradient should have as many colors as start points");
+      }
+      this.options = options;
+      int size = options.data.length / 3;
+      xs = new double[size];
+      ys = new double[size];
+      weights = new double[size];
+      for (int i = 0; i < size; i++) {
+        double latitude = options.data[3 * i];
+        double longitude = options.data[3 * i + 1];
+        // Clamped to keep the poles finite.
+        double sinLatitude =
+            Math.max(-0.9999, Math.min(0.9999, Math.sin(Math.toRadians(latitude))));
+        double x = (longitude + 180) / 360;
+        double y = 0.5 - Math.log((1 + sinLatitude) / (1 - sinLatitude)) / (4 * Math.PI);
+        // A longitude of 180 is the left edge of the world.
+        xs[i] = x >= 1 ? x - 1 : x;
+        ys[i] = Math.max(0, Math.min(1, y));
+        weights[i] = options.data[3 * i + 2];
+        index.add(xs[i], ys[i], i);
+      }
+      kernel = kernel(options.radius);
+      colorMap = colorMap(options.gradientColors, options.gradientStartPoints, options.opacity);
+    }
+
+    /**
+     * Returns the intensity drawn with the last gradient color. Unless it is set in the options, it
+     * is the largest sum of weights in a cell the size of the radius, so that the densest areas at
+     * this zoom level use the whole gradient.
+     */
+    synchronized double maxIntensity(int zoom) {
+      if (options.maxIntensity > 0) {
+        return options.maxIntensity;
+      }
+      zoom = Math.min(zoom, MAX_ZOOM);
+      if (maxIntensityPerZoom[zoom] == 0) {
+        double cellSize = (double) options.radius / TILE_DIMENSION / (1 << zoom);
+        // The sums are kept in arrays so that adding a weight doesn't allocate.
+        Map<Long, double[]> cellIntensities = new HashMap<>();
+        double maxIntensity = 0;
+        for (int i = 0; i < xs.length; i++) {
+          long cell = ((long) (xs[i] / cellSize) << 32) | (long) (ys[i] / cellSize);
+          double[] intensity = cellIntensities.get(cell);
+          if (intensity == null) {
+            intensity = new double[1];
+            cellIntensities.put(cell, intensity);
+          }
+          intensity[0] += weights[i];
+          maxIntensity = Math.max(maxIntensity, intensity[0]);
+        }
+        maxIntensityPerZoom[zoom] = maxIntensity > 0 ? maxIntensity : 1;
+      }
+      return maxIntensityPerZoom[zoom];
+    }
+
+    private static double[] kernel(int radius) {
+      double sigma = radius / 3.0;
+      double[] kernel = new double[2 * radius + 1];
+      for (int i = -radius; i <= radius; i++) {
+        kernel[i + radius] = Math.exp(-i * i / (2 * sigma * sigma));
+      }
+      return kernel;
+    }
+
+    /**
+     * Interpolates the gradient colors. Below the first start point the first color fades to
+     * transparent.
+     */
+    private static int[] colorMap(int[] colors, float[] startPoints, double opacity) {
+      int[] colorMap = new int[COLOR_MAP_SIZE];
+      int stop = 0;
+      for (int i = 0; i < COLOR_MAP_SIZE; i++) {
+        float fraction = (float) i / (COLOR_MAP_SIZE - 1);
+        while (stop < startPoints.length - 1 && fraction > startPoints[stop + 1]) {
+          stop++;
+        }
+        int color;
+        if (fraction <= startPoints[0]) {
+          color = withAlpha(colors[0], startPoints[0] > 0 ? fraction / startPoints[0] : 1);
+        } else if (stop == startPoints.length - 1) {
+          color = colors[stop];
+        } else {
+          float segment =
+              (fraction - startPoints[stop]) / (startPoints[stop + 1] - startPoints[stop]);
+          color = interpolate(colors[stop], colors[stop + 1], segment);
+        }
+        colorMap[i] = withAlpha(color, opacity);
+      }
+      return colorMap;
+    }
+
+    private static int interpolate(int from, int to, float fraction) {
+      int result = 0;
+      for (int shift = 0; shift < 32; shift += 8) {
+        int start = (from >>> shift) & 0xFF;
+        int end = (to >>> shift) & 0xFF;
+        result |= Math.round(start + (end - start) * fraction) << shift;
+      }
+      return result;
+    }
+
+    private static int withAlpha(int color, double alphaFraction) {
+      int alpha = (int) Math.round((color >>> 24) * alphaFraction);
+      return (alpha << 24) | (color & 0x00FFFFFF);
+    }
+  }
+}
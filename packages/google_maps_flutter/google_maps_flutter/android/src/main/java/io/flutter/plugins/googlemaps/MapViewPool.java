@@ -0,0 +1,149 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.app.Activity;
+import android.content.Context;
+import android.view.ViewGroup;
+import android.view.ViewParent;
+import androidx.annotation.Nullable;
+import com.google.android.gms.maps.CameraUpdateFactory;
+import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.GoogleMapOptions;
+import com.google.android.gms.maps.MapView;
+import com.google.android.gms.maps.MapsInitializer;
+import com.google.android.gms.maps.UiSettings;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+/**
+ * Pool of detached {@link MapView}s, so that opening a map again doesn't pay for creating the view
+ * and loading the map.
+ *
+ * <p>The pool is empty until {@link #prewarm} sets its size. Pooled views are created and stopped.
+ * A view is only reused by a map created with the same context, since the view keeps the context it
+ * was created with. Only views created with an activity are pooled, which is the context maps get
+ * with hybrid composition. Maps shown in a virtual display get a context of their own display, so
+ * they neither use nor fill the pool. All methods must be called on the main thread.
+ */
+class MapViewPool {
+  private final ArrayDeque<MapView> mapViews = new ArrayDeque<>();
+  private int maxSize;
+
+  /**
+   * Initializes the Maps SDK, then creates map views with {@code viewContext} until the pool holds
+   * {@code poolSize} views. No view is created when {@code viewContext} is null.
+   */
+  void prewarm(Context applicationContext, @Nullable Context viewContext, int poolSize) {
+    MapsInitializer.initialize(applicationContext);
+    setMaxSize(poolSize);
+    if (viewContext == null) {
+      return;
+    }
+    while (mapViews.size() < maxSize) {
+      MapView mapView = new MapView(viewContext, new GoogleMapOptions());
+      mapView.onCreate(null);
+      // Starts loading the map, the first map using this view will get it from getMapAsync.
+      mapView.getMapAsync(googleMap -> {});
+      mapViews.addLast(mapView);
+    }
+  }
+
+  /** Sets how many views are kept, destroying the pooled views over that size. */
+  void setMaxSize(int poolSize) {
+    maxSize = Math.max(0, poolSize);
+    while (mapViews.size() > maxSize) {
+      mapViews.removeFirst().onDestroy();
+    }
+  }
+
+  int size() {
+    return mapViews.size();
+  }
+
+  /**
+   * Returns a created map view for a map with the given options, or null if there is none. The
+   * options must be applied to the map with {@link #applyOptions} once it is ready.
+   */
+  @Nullable
+  MapView obtain(Context context, @Nullable GoogleMapOptions options) {
+    if (options != null && Boolean.TRUE.equals(options.getLiteMode())) {
+      // Lite mode can only be set when the view is created.
+      return null;
+    }
+    Iterator<MapView> iterator = mapViews.iterator();
+    while (iterator.hasNext()) {
+      MapView mapView = iterator.next();
+      if (mapView.getContext() == context) {
+        iterator.remove();
+        return mapView;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Clears the map and keeps the view for a later map if the pool isn't full and the view was
+   * created with an activity, otherwise destroys it.
+   */
+  void release(MapView mapView, @Nullable GoogleMap googleMap) {
+    if (googleMap == null
+        || mapViews.size() >= maxSize
+        || !(mapView.getContext() instanceof Activity)) {
+      mapView.onDestroy();
+      return;
+    }
+    googleMap.clear();
+    googleMap.setMapStyle(null);
+    googleMap.setPadding(0, 0, 0, 0);
+    googleMap.setOnInfoWindowClickListener(null);
+    ViewParent parent = mapView.getParent();
+    if (parent instanceof ViewGroup) {
+      ((ViewGroup) parent).removeView(mapView);
+    }
+    mapView.onPause();
+    mapView.onStop();
+    mapViews.addLast(mapView);
+  }
+
+  /** Destroys the pooled views, e.g. when the activity they were created with goes away. */
+  void clear() {
+    while (!mapViews.isEmpty()) {
+      mapViews.removeFirst().onDestroy();
+    }
+  }
+
+  /**
+   * Applies the options a new {@link MapView} would have been created with to the map of a reused
+   * view, resetting the ones that aren't set to their defaults.
+   */
+  static void applyOptions(GoogleMap googleMap, GoogleMapOptions options) {
+    googleMap.setMapType(
+        options.getMapType() != -1 ? options.getMapType() : GoogleMap.MAP_TYPE_NORMAL);
+    googleMap.resetMinMaxZoomPreference();
+    if (options.getMinZoomPreference() != null) {
+      googleMap.setMinZoomPreference(options.getMinZoomPreference());
+    }
+    if (options.getMaxZoomPreference() != null) {
+      googleMap.setMaxZoomPreference(options.getMaxZoomPreference());
+    }
+    googleMap.setLatLngBoundsForCameraTarget(options.getLatLngBoundsForCameraTarget());
+    if (options.getCamera() != null) {
+      googleMap.moveCamera(CameraUpdateFactory.newCameraPosition(options.getCamera()));
+    }
+    UiSettings uiSettings = googleMap.getUiSettings();
+    uiSettings.setCompassEnabled(valueOrTrue(options.getCompassEnabled()));
+    uiSettings.setMapToolbarEnabled(valueOrTrue(options.getMapToolbarEnabled()));
+    uiSettings.setZoomControlsEnabled(valueOrTrue(options.getZoomControlsEnabled()));
+    uiSettings.setRotateGesturesEnabled(valueOrTrue(options.getRotateGesturesEnabled()));
+    uiSettings.setScrollGesturesEnabled(valueOrTrue(options.getScrollGesturesEnabled()));
+    uiSettings.setTiltGesturesEnabled(valueOrTrue(options.getTiltGesturesEnabled()));
+    uiSettings.setZoomGesturesEnabled(valueOrTrue(options.getZoomGesturesEnabled()));
+  }
+
+  private static boolean valueOrTrue(@Nullable Boolean value) {
+    return value == null || value;
+  }
+}
@@ -0,0 +1,350 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.model.BitmapDescriptor;
+import com.google.android.gms.maps.model.BitmapDescriptorFactory;
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import com.google.android.gms.maps.model.Marker;
+import com.google.android.gms.maps.model.MarkerOptions;
+import io.flutter.plugin.common.MethodChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Controller of markers that are clustered natively.
+ *
+ * <p>All cluster items are kept in a spatial index, and only the clusters and single markers that
+ * are inside the visible region are added to the map. Clusters are recomputed with a grid based
+ * algorithm whenever the camera becomes idle.
+ */
+class MarkerClustersController {
+  private static final int DEFAULT_GRID_SIZE = 100;
+  private static final int DEFAULT_MIN_CLUSTER_SIZE = 2;
+  // Size of the world in density independent pixels at zoom level 0.
+  private static final double WORLD_SIZE = 256;
+
+  private final MethodChannel methodChannel;
+  private final float density;
+  private final Map<String, ClusterItem> itemIdToItem = new HashMap<>();
+  private final PointQuadTree<ClusterItem> index = new PointQuadTree<>(-180, -90, 180, 90);
+  // Markers currently on the map. Clusters and single items are kept apart so that cluster keys
+  // can never collide with the marker ids chosen by Dart.
+  private final Map<String, Marker> clusterKeyToMarker = new HashMap<>();
+  private final Map<String, Marker> itemIdToMarker = new HashMap<>();
+  private final Map<String, String> googleMapsMarkerIdToClusterKey = new HashMap<>();
+  private final Map<String, String> googleMapsMarkerIdToItemId = new HashMap<>();
+  private final Map<String, Cluster> keyToCluster = new HashMap<>();
+  private final Map<String, BitmapDescriptor> clusterIconCache = new HashMap<>();
+  private GoogleMap googleMap;
+  private int gridSize = DEFAULT_GRID_SIZE;
+  private int minClusterSize = DEFAULT_MIN_CLUSTER_SIZE;
+
+  private static final class ClusterItem {
+    final String markerId;
+    final LatLng position;
+    final Object options;
+
+    ClusterItem(String markerId, LatLng position, Object options) {
+      this.markerId = markerId;
+      this.position = position;
+      this.options = options;
+    }
+  }
+
+  private static final class Cluster {
+    final List<ClusterItem> items = new ArrayList<>();
+    double latitudeSum;
+    double longitudeSum;
+
+    void add(ClusterItem item) {
+      items.add(item);
+      latitudeSum += item.position.latitude;
+      longitudeSum += item.position.longitude;
+    }
+
+    LatLng getPosition() {
+      return new LatLng(latitudeSum / items.size(), longitudeSum / items.size());
+    }
+  }
+
+  MarkerClustersController(MethodChannel methodChannel, float density) {
+    this.methodChannel = methodChannel;
+    this.density = density;
+  }
+
+  void setGoogleMap(GoogleMap googleMap) {
+    this.googleMap = googleMap;
+  }
+
+  void setOptions(Integer gridSize, Integer minClusterSize) {
+    if (gridSize != null && gridSize <= 0) {
+      throw new IllegalArgumentException("gridSize must be positive, was " + gridSize);
+    }
+    if (gridSize != null) {
+      this.gridSize = gridSize;
+    }
+    if (minClusterSize != null) {
+      this.minClusterSize = Math.max(2, minClusterSize);
+    }
+    updateClusters();
+  }
+
+  void addClusterItems(List<Object> itemsToAdd) {
+    if (itemsToAdd == null) {
+      return;
+    }
+    for (Object itemToAdd : itemsToAdd) {
+      if (itemToAdd == null) {
+        continue;
+      }
+      Map<?, ?> data = (Map<?, ?>) itemToAdd;
+      String markerId = (String) data.get("markerId");
+      if (markerId == null) {
+        throw new IllegalArgumentException("markerId was null");
+      }
+      removeItem(markerId);
+      ClusterItem item = new ClusterItem(markerId, Convert.toLatLng(data.get("position")), data);
+      itemIdToItem.put(markerId, item);
+      index.add(item.position.longitude, item.position.latitude, item);
+    }
+  }
+
+  void removeClusterItems(List<Object> itemIdsToRemove) {
+    if (itemIdsToRemove == null) {
+      return;
+    }
+    for (Object rawItemId : itemIdsToRemove) {
+      if (rawItemId != null) {
+        removeItem((String) rawItemId);
+      }
+    }
+  }
+
+  private void removeItem(String markerId) {
+    ClusterItem item = itemIdToItem.remove(markerId);
+    if (item != null) {
+      index.remove(item.position.longitude, item.position.latitude, item);
+    }
+    // Removing the marker lets the next update materialize the item again with its new options.
+    Marker marker = itemIdToMarker.remove(markerId);
+    if (marker != null) {
+      googleMapsMarkerIdToItemId.remove(marker.getId());
+      marker.remove();
+    }
+  }
+
+  void onCameraIdle() {
+    updateClusters();
+  }
+
+  /** Recomputes the clusters of the visible region and updates the markers on the map. */
+  void updateClusters() {
+    if (googleMap == null) {
+      return;
+    }
+    LatLngBounds bounds = googleMap.getProjection().getVisibleRegion().latLngBounds;
+    float zoom = googleMap.getCameraPosition().zoom;
+    Map<String, Cluster> clusters = computeClusters(visibleItems(bounds), zoom);
+
+    Set<String> clusterKeys = new HashSet<>();
+    Set<String> itemIds = new HashSet<>();
+    for (Map.Entry<String, Cluster> entry : clusters.entrySet()) {
+      Cluster cluster = entry.getValue();
+      if (cluster.items.size() >= minClusterSize) {
+        String key = entry.getKey();
+        clusterKeys.add(key);
+        Cluster previous = keyToCluster.put(key, cluster);
+        Marker marker = clusterKeyToMarker.get(key);
+        if (marker == null) {
+          addMarker(
+              key,
+              clusterMarkerOptions(cluster),
+              clusterKeyToMarker,
+              googleMapsMarkerIdToClusterKey);
+          continue;
+        }
+        // The same cell can hold other items than before, even when their count didn't change.
+        LatLng position = cluster.getPosition();
+        if (previous == null || !position.equals(previous.getPosition())) {
+          marker.setPosition(position);
+        }
+        if (previous == null || previous.items.size() != cluster.items.size()) {
+          marker.setIcon(clusterIcon(cluster.items.size()));
+        }
+      } else {
+        for (ClusterItem item : cluster.items) {
+          itemIds.add(item.markerId);
+          if (!itemIdToMarker.containsKey(item.markerId)) {
+            MarkerBuilder markerBuilder = new MarkerBuilder();
+            Convert.interpretMarkerOptions(item.options, markerBuilder);
+            addMarker(
+                item.markerId, markerBuilder.build(), itemIdToMarker, googleMapsMarkerIdToItemId);
+          }
+        }
+      }
+    }
+
+    keyToCluster.keySet().retainAll(clusterKeys);
+    removeMarkersNotIn(clusterKeys, clusterKeyToMarker, googleMapsMarkerIdToClusterKey);
+    removeMarkersNotIn(itemIds, itemIdToMarker, googleMapsMarkerIdToItemId);
+  }
+
+  private static void removeMarkersNotIn(
+      Set<String> keys,
+      Map<String, Marker> keyToMarker,
+      Map<String, String> googleMapsMarkerIdToKey) {
+    Iterator<Map.Entry<String, Marker>> iterator = keyToMarker.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<String, Marker> entry = iterator.next();
+      if (!keys.contains(entry.getKey())) {
+        googleMapsMarkerIdToKey.remove(entry.getValue().getId());
+        entry.getValue().remove();
+        iterator.remove();
+      }
+    }
+  }
+
+  private List<ClusterItem> visibleItems(LatLngBounds bounds) {
+    double south = bounds.southwest.latitude;
+    double north = bounds.northeast.latitude;
+    double west = bounds.southwest.longitude;
+    double east = bounds.northeast.longitude;
+    if (west <= east) {
+      return index.search(west, south, east, north);
+    }
+    // The visible region crosses the antimeridian.
+    List<ClusterItem> items = index.search(west, south, 180, north);
+    items.addAll(index.search(-180, south, east, north));
+    return items;
+  }
+
+  /**
+   * Groups items by the grid cell they fall in at the given zoom level. Cells are {@code gridSize}
+   * density independent pixels wide.
+   */
+  private Map<String, Cluster> computeClusters(List<ClusterItem> items, float zoom) {
+    int zoomLevel = (int) Math.floor(zoom);
+    double worldSize = WORLD_SIZE * Math.pow(2, zoomLevel);
+    Map<String, Cluster> clusters = new HashMap<>();
+    for (ClusterItem item : items) {
+      double x = (item.position.longitude + 180) / 360 * worldSize;
+      double sinLatitude = Math.sin(Math.toRadians(item.position.latitude));
+      double y =
+          (0.5 - Math.log((1 + sinLatitude) / (1 - sinLatitude)) / (4 * Math.PI)) * worldSize;
+      String key =
+          "cluster_"
+              + zoomLevel
+              + "_"
+              + (long) Math.floor(x / gridSize)
+              + "_"
+              + (long) Math.floor(y / gridSize);
+      Cluster cluster = clusters.get(key);
+      if (cluster == null) {
+        cluster = new Cluster();
+        clusters.put(key, cluster);
+      }
+      cluster.add(item);
+    }
+    return clusters;
+  }
+
+  private void addMarker(
+      String key,
+      MarkerOptions markerOptions,
+      Map<String, Marker> keyToMarker,
+      Map<String, String> googleMapsMarkerIdToKey) {
+    Marker marker = googleMap.addMarker(markerOptions);
+    keyToMarker.put(key, marker);
+    googleMapsMarkerIdToKey.put(marker.getId(), key);
+  }
+
+  private MarkerOptions clusterMarkerOptions(Cluster cluster) {
+    return new MarkerOptions()
+        .position(cluster.getPosition())
+        .icon(clusterIcon(cluster.items.size()))
+        .anchor(0.5f, 0.5f);
+  }
+
+  boolean hasMarker(String googleMarkerId) {
+    return googleMapsMarkerIdToClusterKey.containsKey(googleMarkerId)
+        || googleMapsMarkerIdToItemId.containsKey(googleMarkerId);
+  }
+
+  boolean onMarkerTap(String googleMarkerId) {
+    String itemId = googleMapsMarkerIdToItemId.get(googleMarkerId);
+    if (itemId != null) {
+      // A single item, which isn't one of the markers Dart knows about.
+      methodChannel.invokeMethod("clusterItem#onTap", Convert.markerIdToJson(itemId));
+      ClusterItem item = itemIdToItem.get(itemId);
+      Object consumeTapEvents =
+          item == null ? null : ((Map<?, ?>) item.options).get("consumeTapEvents");
+      return Boolean.TRUE.equals(consumeTapEvents);
+    }
+    String key = googleMapsMarkerIdToClusterKey.get(googleMarkerId);
+    Cluster cluster = key == null ? null : keyToCluster.get(key);
+    if (cluster == null) {
+      return false;
+    }
+    List<String> markerIds = new ArrayList<>(cluster.items.size());
+    for (ClusterItem item : cluster.items) {
+      markerIds.add(item.markerId);
+    }
+    final Map<String, Object> data = new HashMap<>();
+    data.put("clusterId", key);
+    data.put("position", Convert.latLngToJson(cluster.getPosition()));
+    data.put("markerIds", markerIds);
+    methodChannel.invokeMethod("cluster#onTap", data);
+    return false;
+  }
+
+  // Counts are bucketed so that only a handful of icons are ever drawn.
+  private BitmapDescriptor clusterIcon(int count) {
+    String label;
+    if (count < 10) {
+      label = String.valueOf(count);
+    } else if (count < 100) {
+      label = (count / 10 * 10) + "+";
+    } else if (count < 1000) {
+      label = (count / 100 * 100) + "+";
+    } else {
+      label = (count / 1000) + "k+";
+    }
+    BitmapDescriptor icon = clusterIconCache.get(label);
+    if (icon == null) {
+      icon = BitmapDescriptorFactory.fromBitmap(drawClusterIcon(label));
+      clusterIconCache.put(label, icon);
+    }
+    return icon;
+  }
+
+  private Bitmap drawClusterIcon(String label) {
+    int size = (int) (40 * density);
+    Bitmap bitmap = Bitmap.createBitmap(size, size, Bitmap.Config.ARGB_8888);
+    Canvas canvas = new Canvas(bitmap);
+    Paint paint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    paint.setColor(Color.WHITE);
+    canvas.drawCircle(size / 2f, size / 2f, size / 2f, paint);
+    paint.setColor(Color.rgb(0x1a, 0x73, 0xe8));
+    canvas.drawCircle(size / 2f, size / 2f, size / 2f - 2 * density, paint);
+    paint.setColor(Color.WHITE);
+    paint.setTextAlign(Paint.Align.CENTER);
+    paint.setTextSize(14 * density);
+    float baseline = size / 2f - (paint.descent() + paint.ascent()) / 2;
+    canvas.drawText(label, size / 2f, baseline, paint);
+    return bitmap;
+  }
+}
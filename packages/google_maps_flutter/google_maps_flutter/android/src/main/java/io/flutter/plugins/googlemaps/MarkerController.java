@@ -7,6 +7,7 @@ package io.flutter.plugins.googlemaps;
 import com.google.android.gms.maps.model.BitmapDescriptor;
 import com.google.android.gms.maps.model.LatLng;
 import com.google.android.gms.maps.model.Marker;
+import java.util.Map;
 
 /** Controller of a single Marker on the map. */
 class MarkerController implements MarkerOptionsSink {
@@ -14,6 +15,8 @@ class MarkerController implements MarkerOptionsSink {
   private final Marker marker;
   private final String googleMapsMarkerId;
   private boolean consumeTapEvents;
+  // The options last applied to the marker, used to only apply the ones that changed.
+  private Map<?, ?> options;
 
   MarkerController(Marker marker, boolean consumeTapEvents) {
     this.marker = marker;
@@ -86,6 +89,14 @@ class MarkerController implements MarkerOptionsSink {
     marker.setZIndex(zIndex);
   }
 
+  Map<?, ?> getOptions() {
+    return options;
+  }
+
+  void setOptions(Map<?, ?> options) {
+    this.options = options;
+  }
+
   String getGoogleMapsMarkerId() {
     return googleMapsMarkerId;
   }
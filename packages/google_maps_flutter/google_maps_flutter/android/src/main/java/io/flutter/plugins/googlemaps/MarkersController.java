@@ -9,9 +9,12 @@ import com.google.android.gms.maps.model.LatLng;
 import com.google.android.gms.maps.model.Marker;
 import com.google.android.gms.maps.model.MarkerOptions;
 import io.flutter.plugin.common.MethodChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 class MarkersController {
 
@@ -19,6 +22,8 @@ class MarkersController {
   private final Map<String, String> googleMapsMarkerIdToDartMarkerId;
   private final MethodChannel methodChannel;
   private GoogleMap googleMap;
+  private final ViewportCuller viewportCuller = new ViewportCuller();
+  private boolean cullingEnabled;
 
   MarkersController(MethodChannel methodChannel) {
     this.markerIdToController = new HashMap<>();
@@ -46,6 +51,56 @@ class MarkersController {
     }
   }
 
+  /**
+   * Moves markers to new positions.
+   *
+   * <p>This is a compact alternative to {@link #changeMarkers(List)} for the common case of only
+   * updating positions: {@code positions} holds a latitude and longitude pair for each id in {@code
+   * markerIds}.
+   */
+  void moveMarkers(List<Object> markerIds, double[] positions) {
+    if (markerIds == null || positions == null) {
+      return;
+    }
+    if (positions.length != markerIds.size() * 2) {
+      throw new IllegalArgumentException(
+          "Expected "
+              + markerIds.size() * 2
+              + " coordinates for "
+              + markerIds.size()
+              + " markers, got: "
+              + positions.length);
+    }
+    for (int i = 0; i < markerIds.size(); i++) {
+      String markerId = (String) markerIds.get(i);
+      double latitude = positions[2 * i];
+      double longitude = positions[2 * i + 1];
+      LatLng position = new LatLng(latitude, longitude);
+      MarkerController markerController = markerIdToController.get(markerId);
+      if (markerController != null) {
+        markerController.setPosition(position);
+      }
+      storePosition(markerId, position);
+    }
+  }
+
+  /** Records a position the marker already has, so later changes are diffed against it. */
+  private void storePosition(String markerId, LatLng position) {
+    List<Double> jsonPosition = Arrays.asList(position.latitude, position.longitude);
+    Map<?, ?> culledOptions = (Map<?, ?>) viewportCuller.getOptions(markerId);
+    if (culledOptions != null) {
+      Map<Object, Object> options = new HashMap<>(culledOptions);
+      options.put("position", jsonPosition);
+      viewportCuller.put(markerId, options, ViewportCuller.pointBounds(position));
+    }
+    MarkerController markerController = markerIdToController.get(markerId);
+    if (markerController != null) {
+      Map<Object, Object> options = new HashMap<>(markerController.getOptions());
+      options.put("position", jsonPosition);
+      markerController.setOptions(options);
+    }
+  }
+
   void removeMarkers(List<Object> markerIdsToRemove) {
     if (markerIdsToRemove == null) {
       return;
@@ -55,15 +110,62 @@ class MarkersController {
         continue;
       }
       String markerId = (String) rawMarkerId;
-      final MarkerController markerController = markerIdToController.remove(markerId);
-      if (markerController != null) {
-        markerController.remove();
-        googleMapsMarkerIdToDartMarkerId.remove(markerController.getGoogleMapsMarkerId());
+      viewportCuller.remove(markerId);
+      removeMarkerFromMap(markerId);
+    }
+  }
+
+  private void removeMarkerFromMap(String markerId) {
+    final MarkerController markerController = markerIdToController.remove(markerId);
+    if (markerController != null) {
+      markerController.remove();
+      googleMapsMarkerIdToDartMarkerId.remove(markerController.getGoogleMapsMarkerId());
+    }
+  }
+
+  /**
+   * Enables culling: markers added from then on are only added to the map while they are in the
+   * visible region. Disabling it adds the culled markers back.
+   */
+  void setCullingEnabled(boolean cullingEnabled) {
+    if (this.cullingEnabled == cullingEnabled) {
+      return;
+    }
+    this.cullingEnabled = cullingEnabled;
+    if (!cullingEnabled) {
+      for (String markerId : viewportCuller.getIds()) {
+        if (!markerIdToController.containsKey(markerId)) {
+          addMarkerToMap(markerId, viewportCuller.getOptions(markerId));
+        }
+      }
+      viewportCuller.clear();
+    }
+  }
+
+  /** Adds the markers that entered the visible region and removes the ones that left it. */
+  void onCameraIdle() {
+    if (!cullingEnabled || googleMap == null) {
+      return;
+    }
+    viewportCuller.setVisibleRegion(googleMap.getProjection().getVisibleRegion().latLngBounds);
+    Set<String> markerIdsInRegion = viewportCuller.idsInRegion();
+    for (String markerId : new ArrayList<>(viewportCuller.getIds())) {
+      boolean onMap = markerIdToController.containsKey(markerId);
+      boolean inRegion = markerIdsInRegion.contains(markerId);
+      if (onMap && !inRegion) {
+        removeMarkerFromMap(markerId);
+      } else if (!onMap && inRegion) {
+        addMarkerToMap(markerId, viewportCuller.getOptions(markerId));
       }
     }
   }
 
   void showMarkerInfoWindow(String markerId, MethodChannel.Result result) {
+    if (!markerIdToController.containsKey(markerId)
+        && viewportCuller.getOptions(markerId) != null) {
+      // The marker was culled, it is added back so that its info window can be shown.
+      addMarkerToMap(markerId, viewportCuller.getOptions(markerId));
+    }
     MarkerController markerController = markerIdToController.get(markerId);
     if (markerController != null) {
       markerController.showInfoWindow();
@@ -78,6 +180,8 @@ class MarkersController {
     if (markerController != null) {
       markerController.hideInfoWindow();
       result.success(null);
+    } else if (viewportCuller.getOptions(markerId) != null) {
+      result.success(null);
     } else {
       result.error("Invalid markerId", "hideInfoWindow called with invalid markerId", null);
     }
@@ -87,6 +191,8 @@ class MarkersController {
     MarkerController markerController = markerIdToController.get(markerId);
     if (markerController != null) {
       result.success(markerController.isInfoWindowShown());
+    } else if (viewportCuller.getOptions(markerId) != null) {
+      result.success(false);
     } else {
       result.error("Invalid markerId", "isInfoWindowShown called with invalid markerId", null);
     }
@@ -132,6 +238,7 @@ class MarkersController {
     if (markerId == null) {
       return;
     }
+    storePosition(markerId, latLng);
     final Map<String, Object> data = new HashMap<>();
     data.put("markerId", markerId);
     data.put("position", Convert.latLngToJson(latLng));
@@ -153,12 +260,34 @@ class MarkersController {
     MarkerBuilder markerBuilder = new MarkerBuilder();
     String markerId = Convert.interpretMarkerOptions(marker, markerBuilder);
     MarkerOptions options = markerBuilder.build();
-    addMarker(markerId, options, markerBuilder.consumeTapEvents());
+    if (cullingEnabled) {
+      ViewportCuller.Bounds bounds = ViewportCuller.pointBounds(options.getPosition());
+      if (!viewportCuller.hasRegion()) {
+        viewportCuller.setVisibleRegion(googleMap.getProjection().getVisibleRegion().latLngBounds);
+      }
+      viewportCuller.put(markerId, marker, bounds);
+      if (!viewportCuller.isInRegion(bounds)) {
+        return;
+      }
+    }
+    addMarker(markerId, options, markerBuilder.consumeTapEvents(), (Map<?, ?>) marker);
   }
 
-  private void addMarker(String markerId, MarkerOptions markerOptions, boolean consumeTapEvents) {
+  private void addMarkerToMap(String markerId, Object marker) {
+    MarkerBuilder markerBuilder = new MarkerBuilder();
+    Convert.interpretMarkerOptions(marker, markerBuilder);
+    addMarker(
+        markerId, markerBuilder.build(), markerBuilder.consumeTapEvents(), (Map<?, ?>) marker);
+  }
+
+  private void addMarker(
+      String markerId,
+      MarkerOptions markerOptions,
+      boolean consumeTapEvents,
+      Map<?, ?> rawOptions) {
     final Marker marker = googleMap.addMarker(markerOptions);
     MarkerController controller = new MarkerController(marker, consumeTapEvents);
+    controller.setOptions(rawOptions);
     markerIdToController.put(markerId, controller);
     googleMapsMarkerIdToDartMarkerId.put(marker.getId(), markerId);
   }
@@ -168,10 +297,86 @@ class MarkersController {
       return;
     }
     String markerId = getMarkerId(marker);
+    if (viewportCuller.getOptions(markerId) != null) {
+      Object position = ((Map<?, ?>) marker).get("position");
+      ViewportCuller.Bounds bounds =
+          position != null
+              ? ViewportCuller.pointBounds(Convert.toLatLng(position))
+              : ViewportCuller.pointBounds(
+                  Convert.toLatLng(
+                      ((Map<?, ?>) viewportCuller.getOptions(markerId)).get("position")));
+      viewportCuller.put(markerId, marker, bounds);
+    }
     MarkerController markerController = markerIdToController.get(markerId);
     if (markerController != null) {
-      Convert.interpretMarkerOptions(marker, markerController);
+      Map<?, ?> options = (Map<?, ?>) marker;
+      Map<Object, Object> changedOptions = changedOptions(markerController.getOptions(), options);
+      // Only the markerId is left when nothing changed.
+      if (changedOptions.size() > 1) {
+        Convert.interpretMarkerOptions(changedOptions, markerController);
+      }
+      markerController.setOptions(options);
+    }
+  }
+
+  /**
+   * Returns the entries of {@code current} that differ from {@code previous}, along with the
+   * markerId.
+   *
+   * <p>This keeps a position-only change from re-applying every other property, and in particular
+   * from decoding the icon again.
+   */
+  static Map<Object, Object> changedOptions(Map<?, ?> previous, Map<?, ?> current) {
+    Map<Object, Object> changed = new HashMap<>();
+    for (Map.Entry<?, ?> entry : current.entrySet()) {
+      Object key = entry.getKey();
+      if ("markerId".equals(key)
+          || previous == null
+          || !optionEquals(previous.get(key), entry.getValue())) {
+        changed.put(key, entry.getValue());
+      }
+    }
+    return changed;
+  }
+
+  private static boolean optionEquals(Object a, Object b) {
+    if (a == b) {
+      return true;
+    }
+    if (a == null || b == null) {
+      return false;
+    }
+    if (a instanceof byte[] && b instanceof byte[]) {
+      return Arrays.equals((byte[]) a, (byte[]) b);
+    }
+    if (a instanceof List && b instanceof List) {
+      List<?> listA = (List<?>) a;
+      List<?> listB = (List<?>) b;
+      if (listA.size() != listB.size()) {
+        return false;
+      }
+      for (int i = 0; i < listA.size(); i++) {
+        if (!optionEquals(listA.get(i), listB.get(i))) {
+          return false;
+        }
+      }
+      return true;
+    }
+    if (a instanceof Map && b instanceof Map) {
+      Map<?, ?> mapA = (Map<?, ?>) a;
+      Map<?, ?> mapB = (Map<?, ?>) b;
+      if (mapA.size() != mapB.size()) {
+        return false;
+      }
+      for (Map.Entry<?, ?> entry : mapA.entrySet()) {
+        if (!mapB.containsKey(entry.getKey())
+            || !optionEquals(entry.getValue(), mapB.get(entry.getKey()))) {
+          return false;
+        }
+      }
+      return true;
     }
+    return a.equals(b);
   }
 
   @SuppressWarnings("unchecked")
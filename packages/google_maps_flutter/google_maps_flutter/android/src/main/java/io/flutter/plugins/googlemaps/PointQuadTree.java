@@ -0,0 +1,153 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A quad tree of items indexed by a point, used to find the items inside a rectangle without
+ * scanning all of them.
+ *
+ * <p>Points are in an arbitrary planar coordinate space, callers use longitude and latitude.
+ */
+class PointQuadTree<T> {
+  private static final int MAX_ITEMS = 50;
+  private static final int MAX_DEPTH = 30;
+
+  private final double minX;
+  private final double minY;
+  private final double maxX;
+  private final double maxY;
+  private final int depth;
+  private List<Entry<T>> entries = new ArrayList<>();
+  private List<PointQuadTree<T>> children;
+
+  private static final class Entry<T> {
+    final double x;
+    final double y;
+    final T item;
+
+    Entry(double x, double y, T item) {
+      this.x = x;
+      this.y = y;
+      this.item = item;
+    }
+  }
+
+  PointQuadTree(double minX, double minY, double maxX, double maxY) {
+    this(minX, minY, maxX, maxY, 0);
+  }
+
+  private PointQuadTree(double minX, double minY, double maxX, double maxY, int depth) {
+    this.minX = minX;
+    this.minY = minY;
+    this.maxX = maxX;
+    this.maxY = maxY;
+    this.depth = depth;
+  }
+
+  void add(double x, double y, T item) {
+    if (!contains(x, y)) {
+      return;
+    }
+    insert(new Entry<>(x, y, item));
+  }
+
+  /** Removes an item previously added at the given point. Returns whether it was found. */
+  boolean remove(double x, double y, T item) {
+    if (!contains(x, y)) {
+      return false;
+    }
+    if (children != null) {
+      for (PointQuadTree<T> child : children) {
+        if (child.remove(x, y, item)) {
+          return true;
+        }
+      }
+      return false;
+    }
+    for (int i = 0; i < entries.size(); i++) {
+      Entry<T> entry = entries.get(i);
+      if (entry.item.equals(item) && entry.x == x && entry.y == y) {
+        entries.remove(i);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  void clear() {
+    entries = new ArrayList<>();
+    children = null;
+  }
+
+  /** Returns the items whose point lies inside the given rectangle, edges included. */
+  List<T> search(double searchMinX, double searchMinY, double searchMaxX, double searchMaxY) {
+    List<T> results = new ArrayList<>();
+    search(searchMinX, searchMinY, searchMaxX, searchMaxY, results);
+    return results;
+  }
+
+  private void search(
+      double searchMinX, double searchMinY, double searchMaxX, double searchMaxY, List<T> results) {
+    if (searchMaxX < minX || searchMinX > maxX || searchMaxY < minY || searchMinY > maxY) {
+      return;
+    }
+    if (children != null) {
+      for (PointQuadTree<T> child : children) {
+        child.search(searchMinX, searchMinY, searchMaxX, searchMaxY, results);
+      }
+      return;
+    }
+    for (Entry<T> entry : entries) {
+      if (entry.x >= searchMinX
+          && entry.x <= searchMaxX
+          && entry.y >= searchMinY
+          && entry.y <= searchMaxY) {
+        results.add(entry.item);
+      }
+    }
+  }
+
+  private boolean contains(double x, double y) {
+    return x >= minX && x <= maxX && y >= minY && y <= maxY;
+  }
+
+  private void insert(Entry<T> entry) {
+    if (children != null) {
+      childFor(entry.x, entry.y).insert(entry);
+      return;
+    }
+    entries.add(entry);
+    if (entries.size() > MAX_ITEMS && depth < MAX_DEPTH) {
+      split();
+    }
+  }
+
+  private void split() {
+    double midX = (minX + maxX) / 2;
+    double midY = (minY + maxY) / 2;
+    children = new ArrayList<>(4);
+    children.add(new PointQuadTree<T>(minX, minY, midX, midY, depth + 1));
+    children.add(new PointQuadTree<T>(midX, minY, maxX, midY, depth + 1));
+    children.add(new PointQuadTree<T>(minX, midY, midX, maxY, depth + 1));
+    children.add(new PointQuadTree<T>(midX, midY, maxX, maxY, depth + 1));
+    List<Entry<T>> oldEntries = entries;
+    entries = null;
+    for (Entry<T> entry : oldEntries) {
+      childFor(entry.x, entry.y).insert(entry);
+    }
+  }
+
+  private PointQuadTree<T> childFor(double x, double y) {
+    double midX = (minX + maxX) / 2;
+    double midY = (minY + maxY) / 2;
+    if (y < midY) {
+      return children.get(x < midX ? 0 : 1);
+    }
+    return children.get(x < midX ? 2 : 3);
+  }
+}
@@ -8,9 +8,11 @@ import com.google.android.gms.maps.GoogleMap;
 import com.google.android.gms.maps.model.Polygon;
 import com.google.android.gms.maps.model.PolygonOptions;
 import io.flutter.plugin.common.MethodChannel;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 class PolygonsController {
 
@@ -19,6 +21,8 @@ class PolygonsController {
   private final MethodChannel methodChannel;
   private final float density;
   private GoogleMap googleMap;
+  private final ViewportCuller viewportCuller = new ViewportCuller();
+  private boolean cullingEnabled;
 
   PolygonsController(MethodChannel methodChannel, float density) {
     this.polygonIdToController = new HashMap<>();
@@ -56,10 +60,52 @@ class PolygonsController {
         continue;
       }
       String polygonId = (String) rawPolygonId;
-      final PolygonController polygonController = polygonIdToController.remove(polygonId);
-      if (polygonController != null) {
-        polygonController.remove();
-        googleMapsPolygonIdToDartPolygonId.remove(polygonController.getGoogleMapsPolygonId());
+      viewportCuller.remove(polygonId);
+      removePolygonFromMap(polygonId);
+    }
+  }
+
+  private void removePolygonFromMap(String polygonId) {
+    final PolygonController polygonController = polygonIdToController.remove(polygonId);
+    if (polygonController != null) {
+      polygonController.remove();
+      googleMapsPolygonIdToDartPolygonId.remove(polygonController.getGoogleMapsPolygonId());
+    }
+  }
+
+  /**
+   * Enables culling: polygons added from then on are only added to the map while they intersect the
+   * visible region. Disabling it adds the culled polygons back.
+   */
+  void setCullingEnabled(boolean cullingEnabled) {
+    if (this.cullingEnabled == cullingEnabled) {
+      return;
+    }
+    this.cullingEnabled = cullingEnabled;
+    if (!cullingEnabled) {
+      for (String polygonId : viewportCuller.getIds()) {
+        if (!polygonIdToController.containsKey(polygonId)) {
+          addPolygonToMap(polygonId, viewportCuller.getOptions(polygonId));
+        }
+      }
+      viewportCuller.clear();
+    }
+  }
+
+  /** Adds the polygons that entered the visible region and removes the ones that left it. */
+  void onCameraIdle() {
+    if (!cullingEnabled || googleMap == null) {
+      return;
+    }
+    viewportCuller.setVisibleRegion(googleMap.getProjection().getVisibleRegion().latLngBounds);
+    Set<String> polygonIdsInRegion = viewportCuller.idsInRegion();
+    for (String polygonId : new ArrayList<>(viewportCuller.getIds())) {
+      boolean onMap = polygonIdToController.containsKey(polygonId);
+      boolean inRegion = polygonIdsInRegion.contains(polygonId);
+      if (onMap && !inRegion) {
+        removePolygonFromMap(polygonId);
+      } else if (!onMap && inRegion) {
+        addPolygonToMap(polygonId, viewportCuller.getOptions(polygonId));
       }
     }
   }
@@ -84,9 +130,25 @@ class PolygonsController {
     PolygonBuilder polygonBuilder = new PolygonBuilder(density);
     String polygonId = Convert.interpretPolygonOptions(polygon, polygonBuilder);
     PolygonOptions options = polygonBuilder.build();
+    if (cullingEnabled) {
+      ViewportCuller.Bounds bounds = ViewportCuller.pointsBounds(options.getPoints());
+      if (!viewportCuller.hasRegion()) {
+        viewportCuller.setVisibleRegion(googleMap.getProjection().getVisibleRegion().latLngBounds);
+      }
+      viewportCuller.put(polygonId, polygon, bounds);
+      if (!viewportCuller.isInRegion(bounds)) {
+        return;
+      }
+    }
     addPolygon(polygonId, options, polygonBuilder.consumeTapEvents());
   }
 
+  private void addPolygonToMap(String polygonId, Object polygon) {
+    PolygonBuilder polygonBuilder = new PolygonBuilder(density);
+    Convert.interpretPolygonOptions(polygon, polygonBuilder);
+    addPolygon(polygonId, polygonBuilder.build(), polygonBuilder.consumeTapEvents());
+  }
+
   private void addPolygon(
       String polygonId, PolygonOptions polygonOptions, boolean consumeTapEvents) {
     final Polygon polygon = googleMap.addPolygon(polygonOptions);
@@ -100,6 +162,12 @@ class PolygonsController {
       return;
     }
     String polygonId = getPolygonId(polygon);
+    if (viewportCuller.getOptions(polygonId) != null) {
+      PolygonBuilder polygonBuilder = new PolygonBuilder(density);
+      Convert.interpretPolygonOptions(polygon, polygonBuilder);
+      PolygonOptions options = polygonBuilder.build();
+      viewportCuller.put(polygonId, polygon, ViewportCuller.pointsBounds(options.getPoints()));
+    }
     PolygonController polygonController = polygonIdToController.get(polygonId);
     if (polygonController != null) {
       Convert.interpretPolygonOptions(polygon, polygonController);
@@ -13,6 +13,8 @@ import java.util.List;
 class PolylineBuilder implements PolylineOptionsSink {
   private final PolylineOptions polylineOptions;
   private boolean consumeTapEvents;
+  private boolean simplify;
+  private List<LatLng> points;
   private final float density;
 
   PolylineBuilder(float density) {
@@ -21,6 +23,10 @@ class PolylineBuilder implements PolylineOptionsSink {
   }
 
   PolylineOptions build() {
+    // Simplified polylines get their points once the level of detail is computed.
+    if (points != null && !simplify) {
+      polylineOptions.addAll(points);
+    }
     return polylineOptions;
   }
 
@@ -28,6 +34,14 @@ class PolylineBuilder implements PolylineOptionsSink {
     return consumeTapEvents;
   }
 
+  boolean simplify() {
+    return simplify;
+  }
+
+  List<LatLng> getPoints() {
+    return points;
+  }
+
   @Override
   public void setColor(int color) {
     polylineOptions.color(color);
@@ -50,7 +64,12 @@ class PolylineBuilder implements PolylineOptionsSink {
 
   @Override
   public void setPoints(List<LatLng> points) {
-    polylineOptions.addAll(points);
+    this.points = points;
+  }
+
+  @Override
+  public void setSimplify(boolean simplify) {
+    this.simplify = simplify;
   }
 
   @Override
@@ -8,6 +8,7 @@ import com.google.android.gms.maps.model.Cap;
 import com.google.android.gms.maps.model.LatLng;
 import com.google.android.gms.maps.model.PatternItem;
 import com.google.android.gms.maps.model.Polyline;
+import java.util.Collections;
 import java.util.List;
 
 /** Controller of a single Polyline on the map. */
@@ -16,6 +17,14 @@ class PolylineController implements PolylineOptionsSink {
   private final String googleMapsPolylineId;
   private boolean consumeTapEvents;
   private final float density;
+  // The full geometry, the polyline only has the points needed at the current zoom when simplified.
+  private List<LatLng> points = Collections.emptyList();
+  private boolean simplify;
+  // Incremented when the points change, to drop simplifications of previous points.
+  private int pointsVersion;
+  private int simplifiedZoom = -1;
+  // Set once the polyline is removed from the map, simplifications may still arrive afterwards.
+  private boolean removed;
 
   PolylineController(Polyline polyline, boolean consumeTapEvents, float density) {
     this.polyline = polyline;
@@ -25,6 +34,7 @@ class PolylineController implements PolylineOptionsSink {
   }
 
   void remove() {
+    removed = true;
     polyline.remove();
   }
 
@@ -61,7 +71,53 @@ class PolylineController implements PolylineOptionsSink {
 
   @Override
   public void setPoints(List<LatLng> points) {
-    polyline.setPoints(points);
+    this.points = points;
+    pointsVersion++;
+    simplifiedZoom = -1;
+    if (!simplify) {
+      polyline.setPoints(points);
+    }
+  }
+
+  @Override
+  public void setSimplify(boolean simplify) {
+    if (this.simplify == simplify) {
+      return;
+    }
+    this.simplify = simplify;
+    simplifiedZoom = -1;
+    if (simplify && pointsVersion == 0) {
+      // The points were given when the polyline was created, before it was simplified.
+      points = polyline.getPoints();
+    }
+    if (!simplify) {
+      polyline.setPoints(points);
+    }
+  }
+
+  /** Whether the points on the map should be simplified again for the given zoom level. */
+  boolean needsSimplification(int zoom) {
+    return simplify && simplifiedZoom != zoom;
+  }
+
+  List<LatLng> getPoints() {
+    return points;
+  }
+
+  int getPointsVersion() {
+    return pointsVersion;
+  }
+
+  /**
+   * Shows simplified points, unless they were computed from points that have changed since or the
+   * polyline was removed.
+   */
+  void setSimplifiedPoints(List<LatLng> simplifiedPoints, int zoom, int pointsVersion) {
+    if (removed || !simplify || pointsVersion != this.pointsVersion) {
+      return;
+    }
+    simplifiedZoom = zoom;
+    polyline.setPoints(simplifiedPoints);
   }
 
   @Override
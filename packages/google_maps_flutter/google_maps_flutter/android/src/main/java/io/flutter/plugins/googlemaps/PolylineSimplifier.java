@@ -0,0 +1,103 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import com.google.android.gms.maps.model.LatLng;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Simplifies lines with the Douglas-Peucker algorithm, dropping the points that are not visible at
+ * a given zoom level.
+ *
+ * <p>Points are compared in Web Mercator coordinates, so the tolerance is a distance on screen.
+ */
+final class PolylineSimplifier {
+  // Size of the world in density independent pixels at zoom level 0.
+  private static final double WORLD_SIZE = 256;
+
+  private PolylineSimplifier() {}
+
+  /**
+   * Returns the points needed to draw the line at the given zoom level, with an error of at most
+   * {@code tolerance} density independent pixels. The first and last points are always kept.
+   */
+  static List<LatLng> simplify(List<LatLng> points, int zoom, double tolerance) {
+    int size = points.size();
+    if (size < 3) {
+      return points;
+    }
+    double worldSize = WORLD_SIZE * Math.pow(2, zoom);
+    double[] xs = new double[size];
+    double[] ys = new double[size];
+    for (int i = 0; i < size; i++) {
+      LatLng point = points.get(i);
+      // Clamped to keep the poles finite.
+      double sinLatitude =
+          Math.max(-0.9999, Math.min(0.9999, Math.sin(Math.toRadians(point.latitude))));
+      xs[i] = (point.longitude + 180) / 360 * worldSize;
+      ys[i] = (0.5 - Math.log((1 + sinLatitude) / (1 - sinLatitude)) / (4 * Math.PI)) * worldSize;
+    }
+
+    boolean[] keep = new boolean[size];
+    keep[0] = true;
+    keep[size - 1] = true;
+    double squaredTolerance = tolerance * tolerance;
+    // Iterative rather than recursive so that very long lines don't overflow the stack.
+    Deque<int[]> ranges = new ArrayDeque<>();
+    ranges.push(new int[] {0, size - 1});
+    int kept = 2;
+    while (!ranges.isEmpty()) {
+      int[] range = ranges.pop();
+      int first = range[0];
+      int last = range[1];
+      double maxSquaredDistance = 0;
+      int farthest = -1;
+      for (int i = first + 1; i < last; i++) {
+        double squaredDistance =
+            squaredSegmentDistance(xs[i], ys[i], xs[first], ys[first], xs[last], ys[last]);
+        if (squaredDistance > maxSquaredDistance) {
+          maxSquaredDistance = squaredDistance;
+          farthest = i;
+        }
+      }
+      if (farthest != -1 && maxSquaredDistance > squaredTolerance) {
+        keep[farthest] = true;
+        kept++;
+        ranges.push(new int[] {first, farthest});
+        ranges.push(new int[] {farthest, last});
+      }
+    }
+
+    List<LatLng> simplified = new ArrayList<>(kept);
+    for (int i = 0; i < size; i++) {
+      if (keep[i]) {
+        simplified.add(points.get(i));
+      }
+    }
+    return simplified;
+  }
+
+  private static double squaredSegmentDistance(
+      double x, double y, double x1, double y1, double x2, double y2) {
+    double dx = x2 - x1;
+    double dy = y2 - y1;
+    if (dx != 0 || dy != 0) {
+      double t = ((x - x1) * dx + (y - y1) * dy) / (dx * dx + dy * dy);
+      if (t > 1) {
+        x1 = x2;
+        y1 = y2;
+      } else if (t > 0) {
+        x1 += dx * t;
+        y1 += dy * t;
+      }
+    }
+    dx = x - x1;
+    dy = y - y1;
+    return dx * dx + dy * dy;
+  }
+}
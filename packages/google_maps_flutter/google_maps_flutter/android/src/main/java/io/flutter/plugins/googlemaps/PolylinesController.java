@@ -4,21 +4,31 @@
 
 package io.flutter.plugins.googlemaps;
 
+import android.os.Handler;
+import android.os.Looper;
 import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.model.LatLng;
 import com.google.android.gms.maps.model.Polyline;
 import com.google.android.gms.maps.model.PolylineOptions;
 import io.flutter.plugin.common.MethodChannel;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 class PolylinesController {
+  // Maximum error of simplified polylines, in density independent pixels.
+  private static final double SIMPLIFICATION_TOLERANCE = 1.0;
 
   private final Map<String, PolylineController> polylineIdToController;
   private final Map<String, String> googleMapsPolylineIdToDartPolylineId;
   private final MethodChannel methodChannel;
   private GoogleMap googleMap;
   private final float density;
+  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+  private ExecutorService simplificationExecutor;
+  private boolean disposed;
 
   PolylinesController(MethodChannel methodChannel, float density) {
     this.polylineIdToController = new HashMap<>();
@@ -64,6 +74,49 @@ class PolylinesController {
     }
   }
 
+  /** Simplifies the polylines that need it for the zoom level the camera stopped at. */
+  void onCameraIdle() {
+    for (PolylineController polylineController : polylineIdToController.values()) {
+      updateLevelOfDetail(polylineController);
+    }
+  }
+
+  void dispose() {
+    disposed = true;
+    // Drops the simplified points already posted, the ones still being computed check disposed.
+    mainHandler.removeCallbacksAndMessages(null);
+    if (simplificationExecutor != null) {
+      simplificationExecutor.shutdownNow();
+      simplificationExecutor = null;
+    }
+  }
+
+  private void updateLevelOfDetail(final PolylineController polylineController) {
+    if (googleMap == null || disposed) {
+      return;
+    }
+    final int zoom = (int) Math.ceil(googleMap.getCameraPosition().zoom);
+    if (!polylineController.needsSimplification(zoom)) {
+      return;
+    }
+    if (simplificationExecutor == null) {
+      simplificationExecutor = Executors.newSingleThreadExecutor();
+    }
+    final List<LatLng> points = polylineController.getPoints();
+    final int pointsVersion = polylineController.getPointsVersion();
+    simplificationExecutor.execute(
+        () -> {
+          final List<LatLng> simplifiedPoints =
+              PolylineSimplifier.simplify(points, zoom, SIMPLIFICATION_TOLERANCE);
+          mainHandler.post(
+              () -> {
+                if (!disposed) {
+                  polylineController.setSimplifiedPoints(simplifiedPoints, zoom, pointsVersion);
+                }
+              });
+        });
+  }
+
   boolean onPolylineTap(String googlePolylineId) {
     String polylineId = googleMapsPolylineIdToDartPolylineId.get(googlePolylineId);
     if (polylineId == null) {
@@ -84,15 +137,24 @@ class PolylinesController {
     PolylineBuilder polylineBuilder = new PolylineBuilder(density);
     String polylineId = Convert.interpretPolylineOptions(polyline, polylineBuilder);
     PolylineOptions options = polylineBuilder.build();
-    addPolyline(polylineId, options, polylineBuilder.consumeTapEvents());
+    PolylineController controller =
+        addPolyline(polylineId, options, polylineBuilder.consumeTapEvents());
+    if (polylineBuilder.simplify()) {
+      controller.setSimplify(true);
+      if (polylineBuilder.getPoints() != null) {
+        controller.setPoints(polylineBuilder.getPoints());
+      }
+      updateLevelOfDetail(controller);
+    }
   }
 
-  private void addPolyline(
+  private PolylineController addPolyline(
       String polylineId, PolylineOptions polylineOptions, boolean consumeTapEvents) {
     final Polyline polyline = googleMap.addPolyline(polylineOptions);
     PolylineController controller = new PolylineController(polyline, consumeTapEvents, density);
     polylineIdToController.put(polylineId, controller);
     googleMapsPolylineIdToDartPolylineId.put(polyline.getId(), polylineId);
+    return controller;
   }
 
   private void changePolyline(Object polyline) {
@@ -103,6 +165,7 @@ class PolylinesController {
     PolylineController polylineController = polylineIdToController.get(polylineId);
     if (polylineController != null) {
       Convert.interpretPolylineOptions(polyline, polylineController);
+      updateLevelOfDetail(polylineController);
     }
   }
 
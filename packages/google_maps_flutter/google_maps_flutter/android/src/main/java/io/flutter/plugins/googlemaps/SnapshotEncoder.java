@@ -0,0 +1,142 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.graphics.Bitmap;
+import android.os.Handler;
+import android.os.Looper;
+import io.flutter.plugin.common.MethodChannel;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Encodes map snapshots on a background thread, so that compressing a full screen bitmap doesn't
+ * block the main thread.
+ */
+class SnapshotEncoder {
+  private static final String DISPOSED_MESSAGE =
+      "The map was disposed before the snapshot was encoded";
+
+  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+  private ExecutorService executor;
+  private boolean disposed;
+
+  /** How a snapshot is encoded and where it is written. */
+  static final class Options {
+    String format;
+    int quality = 100;
+    double scale = 1.0;
+    String filePath;
+  }
+
+  private final class Encoding implements Runnable {
+    final Bitmap bitmap;
+    final Options options;
+    final MethodChannel.Result result;
+
+    Encoding(Bitmap bitmap, Options options, MethodChannel.Result result) {
+      this.bitmap = bitmap;
+      this.options = options;
+      this.result = result;
+    }
+
+    @Override
+    public void run() {
+      try {
+        final Object encoded = encode(bitmap, options);
+        mainHandler.post(() -> result.success(encoded));
+      } catch (IOException | RuntimeException e) {
+        mainHandler.post(() -> result.error("Snapshot error", e.getMessage(), null));
+      }
+    }
+
+    void cancel() {
+      bitmap.recycle();
+      result.error("Snapshot error", DISPOSED_MESSAGE, null);
+    }
+  }
+
+  /**
+   * Scales and encodes the bitmap, then completes the result on the main thread with the encoded
+   * bytes, or with the file path if {@link Options#filePath} is set. The bitmap is recycled.
+   */
+  void encode(final Bitmap bitmap, final Options options, final MethodChannel.Result result) {
+    final Encoding encoding = new Encoding(bitmap, options, result);
+    if (disposed) {
+      encoding.cancel();
+      return;
+    }
+    if (executor == null) {
+      executor = Executors.newSingleThreadExecutor();
+    }
+    executor.execute(encoding);
+  }
+
+  /**
+   * Stops encoding, the results of the snapshots that were not encoded yet complete with errors.
+   */
+  void dispose() {
+    disposed = true;
+    if (executor != null) {
+      for (Runnable pending : executor.shutdownNow()) {
+        ((Encoding) pending).cancel();
+      }
+      executor = null;
+    }
+  }
+
+  private static Object encode(Bitmap bitmap, Options options) throws IOException {
+    Bitmap scaled = bitmap;
+    try {
+      if (options.scale > 0 && options.scale < 1) {
+        scaled =
+            Bitmap.createScaledBitmap(
+                bitmap,
+                Math.max(1, (int) Math.round(bitmap.getWidth() * options.scale)),
+                Math.max(1, (int) Math.round(bitmap.getHeight() * options.scale)),
+                true);
+      }
+      Bitmap.CompressFormat format = compressFormat(options.format);
+      if (options.filePath == null) {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        scaled.compress(format, options.quality, stream);
+        return stream.toByteArray();
+      }
+      File file = new File(options.filePath);
+      File directory = file.getParentFile();
+      if (directory != null && !directory.isDirectory() && !directory.mkdirs()) {
+        throw new IOException("Could not create directory " + directory);
+      }
+      OutputStream stream = new FileOutputStream(file);
+      try {
+        scaled.compress(format, options.quality, stream);
+      } finally {
+        stream.close();
+      }
+      return file.getAbsolutePath();
+    } finally {
+      if (scaled != bitmap) {
+        scaled.recycle();
+      }
+      bitmap.recycle();
+    }
+  }
+
+  @SuppressWarnings("deprecation")
+  private static Bitmap.CompressFormat compressFormat(String format) {
+    if ("jpeg".equals(format)) {
+      return Bitmap.CompressFormat.JPEG;
+    }
+    if ("webp".equals(format)) {
+      return Bitmap.CompressFormat.WEBP;
+    }
+    return Bitmap.CompressFormat.PNG;
+  }
+}
@@ -0,0 +1,211 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.util.Log;
+import android.util.LruCache;
+import androidx.annotation.Nullable;
+import com.google.android.gms.maps.model.Tile;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Cache of the tiles of one tile overlay, keyed by their coordinates.
+ *
+ * <p>Tiles are kept in memory in a least recently used cache and, when a directory is given, also
+ * written to disk so they survive the map and the process. The disk cache is trimmed to its maximum
+ * size by deleting the least recently used files, and tiles written longer than the maximum age ago
+ * are deleted instead of being returned. All methods are thread-safe, tiles are requested from
+ * several threads of the Maps SDK at once.
+ */
+class TileCache {
+  private static final String TAG = "TileCache";
+  private static final String FILE_EXTENSION = ".tile";
+  // Written at the start of the files, files of another version are deleted when read.
+  private static final int FILE_FORMAT_VERSION = 1;
+
+  private final LruCache<String, Tile> memoryCache;
+  @Nullable private final File directory;
+  private final long maxDiskSizeInBytes;
+  private final long maxDiskAgeMillis;
+  // The size of the files in the directory, computed on first use.
+  private long diskSizeInBytes = -1;
+
+  TileCache(
+      int maxMemorySizeInBytes,
+      @Nullable File directory,
+      long maxDiskSizeInBytes,
+      long maxDiskAgeMillis) {
+    this.memoryCache =
+        new LruCache<String, Tile>(maxMemorySizeInBytes) {
+          @Override
+          protected int sizeOf(String key, Tile tile) {
+            return tile.data.length;
+          }
+        };
+    this.directory = directory;
+    this.maxDiskSizeInBytes = maxDiskSizeInBytes;
+    this.maxDiskAgeMillis = maxDiskAgeMillis;
+  }
+
+  /** Returns the cached tile, or null if it is neither in memory nor on disk. */
+  @Nullable
+  Tile get(int x, int y, int zoom) {
+    String key = key(x, y, zoom);
+    Tile tile = memoryCache.get(key);
+    if (tile != null || directory == null) {
+      return tile;
+    }
+    tile = readFromDisk(new File(directory, key + FILE_EXTENSION));
+    if (tile != null) {
+      memoryCache.put(key, tile);
+    }
+    return tile;
+  }
+
+  /** Caches a tile in memory only. Tiles without data are not cached. */
+  void putInMemory(int x, int y, int zoom, Tile tile) {
+    if (tile.data != null) {
+      memoryCache.put(key(x, y, zoom), tile);
+    }
+  }
+
+  /** Caches a tile in memory and on disk. Tiles without data are not cached. */
+  void put(int x, int y, int zoom, Tile tile) {
+    if (tile.data == null) {
+      return;
+    }
+    String key = key(x, y, zoom);
+    memoryCache.put(key, tile);
+    if (directory != null) {
+      writeToDisk(new File(directory, key + FILE_EXTENSION), tile);
+    }
+  }
+
+  /** Drops the tiles cached in memory. */
+  void clearMemory() {
+    memoryCache.evictAll();
+  }
+
+  /** Drops all the cached tiles, in memory and on disk. */
+  synchronized void clear() {
+    memoryCache.evictAll();
+    if (directory == null) {
+      return;
+    }
+    File[] files = directory.listFiles();
+    if (files != null) {
+      for (File file : files) {
+        file.delete();
+      }
+    }
+    diskSizeInBytes = 0;
+  }
+
+  private static String key(int x, int y, int zoom) {
+    return zoom + "_" + x + "_" + y;
+  }
+
+  @Nullable
+  private synchronized Tile readFromDisk(File file) {
+    if (!file.isFile()) {
+      return null;
+    }
+    Tile tile = null;
+    try {
+      DataInputStream stream =
+          new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+      try {
+        if (stream.readInt() == FILE_FORMAT_VERSION
+            && System.currentTimeMillis() - stream.readLong() <= maxDiskAgeMillis) {
+          int width = stream.readInt();
+          int height = stream.readInt();
+          byte[] data = new byte[stream.readInt()];
+          stream.readFully(data);
+          tile = new Tile(width, height, data);
+        }
+      } finally {
+        stream.close();
+      }
+    } catch (IOException e) {
+      Log.w(TAG, "Can't read cached tile " + file, e);
+    }
+    if (tile == null) {
+      // Unreadable, expired or written in another format.
+      deleteFile(file);
+      return null;
+    }
+    // Used as the access time for the least recently used eviction.
+    file.setLastModified(System.currentTimeMillis());
+    return tile;
+  }
+
+  private synchronized void writeToDisk(File file, Tile tile) {
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      Log.w(TAG, "Can't create tile cache directory " + directory);
+      return;
+    }
+    if (diskSizeInBytes < 0) {
+      diskSizeInBytes = 0;
+      File[] files = directory.listFiles();
+      if (files != null) {
+        for (File cachedFile : files) {
+          diskSizeInBytes += cachedFile.length();
+        }
+      }
+    }
+    deleteFile(file);
+    try {
+      DataOutputStream stream =
+          new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+      try {
+        stream.writeInt(FILE_FORMAT_VERSION);
+        stream.writeLong(System.currentTimeMillis());
+        stream.writeInt(tile.width);
+        stream.writeInt(tile.height);
+        stream.writeInt(tile.data.length);
+        stream.write(tile.data);
+      } finally {
+        stream.close();
+      }
+    } catch (IOException e) {
+      Log.w(TAG, "Can't write cached tile " + file, e);
+      file.delete();
+      return;
+    }
+    diskSizeInBytes += file.length();
+    if (diskSizeInBytes > maxDiskSizeInBytes) {
+      trimDisk();
+    }
+  }
+
+  private void deleteFile(File file) {
+    long length = file.length();
+    if (file.delete() && diskSizeInBytes > 0) {
+      diskSizeInBytes -= length;
+    }
+  }
+
+  // Deletes the least recently used files until the cache uses 90% of its maximum size, so that
+  // the directory is not listed again on every write.
+  private void trimDisk() {
+    File[] files = directory.listFiles();
+    if (files == null) {
+      return;
+    }
+    Arrays.sort(files, (a, b) -> Long.compare(a.lastModified(), b.lastModified()));
+    long target = maxDiskSizeInBytes / 10 * 9;
+    for (int i = 0; i < files.length && diskSizeInBytes > target; i++) {
+      deleteFile(files[i]);
+    }
+  }
+}
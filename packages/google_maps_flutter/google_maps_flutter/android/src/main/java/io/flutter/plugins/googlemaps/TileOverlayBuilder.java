@@ -6,10 +6,21 @@ package io.flutter.plugins.googlemaps;
 
 import com.google.android.gms.maps.model.TileOverlayOptions;
 import com.google.android.gms.maps.model.TileProvider;
+import java.util.Map;
 
 class TileOverlayBuilder implements TileOverlaySink {
+  static final int DEFAULT_FETCH_TIMEOUT_MILLIS = 10000;
+  static final int DEFAULT_TILE_SIZE = 256;
+  static final long DEFAULT_DISK_CACHE_MAX_AGE_MILLIS = 7L * 24 * 60 * 60 * 1000;
 
   private final TileOverlayOptions tileOverlayOptions;
+  private int fetchTimeoutMillis = DEFAULT_FETCH_TIMEOUT_MILLIS;
+  private boolean diskCacheEnabled;
+  private long diskCacheMaxAgeMillis = DEFAULT_DISK_CACHE_MAX_AGE_MILLIS;
+  private int tileSize = DEFAULT_TILE_SIZE;
+  private String urlTemplate;
+  private Map<String, String> httpHeaders;
+  private HeatmapTileProvider.Options heatmap;
 
   TileOverlayBuilder() {
     this.tileOverlayOptions = new TileOverlayOptions();
@@ -19,6 +30,34 @@ class TileOverlayBuilder implements TileOverlaySink {
     return tileOverlayOptions;
   }
 
+  int getFetchTimeoutMillis() {
+    return fetchTimeoutMillis;
+  }
+
+  boolean isDiskCacheEnabled() {
+    return diskCacheEnabled;
+  }
+
+  long getDiskCacheMaxAgeMillis() {
+    return diskCacheMaxAgeMillis;
+  }
+
+  int getTileSize() {
+    return tileSize;
+  }
+
+  String getUrlTemplate() {
+    return urlTemplate;
+  }
+
+  Map<String, String> getHttpHeaders() {
+    return httpHeaders;
+  }
+
+  HeatmapTileProvider.Options getHeatmap() {
+    return heatmap;
+  }
+
   @Override
   public void setFadeIn(boolean fadeIn) {
     tileOverlayOptions.fadeIn(fadeIn);
@@ -43,4 +82,39 @@ class TileOverlayBuilder implements TileOverlaySink {
   public void setTileProvider(TileProvider tileProvider) {
     tileOverlayOptions.tileProvider(tileProvider);
   }
+
+  @Override
+  public void setFetchTimeoutMillis(int fetchTimeoutMillis) {
+    this.fetchTimeoutMillis = fetchTimeoutMillis;
+  }
+
+  @Override
+  public void setDiskCacheEnabled(boolean diskCacheEnabled) {
+    this.diskCacheEnabled = diskCacheEnabled;
+  }
+
+  @Override
+  public void setDiskCacheMaxAgeMillis(long diskCacheMaxAgeMillis) {
+    this.diskCacheMaxAgeMillis = diskCacheMaxAgeMillis;
+  }
+
+  @Override
+  public void setTileSize(int tileSize) {
+    this.tileSize = tileSize;
+  }
+
+  @Override
+  public void setUrlTemplate(String urlTemplate) {
+    this.urlTemplate = urlTemplate;
+  }
+
+  @Override
+  public void setHttpHeaders(Map<String, String> httpHeaders) {
+    this.httpHeaders = httpHeaders;
+  }
+
+  @Override
+  public void setHeatmap(HeatmapTileProvider.Options heatmap) {
+    this.heatmap = heatmap;
+  }
 }
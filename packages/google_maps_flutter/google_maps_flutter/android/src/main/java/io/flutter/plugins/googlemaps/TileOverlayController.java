@@ -4,6 +4,7 @@
 
 package io.flutter.plugins.googlemaps;
 
+import androidx.annotation.Nullable;
 import com.google.android.gms.maps.model.TileOverlay;
 import com.google.android.gms.maps.model.TileProvider;
 import java.util.HashMap;
@@ -12,16 +13,26 @@ import java.util.Map;
 class TileOverlayController implements TileOverlaySink {
 
   private final TileOverlay tileOverlay;
+  private final TileCache tileCache;
+  @Nullable private final HeatmapTileProvider heatmapTileProvider;
 
-  TileOverlayController(TileOverlay tileOverlay) {
+  TileOverlayController(
+      TileOverlay tileOverlay,
+      TileCache tileCache,
+      @Nullable HeatmapTileProvider heatmapTileProvider) {
     this.tileOverlay = tileOverlay;
+    this.tileCache = tileCache;
+    this.heatmapTileProvider = heatmapTileProvider;
   }
 
   void remove() {
     tileOverlay.remove();
+    tileCache.clearMemory();
   }
 
   void clearTileCache() {
+    // Cleared first so that the tiles requested again by the Maps SDK are not served from it.
+    tileCache.clear();
     tileOverlay.clearTileCache();
   }
 
@@ -59,4 +70,41 @@ class TileOverlayController implements TileOverlaySink {
   public void setTileProvider(TileProvider tileProvider) {
     // You can not change tile provider after creation
   }
+
+  @Override
+  public void setFetchTimeoutMillis(int fetchTimeoutMillis) {
+    // You can not change tile provider after creation
+  }
+
+  @Override
+  public void setDiskCacheEnabled(boolean diskCacheEnabled) {
+    // You can not change tile provider after creation
+  }
+
+  @Override
+  public void setDiskCacheMaxAgeMillis(long diskCacheMaxAgeMillis) {
+    // You can not change tile provider after creation
+  }
+
+  @Override
+  public void setTileSize(int tileSize) {
+    // You can not change tile provider after creation
+  }
+
+  @Override
+  public void setUrlTemplate(String urlTemplate) {
+    // You can not change tile provider after creation
+  }
+
+  @Override
+  public void setHttpHeaders(Map<String, String> httpHeaders) {
+    // You can not change tile provider after creation
+  }
+
+  @Override
+  public void setHeatmap(HeatmapTileProvider.Options heatmap) {
+    if (heatmapTileProvider != null && heatmapTileProvider.setOptions(heatmap)) {
+      clearTileCache();
+    }
+  }
 }
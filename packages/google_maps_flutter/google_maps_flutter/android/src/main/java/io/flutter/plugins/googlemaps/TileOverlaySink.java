@@ -5,6 +5,7 @@
 package io.flutter.plugins.googlemaps;
 
 import com.google.android.gms.maps.model.TileProvider;
+import java.util.Map;
 
 /** Receiver of TileOverlayOptions configuration. */
 interface TileOverlaySink {
@@ -17,4 +18,18 @@ interface TileOverlaySink {
   void setVisible(boolean visible);
 
   void setTileProvider(TileProvider tileProvider);
+
+  void setFetchTimeoutMillis(int fetchTimeoutMillis);
+
+  void setDiskCacheEnabled(boolean diskCacheEnabled);
+
+  void setDiskCacheMaxAgeMillis(long diskCacheMaxAgeMillis);
+
+  void setTileSize(int tileSize);
+
+  void setUrlTemplate(String urlTemplate);
+
+  void setHttpHeaders(Map<String, String> httpHeaders);
+
+  void setHeatmap(HeatmapTileProvider.Options heatmap);
 }
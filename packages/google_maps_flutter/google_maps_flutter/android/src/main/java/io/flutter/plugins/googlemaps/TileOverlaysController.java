@@ -4,23 +4,42 @@
 
 package io.flutter.plugins.googlemaps;
 
+import android.net.Uri;
 import com.google.android.gms.maps.GoogleMap;
 import com.google.android.gms.maps.model.TileOverlay;
 import com.google.android.gms.maps.model.TileOverlayOptions;
+import com.google.android.gms.maps.model.TileProvider;
 import io.flutter.plugin.common.MethodChannel;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Semaphore;
 
 class TileOverlaysController {
+  // Tiles requested from Dart at the same time, for all the tile overlays of the map.
+  private static final int MAX_IN_FLIGHT_TILE_REQUESTS = 4;
+  private static final int MAX_MEMORY_CACHE_SIZE_IN_BYTES =
+      (int) Math.min(Runtime.getRuntime().maxMemory() / 32, 16 * 1024 * 1024);
+  private static final long MAX_DISK_CACHE_SIZE_IN_BYTES = 64 * 1024 * 1024;
 
   private final Map<String, TileOverlayController> tileOverlayIdToController;
   private final MethodChannel methodChannel;
+  private final File cacheDirectory;
+  private final Semaphore inFlightTileRequests = new Semaphore(MAX_IN_FLIGHT_TILE_REQUESTS);
   private GoogleMap googleMap;
 
-  TileOverlaysController(MethodChannel methodChannel) {
+  /**
+   * @param cacheDirectory the directory holding the on-disk tile caches of the overlays of one map
+   *     created with {@code diskCacheEnabled}, one subdirectory per tile overlay id and provider.
+   */
+  TileOverlaysController(MethodChannel methodChannel, File cacheDirectory) {
     this.tileOverlayIdToController = new HashMap<>();
     this.methodChannel = methodChannel;
+    this.cacheDirectory = cacheDirectory;
   }
 
   void setGoogleMap(GoogleMap googleMap) {
@@ -85,15 +104,73 @@ class TileOverlaysController {
     TileOverlayBuilder tileOverlayOptionsBuilder = new TileOverlayBuilder();
     String tileOverlayId =
         Convert.interpretTileOverlayOptions(tileOverlayOptions, tileOverlayOptionsBuilder);
-    TileProviderController tileProviderController =
-        new TileProviderController(methodChannel, tileOverlayId);
-    tileOverlayOptionsBuilder.setTileProvider(tileProviderController);
+    File diskCacheDirectory =
+        tileOverlayOptionsBuilder.isDiskCacheEnabled()
+            ? new File(
+                new File(cacheDirectory, Uri.encode(tileOverlayId)),
+                providerFingerprint(tileOverlayOptionsBuilder))
+            : null;
+    TileCache tileCache =
+        new TileCache(
+            MAX_MEMORY_CACHE_SIZE_IN_BYTES,
+            diskCacheDirectory,
+            MAX_DISK_CACHE_SIZE_IN_BYTES,
+            tileOverlayOptionsBuilder.getDiskCacheMaxAgeMillis());
+    TileProvider tileProvider;
+    HeatmapTileProvider heatmapTileProvider = null;
+    if (tileOverlayOptionsBuilder.getHeatmap() != null) {
+      heatmapTileProvider =
+          new HeatmapTileProvider(tileOverlayOptionsBuilder.getHeatmap(), tileCache);
+      tileProvider = heatmapTileProvider;
+    } else if (tileOverlayOptionsBuilder.getUrlTemplate() != null) {
+      tileProvider =
+          new UrlTileProviderController(
+              tileOverlayOptionsBuilder.getUrlTemplate(),
+              tileOverlayOptionsBuilder.getHttpHeaders(),
+              tileOverlayOptionsBuilder.getTileSize(),
+              tileCache,
+              tileOverlayOptionsBuilder.getFetchTimeoutMillis());
+    } else {
+      tileProvider =
+          new TileProviderController(
+              methodChannel,
+              tileOverlayId,
+              tileCache,
+              inFlightTileRequests,
+              tileOverlayOptionsBuilder.getFetchTimeoutMillis());
+    }
+    tileOverlayOptionsBuilder.setTileProvider(tileProvider);
     TileOverlayOptions options = tileOverlayOptionsBuilder.build();
     TileOverlay tileOverlay = googleMap.addTileOverlay(options);
-    TileOverlayController tileOverlayController = new TileOverlayController(tileOverlay);
+    TileOverlayController tileOverlayController =
+        new TileOverlayController(tileOverlay, tileCache, heatmapTileProvider);
     tileOverlayIdToController.put(tileOverlayId, tileOverlayController);
   }
 
+  // Names the disk cache of a tile provider, so that an overlay id reused for different tiles, by a
+  // later run of the app for instance, doesn't serve the tiles cached for the previous provider.
+  private static String providerFingerprint(TileOverlayBuilder tileOverlayOptionsBuilder) {
+    if (tileOverlayOptionsBuilder.getHeatmap() != null) {
+      return "heatmap";
+    }
+    String urlTemplate = tileOverlayOptionsBuilder.getUrlTemplate();
+    if (urlTemplate == null) {
+      return "dart";
+    }
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      byte[] hash = digest.digest(urlTemplate.getBytes(StandardCharsets.UTF_8));
+      StringBuilder fingerprint = new StringBuilder("url_");
+      for (byte b : hash) {
+        fingerprint.append(String.format("%02x", b));
+      }
+      return fingerprint.toString();
+    } catch (NoSuchAlgorithmException e) {
+      // Every Java platform provides SHA-256.
+      throw new IllegalStateException(e);
+    }
+  }
+
   private void changeTileOverlay(Map<String, ?> tileOverlayOptions) {
     if (tileOverlayOptions == null) {
       return;
@@ -6,13 +6,15 @@ package io.flutter.plugins.googlemaps;
 
 import android.os.Handler;
 import android.os.Looper;
+import android.os.SystemClock;
 import android.util.Log;
-import androidx.annotation.NonNull;
 import com.google.android.gms.maps.model.Tile;
 import com.google.android.gms.maps.model.TileProvider;
 import io.flutter.plugin.common.MethodChannel;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 class TileProviderController implements TileProvider {
 
@@ -20,17 +22,57 @@ class TileProviderController implements TileProvider {
 
   private final String tileOverlayId;
   private final MethodChannel methodChannel;
+  private final TileCache tileCache;
+  private final Semaphore inFlightRequests;
+  private final long fetchTimeoutMillis;
   private final Handler handler = new Handler(Looper.getMainLooper());
 
-  TileProviderController(MethodChannel methodChannel, String tileOverlayId) {
+  /**
+   * @param inFlightRequests bounds the number of tiles requested from Dart at the same time, it is
+   *     shared by all the tile overlays of a map.
+   * @param fetchTimeoutMillis how long to wait for Dart to provide a tile before giving up,
+   *     including the time spent waiting for {@code inFlightRequests}. The Maps SDK requests the
+   *     tile again later.
+   */
+  TileProviderController(
+      MethodChannel methodChannel,
+      String tileOverlayId,
+      TileCache tileCache,
+      Semaphore inFlightRequests,
+      long fetchTimeoutMillis) {
     this.tileOverlayId = tileOverlayId;
     this.methodChannel = methodChannel;
+    this.tileCache = tileCache;
+    this.inFlightRequests = inFlightRequests;
+    this.fetchTimeoutMillis = fetchTimeoutMillis;
   }
 
   @Override
   public Tile getTile(final int x, final int y, final int zoom) {
-    Worker worker = new Worker(x, y, zoom);
-    return worker.getTile();
+    Tile cachedTile = tileCache.get(x, y, zoom);
+    if (cachedTile != null) {
+      return cachedTile;
+    }
+    long deadline = SystemClock.uptimeMillis() + fetchTimeoutMillis;
+    try {
+      if (!inFlightRequests.tryAcquire(fetchTimeoutMillis, TimeUnit.MILLISECONDS)) {
+        // Returning null instead of NO_TILE lets the Maps SDK request the tile again later.
+        return null;
+      }
+    } catch (InterruptedException e) {
+      return null;
+    }
+    try {
+      // The time spent waiting for a request slot counts towards the timeout.
+      long remainingMillis = deadline - SystemClock.uptimeMillis();
+      if (remainingMillis <= 0) {
+        return null;
+      }
+      Worker worker = new Worker(x, y, zoom);
+      return worker.getTile(remainingMillis);
+    } finally {
+      inFlightRequests.release();
+    }
   }
 
   private final class Worker implements MethodChannel.Result {
@@ -40,6 +82,8 @@ class TileProviderController implements TileProvider {
     private final int y;
     private final int zoom;
     private Map<String, ?> result;
+    // Set when Dart did not provide the tile in time, a late tile is then only cached.
+    private volatile boolean timedOut;
 
     Worker(int x, int y, int zoom) {
       this.x = x;
@@ -47,8 +91,7 @@ class TileProviderController implements TileProvider {
       this.zoom = zoom;
     }
 
-    @NonNull
-    Tile getTile() {
+    Tile getTile(long timeoutMillis) {
       handler.post(
           () ->
               methodChannel.invokeMethod(
@@ -56,8 +99,17 @@ class TileProviderController implements TileProvider {
                   Convert.tileOverlayArgumentsToJson(tileOverlayId, x, y, zoom),
                   this));
       try {
-        // Because `methodChannel.invokeMethod` is async, we use a `countDownLatch` make it synchronized.
-        countDownLatch.await();
+        // Because `methodChannel.invokeMethod` is async, we use a `countDownLatch` make it
+        // synchronized.
+        if (!countDownLatch.await(timeoutMillis, TimeUnit.MILLISECONDS)) {
+          timedOut = true;
+          Log.w(
+              TAG,
+              String.format(
+                  "Timed out getting tile: x = %d, y= %d, zoom = %d after %d ms",
+                  x, y, zoom, fetchTimeoutMillis));
+          return null;
+        }
       } catch (InterruptedException e) {
         Log.e(
             TAG,
@@ -65,8 +117,13 @@ class TileProviderController implements TileProvider {
             e);
         return TileProvider.NO_TILE;
       }
+      if (result == null) {
+        return TileProvider.NO_TILE;
+      }
       try {
-        return Convert.interpretTile(result);
+        Tile tile = Convert.interpretTile(result);
+        tileCache.put(x, y, zoom, tile);
+        return tile;
       } catch (Exception e) {
         Log.e(TAG, "Can't parse tile data", e);
         return TileProvider.NO_TILE;
@@ -77,6 +134,13 @@ class TileProviderController implements TileProvider {
     @SuppressWarnings("unchecked")
     public void success(Object data) {
       result = (Map<String, ?>) data;
+      if (timedOut && result != null) {
+        try {
+          tileCache.putInMemory(x, y, zoom, Convert.interpretTile(result));
+        } catch (Exception e) {
+          Log.e(TAG, "Can't parse tile data", e);
+        }
+      }
       countDownLatch.countDown();
     }
 
@@ -0,0 +1,117 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.util.Log;
+import com.google.android.gms.maps.model.Tile;
+import com.google.android.gms.maps.model.TileProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.Map;
+
+/**
+ * Tile provider fetching tiles natively from a URL template such as {@code
+ * https://host/{z}/{x}/{y}.png}, without going through Dart.
+ *
+ * <p>Tiles are fetched with {@link HttpURLConnection}, which keeps the connections to the tile
+ * server in a pool and reuses them across tiles as long as the responses are fully read.
+ */
+class UrlTileProviderController implements TileProvider {
+
+  private static final String TAG = "UrlTileProvider";
+
+  private final String urlTemplate;
+  private final Map<String, String> httpHeaders;
+  private final int tileSize;
+  private final TileCache tileCache;
+  private final int timeoutMillis;
+
+  UrlTileProviderController(
+      String urlTemplate,
+      Map<String, String> httpHeaders,
+      int tileSize,
+      TileCache tileCache,
+      int timeoutMillis) {
+    this.urlTemplate = urlTemplate;
+    this.httpHeaders = httpHeaders;
+    this.tileSize = tileSize;
+    this.tileCache = tileCache;
+    this.timeoutMillis = timeoutMillis;
+  }
+
+  @Override
+  public Tile getTile(int x, int y, int zoom) {
+    Tile cachedTile = tileCache.get(x, y, zoom);
+    if (cachedTile != null) {
+      return cachedTile;
+    }
+    String url = tileUrl(urlTemplate, x, y, zoom);
+    try {
+      HttpURLConnection connection = openConnection(url);
+      connection.setConnectTimeout(timeoutMillis);
+      connection.setReadTimeout(timeoutMillis);
+      if (httpHeaders != null) {
+        for (Map.Entry<String, String> header : httpHeaders.entrySet()) {
+          connection.setRequestProperty(header.getKey(), header.getValue());
+        }
+      }
+      int responseCode = connection.getResponseCode();
+      if (responseCode != HttpURLConnection.HTTP_OK) {
+        // The body is read and closed rather than disconnecting, so that the connection is reused.
+        InputStream errorStream = connection.getErrorStream();
+        if (errorStream != null) {
+          readFully(errorStream);
+        }
+        if (responseCode == HttpURLConnection.HTTP_NOT_FOUND
+            || responseCode == HttpURLConnection.HTTP_NO_CONTENT) {
+          return TileProvider.NO_TILE;
+        }
+        Log.w(TAG, String.format("Can't get tile %s: response code = %d", url, responseCode));
+        // Returning null instead of NO_TILE lets the Maps SDK request the tile again later.
+        return null;
+      }
+      Tile tile = new Tile(tileSize, tileSize, readFully(connection.getInputStream()));
+      tileCache.put(x, y, zoom, tile);
+      return tile;
+    } catch (IOException e) {
+      Log.w(TAG, "Can't get tile " + url, e);
+      return null;
+    }
+  }
+
+  // Overridden in tests.
+  HttpURLConnection openConnection(String url) throws IOException {
+    URLConnection connection = new URL(url).openConnection();
+    if (!(connection instanceof HttpURLConnection)) {
+      throw new IOException("Not an http url: " + url);
+    }
+    return (HttpURLConnection) connection;
+  }
+
+  static String tileUrl(String urlTemplate, int x, int y, int zoom) {
+    return urlTemplate
+        .replace("{x}", Integer.toString(x))
+        .replace("{y}", Integer.toString(y))
+        .replace("{z}", Integer.toString(zoom));
+  }
+
+  private static byte[] readFully(InputStream inputStream) throws IOException {
+    try {
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      byte[] buffer = new byte[16 * 1024];
+      int read;
+      while ((read = inputStream.read(buffer)) != -1) {
+        outputStream.write(buffer, 0, read);
+      }
+      return outputStream.toByteArray();
+    } finally {
+      inputStream.close();
+    }
+  }
+}
@@ -0,0 +1,232 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Spatial index of the map objects of one kind, used to only keep the objects near the visible
+ * region on the map.
+ *
+ * <p>Objects are indexed by the center of their bounds in a {@link PointQuadTree}, and the search
+ * region is grown by the largest half extent of the indexed objects so that large objects whose
+ * center is outside of the region are still found. The raw options of every object are kept so that
+ * culled objects can be added back to the map.
+ */
+class ViewportCuller {
+  // Fraction of the visible region added on each side, so that small camera moves don't cull.
+  private static final double MARGIN = 0.5;
+  private static final double METERS_PER_DEGREE = 111320;
+
+  private final PointQuadTree<String> index = new PointQuadTree<>(-180, -90, 180, 90);
+  private final Map<String, Entry> idToEntry = new HashMap<>();
+  private double maxHalfWidth;
+  private double maxHalfHeight;
+  // West is greater than east when the region crosses the antimeridian.
+  private Bounds region;
+
+  /**
+   * Latitude and longitude bounds. Unlike {@link LatLngBounds} the longitudes are not wrapped, so
+   * that an east of 180 is kept as is. The bounds of objects may extend past -180 or 180 when they
+   * cross the antimeridian, west is always less than or equal to east for them.
+   */
+  static final class Bounds {
+    final double south;
+    final double west;
+    final double north;
+    final double east;
+
+    Bounds(double south, double west, double north, double east) {
+      this.south = south;
+      this.west = west;
+      this.north = north;
+      this.east = east;
+    }
+
+    double centerX() {
+      return (west + east) / 2;
+    }
+
+    double centerY() {
+      return (south + north) / 2;
+    }
+  }
+
+  private static final class Entry {
+    final Object options;
+    final Bounds bounds;
+
+    Entry(Object options, Bounds bounds) {
+      this.options = options;
+      this.bounds = bounds;
+    }
+  }
+
+  /** Sets the visible region of the map, the region used for culling includes a margin. */
+  void setVisibleRegion(LatLngBounds visibleRegion) {
+    double latitudeMargin =
+        (visibleRegion.northeast.latitude - visibleRegion.southwest.latitude) * MARGIN;
+    double west = visibleRegion.southwest.longitude;
+    double east = visibleRegion.northeast.longitude;
+    double longitudeSpan = west <= east ? east - west : east + 360 - west;
+    double longitudeMargin = longitudeSpan * MARGIN;
+    if (longitudeSpan + 2 * longitudeMargin >= 360) {
+      west = -180;
+      east = 180;
+    } else {
+      west = wrapLongitude(west - longitudeMargin);
+      east = wrapLongitude(east + longitudeMargin);
+    }
+    region =
+        new Bounds(
+            Math.max(-90, visibleRegion.southwest.latitude - latitudeMargin),
+            west,
+            Math.min(90, visibleRegion.northeast.latitude + latitudeMargin),
+            east);
+  }
+
+  boolean hasRegion() {
+    return region != null;
+  }
+
+  void put(String id, Object options, Bounds bounds) {
+    remove(id);
+    idToEntry.put(id, new Entry(options, bounds));
+    index.add(bounds.centerX(), bounds.centerY(), id);
+    maxHalfWidth = Math.max(maxHalfWidth, (bounds.east - bounds.west) / 2);
+    maxHalfHeight = Math.max(maxHalfHeight, (bounds.north - bounds.south) / 2);
+  }
+
+  void remove(String id) {
+    Entry entry = idToEntry.remove(id);
+    if (entry != null) {
+      index.remove(entry.bounds.centerX(), entry.bounds.centerY(), id);
+    }
+  }
+
+  void clear() {
+    index.clear();
+    idToEntry.clear();
+    maxHalfWidth = 0;
+    maxHalfHeight = 0;
+  }
+
+  Object getOptions(String id) {
+    Entry entry = idToEntry.get(id);
+    return entry == null ? null : entry.options;
+  }
+
+  Set<String> getIds() {
+    return idToEntry.keySet();
+  }
+
+  /** Whether the bounds intersect the culling region, true until a region is set. */
+  boolean isInRegion(Bounds bounds) {
+    return region == null || intersects(region, bounds);
+  }
+
+  /** Returns the ids of the objects intersecting the culling region. */
+  Set<String> idsInRegion() {
+    if (region == null) {
+      return new HashSet<>(idToEntry.keySet());
+    }
+    double south = region.south - maxHalfHeight;
+    double north = region.north + maxHalfHeight;
+    double west = region.west - maxHalfWidth;
+    double east = region.east + maxHalfWidth;
+    List<String> candidates;
+    if (region.west <= region.east) {
+      candidates = index.search(west, south, east, north);
+      // The grown region may wrap around the antimeridian.
+      if (west < -180) {
+        candidates.addAll(index.search(west + 360, south, 180, north));
+      }
+      if (east > 180) {
+        candidates.addAll(index.search(-180, south, east - 360, north));
+      }
+    } else {
+      candidates = index.search(west, south, 180, north);
+      candidates.addAll(index.search(-180, south, east, north));
+    }
+    Set<String> ids = new HashSet<>();
+    for (String id : candidates) {
+      if (intersects(region, idToEntry.get(id).bounds)) {
+        ids.add(id);
+      }
+    }
+    return ids;
+  }
+
+  private static boolean intersects(Bounds region, Bounds bounds) {
+    if (bounds.north < region.south || bounds.south > region.north) {
+      return false;
+    }
+    // Bounds extending past the antimeridian are also compared one turn east or west of it.
+    return intersectsLongitudes(region, bounds.west, bounds.east)
+        || (bounds.west < -180
+            && intersectsLongitudes(region, bounds.west + 360, bounds.east + 360))
+        || (bounds.east > 180
+            && intersectsLongitudes(region, bounds.west - 360, bounds.east - 360));
+  }
+
+  private static boolean intersectsLongitudes(Bounds region, double west, double east) {
+    if (region.west <= region.east) {
+      return east >= region.west && west <= region.east;
+    }
+    // The region crosses the antimeridian.
+    return east >= region.west || west <= region.east;
+  }
+
+  private static double wrapLongitude(double longitude) {
+    if (longitude < -180) {
+      return longitude + 360;
+    }
+    if (longitude > 180) {
+      return longitude - 360;
+    }
+    return longitude;
+  }
+
+  static Bounds pointBounds(LatLng point) {
+    return new Bounds(point.latitude, point.longitude, point.latitude, point.longitude);
+  }
+
+  static Bounds circleBounds(LatLng center, double radiusInMeters) {
+    double latitudeDelta = radiusInMeters / METERS_PER_DEGREE;
+    double cosLatitude = Math.cos(Math.toRadians(center.latitude));
+    double longitudeDelta = cosLatitude > 0.01 ? latitudeDelta / cosLatitude : 180;
+    double south = Math.max(-90, center.latitude - latitudeDelta);
+    double north = Math.min(90, center.latitude + latitudeDelta);
+    if (longitudeDelta >= 180) {
+      return new Bounds(south, -180, north, 180);
+    }
+    // Not clamped, so that a circle crossing the antimeridian keeps its part on the other side.
+    return new Bounds(
+        south, center.longitude - longitudeDelta, north, center.longitude + longitudeDelta);
+  }
+
+  static Bounds pointsBounds(List<LatLng> points) {
+    if (points.isEmpty()) {
+      return new Bounds(0, 0, 0, 0);
+    }
+    double south = 90;
+    double west = 180;
+    double north = -90;
+    double east = -180;
+    for (LatLng point : points) {
+      south = Math.min(south, point.latitude);
+      north = Math.max(north, point.latitude);
+      west = Math.min(west, point.longitude);
+      east = Math.max(east, point.longitude);
+    }
+    return new Bounds(south, west, north, east);
+  }
+}
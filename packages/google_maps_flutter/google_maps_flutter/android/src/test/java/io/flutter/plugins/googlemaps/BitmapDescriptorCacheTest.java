@@ -0,0 +1,51 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+import android.os.Build;
+import com.google.android.gms.maps.model.BitmapDescriptor;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = Build.VERSION_CODES.P)
+public class BitmapDescriptorCacheTest {
+
+  @Test
+  public void get_ReturnsDescriptorForEqualBytes() {
+    final BitmapDescriptorCache cache = new BitmapDescriptorCache(1024);
+    final BitmapDescriptor descriptor = mock(BitmapDescriptor.class);
+
+    cache.put(new BitmapDescriptorCache.BytesKey(new byte[] {1, 2, 3}), descriptor, 10);
+
+    assertSame(descriptor, cache.get(new BitmapDescriptorCache.BytesKey(new byte[] {1, 2, 3})));
+    assertNull(cache.get(new BitmapDescriptorCache.BytesKey(new byte[] {1, 2, 4})));
+  }
+
+  @Test
+  public void put_EvictsLeastRecentlyUsedOverBudget() {
+    final BitmapDescriptorCache cache = new BitmapDescriptorCache(100);
+    final BitmapDescriptor first = mock(BitmapDescriptor.class);
+    final BitmapDescriptor second = mock(BitmapDescriptor.class);
+    final BitmapDescriptor third = mock(BitmapDescriptor.class);
+
+    cache.put("first", first, 40);
+    cache.put("second", second, 40);
+    cache.get("first");
+    cache.put("third", third, 40);
+
+    assertSame(first, cache.get("first"));
+    assertNull(cache.get("second"));
+    assertSame(third, cache.get("third"));
+    assertEquals(80, cache.size());
+  }
+}
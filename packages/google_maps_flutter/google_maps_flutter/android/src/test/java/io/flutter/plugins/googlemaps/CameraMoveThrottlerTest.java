@@ -0,0 +1,111 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import android.os.SystemClock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.shadows.ShadowLooper;
+
+@RunWith(RobolectricTestRunner.class)
+public class CameraMoveThrottlerTest {
+  // Stands for the camera position, which the sender reads when the event is sent.
+  private int position;
+  private final List<Integer> sentPositions = new ArrayList<>();
+  private final List<Long> sentTimes = new ArrayList<>();
+  private CameraMoveThrottler throttler;
+
+  @Before
+  public void setUp() {
+    throttler =
+        new CameraMoveThrottler(
+            () -> {
+              sentPositions.add(position);
+              sentTimes.add(SystemClock.uptimeMillis());
+            });
+    // Starts well past the first interval, as on a device, so that the first move is sent.
+    ShadowLooper.idleMainLooper(1, TimeUnit.SECONDS);
+  }
+
+  private void moveTo(int newPosition) {
+    position = newPosition;
+    throttler.onCameraMove();
+  }
+
+  @Test
+  public void sendsEveryMoveWithoutMaximumRate() {
+    moveTo(1);
+    moveTo(2);
+    moveTo(3);
+
+    assertEquals(3, sentPositions.size());
+  }
+
+  @Test
+  public void coalescesMovesWithinAnIntervalIntoTheLatestPosition() {
+    throttler.setMaxEventsPerSecond(10);
+
+    moveTo(1);
+    moveTo(2);
+    ShadowLooper.idleMainLooper(30, TimeUnit.MILLISECONDS);
+    moveTo(3);
+    assertEquals(1, sentPositions.size());
+
+    ShadowLooper.idleMainLooper(100, TimeUnit.MILLISECONDS);
+
+    assertEquals(2, sentPositions.size());
+    assertEquals(Integer.valueOf(3), sentPositions.get(1));
+  }
+
+  @Test
+  public void respectsTheMaximumRate() {
+    throttler.setMaxEventsPerSecond(10);
+
+    for (int i = 1; i <= 100; i++) {
+      moveTo(i);
+      ShadowLooper.idleMainLooper(10, TimeUnit.MILLISECONDS);
+    }
+    ShadowLooper.idleMainLooper(100, TimeUnit.MILLISECONDS);
+
+    assertTrue(sentPositions.size() <= 11);
+    for (int i = 1; i < sentTimes.size(); i++) {
+      assertTrue(sentTimes.get(i) - sentTimes.get(i - 1) >= 100);
+    }
+    assertEquals(Integer.valueOf(100), sentPositions.get(sentPositions.size() - 1));
+  }
+
+  @Test
+  public void flushSendsThePendingMoveNow() {
+    throttler.setMaxEventsPerSecond(10);
+    moveTo(1);
+    moveTo(2);
+
+    throttler.flush();
+    ShadowLooper.idleMainLooper(100, TimeUnit.MILLISECONDS);
+
+    assertEquals(2, sentPositions.size());
+    assertEquals(Integer.valueOf(2), sentPositions.get(1));
+  }
+
+  @Test
+  public void cancelDropsThePendingMove() {
+    throttler.setMaxEventsPerSecond(10);
+    moveTo(1);
+    moveTo(2);
+
+    throttler.cancel();
+    ShadowLooper.idleMainLooper(100, TimeUnit.MILLISECONDS);
+
+    assertEquals(1, sentPositions.size());
+  }
+}
@@ -0,0 +1,68 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import android.os.Build;
+import com.google.android.gms.maps.model.Tile;
+import com.google.android.gms.maps.model.TileProvider;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = Build.VERSION_CODES.P)
+public class HeatmapTileProviderTest {
+
+  private static HeatmapTileProvider.Options options(double... data) {
+    final HeatmapTileProvider.Options options = new HeatmapTileProvider.Options();
+    options.data = data;
+    return options;
+  }
+
+  @Test
+  public void getTile_ReturnsNoTileAwayFromPoints() {
+    final HeatmapTileProvider provider =
+        new HeatmapTileProvider(options(10, 10, 1), new TileCache(1024 * 1024, null, 0, 0));
+
+    assertSame(TileProvider.NO_TILE, provider.getTile(0, 0, 2));
+  }
+
+  @Test
+  public void getTile_RendersAndCachesTileWithPoints() {
+    final HeatmapTileProvider provider =
+        new HeatmapTileProvider(
+            options(10, 10, 1, 11, 11, 2), new TileCache(1024 * 1024, null, 0, 0));
+
+    final Tile tile = provider.getTile(2, 1, 2);
+
+    assertNotSame(TileProvider.NO_TILE, tile);
+    assertEquals(256, tile.width);
+    assertSame(tile, provider.getTile(2, 1, 2));
+  }
+
+  @Test
+  public void getTile_FindsPointsAcrossAntimeridian() {
+    final HeatmapTileProvider provider =
+        new HeatmapTileProvider(options(0, 179.99, 1), new TileCache(1024 * 1024, null, 0, 0));
+
+    assertNotSame(TileProvider.NO_TILE, provider.getTile(0, 2, 2));
+  }
+
+  @Test
+  public void setOptions_ReturnsFalseForSameOptions() {
+    final HeatmapTileProvider provider =
+        new HeatmapTileProvider(options(10, 10, 1), new TileCache(1024 * 1024, null, 0, 0));
+
+    assertFalse(provider.setOptions(options(10, 10, 1)));
+    assertTrue(provider.setOptions(options(10, 10, 2)));
+  }
+}
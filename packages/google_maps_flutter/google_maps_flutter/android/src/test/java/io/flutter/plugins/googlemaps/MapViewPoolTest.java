@@ -0,0 +1,116 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.app.Activity;
+import android.content.Context;
+import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.GoogleMapOptions;
+import com.google.android.gms.maps.MapView;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MapViewPoolTest {
+  private Activity activity;
+  private MapViewPool pool;
+
+  @Before
+  public void setUp() {
+    activity = mock(Activity.class);
+    pool = new MapViewPool();
+    pool.setMaxSize(1);
+  }
+
+  private static MapView mapViewWithContext(Context context) {
+    final MapView mapView = mock(MapView.class);
+    when(mapView.getContext()).thenReturn(context);
+    return mapView;
+  }
+
+  @Test
+  public void obtain_ReturnsNullWhenEmpty() {
+    assertNull(pool.obtain(activity, new GoogleMapOptions()));
+  }
+
+  @Test
+  public void release_ClearsAndStopsPooledView() {
+    final MapView mapView = mapViewWithContext(activity);
+    final GoogleMap googleMap = mock(GoogleMap.class);
+
+    pool.release(mapView, googleMap);
+
+    assertEquals(1, pool.size());
+    verify(googleMap).clear();
+    verify(mapView).onPause();
+    verify(mapView).onStop();
+    verify(mapView, never()).onDestroy();
+  }
+
+  @Test
+  public void obtain_ReturnsReleasedViewOnce() {
+    final MapView mapView = mapViewWithContext(activity);
+    pool.release(mapView, mock(GoogleMap.class));
+
+    assertSame(mapView, pool.obtain(activity, new GoogleMapOptions()));
+    assertNull(pool.obtain(activity, new GoogleMapOptions()));
+  }
+
+  @Test
+  public void obtain_ReturnsNullForAnotherContext() {
+    final MapView mapView = mapViewWithContext(activity);
+    pool.release(mapView, mock(GoogleMap.class));
+
+    assertNull(pool.obtain(mock(Activity.class), new GoogleMapOptions()));
+    assertEquals(1, pool.size());
+  }
+
+  @Test
+  public void obtain_ReturnsNullInLiteMode() {
+    pool.release(mapViewWithContext(activity), mock(GoogleMap.class));
+
+    assertNull(pool.obtain(activity, new GoogleMapOptions().liteMode(true)));
+  }
+
+  @Test
+  public void release_DestroysViewWhenPoolIsFull() {
+    pool.release(mapViewWithContext(activity), mock(GoogleMap.class));
+    final MapView mapView = mapViewWithContext(activity);
+
+    pool.release(mapView, mock(GoogleMap.class));
+
+    assertEquals(1, pool.size());
+    verify(mapView).onDestroy();
+  }
+
+  @Test
+  public void release_DestroysViewNotCreatedWithAnActivity() {
+    // Maps shown in a virtual display are created with a context of that display.
+    final MapView mapView = mapViewWithContext(mock(Context.class));
+
+    pool.release(mapView, mock(GoogleMap.class));
+
+    assertEquals(0, pool.size());
+    verify(mapView).onDestroy();
+  }
+
+  @Test
+  public void setMaxSize_DestroysViewsOverSize() {
+    final MapView mapView = mapViewWithContext(activity);
+    pool.release(mapView, mock(GoogleMap.class));
+
+    pool.setMaxSize(0);
+
+    assertEquals(0, pool.size());
+    verify(mapView).onDestroy();
+  }
+}
@@ -0,0 +1,190 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.Projection;
+import com.google.android.gms.maps.model.CameraPosition;
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import com.google.android.gms.maps.model.Marker;
+import com.google.android.gms.maps.model.MarkerOptions;
+import com.google.android.gms.maps.model.VisibleRegion;
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.MethodChannel;
+import io.flutter.plugin.common.MethodCodec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class MarkerClustersControllerTest {
+  private MethodChannel methodChannel;
+  private GoogleMap googleMap;
+  private MarkerClustersController controller;
+  private final List<Marker> addedMarkers = new ArrayList<>();
+  private final List<MarkerOptions> addedMarkerOptions = new ArrayList<>();
+
+  @Before
+  public void setUp() {
+    methodChannel =
+        spy(new MethodChannel(mock(BinaryMessenger.class), "no-name", mock(MethodCodec.class)));
+    googleMap = mock(GoogleMap.class);
+    Projection projection = mock(Projection.class);
+    LatLngBounds world = new LatLngBounds(new LatLng(-85, -180), new LatLng(85, 180));
+    when(projection.getVisibleRegion())
+        .thenReturn(new VisibleRegion(null, null, null, null, world));
+    when(googleMap.getProjection()).thenReturn(projection);
+    when(googleMap.getCameraPosition()).thenReturn(new CameraPosition(new LatLng(0, 0), 0, 0, 0));
+    when(googleMap.addMarker(any(MarkerOptions.class)))
+        .thenAnswer(
+            invocation -> {
+              Marker marker = mock(Marker.class);
+              when(marker.getId()).thenReturn("m" + addedMarkers.size());
+              addedMarkers.add(marker);
+              addedMarkerOptions.add(invocation.getArgument(0));
+              return marker;
+            });
+    controller = new MarkerClustersController(methodChannel, 1);
+    controller.setGoogleMap(googleMap);
+  }
+
+  private static Map<String, Object> item(String markerId, double latitude, double longitude) {
+    Map<String, Object> item = new HashMap<>();
+    item.put("markerId", markerId);
+    item.put("position", Arrays.asList(latitude, longitude));
+    return item;
+  }
+
+  private void addItems(Map<?, ?>... items) {
+    controller.addClusterItems(new ArrayList<Object>(Arrays.asList(items)));
+    controller.updateClusters();
+  }
+
+  @Test
+  public void distantItemsAreAddedAsSingleMarkers() {
+    addItems(item("a", 0, 0), item("b", 40, 120));
+
+    assertEquals(2, addedMarkers.size());
+    assertTrue(controller.hasMarker("m0"));
+    assertTrue(controller.hasMarker("m1"));
+  }
+
+  @Test
+  public void closeItemsAreClustered() {
+    addItems(item("a", 0, 0), item("b", 1, 1));
+
+    assertEquals(1, addedMarkers.size());
+    assertFalse(controller.onMarkerTap("m0"));
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<Map<String, Object>> data = ArgumentCaptor.forClass(Map.class);
+    verify(methodChannel).invokeMethod(eq("cluster#onTap"), data.capture());
+    List<?> markerIds = (List<?>) data.getValue().get("markerIds");
+    assertEquals(2, markerIds.size());
+    assertTrue(markerIds.containsAll(Arrays.asList("a", "b")));
+  }
+
+  @Test
+  public void clusterBelowMinClusterSizeIsSplit() {
+    controller.setOptions(null, 3);
+    addItems(item("a", 0, 0), item("b", 1, 1));
+
+    assertEquals(2, addedMarkers.size());
+  }
+
+  @Test
+  public void clusterMovesWhenItsItemsChangeWithTheSameCount() {
+    addItems(item("a", 0, 0), item("b", 1, 1));
+    Marker cluster = addedMarkers.get(0);
+
+    // Same cell and same number of items, but a different item.
+    controller.removeClusterItems(Collections.<Object>singletonList("b"));
+    addItems(item("c", 2, 2));
+
+    assertEquals(1, addedMarkers.size());
+    verify(cluster).setPosition(new LatLng(1, 1));
+    verify(cluster, never()).remove();
+  }
+
+  @Test
+  public void unchangedClusterIsNotUpdated() {
+    addItems(item("a", 0, 0), item("b", 1, 1));
+    Marker cluster = addedMarkers.get(0);
+
+    controller.updateClusters();
+
+    verify(cluster, never()).setPosition(any(LatLng.class));
+  }
+
+  @Test
+  public void itemIdsDoNotCollideWithClusterKeys() {
+    // At zoom 0 with the default grid size, (0, 0) falls in the cell keyed "cluster_0_1_1".
+    addItems(item("a", 0, 0), item("b", 1, 1), item("cluster_0_1_1", 40, 120));
+
+    assertEquals(2, addedMarkers.size());
+    verify(addedMarkers.get(0), never()).remove();
+    verify(addedMarkers.get(1), never()).remove();
+
+    // Tapping the single item reports the item, not the cluster sharing its key.
+    controller.onMarkerTap(googleMarkerIdAt(new LatLng(40, 120)));
+    verify(methodChannel)
+        .invokeMethod("clusterItem#onTap", Convert.markerIdToJson("cluster_0_1_1"));
+    verify(methodChannel, never()).invokeMethod(eq("cluster#onTap"), any());
+  }
+
+  private String googleMarkerIdAt(LatLng position) {
+    for (int i = 0; i < addedMarkerOptions.size(); i++) {
+      if (position.equals(addedMarkerOptions.get(i).getPosition())) {
+        return addedMarkers.get(i).getId();
+      }
+    }
+    throw new AssertionError("No marker was added at " + position);
+  }
+
+  @Test
+  public void removedItemsAreRemovedFromTheMap() {
+    addItems(item("a", 0, 0), item("b", 40, 120));
+    String removedMarkerId = googleMarkerIdAt(new LatLng(0, 0));
+    String keptMarkerId = googleMarkerIdAt(new LatLng(40, 120));
+
+    controller.removeClusterItems(Collections.<Object>singletonList("a"));
+    controller.updateClusters();
+
+    assertFalse(controller.hasMarker(removedMarkerId));
+    assertTrue(controller.hasMarker(keptMarkerId));
+  }
+
+  @Test
+  public void setOptionsRejectsNonPositiveGridSize() {
+    for (int gridSize : new int[] {0, -1}) {
+      try {
+        controller.setOptions(gridSize, null);
+        fail("Expected IllegalArgumentException for gridSize " + gridSize);
+      } catch (IllegalArgumentException expected) {
+      }
+    }
+  }
+}
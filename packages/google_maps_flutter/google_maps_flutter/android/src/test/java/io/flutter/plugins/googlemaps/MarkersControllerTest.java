@@ -5,7 +5,9 @@
 package io.flutter.plugins.googlemaps;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
@@ -92,6 +94,36 @@ public class MarkersControllerTest {
     Mockito.verify(methodChannel).invokeMethod("marker#onDragEnd", data);
   }
 
+  @Test
+  public void controller_OnMarkerDragEndUpdatesStoredPosition() {
+    final MethodChannel methodChannel =
+        spy(new MethodChannel(mock(BinaryMessenger.class), "no-name", mock(MethodCodec.class)));
+    final MarkersController controller = new MarkersController(methodChannel);
+    final GoogleMap googleMap = mock(GoogleMap.class);
+    controller.setGoogleMap(googleMap);
+
+    final Marker marker = mock(Marker.class);
+    when(marker.getId()).thenReturn("abc123");
+    when(googleMap.addMarker(any(MarkerOptions.class))).thenReturn(marker);
+
+    final Map<String, Object> markerOptions = new HashMap<>();
+    markerOptions.put("markerId", "abc123");
+    markerOptions.put("position", Arrays.asList(1.1, 2.2));
+    controller.addMarkers(Arrays.<Object>asList(markerOptions));
+
+    controller.onMarkerDragEnd("abc123", new LatLng(3.3, 4.4));
+
+    // Dart sending the dragged position back is not a change.
+    final Map<String, Object> draggedOptions = new HashMap<>(markerOptions);
+    draggedOptions.put("position", Arrays.asList(3.3, 4.4));
+    controller.changeMarkers(Arrays.<Object>asList(draggedOptions));
+    Mockito.verify(marker, never()).setPosition(any(LatLng.class));
+
+    // Resetting the original position is.
+    controller.changeMarkers(Arrays.<Object>asList(markerOptions));
+    Mockito.verify(marker).setPosition(new LatLng(1.1, 2.2));
+  }
+
   @Test
   public void controller_OnMarkerDrag() {
     final MethodChannel methodChannel =
@@ -124,4 +156,55 @@ public class MarkersControllerTest {
     data.put("position", points);
     Mockito.verify(methodChannel).invokeMethod("marker#onDrag", data);
   }
+
+  @Test
+  public void controller_ChangeMarkersOnlyAppliesChangedOptions() {
+    final MethodChannel methodChannel =
+        spy(new MethodChannel(mock(BinaryMessenger.class), "no-name", mock(MethodCodec.class)));
+    final MarkersController controller = new MarkersController(methodChannel);
+    final GoogleMap googleMap = mock(GoogleMap.class);
+    controller.setGoogleMap(googleMap);
+
+    final Marker marker = mock(Marker.class);
+    when(marker.getId()).thenReturn("abc123");
+    when(googleMap.addMarker(any(MarkerOptions.class))).thenReturn(marker);
+
+    final Map<String, Object> markerOptions = new HashMap<>();
+    markerOptions.put("markerId", "abc123");
+    markerOptions.put("alpha", 0.5);
+    markerOptions.put("position", Arrays.asList(1.1, 2.2));
+    controller.addMarkers(Arrays.<Object>asList(markerOptions));
+
+    final Map<String, Object> changedOptions = new HashMap<>(markerOptions);
+    changedOptions.put("position", Arrays.asList(3.3, 4.4));
+    controller.changeMarkers(Arrays.<Object>asList(changedOptions));
+
+    Mockito.verify(marker).setPosition(new LatLng(3.3, 4.4));
+    Mockito.verify(marker, never()).setAlpha(anyFloat());
+  }
+
+  @Test
+  public void controller_MoveMarkers() {
+    final MethodChannel methodChannel =
+        spy(new MethodChannel(mock(BinaryMessenger.class), "no-name", mock(MethodCodec.class)));
+    final MarkersController controller = new MarkersController(methodChannel);
+    final GoogleMap googleMap = mock(GoogleMap.class);
+    controller.setGoogleMap(googleMap);
+
+    final Marker marker = mock(Marker.class);
+    when(marker.getId()).thenReturn("abc123");
+    when(googleMap.addMarker(any(MarkerOptions.class))).thenReturn(marker);
+
+    final Map<String, Object> markerOptions = new HashMap<>();
+    markerOptions.put("markerId", "abc123");
+    markerOptions.put("position", Arrays.asList(1.1, 2.2));
+    controller.addMarkers(Arrays.<Object>asList(markerOptions));
+
+    controller.moveMarkers(Arrays.<Object>asList("abc123"), new double[] {3.3, 4.4});
+    Mockito.verify(marker).setPosition(new LatLng(3.3, 4.4));
+
+    // Moving back to the original position is a change from the moved one.
+    controller.changeMarkers(Arrays.<Object>asList(markerOptions));
+    Mockito.verify(marker).setPosition(new LatLng(1.1, 2.2));
+  }
 }
@@ -0,0 +1,52 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import org.junit.Test;
+
+public class PointQuadTreeTest {
+
+  @Test
+  public void search_ReturnsItemsInsideRectangle() {
+    final PointQuadTree<Integer> tree = new PointQuadTree<>(-180, -90, 180, 90);
+    // Enough items to split the tree several times.
+    for (int i = 0; i < 1000; i++) {
+      tree.add(-180 + i * 0.36, 0, i);
+    }
+
+    final List<Integer> results = tree.search(0, -1, 36, 1);
+
+    assertEquals(101, results.size());
+    assertTrue(results.contains(500));
+    assertTrue(results.contains(600));
+    assertFalse(results.contains(499));
+  }
+
+  @Test
+  public void add_IgnoresItemsOutsideBounds() {
+    final PointQuadTree<String> tree = new PointQuadTree<>(-180, -90, 180, 90);
+    tree.add(200, 0, "outside");
+
+    assertTrue(tree.search(-180, -90, 180, 90).isEmpty());
+  }
+
+  @Test
+  public void remove_RemovesItemAfterSplit() {
+    final PointQuadTree<Integer> tree = new PointQuadTree<>(-180, -90, 180, 90);
+    for (int i = 0; i < 200; i++) {
+      tree.add(i % 20, i / 20, i);
+    }
+
+    assertTrue(tree.remove(5, 3, 65));
+    assertFalse(tree.remove(5, 3, 65));
+    assertFalse(tree.search(5, 3, 5, 3).contains(65));
+    assertEquals(199, tree.search(-180, -90, 180, 90).size());
+  }
+}
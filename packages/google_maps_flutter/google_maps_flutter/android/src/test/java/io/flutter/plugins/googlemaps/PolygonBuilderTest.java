@@ -6,7 +6,12 @@ package io.flutter.plugins.googlemaps;
 
 import static junit.framework.TestCase.assertEquals;
 
+import com.google.android.gms.maps.model.LatLng;
 import com.google.android.gms.maps.model.PolygonOptions;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.junit.Test;
 
 public class PolygonBuilderTest {
@@ -24,4 +29,24 @@ public class PolygonBuilderTest {
 
     assertEquals(density * strokeWidth, width);
   }
+
+  @Test
+  public void interpretPolygonOptions_AcceptsPackedPoints() {
+    final Map<String, Object> data = new HashMap<>();
+    data.put("polygonId", "polygon_1");
+    data.put("points", new double[] {1.123456789, 2.5, 3.0, 4.0, 5.0, 6.0});
+    data.put("holes", Collections.singletonList(new double[] {1.5, 2.75, 2.5, 3.5, 3.5, 5.5}));
+
+    final PolygonBuilder builder = new PolygonBuilder(1);
+    Convert.interpretPolygonOptions(data, builder);
+
+    final PolygonOptions options = builder.build();
+    final List<LatLng> points = options.getPoints();
+    assertEquals(3, points.size());
+    assertEquals(1.123456789, points.get(0).latitude);
+    assertEquals(2.5, points.get(0).longitude);
+    assertEquals(6.0, points.get(2).longitude);
+    assertEquals(1, options.getHoles().size());
+    assertEquals(2.75, options.getHoles().get(0).get(0).longitude);
+  }
 }
@@ -4,11 +4,18 @@
 
 package io.flutter.plugins.googlemaps;
 
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 import com.google.android.gms.internal.maps.zzz;
+import com.google.android.gms.maps.model.LatLng;
 import com.google.android.gms.maps.model.Polyline;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import org.junit.Test;
 import org.mockito.Mockito;
 
@@ -26,4 +33,31 @@ public class PolylineControllerTest {
 
     Mockito.verify(polyline).setWidth(density * strokeWidth);
   }
+
+  @Test
+  public void setSimplifiedPoints_SetsPointsOfCurrentVersion() {
+    final Polyline polyline = mock(Polyline.class);
+    final PolylineController controller = new PolylineController(polyline, false, 1);
+    controller.setSimplify(true);
+    controller.setPoints(Arrays.asList(new LatLng(0, 0), new LatLng(0, 1), new LatLng(0, 2)));
+    final List<LatLng> simplifiedPoints = Arrays.asList(new LatLng(0, 0), new LatLng(0, 2));
+
+    controller.setSimplifiedPoints(simplifiedPoints, 10, controller.getPointsVersion());
+
+    verify(polyline).setPoints(simplifiedPoints);
+  }
+
+  @Test
+  public void setSimplifiedPoints_IgnoredAfterRemove() {
+    final Polyline polyline = mock(Polyline.class);
+    final PolylineController controller = new PolylineController(polyline, false, 1);
+    controller.setSimplify(true);
+    controller.setPoints(Arrays.asList(new LatLng(0, 0), new LatLng(0, 1), new LatLng(0, 2)));
+    final int pointsVersion = controller.getPointsVersion();
+
+    controller.remove();
+    controller.setSimplifiedPoints(Collections.singletonList(new LatLng(0, 0)), 10, pointsVersion);
+
+    verify(polyline, never()).setPoints(anyList());
+  }
 }
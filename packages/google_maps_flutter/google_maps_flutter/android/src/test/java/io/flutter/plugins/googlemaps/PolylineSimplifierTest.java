@@ -0,0 +1,52 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.google.android.gms.maps.model.LatLng;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+public class PolylineSimplifierTest {
+
+  @Test
+  public void simplify_DropsPointsOnAStraightLine() {
+    final List<LatLng> points = new ArrayList<>();
+    for (int i = 0; i <= 100; i++) {
+      points.add(new LatLng(0, i * 0.01));
+    }
+
+    final List<LatLng> simplified = PolylineSimplifier.simplify(points, 20, 1.0);
+
+    assertEquals(2, simplified.size());
+    assertSame(points.get(0), simplified.get(0));
+    assertSame(points.get(100), simplified.get(1));
+  }
+
+  @Test
+  public void simplify_KeepsMoreDetailAtHigherZoom() {
+    final List<LatLng> points = new ArrayList<>();
+    for (int i = 0; i <= 100; i++) {
+      points.add(new LatLng(i % 2 == 0 ? 0 : 0.0001, i * 0.001));
+    }
+
+    final List<LatLng> zoomedOut = PolylineSimplifier.simplify(points, 5, 1.0);
+    final List<LatLng> zoomedIn = PolylineSimplifier.simplify(points, 20, 1.0);
+
+    assertEquals(2, zoomedOut.size());
+    assertEquals(101, zoomedIn.size());
+  }
+
+  @Test
+  public void simplify_ReturnsShortLinesAsIs() {
+    final List<LatLng> points = Arrays.asList(new LatLng(0, 0), new LatLng(1, 1));
+
+    assertSame(points, PolylineSimplifier.simplify(points, 10, 1.0));
+  }
+}
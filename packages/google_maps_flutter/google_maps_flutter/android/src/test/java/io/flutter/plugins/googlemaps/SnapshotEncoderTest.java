@@ -0,0 +1,202 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.graphics.Bitmap;
+import io.flutter.plugin.common.MethodChannel;
+import java.io.File;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.shadows.ShadowLooper;
+
+@RunWith(RobolectricTestRunner.class)
+public class SnapshotEncoderTest {
+  private static final byte[] ENCODED = new byte[] {1, 2, 3};
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private SnapshotEncoder encoder;
+
+  @Before
+  public void setUp() {
+    encoder = new SnapshotEncoder();
+  }
+
+  @After
+  public void tearDown() {
+    encoder.dispose();
+  }
+
+  /** Records how a result completed. */
+  private static class RecordingResult implements MethodChannel.Result {
+    boolean completed;
+    Object success;
+    String errorMessage;
+
+    @Override
+    public void success(Object result) {
+      completed = true;
+      success = result;
+    }
+
+    @Override
+    public void error(String errorCode, String errorMessage, Object errorDetails) {
+      completed = true;
+      this.errorMessage = errorMessage;
+    }
+
+    @Override
+    public void notImplemented() {
+      completed = true;
+    }
+  }
+
+  private static Bitmap bitmapEncodingTo(byte[] encoded) {
+    final Bitmap bitmap = mock(Bitmap.class);
+    when(bitmap.compress(any(Bitmap.CompressFormat.class), anyInt(), any(OutputStream.class)))
+        .thenAnswer(
+            invocation -> {
+              ((OutputStream) invocation.getArgument(2)).write(encoded);
+              return true;
+            });
+    return bitmap;
+  }
+
+  // Results are completed on the main thread once the background thread is done.
+  private static void awaitCompletion(RecordingResult result) throws InterruptedException {
+    final long deadline = System.currentTimeMillis() + 5000;
+    while (!result.completed) {
+      if (System.currentTimeMillis() > deadline) {
+        fail("The snapshot result was not completed");
+      }
+      Thread.sleep(10);
+      ShadowLooper.idleMainLooper();
+    }
+  }
+
+  @Test
+  public void encode_CompletesWithEncodedBytes() throws Exception {
+    final Bitmap bitmap = bitmapEncodingTo(ENCODED);
+    final SnapshotEncoder.Options options = new SnapshotEncoder.Options();
+    options.format = "jpeg";
+    options.quality = 80;
+    final RecordingResult result = new RecordingResult();
+
+    encoder.encode(bitmap, options, result);
+    awaitCompletion(result);
+
+    assertArrayEquals(ENCODED, (byte[]) result.success);
+    verify(bitmap).compress(eq(Bitmap.CompressFormat.JPEG), eq(80), any(OutputStream.class));
+    verify(bitmap).recycle();
+  }
+
+  @Test
+  public void encode_WritesToFilePath() throws Exception {
+    final File file = new File(temporaryFolder.getRoot(), "snapshots/map.png");
+    final SnapshotEncoder.Options options = new SnapshotEncoder.Options();
+    options.filePath = file.getPath();
+    final RecordingResult result = new RecordingResult();
+
+    encoder.encode(bitmapEncodingTo(ENCODED), options, result);
+    awaitCompletion(result);
+
+    assertEquals(file.getAbsolutePath(), result.success);
+    assertArrayEquals(ENCODED, Files.readAllBytes(file.toPath()));
+  }
+
+  @Test
+  public void encode_CompletesWithErrorWhenEncodingFails() throws Exception {
+    final Bitmap bitmap = mock(Bitmap.class);
+    when(bitmap.compress(any(Bitmap.CompressFormat.class), anyInt(), any(OutputStream.class)))
+        .thenThrow(new IllegalStateException("Can't compress a recycled bitmap"));
+    final RecordingResult result = new RecordingResult();
+
+    encoder.encode(bitmap, new SnapshotEncoder.Options(), result);
+    awaitCompletion(result);
+
+    assertNull(result.success);
+    assertEquals("Can't compress a recycled bitmap", result.errorMessage);
+    verify(bitmap).recycle();
+  }
+
+  @Test
+  public void encode_CompletesWithErrorWhenFileCantBeWritten() throws Exception {
+    final File notADirectory = temporaryFolder.newFile();
+    final SnapshotEncoder.Options options = new SnapshotEncoder.Options();
+    options.filePath = new File(notADirectory, "map.png").getPath();
+    final RecordingResult result = new RecordingResult();
+
+    encoder.encode(bitmapEncodingTo(ENCODED), options, result);
+    awaitCompletion(result);
+
+    assertNull(result.success);
+    assertTrue(result.errorMessage.contains(notADirectory.getPath()));
+  }
+
+  @Test
+  public void dispose_CancelsPendingSnapshots() throws Exception {
+    final CountDownLatch encodingStarted = new CountDownLatch(1);
+    final CountDownLatch finishEncoding = new CountDownLatch(1);
+    final Bitmap slowBitmap = mock(Bitmap.class);
+    when(slowBitmap.compress(any(Bitmap.CompressFormat.class), anyInt(), any(OutputStream.class)))
+        .thenAnswer(
+            invocation -> {
+              encodingStarted.countDown();
+              try {
+                finishEncoding.await(5, TimeUnit.SECONDS);
+              } catch (InterruptedException e) {
+                // dispose() interrupts the snapshot being encoded.
+              }
+              return true;
+            });
+    final Bitmap pendingBitmap = mock(Bitmap.class);
+    final RecordingResult pendingResult = new RecordingResult();
+    encoder.encode(slowBitmap, new SnapshotEncoder.Options(), new RecordingResult());
+    encoder.encode(pendingBitmap, new SnapshotEncoder.Options(), pendingResult);
+    assertTrue(encodingStarted.await(5, TimeUnit.SECONDS));
+
+    encoder.dispose();
+    finishEncoding.countDown();
+
+    assertTrue(pendingResult.completed);
+    assertNull(pendingResult.success);
+    assertTrue(pendingResult.errorMessage.contains("disposed"));
+    verify(pendingBitmap).recycle();
+  }
+
+  @Test
+  public void encode_CompletesWithErrorAfterDispose() {
+    final Bitmap bitmap = mock(Bitmap.class);
+    final RecordingResult result = new RecordingResult();
+
+    encoder.dispose();
+    encoder.encode(bitmap, new SnapshotEncoder.Options(), result);
+
+    assertTrue(result.completed);
+    assertTrue(result.errorMessage.contains("disposed"));
+    verify(bitmap).recycle();
+  }
+}
@@ -0,0 +1,87 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import android.os.Build;
+import com.google.android.gms.maps.model.Tile;
+import java.io.File;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = Build.VERSION_CODES.P)
+public class TileCacheTest {
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void get_ReadsTileWrittenByAnotherCache() throws Exception {
+    final File directory = temporaryFolder.newFolder();
+    final byte[] data = new byte[] {1, 2, 3, 4};
+
+    new TileCache(1024, directory, 1024, Long.MAX_VALUE).put(1, 2, 3, new Tile(256, 256, data));
+    final Tile tile = new TileCache(1024, directory, 1024, Long.MAX_VALUE).get(1, 2, 3);
+
+    assertEquals(256, tile.width);
+    assertEquals(256, tile.height);
+    assertArrayEquals(data, tile.data);
+  }
+
+  @Test
+  public void get_DeletesExpiredTiles() throws Exception {
+    final File directory = temporaryFolder.newFolder();
+    new TileCache(1024, directory, 1024, Long.MAX_VALUE)
+        .put(1, 2, 3, new Tile(256, 256, new byte[] {1}));
+    Thread.sleep(10);
+
+    assertNull(new TileCache(1024, directory, 1024, 1).get(1, 2, 3));
+    assertEquals(0, directory.listFiles().length);
+  }
+
+  @Test
+  public void put_TrimsDiskCacheOverMaximumSize() throws Exception {
+    final File directory = temporaryFolder.newFolder();
+    final TileCache tileCache = new TileCache(1024, directory, 250, Long.MAX_VALUE);
+
+    for (int x = 0; x < 5; x++) {
+      tileCache.put(x, 0, 0, new Tile(256, 256, new byte[100]));
+    }
+
+    long size = 0;
+    for (File file : directory.listFiles()) {
+      size += file.length();
+    }
+    assertTrue(size <= 250);
+  }
+
+  @Test
+  public void clear_DropsTilesInMemoryAndOnDisk() throws Exception {
+    final File directory = temporaryFolder.newFolder();
+    final TileCache tileCache = new TileCache(1024, directory, 1024, Long.MAX_VALUE);
+    tileCache.put(1, 2, 3, new Tile(256, 256, new byte[] {1}));
+
+    tileCache.clear();
+
+    assertNull(tileCache.get(1, 2, 3));
+    assertEquals(0, directory.listFiles().length);
+  }
+
+  @Test
+  public void put_IgnoresTilesWithoutData() {
+    final TileCache tileCache = new TileCache(1024, null, 0, 0);
+
+    tileCache.put(1, 2, 3, new Tile(256, 256, null));
+
+    assertNull(tileCache.get(1, 2, 3));
+  }
+}
@@ -0,0 +1,123 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.android.gms.maps.model.Tile;
+import com.google.android.gms.maps.model.TileProvider;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.SocketTimeoutException;
+import java.util.Collections;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class UrlTileProviderControllerTest {
+  private static final String URL_TEMPLATE = "https://tiles.example.com/{z}/{x}/{y}.png";
+  private static final byte[] TILE_DATA = new byte[] {1, 2, 3};
+
+  private HttpURLConnection connection;
+  private String requestedUrl;
+  private TileCache tileCache;
+  private UrlTileProviderController controller;
+
+  @Before
+  public void setUp() {
+    connection = mock(HttpURLConnection.class);
+    tileCache = new TileCache(1024, null, 0, 0);
+    controller = createController(Collections.singletonMap("Authorization", "Bearer token"));
+  }
+
+  private UrlTileProviderController createController(Map<String, String> httpHeaders) {
+    return new UrlTileProviderController(URL_TEMPLATE, httpHeaders, 256, tileCache, 5000) {
+      @Override
+      HttpURLConnection openConnection(String url) {
+        requestedUrl = url;
+        return connection;
+      }
+    };
+  }
+
+  @Test
+  public void tileUrl_ReplacesCoordinates() {
+    assertEquals(
+        "https://tiles.example.com/12/654/1583.png?key=abc",
+        UrlTileProviderController.tileUrl(
+            "https://tiles.example.com/{z}/{x}/{y}.png?key=abc", 654, 1583, 12));
+  }
+
+  @Test
+  public void getTile_SendsHeadersAndTimeouts() throws IOException {
+    when(connection.getResponseCode()).thenReturn(HttpURLConnection.HTTP_OK);
+    when(connection.getInputStream()).thenReturn(new ByteArrayInputStream(TILE_DATA));
+
+    controller.getTile(1, 2, 3);
+
+    assertEquals("https://tiles.example.com/3/1/2.png", requestedUrl);
+    verify(connection).setRequestProperty("Authorization", "Bearer token");
+    verify(connection).setConnectTimeout(5000);
+    verify(connection).setReadTimeout(5000);
+  }
+
+  @Test
+  public void getTile_CachesFetchedTile() throws IOException {
+    when(connection.getResponseCode()).thenReturn(HttpURLConnection.HTTP_OK);
+    when(connection.getInputStream()).thenReturn(new ByteArrayInputStream(TILE_DATA));
+
+    final Tile tile = controller.getTile(1, 2, 3);
+
+    assertEquals(256, tile.width);
+    assertEquals(256, tile.height);
+    assertArrayEquals(TILE_DATA, tile.data);
+    assertSame(tile, tileCache.get(1, 2, 3));
+  }
+
+  @Test
+  public void getTile_ReturnsCachedTileWithoutFetching() throws IOException {
+    final Tile cachedTile = new Tile(256, 256, TILE_DATA);
+    tileCache.put(1, 2, 3, cachedTile);
+
+    assertSame(cachedTile, controller.getTile(1, 2, 3));
+    verify(connection, never()).getResponseCode();
+  }
+
+  @Test
+  public void getTile_ReturnsNoTileWhenNotFound() throws IOException {
+    when(connection.getResponseCode()).thenReturn(HttpURLConnection.HTTP_NOT_FOUND);
+    when(connection.getErrorStream()).thenReturn(new ByteArrayInputStream(new byte[] {0}));
+
+    assertSame(TileProvider.NO_TILE, controller.getTile(1, 2, 3));
+    assertNull(tileCache.get(1, 2, 3));
+  }
+
+  @Test
+  public void getTile_ReturnsNullOnServerErrorSoThatTileIsRequestedAgain() throws IOException {
+    when(connection.getResponseCode()).thenReturn(HttpURLConnection.HTTP_UNAVAILABLE);
+
+    assertNull(controller.getTile(1, 2, 3));
+    assertNull(tileCache.get(1, 2, 3));
+  }
+
+  @Test
+  public void getTile_ReturnsNullOnTimeoutSoThatTileIsRequestedAgain() throws IOException {
+    when(connection.getResponseCode()).thenThrow(new SocketTimeoutException());
+
+    assertNull(controller.getTile(1, 2, 3));
+    assertNull(tileCache.get(1, 2, 3));
+  }
+}
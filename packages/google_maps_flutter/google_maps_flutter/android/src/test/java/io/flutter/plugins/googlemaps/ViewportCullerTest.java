@@ -0,0 +1,91 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import java.util.Set;
+import org.junit.Test;
+
+public class ViewportCullerTest {
+
+  @Test
+  public void idsInRegion_IncludesMargin() {
+    final ViewportCuller culler = new ViewportCuller();
+    culler.setVisibleRegion(new LatLngBounds(new LatLng(0, 0), new LatLng(10, 10)));
+    culler.put("inside", null, ViewportCuller.pointBounds(new LatLng(5, 5)));
+    culler.put("margin", null, ViewportCuller.pointBounds(new LatLng(5, 14)));
+    culler.put("outside", null, ViewportCuller.pointBounds(new LatLng(5, 16)));
+
+    final Set<String> ids = culler.idsInRegion();
+
+    assertEquals(2, ids.size());
+    assertTrue(ids.contains("inside"));
+    assertTrue(ids.contains("margin"));
+  }
+
+  @Test
+  public void idsInRegion_IncludesLargeObjectsCenteredOutside() {
+    final ViewportCuller culler = new ViewportCuller();
+    culler.setVisibleRegion(new LatLngBounds(new LatLng(0, 0), new LatLng(10, 10)));
+    culler.put("large", null, new ViewportCuller.Bounds(0, 5, 10, 45));
+
+    assertTrue(culler.idsInRegion().contains("large"));
+  }
+
+  @Test
+  public void idsInRegion_WrapsAroundAntimeridian() {
+    final ViewportCuller culler = new ViewportCuller();
+    culler.setVisibleRegion(new LatLngBounds(new LatLng(0, 170), new LatLng(10, -170)));
+    culler.put("east", null, ViewportCuller.pointBounds(new LatLng(5, 175)));
+    culler.put("west", null, ViewportCuller.pointBounds(new LatLng(5, -175)));
+    culler.put("far", null, ViewportCuller.pointBounds(new LatLng(5, 0)));
+
+    final Set<String> ids = culler.idsInRegion();
+
+    assertTrue(ids.contains("east"));
+    assertTrue(ids.contains("west"));
+    assertFalse(ids.contains("far"));
+  }
+
+  @Test
+  public void idsInRegion_IncludesCirclesCrossingAntimeridian() {
+    final ViewportCuller culler = new ViewportCuller();
+    // The culling region is [-175, -155], it doesn't cross the antimeridian.
+    culler.setVisibleRegion(new LatLngBounds(new LatLng(0, -170), new LatLng(10, -160)));
+    // About 7.2 degrees of longitude at the equator, so the circle reaches -173.8.
+    culler.put("crossing", null, ViewportCuller.circleBounds(new LatLng(5, 179), 800000));
+    culler.put("far", null, ViewportCuller.circleBounds(new LatLng(5, 170), 100000));
+
+    final Set<String> ids = culler.idsInRegion();
+
+    assertTrue(ids.contains("crossing"));
+    assertFalse(ids.contains("far"));
+  }
+
+  @Test
+  public void circleBounds_ExtendsPastAntimeridian() {
+    final ViewportCuller.Bounds bounds =
+        ViewportCuller.circleBounds(new LatLng(0, 179), 111320 * 2);
+
+    assertEquals(177, bounds.west, 1e-9);
+    assertEquals(181, bounds.east, 1e-9);
+  }
+
+  @Test
+  public void remove_RemovesFromIndex() {
+    final ViewportCuller culler = new ViewportCuller();
+    culler.setVisibleRegion(new LatLngBounds(new LatLng(0, 0), new LatLng(10, 10)));
+    culler.put("marker", null, ViewportCuller.pointBounds(new LatLng(5, 5)));
+
+    culler.remove("marker");
+
+    assertTrue(culler.idsInRegion().isEmpty());
+  }
+}
@@ -74,6 +74,16 @@ class AndroidGoogleMapsFlutter {
       platform.useAndroidViewSurface = useAndroidViewSurface;
     }
   }
+
+  /// Initializes the Google Maps SDK and keeps up to [poolSize] map views
+  /// ready, so that the next maps show up faster.
+  ///
+  /// Only maps rendered with [useAndroidViewSurface] reuse the kept views, and
+  /// only while the activity they were created with is attached. A [poolSize]
+  /// of 0 releases the kept views. Does nothing on other platforms.
+  static Future<void> prewarm({int poolSize = 1}) {
+    return GoogleMapsFlutterPlatform.instance.prewarm(poolSize: poolSize);
+  }
 }
 
 /// A widget which displays a map with data obtained from the Google Maps service.
@@ -622,4 +622,18 @@ void main() {
     expect(find.byType(PlatformViewLink), findsOneWidget);
     platform.useAndroidViewSurface = false;
   });
+  test('prewarm asks Android to keep map views ready', () async {
+    final List<MethodCall> pluginCalls = <MethodCall>[];
+    MethodChannelGoogleMapsFlutter.pluginChannel
+        .setMockMethodCallHandler((MethodCall methodCall) async {
+      pluginCalls.add(methodCall);
+    });
+
+    await AndroidGoogleMapsFlutter.prewarm(poolSize: 2);
+
+    MethodChannelGoogleMapsFlutter.pluginChannel.setMockMethodCallHandler(null);
+    expect(pluginCalls, hasLength(1));
+    expect(pluginCalls.single.method, 'maps#prewarm');
+    expect(pluginCalls.single.arguments, <String, Object>{'poolSize': 2});
+  });
 }
@@ -132,6 +132,28 @@ class MarkerDragEndEvent extends _PositionedMapEvent<MarkerId> {
       : super(mapId, position, markerId);
 }
 
+/// An event fired when a cluster of cluster items is tapped.
+class ClusterTapEvent extends _PositionedMapEvent<String> {
+  /// Build a ClusterTap Event triggered from the map represented by `mapId`.
+  ///
+  /// The `position` of this event is the [LatLng] of the tapped cluster.
+  /// The `value` of this event is the id of the cluster, which only identifies
+  /// it until the clusters are computed again.
+  ClusterTapEvent(int mapId, LatLng position, String clusterId, this.markerIds)
+      : super(mapId, position, clusterId);
+
+  /// The ids of the cluster items grouped in the tapped cluster.
+  final List<MarkerId> markerIds;
+}
+
+/// An event fired when a cluster item that isn't grouped with others is tapped.
+class ClusterItemTapEvent extends MapEvent<MarkerId> {
+  /// Build a ClusterItemTap Event triggered from the map represented by `mapId`.
+  ///
+  /// The `value` of this event is a [MarkerId] object that represents the tapped cluster item.
+  ClusterItemTapEvent(int mapId, MarkerId markerId) : super(mapId, markerId);
+}
+
 /// An event fired when a [Polyline] is tapped.
 class PolylineTapEvent extends MapEvent<PolylineId> {
   /// Build an PolylineTap Event triggered from the map represented by `mapId`.
@@ -60,6 +60,11 @@ class MethodChannelGoogleMapsFlutter extends GoogleMapsFlutterPlatform {
     return channel;
   }
 
+  /// The channel of the plugin, which isn't tied to a map.
+  @visibleForTesting
+  static const MethodChannel pluginChannel =
+      MethodChannel('plugins.flutter.io/google_maps_plugin');
+
   // Keep a collection of mapId to a map of TileOverlays.
   final Map<int, Map<TileOverlayId, TileOverlay>> _tileOverlays = {};
 
@@ -87,6 +92,17 @@ class MethodChannelGoogleMapsFlutter extends GoogleMapsFlutterPlatform {
     // Noop!
   }
 
+  /// Only Android keeps map views ready, and only maps using
+  /// [useAndroidViewSurface] reuse them.
+  @override
+  Future<void> prewarm({int poolSize = 1}) async {
+    if (defaultTargetPlatform != TargetPlatform.android) {
+      return;
+    }
+    await pluginChannel.invokeMethod<void>(
+        'maps#prewarm', <String, Object>{'poolSize': poolSize});
+  }
+
   // The controller we need to broadcast the different events coming
   // from handleMethodCall.
   //
@@ -139,6 +155,16 @@ class MethodChannelGoogleMapsFlutter extends GoogleMapsFlutterPlatform {
     return _events(mapId).whereType<MarkerDragEndEvent>();
   }
 
+  @override
+  Stream<ClusterTapEvent> onClusterTap({required int mapId}) {
+    return _events(mapId).whereType<ClusterTapEvent>();
+  }
+
+  @override
+  Stream<ClusterItemTapEvent> onClusterItemTap({required int mapId}) {
+    return _events(mapId).whereType<ClusterItemTapEvent>();
+  }
+
   @override
   Stream<PolylineTapEvent> onPolylineTap({required int mapId}) {
     return _events(mapId).whereType<PolylineTapEvent>();
@@ -211,6 +237,22 @@ class MethodChannelGoogleMapsFlutter extends GoogleMapsFlutterPlatform {
           MarkerId(call.arguments['markerId']),
         ));
         break;
+      case 'cluster#onTap':
+        _mapEventStreamController.add(ClusterTapEvent(
+          mapId,
+          LatLng.fromJson(call.arguments['position'])!,
+          call.arguments['clusterId'],
+          (call.arguments['markerIds'] as List<dynamic>)
+              .map((dynamic markerId) => MarkerId(markerId as String))
+              .toList(),
+        ));
+        break;
+      case 'clusterItem#onTap':
+        _mapEventStreamController.add(ClusterItemTapEvent(
+          mapId,
+          MarkerId(call.arguments['markerId']),
+        ));
+        break;
       case 'polyline#onTap':
         _mapEventStreamController.add(PolylineTapEvent(
           mapId,
@@ -50,6 +50,15 @@ abstract class GoogleMapsFlutterPlatform extends PlatformInterface {
     throw UnimplementedError('init() has not been implemented.');
   }
 
+  /// Initializes the maps SDK and keeps up to [poolSize] map views ready for
+  /// the maps created afterwards, so that they show up faster.
+  ///
+  /// A [poolSize] of 0 only initializes the SDK and releases the kept views.
+  ///
+  /// Platforms that don't keep map views ready complete without doing
+  /// anything.
+  Future<void> prewarm({int poolSize = 1}) async {}
+
   /// Updates configuration options of the map user interface.
   ///
   /// Change listeners are notified once the update has been made on the
@@ -318,6 +327,16 @@ abstract class GoogleMapsFlutterPlatform extends PlatformInterface {
     throw UnimplementedError('onMarkerDragEnd() has not been implemented.');
   }
 
+  /// A cluster of cluster items has been tapped.
+  Stream<ClusterTapEvent> onClusterTap({required int mapId}) {
+    throw UnimplementedError('onClusterTap() has not been implemented.');
+  }
+
+  /// A cluster item that isn't grouped with others has been tapped.
+  Stream<ClusterItemTapEvent> onClusterItemTap({required int mapId}) {
+    throw UnimplementedError('onClusterItemTap() has not been implemented.');
+  }
+
   /// A [Polyline] has been tapped.
   Stream<PolylineTapEvent> onPolylineTap({required int mapId}) {
     throw UnimplementedError('onPolylineTap() has not been implemented.');
@@ -2,6 +2,7 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'package:flutter/foundation.dart';
 import 'package:flutter/services.dart';
 import 'package:flutter_test/flutter_test.dart';
 
@@ -122,5 +123,72 @@ void main() {
       expect((await markerDragEndStream.next).value.value,
           equals("drag-end-marker"));
     });
+    test('cluster taps are sent to the cluster streams', () async {
+      const int mapId = 1;
+      final jsonClusterTapEvent = <dynamic, dynamic>{
+        "clusterId": "cluster",
+        "position": <double>[1.0, 2.0],
+        "markerIds": <String>["item-1", "item-2"]
+      };
+      final jsonClusterItemTapEvent = <dynamic, dynamic>{
+        "markerId": "item-3",
+      };
+
+      final MethodChannelGoogleMapsFlutter maps =
+          MethodChannelGoogleMapsFlutter();
+      maps.ensureChannelInitialized(mapId);
+
+      final StreamQueue<ClusterTapEvent> clusterTapStream =
+          StreamQueue(maps.onClusterTap(mapId: mapId));
+      final StreamQueue<ClusterItemTapEvent> clusterItemTapStream =
+          StreamQueue(maps.onClusterItemTap(mapId: mapId));
+
+      await sendPlatformMessage(mapId, "cluster#onTap", jsonClusterTapEvent);
+      await sendPlatformMessage(
+          mapId, "clusterItem#onTap", jsonClusterItemTapEvent);
+
+      final ClusterTapEvent clusterTapEvent = await clusterTapStream.next;
+      expect(clusterTapEvent.value, equals("cluster"));
+      expect(clusterTapEvent.position, equals(const LatLng(1.0, 2.0)));
+      expect(clusterTapEvent.markerIds,
+          equals(<MarkerId>[MarkerId("item-1"), MarkerId("item-2")]));
+      expect((await clusterItemTapStream.next).value.value, equals("item-3"));
+    });
+
+    group('prewarm', () {
+      late List<MethodCall> pluginCalls;
+
+      setUp(() {
+        pluginCalls = <MethodCall>[];
+        MethodChannelGoogleMapsFlutter.pluginChannel
+            .setMockMethodCallHandler((MethodCall methodCall) async {
+          pluginCalls.add(methodCall);
+        });
+      });
+
+      tearDown(() {
+        MethodChannelGoogleMapsFlutter.pluginChannel
+            .setMockMethodCallHandler(null);
+        debugDefaultTargetPlatformOverride = null;
+      });
+
+      test('sends the pool size on Android', () async {
+        debugDefaultTargetPlatformOverride = TargetPlatform.android;
+
+        await MethodChannelGoogleMapsFlutter().prewarm(poolSize: 2);
+
+        expect(pluginCalls, hasLength(1));
+        expect(pluginCalls.single.method, 'maps#prewarm');
+        expect(pluginCalls.single.arguments, <String, Object>{'poolSize': 2});
+      });
+
+      test('does nothing on iOS', () async {
+        debugDefaultTargetPlatformOverride = TargetPlatform.iOS;
+
+        await MethodChannelGoogleMapsFlutter().prewarm(poolSize: 2);
+
+        expect(pluginCalls, isEmpty);
+      });
+    });
   });
 }
@@ -0,0 +1,184 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.media.MediaCodecInfo;
+import android.media.MediaCodecList;
+import android.os.Build;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Keeps the number of players holding a video decoder below what the device can provide.
+ *
+ * <p>Devices only have a handful of hardware decoder instances. When more players than that are
+ * alive, the lowest priority ones are suspended: their decoder is released while their position and
+ * the last rendered frame are kept, and they are resumed as soon as a decoder is available again.
+ *
+ * <p>This class is not thread-safe. All calls must be done on the platform thread.
+ */
+final class DecoderScheduler {
+  // Used when the device does not report how many decoder instances it supports.
+  static final int DEFAULT_MAX_DECODERS = 4;
+
+  /** A player whose decoder can be released and reacquired by the scheduler. */
+  interface Decodable {
+    boolean isPlaying();
+
+    boolean isVisible();
+
+    /** The last time, in {@link android.os.SystemClock#elapsedRealtime()}, this was used. */
+    long getLastActiveTime();
+
+    boolean isDecoderSuspended();
+
+    void suspendDecoder();
+
+    void resumeDecoder();
+  }
+
+  // Playing and visible players first, then the most recently used ones.
+  private static final Comparator<Decodable> PRIORITY =
+      (a, b) -> {
+        int byPriority = Integer.compare(priorityOf(b), priorityOf(a));
+        if (byPriority != 0) {
+          return byPriority;
+        }
+        return Long.compare(b.getLastActiveTime(), a.getLastActiveTime());
+      };
+
+  private final List<Decodable> decodables = new ArrayList<>();
+  private final int detectedMaxDecoders;
+  private int maxDecoders;
+
+  DecoderScheduler(int detectedMaxDecoders) {
+    this.detectedMaxDecoders = detectedMaxDecoders;
+    this.maxDecoders = detectedMaxDecoders;
+  }
+
+  void add(Decodable decodable) {
+    decodables.add(decodable);
+    rebalance();
+  }
+
+  void remove(Decodable decodable) {
+    decodables.remove(decodable);
+    rebalance();
+  }
+
+  void clear() {
+    decodables.clear();
+  }
+
+  /** Overrides the detected decoder limit. A value lower than 1 restores the detected one. */
+  void setMaxDecoders(int maxDecoders) {
+    this.maxDecoders = maxDecoders < 1 ? detectedMaxDecoders : maxDecoders;
+    rebalance();
+  }
+
+  int getMaxDecoders() {
+    return maxDecoders;
+  }
+
+  int getActiveDecoderCount() {
+    int active = 0;
+    for (Decodable decodable : decodables) {
+      if (!decodable.isDecoderSuspended()) {
+        active++;
+      }
+    }
+    return active;
+  }
+
+  int getSuspendedCount() {
+    return decodables.size() - getActiveDecoderCount();
+  }
+
+  /**
+   * Suspends the players that fall outside of the decoder budget and resumes the ones that are back
+   * in it.
+   *
+   * <p>Players are suspended before others are resumed so that the number of decoders in use never
+   * exceeds the budget, even transiently.
+   */
+  void rebalance() {
+    List<Decodable> ordered = new ArrayList<>(decodables);
+    Collections.sort(ordered, PRIORITY);
+    for (int i = maxDecoders; i < ordered.size(); i++) {
+      Decodable decodable = ordered.get(i);
+      if (!decodable.isDecoderSuspended()) {
+        decodable.suspendDecoder();
+      }
+    }
+    for (int i = 0; i < Math.min(maxDecoders, ordered.size()); i++) {
+      Decodable decodable = ordered.get(i);
+      if (decodable.isDecoderSuspended()) {
+        decodable.resumeDecoder();
+      }
+    }
+  }
+
+  private static int priorityOf(Decodable decodable) {
+    int priority = 0;
+    if (decodable.isPlaying()) {
+      priority += 2;
+    }
+    if (decodable.isVisible()) {
+      priority += 1;
+    }
+    return priority;
+  }
+
+  /**
+   * Returns the number of concurrent H.264 hardware decoder instances reported by the device, or
+   * {@link #DEFAULT_MAX_DECODERS} if it can't be determined.
+   *
+   * <p>Software decoders are skipped: they often report a much higher limit, which would inflate
+   * the budget of the scarce hardware decoders.
+   */
+  static int detectMaxDecoders() {
+    if (Build.VERSION.SDK_INT < Build.VERSION_CODES.M) {
+      return DEFAULT_MAX_DECODERS;
+    }
+    int max = 0;
+    try {
+      MediaCodecList codecList = new MediaCodecList(MediaCodecList.REGULAR_CODECS);
+      for (MediaCodecInfo info : codecList.getCodecInfos()) {
+        if (info.isEncoder() || !isHardwareDecoder(info)) {
+          continue;
+        }
+        for (String type : info.getSupportedTypes()) {
+          if (type.equalsIgnoreCase("video/avc")) {
+            max = Math.max(max, info.getCapabilitiesForType(type).getMaxSupportedInstances());
+          }
+        }
+      }
+    } catch (RuntimeException e) {
+      // Some devices throw while enumerating codecs; fall back to the default below.
+    }
+    return max > 0 ? max : DEFAULT_MAX_DECODERS;
+  }
+
+  private static boolean isHardwareDecoder(MediaCodecInfo info) {
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+      return info.isHardwareAccelerated();
+    }
+    return !isSoftwareDecoderName(info.getName());
+  }
+
+  /** Whether a codec name is the one of a software decoder, for devices before Android 10. */
+  static boolean isSoftwareDecoderName(String name) {
+    final String lowerCaseName = name.toLowerCase(Locale.US);
+    return lowerCaseName.startsWith("omx.google.")
+        || lowerCaseName.startsWith("omx.ffmpeg.")
+        || (lowerCaseName.startsWith("omx.sec.") && lowerCaseName.contains(".sw."))
+        || lowerCaseName.startsWith("c2.android.")
+        || lowerCaseName.startsWith("c2.google.")
+        || (!lowerCaseName.startsWith("omx.") && !lowerCaseName.startsWith("c2."));
+  }
+}
@@ -0,0 +1,286 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.content.Context;
+import android.content.res.AssetFileDescriptor;
+import android.graphics.Bitmap;
+import android.media.MediaMetadataRetriever;
+import android.net.Uri;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import io.flutter.plugins.videoplayer.Messages.FramesMessage;
+import io.flutter.plugins.videoplayer.Messages.Result;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Extracts still frames from a video source without creating a player.
+ *
+ * <p>Frames are decoded with {@link MediaMetadataRetriever} on a background executor, downscaled
+ * and encoded, and delivered back on the main thread either as encoded bytes or as paths to files
+ * holding the encoded bytes.
+ *
+ * <p>Every extraction is answered: the ones still queued or running when the extractor is disposed
+ * fail with a {@link CancellationException}.
+ */
+final class FrameExtractor {
+  private static final String ASSET_PREFIX = "asset:///";
+  private static final String FORMAT_PNG = "png";
+  private static final String FORMAT_WEBP = "webp";
+  private static final int DEFAULT_QUALITY = 80;
+  // Extractions are I/O and decoder bound, running a couple of them in parallel is enough.
+  private static final int MAX_CONCURRENT_EXTRACTIONS = 2;
+
+  /** Describes the frames to extract and how to encode them. */
+  static final class Request {
+    String dataSource;
+    Map<String, String> httpHeaders;
+    List<Long> timestampsMs = new ArrayList<>();
+    int maxWidth;
+    int maxHeight;
+    String format;
+    int quality = DEFAULT_QUALITY;
+    String outputDirectory;
+  }
+
+  /** An extraction queued on the executor, kept so that it can be answered when cancelled. */
+  private final class Extraction implements Runnable {
+    final Request request;
+    final Result<FramesMessage> result;
+
+    Extraction(Request request, Result<FramesMessage> result) {
+      this.request = request;
+      this.result = result;
+    }
+
+    @Override
+    public void run() {
+      try {
+        List<Object> extractedFrames = extractFrames(request);
+        if (Thread.currentThread().isInterrupted()) {
+          throw new CancellationException("Frame extraction was cancelled");
+        }
+        FramesMessage frames = new FramesMessage();
+        frames.setFrames(extractedFrames);
+        mainThreadExecutor.execute(() -> result.success(frames));
+      } catch (IOException | RuntimeException e) {
+        mainThreadExecutor.execute(() -> result.error(e));
+      }
+    }
+  }
+
+  private final Context context;
+  private final ExecutorService executor;
+  private final Executor mainThreadExecutor;
+  private boolean disposed;
+
+  FrameExtractor(Context context) {
+    this(
+        context,
+        Executors.newFixedThreadPool(MAX_CONCURRENT_EXTRACTIONS),
+        new Handler(Looper.getMainLooper())::post);
+  }
+
+  // Visible for testing.
+  FrameExtractor(Context context, ExecutorService executor, Executor mainThreadExecutor) {
+    this.context = context;
+    this.executor = executor;
+    this.mainThreadExecutor = mainThreadExecutor;
+  }
+
+  void extract(Request request, Result<FramesMessage> result) {
+    if (disposed) {
+      result.error(new CancellationException("FrameExtractor was disposed"));
+      return;
+    }
+    executor.execute(new Extraction(request, result));
+  }
+
+  /** Stops the extractions, the queued ones are answered with an error right away. */
+  void dispose() {
+    disposed = true;
+    for (Runnable pending : executor.shutdownNow()) {
+      if (pending instanceof Extraction) {
+        ((Extraction) pending)
+            .result.error(new CancellationException("Frame extraction was cancelled"));
+      }
+    }
+  }
+
+  private List<Object> extractFrames(Request request) throws IOException {
+    MediaMetadataRetriever retriever = new MediaMetadataRetriever();
+    try {
+      setDataSource(retriever, request);
+      List<Object> frames = new ArrayList<>(request.timestampsMs.size());
+      for (int i = 0; i < request.timestampsMs.size(); i++) {
+        if (Thread.currentThread().isInterrupted()) {
+          break;
+        }
+        Bitmap bitmap = getFrame(retriever, request, request.timestampsMs.get(i) * 1000);
+        if (bitmap == null) {
+          // The frame could not be decoded, keep the results aligned with the timestamps.
+          frames.add(null);
+          continue;
+        }
+        try {
+          frames.add(encode(bitmap, request, i));
+        } finally {
+          bitmap.recycle();
+        }
+      }
+      return frames;
+    } finally {
+      retriever.release();
+    }
+  }
+
+  private void setDataSource(MediaMetadataRetriever retriever, Request request) throws IOException {
+    String dataSource = request.dataSource;
+    if (dataSource.startsWith(ASSET_PREFIX)) {
+      AssetFileDescriptor fd =
+          context.getAssets().openFd(dataSource.substring(ASSET_PREFIX.length()));
+      try {
+        retriever.setDataSource(fd.getFileDescriptor(), fd.getStartOffset(), fd.getLength());
+      } finally {
+        fd.close();
+      }
+      return;
+    }
+    Uri uri = Uri.parse(dataSource);
+    String scheme = uri.getScheme();
+    if ("http".equals(scheme) || "https".equals(scheme)) {
+      // Use the same headers as the player so authenticated sources behave the same way.
+      retriever.setDataSource(dataSource, request.httpHeaders);
+    } else {
+      retriever.setDataSource(context, uri);
+    }
+  }
+
+  private static Bitmap getFrame(MediaMetadataRetriever retriever, Request request, long timeUs) {
+    int option = MediaMetadataRetriever.OPTION_CLOSEST_SYNC;
+    if (request.maxWidth <= 0 && request.maxHeight <= 0) {
+      return retriever.getFrameAtTime(timeUs, option);
+    }
+    int[] size =
+        scaledSize(
+            parseInt(retriever.extractMetadata(MediaMetadataRetriever.METADATA_KEY_VIDEO_WIDTH)),
+            parseInt(retriever.extractMetadata(MediaMetadataRetriever.METADATA_KEY_VIDEO_HEIGHT)),
+            parseInt(retriever.extractMetadata(MediaMetadataRetriever.METADATA_KEY_VIDEO_ROTATION)),
+            request.maxWidth,
+            request.maxHeight);
+    if (size == null) {
+      return retriever.getFrameAtTime(timeUs, option);
+    }
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O_MR1) {
+      // Lets the decoder scale the frame instead of allocating a full size bitmap first.
+      return retriever.getScaledFrameAtTime(timeUs, option, size[0], size[1]);
+    }
+    Bitmap frame = retriever.getFrameAtTime(timeUs, option);
+    if (frame == null || (frame.getWidth() == size[0] && frame.getHeight() == size[1])) {
+      return frame;
+    }
+    Bitmap scaled = Bitmap.createScaledBitmap(frame, size[0], size[1], true);
+    frame.recycle();
+    return scaled;
+  }
+
+  /**
+   * Returns the width and height fitting the video in the requested bounds while keeping its aspect
+   * ratio, or null if the video dimensions are unknown or already within bounds.
+   */
+  static int[] scaledSize(int width, int height, int rotation, int maxWidth, int maxHeight) {
+    if (width <= 0 || height <= 0) {
+      return null;
+    }
+    // Frames are returned already rotated.
+    if (rotation == 90 || rotation == 270) {
+      int swap = width;
+      width = height;
+      height = swap;
+    }
+    double scale = 1.0;
+    if (maxWidth > 0) {
+      scale = Math.min(scale, (double) maxWidth / width);
+    }
+    if (maxHeight > 0) {
+      scale = Math.min(scale, (double) maxHeight / height);
+    }
+    if (scale >= 1.0) {
+      return null;
+    }
+    return new int[] {
+      Math.max(1, (int) Math.round(width * scale)), Math.max(1, (int) Math.round(height * scale))
+    };
+  }
+
+  private static int parseInt(String value) {
+    if (value == null) {
+      return 0;
+    }
+    try {
+      return Integer.parseInt(value);
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  private Object encode(Bitmap bitmap, Request request, int index) throws IOException {
+    Bitmap.CompressFormat format = compressFormat(request.format);
+    if (request.outputDirectory == null) {
+      ByteArrayOutputStream stream = new ByteArrayOutputStream();
+      bitmap.compress(format, request.quality, stream);
+      return stream.toByteArray();
+    }
+    File directory = new File(request.outputDirectory);
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      throw new IOException("Could not create output directory " + directory);
+    }
+    File file =
+        new File(
+            directory,
+            "frame_" + request.timestampsMs.get(index) + "_" + index + extension(format));
+    OutputStream stream = new FileOutputStream(file);
+    try {
+      bitmap.compress(format, request.quality, stream);
+    } finally {
+      stream.close();
+    }
+    return file.getAbsolutePath();
+  }
+
+  @SuppressWarnings("deprecation")
+  private static Bitmap.CompressFormat compressFormat(String format) {
+    if (FORMAT_PNG.equals(format)) {
+      return Bitmap.CompressFormat.PNG;
+    }
+    if (FORMAT_WEBP.equals(format)) {
+      return Bitmap.CompressFormat.WEBP;
+    }
+    return Bitmap.CompressFormat.JPEG;
+  }
+
+  private static String extension(Bitmap.CompressFormat format) {
+    switch (format) {
+      case PNG:
+        return ".png";
+      case JPEG:
+        return ".jpg";
+      default:
+        return ".webp";
+    }
+  }
+}
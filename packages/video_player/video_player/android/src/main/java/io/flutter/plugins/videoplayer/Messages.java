@@ -11,6 +11,7 @@ import io.flutter.plugin.common.BasicMessageChannel;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.StandardMessageCodec;
 import java.util.HashMap;
+import java.util.List;
 
 /** Generated class from Pigeon. */
 @SuppressWarnings("unused")
@@ -97,6 +98,16 @@ public class Messages {
       this.httpHeaders = setterArg;
     }
 
+    private List playlist;
+
+    public List getPlaylist() {
+      return playlist;
+    }
+
+    public void setPlaylist(List setterArg) {
+      this.playlist = setterArg;
+    }
+
     HashMap toMap() {
       HashMap<String, Object> toMapResult = new HashMap<>();
       toMapResult.put("asset", asset);
@@ -104,6 +115,7 @@ public class Messages {
       toMapResult.put("packageName", packageName);
       toMapResult.put("formatHint", formatHint);
       toMapResult.put("httpHeaders", httpHeaders);
+      toMapResult.put("playlist", playlist);
       return toMapResult;
     }
 
@@ -119,6 +131,8 @@ public class Messages {
       fromMapResult.formatHint = (String) formatHint;
       Object httpHeaders = map.get("httpHeaders");
       fromMapResult.httpHeaders = (HashMap) httpHeaders;
+      Object playlist = map.get("playlist");
+      fromMapResult.playlist = (List) playlist;
       return fromMapResult;
     }
   }
@@ -320,6 +334,326 @@ public class Messages {
     }
   }
 
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class VisibilityMessage {
+    private Long textureId;
+
+    public Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(Long setterArg) {
+      this.textureId = setterArg;
+    }
+
+    private Boolean isVisible;
+
+    public Boolean getIsVisible() {
+      return isVisible;
+    }
+
+    public void setIsVisible(Boolean setterArg) {
+      this.isVisible = setterArg;
+    }
+
+    HashMap toMap() {
+      HashMap<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("textureId", textureId);
+      toMapResult.put("isVisible", isVisible);
+      return toMapResult;
+    }
+
+    static VisibilityMessage fromMap(HashMap map) {
+      VisibilityMessage fromMapResult = new VisibilityMessage();
+      Object textureId = map.get("textureId");
+      fromMapResult.textureId =
+          (textureId == null)
+              ? null
+              : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId);
+      Object isVisible = map.get("isVisible");
+      fromMapResult.isVisible = (Boolean) isVisible;
+      return fromMapResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class MaxDecodersMessage {
+    private Long maxDecoders;
+
+    public Long getMaxDecoders() {
+      return maxDecoders;
+    }
+
+    public void setMaxDecoders(Long setterArg) {
+      this.maxDecoders = setterArg;
+    }
+
+    HashMap toMap() {
+      HashMap<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("maxDecoders", maxDecoders);
+      return toMapResult;
+    }
+
+    static MaxDecodersMessage fromMap(HashMap map) {
+      MaxDecodersMessage fromMapResult = new MaxDecodersMessage();
+      Object maxDecoders = map.get("maxDecoders");
+      fromMapResult.maxDecoders =
+          (maxDecoders == null)
+              ? null
+              : ((maxDecoders instanceof Integer) ? (Integer) maxDecoders : (Long) maxDecoders);
+      return fromMapResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class DecoderPressureMessage {
+    private Long activeDecoders;
+
+    public Long getActiveDecoders() {
+      return activeDecoders;
+    }
+
+    public void setActiveDecoders(Long setterArg) {
+      this.activeDecoders = setterArg;
+    }
+
+    private Long maxDecoders;
+
+    public Long getMaxDecoders() {
+      return maxDecoders;
+    }
+
+    public void setMaxDecoders(Long setterArg) {
+      this.maxDecoders = setterArg;
+    }
+
+    private Long suspendedPlayers;
+
+    public Long getSuspendedPlayers() {
+      return suspendedPlayers;
+    }
+
+    public void setSuspendedPlayers(Long setterArg) {
+      this.suspendedPlayers = setterArg;
+    }
+
+    HashMap toMap() {
+      HashMap<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("activeDecoders", activeDecoders);
+      toMapResult.put("maxDecoders", maxDecoders);
+      toMapResult.put("suspendedPlayers", suspendedPlayers);
+      return toMapResult;
+    }
+
+    static DecoderPressureMessage fromMap(HashMap map) {
+      DecoderPressureMessage fromMapResult = new DecoderPressureMessage();
+      Object activeDecoders = map.get("activeDecoders");
+      fromMapResult.activeDecoders =
+          (activeDecoders == null)
+              ? null
+              : ((activeDecoders instanceof Integer)
+                  ? (Integer) activeDecoders
+                  : (Long) activeDecoders);
+      Object maxDecoders = map.get("maxDecoders");
+      fromMapResult.maxDecoders =
+          (maxDecoders == null)
+              ? null
+              : ((maxDecoders instanceof Integer) ? (Integer) maxDecoders : (Long) maxDecoders);
+      Object suspendedPlayers = map.get("suspendedPlayers");
+      fromMapResult.suspendedPlayers =
+          (suspendedPlayers == null)
+              ? null
+              : ((suspendedPlayers instanceof Integer)
+                  ? (Integer) suspendedPlayers
+                  : (Long) suspendedPlayers);
+      return fromMapResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class FrameExtractionMessage {
+    private String asset;
+
+    public String getAsset() {
+      return asset;
+    }
+
+    public void setAsset(String setterArg) {
+      this.asset = setterArg;
+    }
+
+    private String uri;
+
+    public String getUri() {
+      return uri;
+    }
+
+    public void setUri(String setterArg) {
+      this.uri = setterArg;
+    }
+
+    private String packageName;
+
+    public String getPackageName() {
+      return packageName;
+    }
+
+    public void setPackageName(String setterArg) {
+      this.packageName = setterArg;
+    }
+
+    private HashMap httpHeaders;
+
+    public HashMap getHttpHeaders() {
+      return httpHeaders;
+    }
+
+    public void setHttpHeaders(HashMap setterArg) {
+      this.httpHeaders = setterArg;
+    }
+
+    private List timestamps;
+
+    public List getTimestamps() {
+      return timestamps;
+    }
+
+    public void setTimestamps(List setterArg) {
+      this.timestamps = setterArg;
+    }
+
+    private Long maxWidth;
+
+    public Long getMaxWidth() {
+      return maxWidth;
+    }
+
+    public void setMaxWidth(Long setterArg) {
+      this.maxWidth = setterArg;
+    }
+
+    private Long maxHeight;
+
+    public Long getMaxHeight() {
+      return maxHeight;
+    }
+
+    public void setMaxHeight(Long setterArg) {
+      this.maxHeight = setterArg;
+    }
+
+    private String format;
+
+    public String getFormat() {
+      return format;
+    }
+
+    public void setFormat(String setterArg) {
+      this.format = setterArg;
+    }
+
+    private Long quality;
+
+    public Long getQuality() {
+      return quality;
+    }
+
+    public void setQuality(Long setterArg) {
+      this.quality = setterArg;
+    }
+
+    private String outputDirectory;
+
+    public String getOutputDirectory() {
+      return outputDirectory;
+    }
+
+    public void setOutputDirectory(String setterArg) {
+      this.outputDirectory = setterArg;
+    }
+
+    HashMap toMap() {
+      HashMap<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("asset", asset);
+      toMapResult.put("uri", uri);
+      toMapResult.put("packageName", packageName);
+      toMapResult.put("httpHeaders", httpHeaders);
+      toMapResult.put("timestamps", timestamps);
+      toMapResult.put("maxWidth", maxWidth);
+      toMapResult.put("maxHeight", maxHeight);
+      toMapResult.put("format", format);
+      toMapResult.put("quality", quality);
+      toMapResult.put("outputDirectory", outputDirectory);
+      return toMapResult;
+    }
+
+    static FrameExtractionMessage fromMap(HashMap map) {
+      FrameExtractionMessage fromMapResult = new FrameExtractionMessage();
+      Object asset = map.get("asset");
+      fromMapResult.asset = (String) asset;
+      Object uri = map.get("uri");
+      fromMapResult.uri = (String) uri;
+      Object packageName = map.get("packageName");
+      fromMapResult.packageName = (String) packageName;
+      Object httpHeaders = map.get("httpHeaders");
+      fromMapResult.httpHeaders = (HashMap) httpHeaders;
+      Object timestamps = map.get("timestamps");
+      fromMapResult.timestamps = (List) timestamps;
+      Object maxWidth = map.get("maxWidth");
+      fromMapResult.maxWidth =
+          (maxWidth == null)
+              ? null
+              : ((maxWidth instanceof Integer) ? (Integer) maxWidth : (Long) maxWidth);
+      Object maxHeight = map.get("maxHeight");
+      fromMapResult.maxHeight =
+          (maxHeight == null)
+              ? null
+              : ((maxHeight instanceof Integer) ? (Integer) maxHeight : (Long) maxHeight);
+      Object format = map.get("format");
+      fromMapResult.format = (String) format;
+      Object quality = map.get("quality");
+      fromMapResult.quality =
+          (quality == null)
+              ? null
+              : ((quality instanceof Integer) ? (Integer) quality : (Long) quality);
+      Object outputDirectory = map.get("outputDirectory");
+      fromMapResult.outputDirectory = (String) outputDirectory;
+      return fromMapResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class FramesMessage {
+    private List frames;
+
+    public List getFrames() {
+      return frames;
+    }
+
+    public void setFrames(List setterArg) {
+      this.frames = setterArg;
+    }
+
+    HashMap toMap() {
+      HashMap<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("frames", frames);
+      return toMapResult;
+    }
+
+    static FramesMessage fromMap(HashMap map) {
+      FramesMessage fromMapResult = new FramesMessage();
+      Object frames = map.get("frames");
+      fromMapResult.frames = (List) frames;
+      return fromMapResult;
+    }
+  }
+
+  public interface Result<T> {
+    void success(T result);
+
+    void error(Throwable error);
+  }
+
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
   public interface VideoPlayerApi {
     void initialize();
@@ -344,6 +678,12 @@ public class Messages {
 
     void setMixWithOthers(MixWithOthersMessage arg);
 
+    void setVisibility(VisibilityMessage arg);
+
+    void setMaxActiveDecoders(MaxDecodersMessage arg);
+
+    DecoderPressureMessage decoderPressure();
+
     /** Sets up an instance of `VideoPlayerApi` to handle messages through the `binaryMessenger` */
     static void setup(BinaryMessenger binaryMessenger, VideoPlayerApi api) {
       {
@@ -608,10 +948,127 @@ public class Messages {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.VideoPlayerApi.setVisibility",
+                new StandardMessageCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                HashMap<String, HashMap> wrapped = new HashMap<>();
+                try {
+                  @SuppressWarnings("ConstantConditions")
+                  VisibilityMessage input = VisibilityMessage.fromMap((HashMap) message);
+                  api.setVisibility(input);
+                  wrapped.put("result", null);
+                } catch (Exception exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.VideoPlayerApi.setMaxActiveDecoders",
+                new StandardMessageCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                HashMap<String, HashMap> wrapped = new HashMap<>();
+                try {
+                  @SuppressWarnings("ConstantConditions")
+                  MaxDecodersMessage input = MaxDecodersMessage.fromMap((HashMap) message);
+                  api.setMaxActiveDecoders(input);
+                  wrapped.put("result", null);
+                } catch (Exception exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.VideoPlayerApi.decoderPressure",
+                new StandardMessageCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                HashMap<String, HashMap> wrapped = new HashMap<>();
+                try {
+                  DecoderPressureMessage output = api.decoderPressure();
+                  wrapped.put("result", output.toMap());
+                } catch (Exception exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+    }
+  }
+
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface FrameExtractorApi {
+    void extractFrames(FrameExtractionMessage arg, Result<FramesMessage> result);
+
+    /**
+     * Sets up an instance of `FrameExtractorApi` to handle messages through the `binaryMessenger`
+     */
+    static void setup(BinaryMessenger binaryMessenger, FrameExtractorApi api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.FrameExtractorApi.extractFrames",
+                new StandardMessageCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                HashMap<String, HashMap> wrapped = new HashMap<>();
+                try {
+                  @SuppressWarnings("ConstantConditions")
+                  FrameExtractionMessage input = FrameExtractionMessage.fromMap((HashMap) message);
+                  Result<FramesMessage> resultCallback =
+                      new Result<FramesMessage>() {
+                        public void success(FramesMessage result) {
+                          wrapped.put("result", result.toMap());
+                          reply.reply(wrapped);
+                        }
+
+                        public void error(Throwable error) {
+                          wrapped.put("error", wrapError(error));
+                          reply.reply(wrapped);
+                        }
+                      };
+
+                  api.extractFrames(input, resultCallback);
+                } catch (Exception exception) {
+                  wrapped.put("error", wrapError(exception));
+                  reply.reply(wrapped);
+                }
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
 
-  private static HashMap wrapError(Exception exception) {
+  private static HashMap wrapError(Throwable exception) {
     HashMap<String, Object> errorMap = new HashMap<>();
     errorMap.put("message", exception.toString());
     errorMap.put("code", exception.getClass().getSimpleName());
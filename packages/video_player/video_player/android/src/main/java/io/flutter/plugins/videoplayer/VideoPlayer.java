@@ -9,6 +9,7 @@ import static com.google.android.exoplayer2.Player.REPEAT_MODE_OFF;
 
 import android.content.Context;
 import android.net.Uri;
+import android.os.SystemClock;
 import android.view.Surface;
 import com.google.android.exoplayer2.C;
 import com.google.android.exoplayer2.ExoPlaybackException;
@@ -19,8 +20,10 @@ import com.google.android.exoplayer2.Player;
 import com.google.android.exoplayer2.Player.Listener;
 import com.google.android.exoplayer2.SimpleExoPlayer;
 import com.google.android.exoplayer2.audio.AudioAttributes;
+import com.google.android.exoplayer2.source.ConcatenatingMediaSource;
 import com.google.android.exoplayer2.source.MediaSource;
 import com.google.android.exoplayer2.source.ProgressiveMediaSource;
+import com.google.android.exoplayer2.source.ShuffleOrder;
 import com.google.android.exoplayer2.source.dash.DashMediaSource;
 import com.google.android.exoplayer2.source.dash.DefaultDashChunkSource;
 import com.google.android.exoplayer2.source.hls.HlsMediaSource;
@@ -38,7 +41,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-final class VideoPlayer {
+final class VideoPlayer implements DecoderScheduler.Decodable {
   private static final String FORMAT_SS = "ss";
   private static final String FORMAT_DASH = "dash";
   private static final String FORMAT_HLS = "hls";
@@ -50,7 +53,7 @@ final class VideoPlayer {
 
   private final TextureRegistry.SurfaceTextureEntry textureEntry;
 
-  private QueuingEventSink eventSink = new QueuingEventSink();
+  private final QueuingEventSink eventSink;
 
   private final EventChannel eventChannel;
 
@@ -58,23 +61,82 @@ final class VideoPlayer {
 
   private final VideoPlayerOptions options;
 
+  private final boolean isPlaylist;
+
+  private boolean isVisible = true;
+
+  private boolean isDecoderSuspended = false;
+
+  private long suspendedPosition;
+
+  private long lastActiveTime = SystemClock.elapsedRealtime();
+
   VideoPlayer(
       Context context,
       EventChannel eventChannel,
       TextureRegistry.SurfaceTextureEntry textureEntry,
-      String dataSource,
+      List<String> dataSources,
       String formatHint,
       Map<String, String> httpHeaders,
       VideoPlayerOptions options) {
+    this(
+        new SimpleExoPlayer.Builder(context).build(),
+        eventChannel,
+        textureEntry,
+        buildMediaSources(context, dataSources, formatHint, httpHeaders),
+        options,
+        new QueuingEventSink());
+  }
+
+  // Visible for testing.
+  VideoPlayer(
+      SimpleExoPlayer exoPlayer,
+      EventChannel eventChannel,
+      TextureRegistry.SurfaceTextureEntry textureEntry,
+      MediaSource[] mediaSources,
+      VideoPlayerOptions options,
+      QueuingEventSink eventSink) {
+    this.exoPlayer = exoPlayer;
     this.eventChannel = eventChannel;
     this.textureEntry = textureEntry;
     this.options = options;
+    this.eventSink = eventSink;
+    this.isPlaylist = mediaSources.length > 1;
+
+    if (isPlaylist) {
+      // A single concatenated source lets ExoPlayer prepare and buffer the next item while the
+      // current one plays, so items follow each other without re-initialising the player.
+      exoPlayer.setMediaSource(
+          new ConcatenatingMediaSource(
+              /* isAtomic= */ false,
+              /* useLazyPreparation= */ true,
+              new ShuffleOrder.DefaultShuffleOrder(/* length= */ 0),
+              mediaSources));
+    } else {
+      exoPlayer.setMediaSource(mediaSources[0]);
+    }
+    exoPlayer.prepare();
 
-    exoPlayer = new SimpleExoPlayer.Builder(context).build();
+    setupVideoPlayer(eventChannel, textureEntry);
+  }
 
-    Uri uri = Uri.parse(dataSource);
+  private static MediaSource[] buildMediaSources(
+      Context context,
+      List<String> dataSources,
+      String formatHint,
+      Map<String, String> httpHeaders) {
+    MediaSource[] mediaSources = new MediaSource[dataSources.size()];
+    for (int i = 0; i < mediaSources.length; i++) {
+      Uri uri = Uri.parse(dataSources.get(i));
+      mediaSources[i] =
+          buildMediaSource(
+              uri, buildDataSourceFactory(uri, httpHeaders, context), formatHint, context);
+    }
+    return mediaSources;
+  }
 
-    DataSource.Factory dataSourceFactory;
+  private static DataSource.Factory buildDataSourceFactory(
+      Uri uri, Map<String, String> httpHeaders, Context context) {
     if (isHTTP(uri)) {
       DefaultHttpDataSource.Factory httpDataSourceFactory =
           new DefaultHttpDataSource.Factory()
@@ -84,16 +146,10 @@ final class VideoPlayer {
       if (httpHeaders != null && !httpHeaders.isEmpty()) {
         httpDataSourceFactory.setDefaultRequestProperties(httpHeaders);
       }
-      dataSourceFactory = httpDataSourceFactory;
+      return httpDataSourceFactory;
     } else {
-      dataSourceFactory = new DefaultDataSourceFactory(context, "ExoPlayer");
+      return new DefaultDataSourceFactory(context, "ExoPlayer");
     }
-
-    MediaSource mediaSource = buildMediaSource(uri, dataSourceFactory, formatHint, context);
-    exoPlayer.setMediaSource(mediaSource);
-    exoPlayer.prepare();
-
-    setupVideoPlayer(eventChannel, textureEntry);
   }
 
   private static boolean isHTTP(Uri uri) {
@@ -104,7 +160,7 @@ final class VideoPlayer {
     return scheme.equals("http") || scheme.equals("https");
   }
 
-  private MediaSource buildMediaSource(
+  private static MediaSource buildMediaSource(
       Uri uri, DataSource.Factory mediaDataSourceFactory, String formatHint, Context context) {
     int type;
     if (formatHint == null) {
@@ -205,6 +261,18 @@ final class VideoPlayer {
             }
           }
 
+          @Override
+          public void onMediaItemTransition(final MediaItem mediaItem, final int reason) {
+            if (!isPlaylist) {
+              return;
+            }
+            Map<String, Object> event = new HashMap<>();
+            event.put("event", "playlistItemChanged");
+            event.put("index", exoPlayer.getCurrentWindowIndex());
+            event.put("reason", transitionReasonName(reason));
+            eventSink.success(event);
+          }
+
           @Override
           public void onPlayerError(final ExoPlaybackException error) {
             setBuffering(false);
@@ -215,6 +283,19 @@ final class VideoPlayer {
         });
   }
 
+  private static String transitionReasonName(int reason) {
+    switch (reason) {
+      case Player.MEDIA_ITEM_TRANSITION_REASON_AUTO:
+        return "auto";
+      case Player.MEDIA_ITEM_TRANSITION_REASON_REPEAT:
+        return "repeat";
+      case Player.MEDIA_ITEM_TRANSITION_REASON_SEEK:
+        return "seek";
+      default:
+        return "playlistChanged";
+    }
+  }
+
   void sendBufferingUpdate() {
     Map<String, Object> event = new HashMap<>();
     event.put("event", "bufferingUpdate");
@@ -231,13 +312,78 @@ final class VideoPlayer {
   }
 
   void play() {
+    markActive();
     exoPlayer.setPlayWhenReady(true);
   }
 
   void pause() {
+    markActive();
     exoPlayer.setPlayWhenReady(false);
   }
 
+  void setVisible(boolean visible) {
+    markActive();
+    isVisible = visible;
+  }
+
+  private void markActive() {
+    lastActiveTime = SystemClock.elapsedRealtime();
+  }
+
+  @Override
+  public boolean isPlaying() {
+    return exoPlayer.getPlayWhenReady();
+  }
+
+  @Override
+  public boolean isVisible() {
+    return isVisible;
+  }
+
+  @Override
+  public long getLastActiveTime() {
+    return lastActiveTime;
+  }
+
+  @Override
+  public boolean isDecoderSuspended() {
+    return isDecoderSuspended;
+  }
+
+  /**
+   * Releases the decoder of this player while keeping its media items, position and play state.
+   *
+   * <p>The video surface is left attached so the texture keeps showing the last rendered frame.
+   */
+  @Override
+  public void suspendDecoder() {
+    if (isDecoderSuspended) {
+      return;
+    }
+    isDecoderSuspended = true;
+    suspendedPosition = exoPlayer.getCurrentPosition();
+    exoPlayer.stop();
+    sendDecoderEvent("decoderSuspended");
+  }
+
+  @Override
+  public void resumeDecoder() {
+    if (!isDecoderSuspended) {
+      return;
+    }
+    isDecoderSuspended = false;
+    exoPlayer.seekTo(suspendedPosition);
+    exoPlayer.prepare();
+    sendDecoderEvent("decoderResumed");
+  }
+
+  private void sendDecoderEvent(String eventName) {
+    Map<String, Object> event = new HashMap<>();
+    event.put("event", eventName);
+    event.put("position", suspendedPosition);
+    eventSink.success(event);
+  }
+
   void setLooping(boolean value) {
     exoPlayer.setRepeatMode(value ? REPEAT_MODE_ALL : REPEAT_MODE_OFF);
   }
@@ -256,11 +402,15 @@ final class VideoPlayer {
   }
 
   void seekTo(int location) {
+    markActive();
+    if (isDecoderSuspended) {
+      suspendedPosition = location;
+    }
     exoPlayer.seekTo(location);
   }
 
   long getPosition() {
-    return exoPlayer.getCurrentPosition();
+    return isDecoderSuspended ? suspendedPosition : exoPlayer.getCurrentPosition();
   }
 
   @SuppressWarnings("SuspiciousNameCombination")
@@ -288,7 +438,7 @@ final class VideoPlayer {
   }
 
   void dispose() {
-    if (isInitialized) {
+    if (isInitialized && !isDecoderSuspended) {
       exoPlayer.stop();
     }
     textureEntry.release();
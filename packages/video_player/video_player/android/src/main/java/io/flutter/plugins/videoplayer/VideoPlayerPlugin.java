@@ -13,24 +13,37 @@ import io.flutter.embedding.engine.plugins.FlutterPlugin;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugins.videoplayer.Messages.CreateMessage;
+import io.flutter.plugins.videoplayer.Messages.DecoderPressureMessage;
+import io.flutter.plugins.videoplayer.Messages.FrameExtractionMessage;
+import io.flutter.plugins.videoplayer.Messages.FrameExtractorApi;
+import io.flutter.plugins.videoplayer.Messages.FramesMessage;
 import io.flutter.plugins.videoplayer.Messages.LoopingMessage;
+import io.flutter.plugins.videoplayer.Messages.MaxDecodersMessage;
 import io.flutter.plugins.videoplayer.Messages.MixWithOthersMessage;
 import io.flutter.plugins.videoplayer.Messages.PlaybackSpeedMessage;
 import io.flutter.plugins.videoplayer.Messages.PositionMessage;
+import io.flutter.plugins.videoplayer.Messages.Result;
 import io.flutter.plugins.videoplayer.Messages.TextureMessage;
 import io.flutter.plugins.videoplayer.Messages.VideoPlayerApi;
+import io.flutter.plugins.videoplayer.Messages.VisibilityMessage;
 import io.flutter.plugins.videoplayer.Messages.VolumeMessage;
 import io.flutter.view.TextureRegistry;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import javax.net.ssl.HttpsURLConnection;
 
 /** Android platform implementation of the VideoPlayerPlugin. */
-public class VideoPlayerPlugin implements FlutterPlugin, VideoPlayerApi {
+public class VideoPlayerPlugin implements FlutterPlugin, VideoPlayerApi, FrameExtractorApi {
   private static final String TAG = "VideoPlayerPlugin";
   private final LongSparseArray<VideoPlayer> videoPlayers = new LongSparseArray<>();
+  private final DecoderScheduler decoderScheduler =
+      new DecoderScheduler(DecoderScheduler.detectMaxDecoders());
   private FlutterState flutterState;
+  private FrameExtractor frameExtractor;
   private VideoPlayerOptions options = new VideoPlayerOptions();
 
   /** Register this with the v2 embedding for the plugin to respond to lifecycle callbacks. */
@@ -93,6 +106,10 @@ public class VideoPlayerPlugin implements FlutterPlugin, VideoPlayerApi {
     }
     flutterState.stopListening(binding.getBinaryMessenger());
     flutterState = null;
+    if (frameExtractor != null) {
+      frameExtractor.dispose();
+      frameExtractor = null;
+    }
     initialize();
   }
 
@@ -101,6 +118,7 @@ public class VideoPlayerPlugin implements FlutterPlugin, VideoPlayerApi {
       videoPlayers.valueAt(i).dispose();
     }
     videoPlayers.clear();
+    decoderScheduler.clear();
   }
 
   private void onDestroy() {
@@ -125,46 +143,59 @@ public class VideoPlayerPlugin implements FlutterPlugin, VideoPlayerApi {
 
     VideoPlayer player;
     if (arg.getAsset() != null) {
-      String assetLookupKey;
-      if (arg.getPackageName() != null) {
-        assetLookupKey =
-            flutterState.keyForAssetAndPackageName.get(arg.getAsset(), arg.getPackageName());
-      } else {
-        assetLookupKey = flutterState.keyForAsset.get(arg.getAsset());
-      }
       player =
           new VideoPlayer(
               flutterState.applicationContext,
               eventChannel,
               handle,
-              "asset:///" + assetLookupKey,
+              Collections.singletonList(assetDataSource(arg.getAsset(), arg.getPackageName())),
               null,
               null,
               options);
     } else {
       @SuppressWarnings("unchecked")
       Map<String, String> httpHeaders = arg.getHttpHeaders();
+      List<String> dataSources = new ArrayList<>();
+      if (arg.getPlaylist() != null && !arg.getPlaylist().isEmpty()) {
+        for (Object uri : arg.getPlaylist()) {
+          dataSources.add((String) uri);
+        }
+      } else {
+        dataSources.add(arg.getUri());
+      }
       player =
           new VideoPlayer(
               flutterState.applicationContext,
               eventChannel,
               handle,
-              arg.getUri(),
+              dataSources,
               arg.getFormatHint(),
               httpHeaders,
               options);
     }
     videoPlayers.put(handle.id(), player);
+    decoderScheduler.add(player);
 
     TextureMessage result = new TextureMessage();
     result.setTextureId(handle.id());
     return result;
   }
 
+  private String assetDataSource(String asset, String packageName) {
+    String assetLookupKey;
+    if (packageName != null) {
+      assetLookupKey = flutterState.keyForAssetAndPackageName.get(asset, packageName);
+    } else {
+      assetLookupKey = flutterState.keyForAsset.get(asset);
+    }
+    return "asset:///" + assetLookupKey;
+  }
+
   public void dispose(TextureMessage arg) {
     VideoPlayer player = videoPlayers.get(arg.getTextureId());
     player.dispose();
     videoPlayers.remove(arg.getTextureId());
+    decoderScheduler.remove(player);
   }
 
   public void setLooping(LoopingMessage arg) {
@@ -185,6 +216,7 @@ public class VideoPlayerPlugin implements FlutterPlugin, VideoPlayerApi {
   public void play(TextureMessage arg) {
     VideoPlayer player = videoPlayers.get(arg.getTextureId());
     player.play();
+    decoderScheduler.rebalance();
   }
 
   public PositionMessage position(TextureMessage arg) {
@@ -198,11 +230,13 @@ public class VideoPlayerPlugin implements FlutterPlugin, VideoPlayerApi {
   public void seekTo(PositionMessage arg) {
     VideoPlayer player = videoPlayers.get(arg.getTextureId());
     player.seekTo(arg.getPosition().intValue());
+    decoderScheduler.rebalance();
   }
 
   public void pause(TextureMessage arg) {
     VideoPlayer player = videoPlayers.get(arg.getTextureId());
     player.pause();
+    decoderScheduler.rebalance();
   }
 
   @Override
@@ -210,6 +244,62 @@ public class VideoPlayerPlugin implements FlutterPlugin, VideoPlayerApi {
     options.mixWithOthers = arg.getMixWithOthers();
   }
 
+  @Override
+  public void setVisibility(VisibilityMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    player.setVisible(arg.getIsVisible());
+    decoderScheduler.rebalance();
+  }
+
+  @Override
+  public void setMaxActiveDecoders(MaxDecodersMessage arg) {
+    decoderScheduler.setMaxDecoders(
+        arg.getMaxDecoders() == null ? 0 : arg.getMaxDecoders().intValue());
+  }
+
+  @Override
+  public DecoderPressureMessage decoderPressure() {
+    DecoderPressureMessage result = new DecoderPressureMessage();
+    result.setActiveDecoders((long) decoderScheduler.getActiveDecoderCount());
+    result.setMaxDecoders((long) decoderScheduler.getMaxDecoders());
+    result.setSuspendedPlayers((long) decoderScheduler.getSuspendedCount());
+    return result;
+  }
+
+  @Override
+  public void extractFrames(FrameExtractionMessage arg, Result<FramesMessage> result) {
+    FrameExtractor.Request request = new FrameExtractor.Request();
+    if (arg.getAsset() != null) {
+      request.dataSource = assetDataSource(arg.getAsset(), arg.getPackageName());
+    } else {
+      @SuppressWarnings("unchecked")
+      Map<String, String> httpHeaders = arg.getHttpHeaders();
+      request.dataSource = arg.getUri();
+      request.httpHeaders = httpHeaders;
+    }
+    if (arg.getTimestamps() != null) {
+      for (Object timestamp : arg.getTimestamps()) {
+        request.timestampsMs.add(((Number) timestamp).longValue());
+      }
+    }
+    if (arg.getMaxWidth() != null) {
+      request.maxWidth = arg.getMaxWidth().intValue();
+    }
+    if (arg.getMaxHeight() != null) {
+      request.maxHeight = arg.getMaxHeight().intValue();
+    }
+    if (arg.getQuality() != null) {
+      request.quality = arg.getQuality().intValue();
+    }
+    request.format = arg.getFormat();
+    request.outputDirectory = arg.getOutputDirectory();
+
+    if (frameExtractor == null) {
+      frameExtractor = new FrameExtractor(flutterState.applicationContext);
+    }
+    frameExtractor.extract(request, result);
+  }
+
   private interface KeyForAssetFn {
     String get(String asset);
   }
@@ -240,10 +330,12 @@ public class VideoPlayerPlugin implements FlutterPlugin, VideoPlayerApi {
 
     void startListening(VideoPlayerPlugin methodCallHandler, BinaryMessenger messenger) {
       VideoPlayerApi.setup(messenger, methodCallHandler);
+      FrameExtractorApi.setup(messenger, methodCallHandler);
     }
 
     void stopListening(BinaryMessenger messenger) {
       VideoPlayerApi.setup(messenger, null);
+      FrameExtractorApi.setup(messenger, null);
     }
   }
 }
@@ -0,0 +1,124 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class DecoderSchedulerTest {
+  @Test
+  public void suspendsLeastRecentlyUsedPlayersOverBudget() {
+    final DecoderScheduler scheduler = new DecoderScheduler(2);
+    final FakeDecodable first = new FakeDecodable(1);
+    final FakeDecodable second = new FakeDecodable(2);
+    final FakeDecodable third = new FakeDecodable(3);
+
+    scheduler.add(first);
+    scheduler.add(second);
+    scheduler.add(third);
+
+    assertTrue(first.suspended);
+    assertFalse(second.suspended);
+    assertFalse(third.suspended);
+    assertEquals(2, scheduler.getActiveDecoderCount());
+    assertEquals(1, scheduler.getSuspendedCount());
+  }
+
+  @Test
+  public void playingAndVisiblePlayersArePrioritized() {
+    final DecoderScheduler scheduler = new DecoderScheduler(1);
+    final FakeDecodable playing = new FakeDecodable(1);
+    final FakeDecodable hidden = new FakeDecodable(2);
+    playing.playing = true;
+    hidden.visible = false;
+
+    scheduler.add(playing);
+    scheduler.add(hidden);
+
+    assertFalse(playing.suspended);
+    assertTrue(hidden.suspended);
+  }
+
+  @Test
+  public void resumesSuspendedPlayersWhenBudgetFreesUp() {
+    final DecoderScheduler scheduler = new DecoderScheduler(1);
+    final FakeDecodable first = new FakeDecodable(1);
+    final FakeDecodable second = new FakeDecodable(2);
+    scheduler.add(first);
+    scheduler.add(second);
+    assertTrue(first.suspended);
+
+    scheduler.remove(second);
+
+    assertFalse(first.suspended);
+    assertEquals(1, first.resumeCount);
+  }
+
+  @Test
+  public void setMaxDecodersBelowOneRestoresDetectedLimit() {
+    final DecoderScheduler scheduler = new DecoderScheduler(3);
+
+    scheduler.setMaxDecoders(1);
+    assertEquals(1, scheduler.getMaxDecoders());
+
+    scheduler.setMaxDecoders(0);
+    assertEquals(3, scheduler.getMaxDecoders());
+  }
+
+  @Test
+  public void softwareDecodersAreNotCountedAsHardware() {
+    assertTrue(DecoderScheduler.isSoftwareDecoderName("OMX.google.h264.decoder"));
+    assertTrue(DecoderScheduler.isSoftwareDecoderName("c2.android.avc.decoder"));
+    assertTrue(DecoderScheduler.isSoftwareDecoderName("OMX.SEC.avc.sw.dec"));
+    assertFalse(DecoderScheduler.isSoftwareDecoderName("OMX.qcom.video.decoder.avc"));
+    assertFalse(DecoderScheduler.isSoftwareDecoderName("c2.exynos.h264.decoder"));
+  }
+
+  private static final class FakeDecodable implements DecoderScheduler.Decodable {
+    final long lastActiveTime;
+    boolean playing = false;
+    boolean visible = true;
+    boolean suspended = false;
+    int resumeCount = 0;
+
+    FakeDecodable(long lastActiveTime) {
+      this.lastActiveTime = lastActiveTime;
+    }
+
+    @Override
+    public boolean isPlaying() {
+      return playing;
+    }
+
+    @Override
+    public boolean isVisible() {
+      return visible;
+    }
+
+    @Override
+    public long getLastActiveTime() {
+      return lastActiveTime;
+    }
+
+    @Override
+    public boolean isDecoderSuspended() {
+      return suspended;
+    }
+
+    @Override
+    public void suspendDecoder() {
+      suspended = true;
+    }
+
+    @Override
+    public void resumeDecoder() {
+      suspended = false;
+      resumeCount++;
+    }
+  }
+}
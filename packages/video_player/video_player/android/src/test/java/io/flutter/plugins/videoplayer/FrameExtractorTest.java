@@ -0,0 +1,77 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.content.Context;
+import io.flutter.plugins.videoplayer.Messages.FramesMessage;
+import io.flutter.plugins.videoplayer.Messages.Result;
+import java.util.Collections;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class FrameExtractorTest {
+  @Test
+  public void scaledSizeKeepsAspectRatio() {
+    assertArrayEquals(new int[] {320, 180}, FrameExtractor.scaledSize(1920, 1080, 0, 320, 0));
+    assertArrayEquals(new int[] {160, 90}, FrameExtractor.scaledSize(1920, 1080, 0, 320, 90));
+  }
+
+  @Test
+  public void scaledSizeAppliesRotation() {
+    assertArrayEquals(new int[] {180, 320}, FrameExtractor.scaledSize(1920, 1080, 90, 0, 320));
+  }
+
+  @Test
+  public void scaledSizeIsNullWithinBoundsOrUnknown() {
+    assertNull(FrameExtractor.scaledSize(640, 360, 0, 1280, 720));
+    assertNull(FrameExtractor.scaledSize(0, 0, 0, 320, 180));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void disposeAnswersQueuedExtractions() {
+    final ExecutorService executor = mock(ExecutorService.class);
+    final Result<FramesMessage> result = mock(Result.class);
+    final FrameExtractor extractor =
+        new FrameExtractor(mock(Context.class), executor, Runnable::run);
+
+    extractor.extract(new FrameExtractor.Request(), result);
+    final ArgumentCaptor<Runnable> extraction = ArgumentCaptor.forClass(Runnable.class);
+    verify(executor).execute(extraction.capture());
+    when(executor.shutdownNow()).thenReturn(Collections.singletonList(extraction.getValue()));
+    extractor.dispose();
+
+    final ArgumentCaptor<Throwable> error = ArgumentCaptor.forClass(Throwable.class);
+    verify(result).error(error.capture());
+    assertTrue(error.getValue() instanceof CancellationException);
+    verify(result, never()).success(any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void extractAfterDisposeFails() {
+    final ExecutorService executor = mock(ExecutorService.class);
+    final Result<FramesMessage> result = mock(Result.class);
+    final FrameExtractor extractor =
+        new FrameExtractor(mock(Context.class), executor, Runnable::run);
+
+    extractor.dispose();
+    extractor.extract(new FrameExtractor.Request(), result);
+
+    verify(executor, never()).execute(any());
+    verify(result).error(any(CancellationException.class));
+  }
+}
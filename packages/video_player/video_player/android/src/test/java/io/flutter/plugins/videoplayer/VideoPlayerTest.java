@@ -4,12 +4,104 @@
 
 package io.flutter.plugins.videoplayer;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.android.exoplayer2.Player;
+import com.google.android.exoplayer2.SimpleExoPlayer;
+import com.google.android.exoplayer2.source.ConcatenatingMediaSource;
+import com.google.android.exoplayer2.source.MediaSource;
+import io.flutter.plugin.common.EventChannel;
+import io.flutter.view.TextureRegistry;
+import java.util.Map;
+import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 public class VideoPlayerTest {
+  private SimpleExoPlayer fakeExoPlayer;
+  private EventChannel fakeEventChannel;
+  private TextureRegistry.SurfaceTextureEntry fakeSurfaceTextureEntry;
+  private QueuingEventSink fakeEventSink;
+
+  @Before
+  public void before() {
+    fakeExoPlayer = mock(SimpleExoPlayer.class);
+    fakeEventChannel = mock(EventChannel.class);
+    fakeSurfaceTextureEntry = mock(TextureRegistry.SurfaceTextureEntry.class);
+    fakeEventSink = mock(QueuingEventSink.class);
+  }
+
   // This is only a placeholder test and doesn't actually initialize the plugin.
   @Test
   public void initPluginDoesNotThrow() {
     final VideoPlayerPlugin plugin = new VideoPlayerPlugin();
   }
+
+  @Test
+  public void playlistIsPreparedAsOneConcatenatedSource() {
+    createVideoPlayer(mock(MediaSource.class), mock(MediaSource.class));
+
+    final ArgumentCaptor<MediaSource> mediaSourceCaptor =
+        ArgumentCaptor.forClass(MediaSource.class);
+    verify(fakeExoPlayer).setMediaSource(mediaSourceCaptor.capture());
+    assertTrue(mediaSourceCaptor.getValue() instanceof ConcatenatingMediaSource);
+    assertEquals(2, ((ConcatenatingMediaSource) mediaSourceCaptor.getValue()).getSize());
+    verify(fakeExoPlayer).prepare();
+  }
+
+  @Test
+  public void singleSourceIsNotConcatenated() {
+    final MediaSource mediaSource = mock(MediaSource.class);
+    createVideoPlayer(mediaSource);
+
+    verify(fakeExoPlayer).setMediaSource(mediaSource);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void playlistItemChangedIsSentOnTransition() {
+    createVideoPlayer(mock(MediaSource.class), mock(MediaSource.class));
+    when(fakeExoPlayer.getCurrentWindowIndex()).thenReturn(1);
+
+    getPlayerListener().onMediaItemTransition(null, Player.MEDIA_ITEM_TRANSITION_REASON_AUTO);
+
+    final ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+    verify(fakeEventSink).success(eventCaptor.capture());
+    final Map<String, Object> event = (Map<String, Object>) eventCaptor.getValue();
+    assertEquals("playlistItemChanged", event.get("event"));
+    assertEquals(1, event.get("index"));
+    assertEquals("auto", event.get("reason"));
+  }
+
+  @Test
+  public void playlistItemChangedIsNotSentForSingleSource() {
+    createVideoPlayer(mock(MediaSource.class));
+
+    getPlayerListener().onMediaItemTransition(null, Player.MEDIA_ITEM_TRANSITION_REASON_SEEK);
+
+    verify(fakeEventSink, never()).success(any());
+  }
+
+  private VideoPlayer createVideoPlayer(MediaSource... mediaSources) {
+    return new VideoPlayer(
+        fakeExoPlayer,
+        fakeEventChannel,
+        fakeSurfaceTextureEntry,
+        mediaSources,
+        new VideoPlayerOptions(),
+        fakeEventSink);
+  }
+
+  private Player.Listener getPlayerListener() {
+    final ArgumentCaptor<Player.Listener> listenerCaptor =
+        ArgumentCaptor.forClass(Player.Listener.class);
+    verify(fakeExoPlayer).addListener(listenerCaptor.capture());
+    return listenerCaptor.getValue();
+  }
 }
@@ -478,18 +478,37 @@ static inline CGFloat radiansToDegrees(CGFloat radians) {
 
 @end
 
-@interface FLTVideoPlayerPlugin () <FLTVideoPlayerApi>
+@interface FLTVideoPlayerPlugin () <FLTVideoPlayerApi, FLTFrameExtractorApi>
 @property(readonly, weak, nonatomic) NSObject<FlutterTextureRegistry>* registry;
 @property(readonly, weak, nonatomic) NSObject<FlutterBinaryMessenger>* messenger;
 @property(readonly, strong, nonatomic) NSMutableDictionary* players;
 @property(readonly, strong, nonatomic) NSObject<FlutterPluginRegistrar>* registrar;
+@property(readonly, strong, nonatomic) dispatch_queue_t frameExtractionQueue;
 @end
 
+static const NSInteger kDefaultFrameQuality = 80;
+
+// Encodes a frame in the requested format. iOS has no WebP encoder, so WebP falls back to JPEG
+// like any unknown format.
+static NSData* FLTEncodeFrame(CGImageRef frame,
+                              NSString* format,
+                              CGFloat quality,
+                              NSString** extension) {
+  UIImage* image = [UIImage imageWithCGImage:frame];
+  if ([format isEqualToString:@"png"]) {
+    *extension = @"png";
+    return UIImagePNGRepresentation(image);
+  }
+  *extension = @"jpg";
+  return UIImageJPEGRepresentation(image, quality);
+}
+
 @implementation FLTVideoPlayerPlugin
 + (void)registerWithRegistrar:(NSObject<FlutterPluginRegistrar>*)registrar {
   FLTVideoPlayerPlugin* instance = [[FLTVideoPlayerPlugin alloc] initWithRegistrar:registrar];
   [registrar publish:instance];
   FLTVideoPlayerApiSetup(registrar.messenger, instance);
+  FLTFrameExtractorApiSetup(registrar.messenger, instance);
 }
 
 - (instancetype)initWithRegistrar:(NSObject<FlutterPluginRegistrar>*)registrar {
@@ -499,6 +518,8 @@ static inline CGFloat radiansToDegrees(CGFloat radians) {
   _messenger = [registrar messenger];
   _registrar = registrar;
   _players = [NSMutableDictionary dictionaryWithCapacity:1];
+  _frameExtractionQueue =
+      dispatch_queue_create("io.flutter.plugins.videoplayer.frames", DISPATCH_QUEUE_SERIAL);
   return self;
 }
 
@@ -542,6 +563,12 @@ static inline CGFloat radiansToDegrees(CGFloat radians) {
 }
 
 - (FLTTextureMessage*)create:(FLTCreateMessage*)input error:(FlutterError**)error {
+  if (input.playlist.count != 0) {
+    *error = [FlutterError errorWithCode:@"video_player"
+                                 message:@"Playlists are not supported on iOS"
+                                 details:nil];
+    return nil;
+  }
   FLTFrameUpdater* frameUpdater = [[FLTFrameUpdater alloc] initWithRegistry:_registry];
   FLTVideoPlayer* player;
   if (input.asset) {
@@ -635,4 +662,117 @@ static inline CGFloat radiansToDegrees(CGFloat radians) {
   }
 }
 
+// The number of players holding a video decoder is only limited on Android, so the visibility
+// hint and the decoder limit have nothing to act on here.
+- (void)setVisibility:(FLTVisibilityMessage*)input error:(FlutterError**)error {
+}
+
+- (void)setMaxActiveDecoders:(FLTMaxDecodersMessage*)input error:(FlutterError**)error {
+}
+
+- (FLTDecoderPressureMessage*)decoderPressure:(FlutterError**)error {
+  FLTDecoderPressureMessage* result = [[FLTDecoderPressureMessage alloc] init];
+  result.activeDecoders = @(_players.count);
+  // 0 means that there is no limit.
+  result.maxDecoders = @0;
+  result.suspendedPlayers = @0;
+  return result;
+}
+
+- (void)extractFrames:(FLTFrameExtractionMessage*)input
+           completion:(void (^)(FLTFramesMessage* _Nullable, FlutterError* _Nullable))completion {
+  NSURL* url = nil;
+  NSDictionary<NSString*, id>* options = nil;
+  if (input.asset) {
+    NSString* assetPath;
+    if (input.packageName) {
+      assetPath = [_registrar lookupKeyForAsset:input.asset fromPackage:input.packageName];
+    } else {
+      assetPath = [_registrar lookupKeyForAsset:input.asset];
+    }
+    NSString* path = [[NSBundle mainBundle] pathForResource:assetPath ofType:nil];
+    if (path) {
+      url = [NSURL fileURLWithPath:path];
+    }
+  } else if (input.uri) {
+    url = [NSURL URLWithString:input.uri];
+    if (input.httpHeaders.count != 0) {
+      // Use the same headers as the player so authenticated sources behave the same way.
+      options = @{@"AVURLAssetHTTPHeaderFieldsKey" : input.httpHeaders};
+    }
+  }
+  if (url == nil) {
+    completion(nil, [FlutterError errorWithCode:@"video_player"
+                                        message:@"No video to extract frames from"
+                                        details:nil]);
+    return;
+  }
+
+  AVURLAsset* asset = [AVURLAsset URLAssetWithURL:url options:options];
+  AVAssetImageGenerator* generator = [AVAssetImageGenerator assetImageGeneratorWithAsset:asset];
+  generator.appliesPreferredTrackTransform = YES;
+  // The default tolerances are kept: like on Android, the closest key frame is good enough for a
+  // thumbnail and much cheaper to decode than the exact frame.
+  CGFloat maxWidth = input.maxWidth.doubleValue;
+  CGFloat maxHeight = input.maxHeight.doubleValue;
+  if (maxWidth > 0 || maxHeight > 0) {
+    generator.maximumSize = CGSizeMake(maxWidth > 0 ? maxWidth : CGFLOAT_MAX,
+                                       maxHeight > 0 ? maxHeight : CGFLOAT_MAX);
+  }
+  CGFloat quality = (input.quality ? input.quality.integerValue : kDefaultFrameQuality) / 100.0;
+  NSString* format = input.format;
+  NSString* outputDirectory = input.outputDirectory;
+  NSArray<NSNumber*>* timestamps = input.timestamps ?: @[];
+
+  dispatch_async(_frameExtractionQueue, ^{
+    NSError* error;
+    if (outputDirectory && ![[NSFileManager defaultManager] createDirectoryAtPath:outputDirectory
+                                                      withIntermediateDirectories:YES
+                                                                       attributes:nil
+                                                                            error:&error]) {
+      dispatch_async(dispatch_get_main_queue(), ^{
+        completion(nil, [FlutterError errorWithCode:@"video_player"
+                                            message:error.localizedDescription
+                                            details:nil]);
+      });
+      return;
+    }
+    NSMutableArray* frames = [NSMutableArray arrayWithCapacity:timestamps.count];
+    for (NSUInteger i = 0; i < timestamps.count; i++) {
+      CMTime time = CMTimeMake(timestamps[i].longLongValue, 1000);
+      CGImageRef frame = [generator copyCGImageAtTime:time actualTime:NULL error:NULL];
+      NSString* extension;
+      NSData* data = frame ? FLTEncodeFrame(frame, format, quality, &extension) : nil;
+      CGImageRelease(frame);
+      if (data == nil) {
+        // The frame could not be decoded, keep the results aligned with the timestamps.
+        [frames addObject:[NSNull null]];
+        continue;
+      }
+      if (outputDirectory == nil) {
+        [frames addObject:[FlutterStandardTypedData typedDataWithBytes:data]];
+        continue;
+      }
+      NSString* name = [NSString
+          stringWithFormat:@"frame_%lld_%lu.%@", timestamps[i].longLongValue, (unsigned long)i,
+                           extension];
+      NSString* path = [outputDirectory stringByAppendingPathComponent:name];
+      if (![data writeToFile:path options:NSDataWritingAtomic error:&error]) {
+        dispatch_async(dispatch_get_main_queue(), ^{
+          completion(nil, [FlutterError errorWithCode:@"video_player"
+                                              message:error.localizedDescription
+                                              details:nil]);
+        });
+        return;
+      }
+      [frames addObject:path];
+    }
+    FLTFramesMessage* result = [[FLTFramesMessage alloc] init];
+    result.frames = frames;
+    dispatch_async(dispatch_get_main_queue(), ^{
+      completion(result, nil);
+    });
+  });
+}
+
 @end
@@ -18,6 +18,11 @@ NS_ASSUME_NONNULL_BEGIN
 @class FLTPlaybackSpeedMessage;
 @class FLTPositionMessage;
 @class FLTMixWithOthersMessage;
+@class FLTVisibilityMessage;
+@class FLTMaxDecodersMessage;
+@class FLTDecoderPressureMessage;
+@class FLTFrameExtractionMessage;
+@class FLTFramesMessage;
 
 @interface FLTTextureMessage : NSObject
 @property(nonatomic, strong, nullable) NSNumber *textureId;
@@ -29,6 +34,7 @@ NS_ASSUME_NONNULL_BEGIN
 @property(nonatomic, copy, nullable) NSString *packageName;
 @property(nonatomic, copy, nullable) NSString *formatHint;
 @property(nonatomic, strong, nullable) NSDictionary *httpHeaders;
+@property(nonatomic, strong, nullable) NSArray *playlist;
 @end
 
 @interface FLTLoopingMessage : NSObject
@@ -55,6 +61,38 @@ NS_ASSUME_NONNULL_BEGIN
 @property(nonatomic, strong, nullable) NSNumber *mixWithOthers;
 @end
 
+@interface FLTVisibilityMessage : NSObject
+@property(nonatomic, strong, nullable) NSNumber *textureId;
+@property(nonatomic, strong, nullable) NSNumber *isVisible;
+@end
+
+@interface FLTMaxDecodersMessage : NSObject
+@property(nonatomic, strong, nullable) NSNumber *maxDecoders;
+@end
+
+@interface FLTDecoderPressureMessage : NSObject
+@property(nonatomic, strong, nullable) NSNumber *activeDecoders;
+@property(nonatomic, strong, nullable) NSNumber *maxDecoders;
+@property(nonatomic, strong, nullable) NSNumber *suspendedPlayers;
+@end
+
+@interface FLTFrameExtractionMessage : NSObject
+@property(nonatomic, copy, nullable) NSString *asset;
+@property(nonatomic, copy, nullable) NSString *uri;
+@property(nonatomic, copy, nullable) NSString *packageName;
+@property(nonatomic, strong, nullable) NSDictionary *httpHeaders;
+@property(nonatomic, strong, nullable) NSArray *timestamps;
+@property(nonatomic, strong, nullable) NSNumber *maxWidth;
+@property(nonatomic, strong, nullable) NSNumber *maxHeight;
+@property(nonatomic, copy, nullable) NSString *format;
+@property(nonatomic, strong, nullable) NSNumber *quality;
+@property(nonatomic, copy, nullable) NSString *outputDirectory;
+@end
+
+@interface FLTFramesMessage : NSObject
+@property(nonatomic, strong, nullable) NSArray *frames;
+@end
+
 @protocol FLTVideoPlayerApi
 - (void)initialize:(FlutterError *_Nullable *_Nonnull)error;
 - (nullable FLTTextureMessage *)create:(FLTCreateMessage *)input
@@ -71,9 +109,21 @@ NS_ASSUME_NONNULL_BEGIN
 - (void)pause:(FLTTextureMessage *)input error:(FlutterError *_Nullable *_Nonnull)error;
 - (void)setMixWithOthers:(FLTMixWithOthersMessage *)input
                    error:(FlutterError *_Nullable *_Nonnull)error;
+- (void)setVisibility:(FLTVisibilityMessage *)input error:(FlutterError *_Nullable *_Nonnull)error;
+- (void)setMaxActiveDecoders:(FLTMaxDecodersMessage *)input
+                       error:(FlutterError *_Nullable *_Nonnull)error;
+- (nullable FLTDecoderPressureMessage *)decoderPressure:(FlutterError *_Nullable *_Nonnull)error;
 @end
 
 extern void FLTVideoPlayerApiSetup(id<FlutterBinaryMessenger> binaryMessenger,
                                    id<FLTVideoPlayerApi> _Nullable api);
 
+@protocol FLTFrameExtractorApi
+- (void)extractFrames:(FLTFrameExtractionMessage *)input
+           completion:(void (^)(FLTFramesMessage *_Nullable, FlutterError *_Nullable))completion;
+@end
+
+extern void FLTFrameExtractorApiSetup(id<FlutterBinaryMessenger> binaryMessenger,
+                                      id<FLTFrameExtractorApi> _Nullable api);
+
 NS_ASSUME_NONNULL_END
@@ -54,6 +54,26 @@ static NSDictionary<NSString *, id> *wrapResult(NSDictionary *result, FlutterErr
 + (FLTMixWithOthersMessage *)fromMap:(NSDictionary *)dict;
 - (NSDictionary *)toMap;
 @end
+@interface FLTVisibilityMessage ()
++ (FLTVisibilityMessage *)fromMap:(NSDictionary *)dict;
+- (NSDictionary *)toMap;
+@end
+@interface FLTMaxDecodersMessage ()
++ (FLTMaxDecodersMessage *)fromMap:(NSDictionary *)dict;
+- (NSDictionary *)toMap;
+@end
+@interface FLTDecoderPressureMessage ()
++ (FLTDecoderPressureMessage *)fromMap:(NSDictionary *)dict;
+- (NSDictionary *)toMap;
+@end
+@interface FLTFrameExtractionMessage ()
++ (FLTFrameExtractionMessage *)fromMap:(NSDictionary *)dict;
+- (NSDictionary *)toMap;
+@end
+@interface FLTFramesMessage ()
++ (FLTFramesMessage *)fromMap:(NSDictionary *)dict;
+- (NSDictionary *)toMap;
+@end
 
 @implementation FLTTextureMessage
 + (FLTTextureMessage *)fromMap:(NSDictionary *)dict {
@@ -94,6 +114,10 @@ static NSDictionary<NSString *, id> *wrapResult(NSDictionary *result, FlutterErr
   if ((NSNull *)result.httpHeaders == [NSNull null]) {
     result.httpHeaders = nil;
   }
+  result.playlist = dict[@"playlist"];
+  if ((NSNull *)result.playlist == [NSNull null]) {
+    result.playlist = nil;
+  }
   return result;
 }
 - (NSDictionary *)toMap {
@@ -105,7 +129,9 @@ static NSDictionary<NSString *, id> *wrapResult(NSDictionary *result, FlutterErr
                                    (self.formatHint ? self.formatHint : [NSNull null]),
                                    @"formatHint",
                                    (self.httpHeaders ? self.httpHeaders : [NSNull null]),
-                                   @"httpHeaders", nil];
+                                   @"httpHeaders",
+                                   (self.playlist ? self.playlist : [NSNull null]),
+                                   @"playlist", nil];
 }
 @end
 
@@ -211,6 +237,160 @@ static NSDictionary<NSString *, id> *wrapResult(NSDictionary *result, FlutterErr
 }
 @end
 
+@implementation FLTVisibilityMessage
++ (FLTVisibilityMessage *)fromMap:(NSDictionary *)dict {
+  FLTVisibilityMessage *result = [[FLTVisibilityMessage alloc] init];
+  result.textureId = dict[@"textureId"];
+  if ((NSNull *)result.textureId == [NSNull null]) {
+    result.textureId = nil;
+  }
+  result.isVisible = dict[@"isVisible"];
+  if ((NSNull *)result.isVisible == [NSNull null]) {
+    result.isVisible = nil;
+  }
+  return result;
+}
+- (NSDictionary *)toMap {
+  return [NSDictionary
+      dictionaryWithObjectsAndKeys:(self.textureId != nil ? self.textureId : [NSNull null]),
+                                   @"textureId",
+                                   (self.isVisible != nil ? self.isVisible : [NSNull null]),
+                                   @"isVisible", nil];
+}
+@end
+
+@implementation FLTMaxDecodersMessage
++ (FLTMaxDecodersMessage *)fromMap:(NSDictionary *)dict {
+  FLTMaxDecodersMessage *result = [[FLTMaxDecodersMessage alloc] init];
+  result.maxDecoders = dict[@"maxDecoders"];
+  if ((NSNull *)result.maxDecoders == [NSNull null]) {
+    result.maxDecoders = nil;
+  }
+  return result;
+}
+- (NSDictionary *)toMap {
+  return [NSDictionary
+      dictionaryWithObjectsAndKeys:(self.maxDecoders != nil ? self.maxDecoders : [NSNull null]),
+                                   @"maxDecoders", nil];
+}
+@end
+
+@implementation FLTDecoderPressureMessage
++ (FLTDecoderPressureMessage *)fromMap:(NSDictionary *)dict {
+  FLTDecoderPressureMessage *result = [[FLTDecoderPressureMessage alloc] init];
+  result.activeDecoders = dict[@"activeDecoders"];
+  if ((NSNull *)result.activeDecoders == [NSNull null]) {
+    result.activeDecoders = nil;
+  }
+  result.maxDecoders = dict[@"maxDecoders"];
+  if ((NSNull *)result.maxDecoders == [NSNull null]) {
+    result.maxDecoders = nil;
+  }
+  result.suspendedPlayers = dict[@"suspendedPlayers"];
+  if ((NSNull *)result.suspendedPlayers == [NSNull null]) {
+    result.suspendedPlayers = nil;
+  }
+  return result;
+}
+- (NSDictionary *)toMap {
+  return [NSDictionary
+      dictionaryWithObjectsAndKeys:(self.activeDecoders != nil ? self.activeDecoders
+                                                               : [NSNull null]),
+                                   @"activeDecoders",
+                                   (self.maxDecoders != nil ? self.maxDecoders : [NSNull null]),
+                                   @"maxDecoders",
+                                   (self.suspendedPlayers != nil ? self.suspendedPlayers
+                                                                 : [NSNull null]),
+                                   @"suspendedPlayers", nil];
+}
+@end
+
+@implementation FLTFrameExtractionMessage
++ (FLTFrameExtractionMessage *)fromMap:(NSDictionary *)dict {
+  FLTFrameExtractionMessage *result = [[FLTFrameExtractionMessage alloc] init];
+  result.asset = dict[@"asset"];
+  if ((NSNull *)result.asset == [NSNull null]) {
+    result.asset = nil;
+  }
+  result.uri = dict[@"uri"];
+  if ((NSNull *)result.uri == [NSNull null]) {
+    result.uri = nil;
+  }
+  result.packageName = dict[@"packageName"];
+  if ((NSNull *)result.packageName == [NSNull null]) {
+    result.packageName = nil;
+  }
+  result.httpHeaders = dict[@"httpHeaders"];
+  if ((NSNull *)result.httpHeaders == [NSNull null]) {
+    result.httpHeaders = nil;
+  }
+  result.timestamps = dict[@"timestamps"];
+  if ((NSNull *)result.timestamps == [NSNull null]) {
+    result.timestamps = nil;
+  }
+  result.maxWidth = dict[@"maxWidth"];
+  if ((NSNull *)result.maxWidth == [NSNull null]) {
+    result.maxWidth = nil;
+  }
+  result.maxHeight = dict[@"maxHeight"];
+  if ((NSNull *)result.maxHeight == [NSNull null]) {
+    result.maxHeight = nil;
+  }
+  result.format = dict[@"format"];
+  if ((NSNull *)result.format == [NSNull null]) {
+    result.format = nil;
+  }
+  result.quality = dict[@"quality"];
+  if ((NSNull *)result.quality == [NSNull null]) {
+    result.quality = nil;
+  }
+  result.outputDirectory = dict[@"outputDirectory"];
+  if ((NSNull *)result.outputDirectory == [NSNull null]) {
+    result.outputDirectory = nil;
+  }
+  return result;
+}
+- (NSDictionary *)toMap {
+  return [NSDictionary
+      dictionaryWithObjectsAndKeys:(self.asset ? self.asset : [NSNull null]),
+                                   @"asset",
+                                   (self.uri ? self.uri : [NSNull null]),
+                                   @"uri",
+                                   (self.packageName ? self.packageName : [NSNull null]),
+                                   @"packageName",
+                                   (self.httpHeaders ? self.httpHeaders : [NSNull null]),
+                                   @"httpHeaders",
+                                   (self.timestamps ? self.timestamps : [NSNull null]),
+                                   @"timestamps",
+                                   (self.maxWidth != nil ? self.maxWidth : [NSNull null]),
+                                   @"maxWidth",
+                                   (self.maxHeight != nil ? self.maxHeight : [NSNull null]),
+                                   @"maxHeight",
+                                   (self.format ? self.format : [NSNull null]),
+                                   @"format",
+                                   (self.quality != nil ? self.quality : [NSNull null]),
+                                   @"quality",
+                                   (self.outputDirectory ? self.outputDirectory : [NSNull null]),
+                                   @"outputDirectory", nil];
+}
+@end
+
+@implementation FLTFramesMessage
++ (FLTFramesMessage *)fromMap:(NSDictionary *)dict {
+  FLTFramesMessage *result = [[FLTFramesMessage alloc] init];
+  result.frames = dict[@"frames"];
+  if ((NSNull *)result.frames == [NSNull null]) {
+    result.frames = nil;
+  }
+  return result;
+}
+- (NSDictionary *)toMap {
+  return [NSDictionary
+      dictionaryWithObjectsAndKeys:(self.frames ? self.frames : [NSNull null]),
+                                   @"frames", nil];
+}
+@end
+
 void FLTVideoPlayerApiSetup(id<FlutterBinaryMessenger> binaryMessenger, id<FLTVideoPlayerApi> api) {
   {
     FlutterBasicMessageChannel *channel = [FlutterBasicMessageChannel
@@ -376,4 +556,68 @@ void FLTVideoPlayerApiSetup(id<FlutterBinaryMessenger> binaryMessenger, id<FLTVi
       [channel setMessageHandler:nil];
     }
   }
+  {
+    FlutterBasicMessageChannel *channel = [FlutterBasicMessageChannel
+        messageChannelWithName:@"dev.flutter.pigeon.VideoPlayerApi.setVisibility"
+               binaryMessenger:binaryMessenger];
+    if (api) {
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        FLTVisibilityMessage *input = [FLTVisibilityMessage fromMap:message];
+        FlutterError *error;
+        [api setVisibility:input error:&error];
+        callback(wrapResult(nil, error));
+      }];
+    } else {
+      [channel setMessageHandler:nil];
+    }
+  }
+  {
+    FlutterBasicMessageChannel *channel = [FlutterBasicMessageChannel
+        messageChannelWithName:@"dev.flutter.pigeon.VideoPlayerApi.setMaxActiveDecoders"
+               binaryMessenger:binaryMessenger];
+    if (api) {
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        FLTMaxDecodersMessage *input = [FLTMaxDecodersMessage fromMap:message];
+        FlutterError *error;
+        [api setMaxActiveDecoders:input error:&error];
+        callback(wrapResult(nil, error));
+      }];
+    } else {
+      [channel setMessageHandler:nil];
+    }
+  }
+  {
+    FlutterBasicMessageChannel *channel = [FlutterBasicMessageChannel
+        messageChannelWithName:@"dev.flutter.pigeon.VideoPlayerApi.decoderPressure"
+               binaryMessenger:binaryMessenger];
+    if (api) {
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        FlutterError *error;
+        FLTDecoderPressureMessage *output = [api decoderPressure:&error];
+        callback(wrapResult([output toMap], error));
+      }];
+    } else {
+      [channel setMessageHandler:nil];
+    }
+  }
+}
+
+void FLTFrameExtractorApiSetup(id<FlutterBinaryMessenger> binaryMessenger,
+                               id<FLTFrameExtractorApi> api) {
+  {
+    FlutterBasicMessageChannel *channel = [FlutterBasicMessageChannel
+        messageChannelWithName:@"dev.flutter.pigeon.FrameExtractorApi.extractFrames"
+               binaryMessenger:binaryMessenger];
+    if (api) {
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        FLTFrameExtractionMessage *input = [FLTFrameExtractionMessage fromMap:message];
+        [api extractFrames:input
+                completion:^(FLTFramesMessage *_Nullable output, FlutterError *_Nullable error) {
+                  callback(wrapResult([output toMap], error));
+                }];
+      }];
+    } else {
+      [channel setMessageHandler:nil];
+    }
+  }
 }
@@ -12,7 +12,14 @@ import 'package:meta/meta.dart';
 import 'package:video_player_platform_interface/video_player_platform_interface.dart';
 
 export 'package:video_player_platform_interface/video_player_platform_interface.dart'
-    show DurationRange, DataSourceType, VideoFormat, VideoPlayerOptions;
+    show
+        DecoderPressure,
+        DurationRange,
+        DataSourceType,
+        VideoFormat,
+        VideoFrame,
+        VideoFrameFormat,
+        VideoPlayerOptions;
 
 import 'src/closed_caption_file.dart';
 export 'src/closed_caption_file.dart';
@@ -47,6 +54,7 @@ class VideoPlayerValue {
     this.isBuffering = false,
     this.volume = 1.0,
     this.playbackSpeed = 1.0,
+    this.playlistIndex = 0,
     this.errorDescription,
   });
 
@@ -93,6 +101,11 @@ class VideoPlayerValue {
   /// The current speed of the playback.
   final double playbackSpeed;
 
+  /// The index of the item being played in [VideoPlayerController.playlist].
+  ///
+  /// Always 0 for controllers that don't play a playlist.
+  final int playlistIndex;
+
   /// A description of the error if present.
   ///
   /// If [hasError] is false this is `null`.
@@ -139,6 +152,7 @@ class VideoPlayerValue {
     bool? isBuffering,
     double? volume,
     double? playbackSpeed,
+    int? playlistIndex,
     String? errorDescription,
   }) {
     return VideoPlayerValue(
@@ -153,6 +167,7 @@ class VideoPlayerValue {
       isBuffering: isBuffering ?? this.isBuffering,
       volume: volume ?? this.volume,
       playbackSpeed: playbackSpeed ?? this.playbackSpeed,
+      playlistIndex: playlistIndex ?? this.playlistIndex,
       errorDescription: errorDescription ?? this.errorDescription,
     );
   }
@@ -171,6 +186,7 @@ class VideoPlayerValue {
         'isBuffering: $isBuffering, '
         'volume: $volume, '
         'playbackSpeed: $playbackSpeed, '
+        'playlistIndex: $playlistIndex, '
         'errorDescription: $errorDescription)';
   }
 }
@@ -196,6 +212,7 @@ class VideoPlayerController extends ValueNotifier<VideoPlayerValue> {
       : dataSourceType = DataSourceType.asset,
         formatHint = null,
         httpHeaders = const {},
+        playlist = const <String>[],
         super(VideoPlayerValue(duration: Duration.zero));
 
   /// Constructs a [VideoPlayerController] playing a video from obtained from
@@ -215,6 +232,29 @@ class VideoPlayerController extends ValueNotifier<VideoPlayerValue> {
     this.httpHeaders = const {},
   })  : dataSourceType = DataSourceType.network,
         package = null,
+        playlist = const <String>[],
+        super(VideoPlayerValue(duration: Duration.zero));
+
+  /// Constructs a [VideoPlayerController] playing the videos at the network
+  /// URIs of [playlist] back to back, without a gap between them.
+  ///
+  /// [VideoPlayerValue.playlistIndex] tells which of them is being played.
+  /// The [formatHint] and [httpHeaders] apply to all of them.
+  ///
+  /// This is supported on Android only.
+  VideoPlayerController.playlist(
+    List<String> playlist, {
+    this.formatHint,
+    this.videoPlayerOptions,
+    this.httpHeaders = const {},
+  })  : assert(playlist.isNotEmpty, 'The playlist must not be empty.'),
+        assert(defaultTargetPlatform == TargetPlatform.android,
+            'VideoPlayerController.playlist is only supported on Android.'),
+        dataSource = playlist.first,
+        playlist = List<String>.unmodifiable(playlist),
+        dataSourceType = DataSourceType.network,
+        package = null,
+        closedCaptionFile = null,
         super(VideoPlayerValue(duration: Duration.zero));
 
   /// Constructs a [VideoPlayerController] playing a video from a file.
@@ -228,6 +268,7 @@ class VideoPlayerController extends ValueNotifier<VideoPlayerValue> {
         package = null,
         formatHint = null,
         httpHeaders = const {},
+        playlist = const <String>[],
         super(VideoPlayerValue(duration: Duration.zero));
 
   /// Constructs a [VideoPlayerController] playing a video from a contentUri.
@@ -243,6 +284,7 @@ class VideoPlayerController extends ValueNotifier<VideoPlayerValue> {
         package = null,
         formatHint = null,
         httpHeaders = const {},
+        playlist = const <String>[],
         super(VideoPlayerValue(duration: Duration.zero));
 
   /// The URI to the video file. This will be in different formats depending on
@@ -262,6 +304,10 @@ class VideoPlayerController extends ValueNotifier<VideoPlayerValue> {
   /// is constructed with.
   final DataSourceType dataSourceType;
 
+  /// The URIs played back to back. Only set for
+  /// [VideoPlayerController.playlist], empty otherwise.
+  final List<String> playlist;
+
   /// Provide additional configuration options (optional). Like setting the audio mode to mix
   final VideoPlayerOptions? videoPlayerOptions;
 
@@ -292,42 +338,42 @@ class VideoPlayerController extends ValueNotifier<VideoPlayerValue> {
   @visibleForTesting
   int get textureId => _textureId;
 
-  /// Attempts to open the given [dataSource] and load metadata about the video.
-  Future<void> initialize() async {
-    _lifeCycleObserver = _VideoAppLifeCycleObserver(this);
-    _lifeCycleObserver.initialize();
-    _creatingCompleter = Completer<void>();
-
-    late DataSource dataSourceDescription;
+  DataSource _dataSourceDescription() {
     switch (dataSourceType) {
       case DataSourceType.asset:
-        dataSourceDescription = DataSource(
+        return DataSource(
           sourceType: DataSourceType.asset,
           asset: dataSource,
           package: package,
         );
-        break;
       case DataSourceType.network:
-        dataSourceDescription = DataSource(
+        return DataSource(
           sourceType: DataSourceType.network,
           uri: dataSource,
           formatHint: formatHint,
           httpHeaders: httpHeaders,
+          playlist: playlist.isEmpty ? null : playlist,
         );
-        break;
       case DataSourceType.file:
-        dataSourceDescription = DataSource(
+        return DataSource(
           sourceType: DataSourceType.file,
           uri: dataSource,
         );
-        break;
       case DataSourceType.contentUri:
-        dataSourceDescription = DataSource(
+        return DataSource(
           sourceType: DataSourceType.contentUri,
           uri: dataSource,
         );
-        break;
     }
+  }
+
+  /// Attempts to open the given [dataSource] and load metadata about the video.
+  Future<void> initialize() async {
+    _lifeCycleObserver = _VideoAppLifeCycleObserver(this);
+    _lifeCycleObserver.initialize();
+    _creatingCompleter = Completer<void>();
+
+    final DataSource dataSourceDescription = _dataSourceDescription();
 
     if (videoPlayerOptions?.mixWithOthers != null) {
       await _videoPlayerPlatform
@@ -372,6 +418,9 @@ class VideoPlayerController extends ValueNotifier<VideoPlayerValue> {
         case VideoEventType.bufferingEnd:
           value = value.copyWith(isBuffering: false);
           break;
+        case VideoEventType.playlistItemChanged:
+          value = value.copyWith(playlistIndex: event.playlistIndex);
+          break;
         case VideoEventType.unknown:
           break;
       }
@@ -575,6 +624,68 @@ class VideoPlayerController extends ValueNotifier<VideoPlayerValue> {
     await _applyPlaybackSpeed();
   }
 
+  /// Tells the platform whether the video is currently visible on screen.
+  ///
+  /// When more players are alive than the device has video decoders, the ones
+  /// that are neither playing nor visible release their decoder first. They
+  /// keep their position and last frame, and get a decoder back as soon as one
+  /// is available.
+  ///
+  /// Only Android limits the number of decoders; iOS ignores this call.
+  Future<void> setVisibility(bool isVisible) async {
+    if (_isDisposedOrNotInitialized) {
+      return;
+    }
+    await _videoPlayerPlatform.setVisibility(_textureId, isVisible);
+  }
+
+  /// Sets how many players of the app can hold a video decoder at once.
+  ///
+  /// By default this is the number of hardware decoders reported by the
+  /// device. A value lower than 1 restores that default.
+  ///
+  /// Only Android limits the number of decoders; iOS ignores this call.
+  static Future<void> setMaxActiveDecoders(int maxDecoders) {
+    return _videoPlayerPlatform.setMaxActiveDecoders(maxDecoders);
+  }
+
+  /// Returns how many players of the app hold a video decoder and how many
+  /// wait for one.
+  static Future<DecoderPressure> getDecoderPressure() {
+    return _videoPlayerPlatform.getDecoderPressure();
+  }
+
+  /// Extracts the frames of [dataSource] at [timestamps], for example to show
+  /// thumbnails on a seek bar.
+  ///
+  /// This doesn't need the controller to be initialized: the frames are
+  /// decoded without creating a player.
+  ///
+  /// Frames are downscaled to fit in [maxWidth] and [maxHeight] when they are
+  /// set, and encoded in [format]. [quality] goes from 0 to 100 and is ignored
+  /// by lossless formats. When [outputDirectory] is set, the frames are written
+  /// to files in it and returned as paths, otherwise they are returned as
+  /// bytes. The result has one entry per timestamp, null when that frame could
+  /// not be decoded.
+  Future<List<VideoFrame?>> extractFrames(
+    List<Duration> timestamps, {
+    int? maxWidth,
+    int? maxHeight,
+    VideoFrameFormat format = VideoFrameFormat.jpeg,
+    int? quality,
+    String? outputDirectory,
+  }) {
+    return _videoPlayerPlatform.extractFrames(
+      _dataSourceDescription(),
+      timestamps,
+      maxWidth: maxWidth,
+      maxHeight: maxHeight,
+      format: format,
+      quality: quality,
+      outputDirectory: outputDirectory,
+    );
+  }
+
   /// The closed caption based on the current [position] in the video.
   ///
   /// If there are no closed captions at the current [position], this will
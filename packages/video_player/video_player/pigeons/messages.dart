@@ -36,12 +36,53 @@ class CreateMessage {
   String packageName;
   String formatHint;
   Map<String, String> httpHeaders;
+  // When set, the uris are played back to back by a single player instead of
+  // [uri].
+  List<String> playlist;
 }
 
 class MixWithOthersMessage {
   bool mixWithOthers;
 }
 
+class VisibilityMessage {
+  int textureId;
+  bool isVisible;
+}
+
+class MaxDecodersMessage {
+  int maxDecoders;
+}
+
+class DecoderPressureMessage {
+  int activeDecoders;
+  int maxDecoders;
+  int suspendedPlayers;
+}
+
+class FrameExtractionMessage {
+  String asset;
+  String uri;
+  String packageName;
+  Map<String, String> httpHeaders;
+  // Positions of the frames to extract, in milliseconds.
+  List<int> timestamps;
+  int maxWidth;
+  int maxHeight;
+  // One of 'jpeg', 'png' or 'webp'. Defaults to 'jpeg'.
+  String format;
+  int quality;
+  // When set, frames are written to this directory and their paths returned
+  // instead of their bytes.
+  String outputDirectory;
+}
+
+class FramesMessage {
+  // One entry per requested timestamp: the encoded bytes, the file path, or
+  // null if the frame could not be decoded.
+  List<Object> frames;
+}
+
 @HostApi(dartHostTestHandler: 'TestHostVideoPlayerApi')
 abstract class VideoPlayerApi {
   void initialize();
@@ -55,6 +96,15 @@ abstract class VideoPlayerApi {
   void seekTo(PositionMessage msg);
   void pause(TextureMessage msg);
   void setMixWithOthers(MixWithOthersMessage msg);
+  void setVisibility(VisibilityMessage msg);
+  void setMaxActiveDecoders(MaxDecodersMessage msg);
+  DecoderPressureMessage decoderPressure();
+}
+
+@HostApi(dartHostTestHandler: 'TestHostFrameExtractorApi')
+abstract class FrameExtractorApi {
+  @async
+  FramesMessage extractFrames(FrameExtractionMessage msg);
 }
 
 void configurePigeon(PigeonOptions opts) {
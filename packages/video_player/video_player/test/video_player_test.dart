@@ -290,6 +290,31 @@ void main() {
       expect(fakeVideoPlayerPlatform.dataSources[0].uri, 'content://video');
     });
 
+    test('playlist', () async {
+      final VideoPlayerController controller = VideoPlayerController.playlist(
+        <String>['https://127.0.0.1/a.mp4', 'https://127.0.0.1/b.mp4'],
+        httpHeaders: <String, String>{'Authorization': 'Bearer token'},
+      );
+      await controller.initialize();
+
+      final DataSource dataSource = fakeVideoPlayerPlatform.dataSources[0];
+      expect(dataSource.sourceType, DataSourceType.network);
+      expect(dataSource.uri, 'https://127.0.0.1/a.mp4');
+      expect(dataSource.playlist,
+          <String>['https://127.0.0.1/a.mp4', 'https://127.0.0.1/b.mp4']);
+      expect(dataSource.httpHeaders,
+          <String, String>{'Authorization': 'Bearer token'});
+    });
+
+    test('network has no playlist', () async {
+      final VideoPlayerController controller = VideoPlayerController.network(
+        'https://127.0.0.1',
+      );
+      await controller.initialize();
+
+      expect(fakeVideoPlayerPlatform.dataSources[0].playlist, null);
+    });
+
     test('dispose', () async {
       final VideoPlayerController controller = VideoPlayerController.network(
         'https://127.0.0.1',
@@ -470,6 +495,64 @@ void main() {
       });
     });
 
+    group('extractFrames', () {
+      test('does not need initialization', () async {
+        final VideoPlayerController controller = VideoPlayerController.network(
+          'https://127.0.0.1',
+          httpHeaders: <String, String>{'Authorization': 'Bearer token'},
+        );
+
+        final List<VideoFrame?> frames = await controller.extractFrames(
+          <Duration>[Duration.zero, Duration(seconds: 1)],
+        );
+
+        expect(fakeVideoPlayerPlatform.calls, <String>['extractFrames']);
+        expect(fakeVideoPlayerPlatform.dataSources[0].uri, 'https://127.0.0.1');
+        expect(fakeVideoPlayerPlatform.dataSources[0].httpHeaders,
+            <String, String>{'Authorization': 'Bearer token'});
+        expect(frames, hasLength(2));
+      });
+    });
+
+    group('decoders', () {
+      test('setVisibility', () async {
+        final VideoPlayerController controller = VideoPlayerController.network(
+          'https://127.0.0.1',
+        );
+        await controller.initialize();
+
+        await controller.setVisibility(false);
+
+        expect(fakeVideoPlayerPlatform.calls.last, 'setVisibility');
+      });
+
+      test('setVisibility is ignored before initialization', () async {
+        final VideoPlayerController controller = VideoPlayerController.network(
+          'https://127.0.0.1',
+        );
+
+        await controller.setVisibility(false);
+
+        expect(fakeVideoPlayerPlatform.calls, isNot(contains('setVisibility')));
+      });
+
+      test('setMaxActiveDecoders', () async {
+        await VideoPlayerController.setMaxActiveDecoders(2);
+
+        expect(fakeVideoPlayerPlatform.calls.last, 'setMaxActiveDecoders');
+      });
+
+      test('getDecoderPressure', () async {
+        final DecoderPressure pressure =
+            await VideoPlayerController.getDecoderPressure();
+
+        expect(fakeVideoPlayerPlatform.calls.last, 'getDecoderPressure');
+        expect(pressure.activeDecoders, 1);
+        expect(pressure.maxDecoders, 4);
+        expect(pressure.suspendedPlayers, 0);
+      });
+    });
+
     group('scrubbing', () {
       testWidgets('restarts on release if already playing',
           (WidgetTester tester) async {
@@ -574,6 +657,22 @@ void main() {
         expect(controller.value.position, nonzeroDuration);
       });
 
+      testWidgets('playlist index', (WidgetTester tester) async {
+        final VideoPlayerController controller = VideoPlayerController.playlist(
+          <String>['https://127.0.0.1/a.mp4', 'https://127.0.0.1/b.mp4'],
+        );
+        await controller.initialize();
+        expect(controller.value.playlistIndex, 0);
+
+        fakeVideoPlayerPlatform.streams[controller.textureId]!.add(VideoEvent(
+          eventType: VideoEventType.playlistItemChanged,
+          playlistIndex: 1,
+        ));
+        await tester.pumpAndSettle();
+
+        expect(controller.value.playlistIndex, 1);
+      });
+
       testWidgets('buffering status', (WidgetTester tester) async {
         final VideoPlayerController controller = VideoPlayerController.network(
           'https://127.0.0.1',
@@ -718,6 +817,7 @@ void main() {
           'isBuffering: true, '
           'volume: 0.5, '
           'playbackSpeed: 1.5, '
+          'playlistIndex: 0, '
           'errorDescription: null)');
     });
 
@@ -883,4 +983,41 @@ class FakeVideoPlayerPlatform extends VideoPlayerPlatform {
   Future<void> setMixWithOthers(bool mixWithOthers) async {
     calls.add('setMixWithOthers');
   }
+
+  @override
+  Future<void> setVisibility(int textureId, bool isVisible) async {
+    calls.add('setVisibility');
+  }
+
+  @override
+  Future<void> setMaxActiveDecoders(int maxDecoders) async {
+    calls.add('setMaxActiveDecoders');
+  }
+
+  @override
+  Future<DecoderPressure> getDecoderPressure() async {
+    calls.add('getDecoderPressure');
+    return DecoderPressure(
+      activeDecoders: 1,
+      maxDecoders: 4,
+      suspendedPlayers: 0,
+    );
+  }
+
+  @override
+  Future<List<VideoFrame?>> extractFrames(
+    DataSource dataSource,
+    List<Duration> timestamps, {
+    int? maxWidth,
+    int? maxHeight,
+    VideoFrameFormat format = VideoFrameFormat.jpeg,
+    int? quality,
+    String? outputDirectory,
+  }) async {
+    calls.add('extractFrames');
+    dataSources.add(dataSource);
+    return timestamps
+        .map((Duration timestamp) => VideoFrame(path: '$timestamp'))
+        .toList();
+  }
 }
@@ -32,6 +32,7 @@ class CreateMessage {
   String? packageName;
   String? formatHint;
   Map<Object?, Object?>? httpHeaders;
+  List<Object?>? playlist;
 
   Object encode() {
     final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
@@ -40,6 +41,7 @@ class CreateMessage {
     pigeonMap['packageName'] = packageName;
     pigeonMap['formatHint'] = formatHint;
     pigeonMap['httpHeaders'] = httpHeaders;
+    pigeonMap['playlist'] = playlist;
     return pigeonMap;
   }
 
@@ -50,7 +52,8 @@ class CreateMessage {
       ..uri = pigeonMap['uri'] as String?
       ..packageName = pigeonMap['packageName'] as String?
       ..formatHint = pigeonMap['formatHint'] as String?
-      ..httpHeaders = pigeonMap['httpHeaders'] as Map<Object?, Object?>?;
+      ..httpHeaders = pigeonMap['httpHeaders'] as Map<Object?, Object?>?
+      ..playlist = pigeonMap['playlist'] as List<Object?>?;
   }
 }
 
@@ -146,6 +149,120 @@ class MixWithOthersMessage {
   }
 }
 
+class VisibilityMessage {
+  int? textureId;
+  bool? isVisible;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['textureId'] = textureId;
+    pigeonMap['isVisible'] = isVisible;
+    return pigeonMap;
+  }
+
+  static VisibilityMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return VisibilityMessage()
+      ..textureId = pigeonMap['textureId'] as int?
+      ..isVisible = pigeonMap['isVisible'] as bool?;
+  }
+}
+
+class MaxDecodersMessage {
+  int? maxDecoders;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['maxDecoders'] = maxDecoders;
+    return pigeonMap;
+  }
+
+  static MaxDecodersMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return MaxDecodersMessage()..maxDecoders = pigeonMap['maxDecoders'] as int?;
+  }
+}
+
+class DecoderPressureMessage {
+  int? activeDecoders;
+  int? maxDecoders;
+  int? suspendedPlayers;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['activeDecoders'] = activeDecoders;
+    pigeonMap['maxDecoders'] = maxDecoders;
+    pigeonMap['suspendedPlayers'] = suspendedPlayers;
+    return pigeonMap;
+  }
+
+  static DecoderPressureMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return DecoderPressureMessage()
+      ..activeDecoders = pigeonMap['activeDecoders'] as int?
+      ..maxDecoders = pigeonMap['maxDecoders'] as int?
+      ..suspendedPlayers = pigeonMap['suspendedPlayers'] as int?;
+  }
+}
+
+class FrameExtractionMessage {
+  String? asset;
+  String? uri;
+  String? packageName;
+  Map<Object?, Object?>? httpHeaders;
+  List<Object?>? timestamps;
+  int? maxWidth;
+  int? maxHeight;
+  String? format;
+  int? quality;
+  String? outputDirectory;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['asset'] = asset;
+    pigeonMap['uri'] = uri;
+    pigeonMap['packageName'] = packageName;
+    pigeonMap['httpHeaders'] = httpHeaders;
+    pigeonMap['timestamps'] = timestamps;
+    pigeonMap['maxWidth'] = maxWidth;
+    pigeonMap['maxHeight'] = maxHeight;
+    pigeonMap['format'] = format;
+    pigeonMap['quality'] = quality;
+    pigeonMap['outputDirectory'] = outputDirectory;
+    return pigeonMap;
+  }
+
+  static FrameExtractionMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return FrameExtractionMessage()
+      ..asset = pigeonMap['asset'] as String?
+      ..uri = pigeonMap['uri'] as String?
+      ..packageName = pigeonMap['packageName'] as String?
+      ..httpHeaders = pigeonMap['httpHeaders'] as Map<Object?, Object?>?
+      ..timestamps = pigeonMap['timestamps'] as List<Object?>?
+      ..maxWidth = pigeonMap['maxWidth'] as int?
+      ..maxHeight = pigeonMap['maxHeight'] as int?
+      ..format = pigeonMap['format'] as String?
+      ..quality = pigeonMap['quality'] as int?
+      ..outputDirectory = pigeonMap['outputDirectory'] as String?;
+  }
+}
+
+class FramesMessage {
+  List<Object?>? frames;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['frames'] = frames;
+    return pigeonMap;
+  }
+
+  static FramesMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return FramesMessage()..frames = pigeonMap['frames'] as List<Object?>?;
+  }
+}
+
 class VideoPlayerApi {
   Future<void> initialize() async {
     const BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
@@ -422,4 +539,109 @@ class VideoPlayerApi {
       // noop
     }
   }
+
+  Future<void> setVisibility(VisibilityMessage arg) async {
+    final Object encoded = arg.encode();
+    const BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.VideoPlayerApi.setVisibility',
+        StandardMessageCodec());
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(encoded) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          replyMap['error'] as Map<Object?, Object?>;
+      throw PlatformException(
+        code: error['code'] as String,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      // noop
+    }
+  }
+
+  Future<void> setMaxActiveDecoders(MaxDecodersMessage arg) async {
+    final Object encoded = arg.encode();
+    const BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.VideoPlayerApi.setMaxActiveDecoders',
+        StandardMessageCodec());
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(encoded) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          replyMap['error'] as Map<Object?, Object?>;
+      throw PlatformException(
+        code: error['code'] as String,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      // noop
+    }
+  }
+
+  Future<DecoderPressureMessage> decoderPressure() async {
+    const BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.VideoPlayerApi.decoderPressure',
+        StandardMessageCodec());
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(null) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          replyMap['error'] as Map<Object?, Object?>;
+      throw PlatformException(
+        code: error['code'] as String,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return DecoderPressureMessage.decode(replyMap['result']!);
+    }
+  }
+}
+
+class FrameExtractorApi {
+  Future<FramesMessage> extractFrames(FrameExtractionMessage arg) async {
+    final Object encoded = arg.encode();
+    const BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.FrameExtractorApi.extractFrames',
+        StandardMessageCodec());
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(encoded) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          replyMap['error'] as Map<Object?, Object?>;
+      throw PlatformException(
+        code: error['code'] as String,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return FramesMessage.decode(replyMap['result']!);
+    }
+  }
 }
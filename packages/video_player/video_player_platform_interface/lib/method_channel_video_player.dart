@@ -3,6 +3,7 @@
 // found in the LICENSE file.
 
 import 'dart:async';
+import 'dart:typed_data';
 import 'dart:ui';
 
 import 'package:flutter/services.dart';
@@ -14,6 +15,7 @@ import 'video_player_platform_interface.dart';
 /// An implementation of [VideoPlayerPlatform] that uses method channels.
 class MethodChannelVideoPlayer extends VideoPlayerPlatform {
   VideoPlayerApi _api = VideoPlayerApi();
+  FrameExtractorApi _frameExtractorApi = FrameExtractorApi();
 
   @override
   Future<void> init() {
@@ -38,6 +40,7 @@ class MethodChannelVideoPlayer extends VideoPlayerPlatform {
         message.uri = dataSource.uri;
         message.formatHint = _videoFormatStringMap[dataSource.formatHint];
         message.httpHeaders = dataSource.httpHeaders;
+        message.playlist = dataSource.playlist;
         break;
       case DataSourceType.file:
         message.uri = dataSource.uri;
@@ -127,6 +130,11 @@ class MethodChannelVideoPlayer extends VideoPlayerPlatform {
           return VideoEvent(eventType: VideoEventType.bufferingStart);
         case 'bufferingEnd':
           return VideoEvent(eventType: VideoEventType.bufferingEnd);
+        case 'playlistItemChanged':
+          return VideoEvent(
+            eventType: VideoEventType.playlistItemChanged,
+            playlistIndex: map['index'],
+          );
         default:
           return VideoEvent(eventType: VideoEventType.unknown);
       }
@@ -145,6 +153,76 @@ class MethodChannelVideoPlayer extends VideoPlayerPlatform {
     );
   }
 
+  @override
+  Future<void> setVisibility(int textureId, bool isVisible) {
+    return _api.setVisibility(VisibilityMessage()
+      ..textureId = textureId
+      ..isVisible = isVisible);
+  }
+
+  @override
+  Future<void> setMaxActiveDecoders(int maxDecoders) {
+    return _api.setMaxActiveDecoders(
+      MaxDecodersMessage()..maxDecoders = maxDecoders,
+    );
+  }
+
+  @override
+  Future<DecoderPressure> getDecoderPressure() async {
+    DecoderPressureMessage response = await _api.decoderPressure();
+    return DecoderPressure(
+      activeDecoders: response.activeDecoders!,
+      maxDecoders: response.maxDecoders!,
+      suspendedPlayers: response.suspendedPlayers!,
+    );
+  }
+
+  @override
+  Future<List<VideoFrame?>> extractFrames(
+    DataSource dataSource,
+    List<Duration> timestamps, {
+    int? maxWidth,
+    int? maxHeight,
+    VideoFrameFormat format = VideoFrameFormat.jpeg,
+    int? quality,
+    String? outputDirectory,
+  }) async {
+    FrameExtractionMessage message = FrameExtractionMessage()
+      ..timestamps = timestamps
+          .map((Duration timestamp) => timestamp.inMilliseconds)
+          .toList()
+      ..maxWidth = maxWidth
+      ..maxHeight = maxHeight
+      ..format = _videoFrameFormatStringMap[format]
+      ..quality = quality
+      ..outputDirectory = outputDirectory;
+
+    switch (dataSource.sourceType) {
+      case DataSourceType.asset:
+        message.asset = dataSource.asset;
+        message.packageName = dataSource.package;
+        break;
+      case DataSourceType.network:
+        message.uri = dataSource.uri;
+        message.httpHeaders = dataSource.httpHeaders;
+        break;
+      case DataSourceType.file:
+      case DataSourceType.contentUri:
+        message.uri = dataSource.uri;
+        break;
+    }
+
+    FramesMessage response = await _frameExtractorApi.extractFrames(message);
+    return response.frames!.map((Object? frame) {
+      if (frame is Uint8List) {
+        return VideoFrame(bytes: frame);
+      } else if (frame is String) {
+        return VideoFrame(path: frame);
+      }
+      return null;
+    }).toList();
+  }
+
   EventChannel _eventChannelFor(int textureId) {
     return EventChannel('flutter.io/videoPlayer/videoEvents$textureId');
   }
@@ -157,6 +235,13 @@ class MethodChannelVideoPlayer extends VideoPlayerPlatform {
     VideoFormat.other: 'other',
   };
 
+  static const Map<VideoFrameFormat, String> _videoFrameFormatStringMap =
+      <VideoFrameFormat, String>{
+    VideoFrameFormat.jpeg: 'jpeg',
+    VideoFrameFormat.png: 'png',
+    VideoFrameFormat.webp: 'webp',
+  };
+
   DurationRange _toDurationRange(dynamic value) {
     final List<dynamic> pair = value;
     return DurationRange(
@@ -2,6 +2,8 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:typed_data';
+
 import 'package:flutter/foundation.dart';
 import 'package:flutter/widgets.dart';
 import 'package:plugin_platform_interface/plugin_platform_interface.dart';
@@ -103,6 +105,49 @@ abstract class VideoPlayerPlatform extends PlatformInterface {
   Future<void> setMixWithOthers(bool mixWithOthers) {
     throw UnimplementedError('setMixWithOthers() has not been implemented.');
   }
+
+  /// Sets whether the video is visible on screen.
+  ///
+  /// Players that are neither playing nor visible are the first to release
+  /// their video decoder when there are more players than decoders.
+  Future<void> setVisibility(int textureId, bool isVisible) {
+    throw UnimplementedError('setVisibility() has not been implemented.');
+  }
+
+  /// Sets how many players can hold a video decoder at once.
+  ///
+  /// A value lower than 1 restores the limit reported by the device.
+  Future<void> setMaxActiveDecoders(int maxDecoders) {
+    throw UnimplementedError(
+        'setMaxActiveDecoders() has not been implemented.');
+  }
+
+  /// Returns how many players hold a video decoder and how many wait for one.
+  Future<DecoderPressure> getDecoderPressure() {
+    throw UnimplementedError('getDecoderPressure() has not been implemented.');
+  }
+
+  /// Extracts the frames of [dataSource] at [timestamps], without creating a
+  /// player.
+  ///
+  /// Frames are downscaled to fit in [maxWidth] and [maxHeight] when they are
+  /// set, and encoded in [format]. [quality] goes from 0 to 100 and is ignored
+  /// by lossless formats.
+  ///
+  /// When [outputDirectory] is set, the frames are written to files in it and
+  /// returned as paths, otherwise they are returned as bytes. The result has
+  /// one entry per timestamp, null when that frame could not be decoded.
+  Future<List<VideoFrame?>> extractFrames(
+    DataSource dataSource,
+    List<Duration> timestamps, {
+    int? maxWidth,
+    int? maxHeight,
+    VideoFrameFormat format = VideoFrameFormat.jpeg,
+    int? quality,
+    String? outputDirectory,
+  }) {
+    throw UnimplementedError('extractFrames() has not been implemented.');
+  }
 }
 
 /// Description of the data source used to create an instance of
@@ -128,6 +173,7 @@ class DataSource {
     this.asset,
     this.package,
     this.httpHeaders = const {},
+    this.playlist,
   });
 
   /// The way in which the video was originally loaded.
@@ -154,6 +200,12 @@ class DataSource {
   /// The name of the asset. Only set for [DataSourceType.asset] videos.
   final String? asset;
 
+  /// **Android only**. URIs played back to back by a single player, without
+  /// a gap between them. When set, this is played instead of [uri].
+  ///
+  /// Only for [DataSourceType.network] videos.
+  final List<String>? playlist;
+
   /// The package that the asset was loaded from. Only set for
   /// [DataSourceType.asset] videos.
   final String? package;
@@ -192,6 +244,35 @@ enum VideoFormat {
   other,
 }
 
+/// The image format of the frames returned by
+/// [VideoPlayerPlatform.extractFrames].
+enum VideoFrameFormat {
+  /// JPEG.
+  jpeg,
+
+  /// PNG, which ignores the quality.
+  png,
+
+  /// WebP. Android only, other platforms fall back to [jpeg].
+  webp,
+}
+
+/// A frame returned by [VideoPlayerPlatform.extractFrames].
+///
+/// Exactly one of [bytes] and [path] is set.
+class VideoFrame {
+  /// Constructs an instance of [VideoFrame].
+  VideoFrame({this.bytes, this.path})
+      : assert((bytes == null) != (path == null));
+
+  /// The encoded frame, when no output directory was given.
+  final Uint8List? bytes;
+
+  /// The path of the file holding the encoded frame, when an output directory
+  /// was given.
+  final String? path;
+}
+
 /// Event emitted from the platform implementation.
 class VideoEvent {
   /// Creates an instance of [VideoEvent].
@@ -205,6 +286,7 @@ class VideoEvent {
     this.duration,
     this.size,
     this.buffered,
+    this.playlistIndex,
   });
 
   /// The type of the event.
@@ -225,6 +307,11 @@ class VideoEvent {
   /// Only used if [eventType] is [VideoEventType.bufferingUpdate].
   final List<DurationRange>? buffered;
 
+  /// Index in the [DataSource.playlist] of the item being played.
+  ///
+  /// Only used if [eventType] is [VideoEventType.playlistItemChanged].
+  final int? playlistIndex;
+
   @override
   bool operator ==(Object other) {
     return identical(this, other) ||
@@ -233,7 +320,8 @@ class VideoEvent {
             eventType == other.eventType &&
             duration == other.duration &&
             size == other.size &&
-            listEquals(buffered, other.buffered);
+            listEquals(buffered, other.buffered) &&
+            playlistIndex == other.playlistIndex;
   }
 
   @override
@@ -241,7 +329,8 @@ class VideoEvent {
       eventType.hashCode ^
       duration.hashCode ^
       size.hashCode ^
-      buffered.hashCode;
+      buffered.hashCode ^
+      playlistIndex.hashCode;
 }
 
 /// Type of the event.
@@ -264,6 +353,9 @@ enum VideoEventType {
   /// The video stopped to buffer.
   bufferingEnd,
 
+  /// The player moved to another item of the playlist.
+  playlistItemChanged,
+
   /// An unknown event has been received.
   unknown,
 }
@@ -327,6 +419,51 @@ class DurationRange {
   int get hashCode => start.hashCode ^ end.hashCode;
 }
 
+/// How the players of the app use the video decoders of the device.
+class DecoderPressure {
+  /// Constructs an instance of [DecoderPressure].
+  DecoderPressure({
+    required this.activeDecoders,
+    required this.maxDecoders,
+    required this.suspendedPlayers,
+  });
+
+  /// The number of players holding a video decoder.
+  final int activeDecoders;
+
+  /// The number of players that can hold a video decoder at once, or 0 if the
+  /// platform doesn't limit it.
+  final int maxDecoders;
+
+  /// The number of players that released their video decoder to stay within
+  /// [maxDecoders].
+  ///
+  /// They keep their position and last frame, and get a decoder back as soon
+  /// as one is available.
+  final int suspendedPlayers;
+
+  @override
+  String toString() => '$runtimeType('
+      'activeDecoders: $activeDecoders, '
+      'maxDecoders: $maxDecoders, '
+      'suspendedPlayers: $suspendedPlayers)';
+
+  @override
+  bool operator ==(Object other) =>
+      identical(this, other) ||
+      other is DecoderPressure &&
+          runtimeType == other.runtimeType &&
+          activeDecoders == other.activeDecoders &&
+          maxDecoders == other.maxDecoders &&
+          suspendedPlayers == other.suspendedPlayers;
+
+  @override
+  int get hashCode =>
+      activeDecoders.hashCode ^
+      maxDecoders.hashCode ^
+      suspendedPlayers.hashCode;
+}
+
 /// [VideoPlayerOptions] can be optionally used to set additional player settings
 class VideoPlayerOptions {
   /// Set this to true to mix the video players audio with other audio sources.
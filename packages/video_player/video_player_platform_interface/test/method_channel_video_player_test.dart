@@ -2,6 +2,7 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:typed_data';
 import 'dart:ui';
 
 import 'package:flutter/services.dart';
@@ -12,7 +13,7 @@ import 'package:video_player_platform_interface/video_player_platform_interface.
 
 import 'test.dart';
 
-class _ApiLogger implements TestHostVideoPlayerApi {
+class _ApiLogger implements TestHostVideoPlayerApi, TestHostFrameExtractorApi {
   final List<String> log = [];
   TextureMessage? textureMessage;
   CreateMessage? createMessage;
@@ -21,6 +22,9 @@ class _ApiLogger implements TestHostVideoPlayerApi {
   VolumeMessage? volumeMessage;
   PlaybackSpeedMessage? playbackSpeedMessage;
   MixWithOthersMessage? mixWithOthersMessage;
+  VisibilityMessage? visibilityMessage;
+  MaxDecodersMessage? maxDecodersMessage;
+  FrameExtractionMessage? frameExtractionMessage;
 
   @override
   TextureMessage create(CreateMessage arg) {
@@ -88,6 +92,39 @@ class _ApiLogger implements TestHostVideoPlayerApi {
     log.add('setPlaybackSpeed');
     playbackSpeedMessage = arg;
   }
+
+  @override
+  void setVisibility(VisibilityMessage arg) {
+    log.add('setVisibility');
+    visibilityMessage = arg;
+  }
+
+  @override
+  void setMaxActiveDecoders(MaxDecodersMessage arg) {
+    log.add('setMaxActiveDecoders');
+    maxDecodersMessage = arg;
+  }
+
+  @override
+  DecoderPressureMessage decoderPressure() {
+    log.add('decoderPressure');
+    return DecoderPressureMessage()
+      ..activeDecoders = 2
+      ..maxDecoders = 4
+      ..suspendedPlayers = 1;
+  }
+
+  @override
+  Future<FramesMessage> extractFrames(FrameExtractionMessage arg) async {
+    log.add('extractFrames');
+    frameExtractionMessage = arg;
+    return FramesMessage()
+      ..frames = <Object?>[
+        Uint8List.fromList(<int>[1, 2, 3]),
+        '/frames/frame_1000_1.jpg',
+        null,
+      ];
+  }
 }
 
 void main() {
@@ -109,6 +146,7 @@ void main() {
     setUp(() {
       log = _ApiLogger();
       TestHostVideoPlayerApi.setup(log);
+      TestHostFrameExtractorApi.setup(log);
     });
 
     test('init', () async {
@@ -152,6 +190,18 @@ void main() {
       expect(textureId, 3);
     });
 
+    test('create with network playlist', () async {
+      final int? textureId = await player.create(DataSource(
+        sourceType: DataSourceType.network,
+        uri: 'someUri',
+        playlist: <String>['someUri', 'otherUri'],
+      ));
+      expect(log.log.last, 'create');
+      expect(log.createMessage?.uri, 'someUri');
+      expect(log.createMessage?.playlist, <String>['someUri', 'otherUri']);
+      expect(textureId, 3);
+    });
+
     test('create with network (some headers)', () async {
       final int? textureId = await player.create(DataSource(
         sourceType: DataSourceType.network,
@@ -234,6 +284,83 @@ void main() {
       expect(position, const Duration(milliseconds: 234));
     });
 
+    test('setVisibility', () async {
+      await player.setVisibility(1, false);
+      expect(log.log.last, 'setVisibility');
+      expect(log.visibilityMessage?.textureId, 1);
+      expect(log.visibilityMessage?.isVisible, false);
+    });
+
+    test('setMaxActiveDecoders', () async {
+      await player.setMaxActiveDecoders(3);
+      expect(log.log.last, 'setMaxActiveDecoders');
+      expect(log.maxDecodersMessage?.maxDecoders, 3);
+    });
+
+    test('getDecoderPressure', () async {
+      final DecoderPressure pressure = await player.getDecoderPressure();
+      expect(log.log.last, 'decoderPressure');
+      expect(
+        pressure,
+        DecoderPressure(activeDecoders: 2, maxDecoders: 4, suspendedPlayers: 1),
+      );
+    });
+
+    test('extractFrames with asset', () async {
+      await player.extractFrames(
+        DataSource(
+          sourceType: DataSourceType.asset,
+          asset: 'someAsset',
+          package: 'somePackage',
+        ),
+        <Duration>[Duration(seconds: 1)],
+      );
+      expect(log.log.last, 'extractFrames');
+      expect(log.frameExtractionMessage?.asset, 'someAsset');
+      expect(log.frameExtractionMessage?.packageName, 'somePackage');
+      expect(log.frameExtractionMessage?.uri, null);
+    });
+
+    test('extractFrames with network', () async {
+      await player.extractFrames(
+        DataSource(
+          sourceType: DataSourceType.network,
+          uri: 'someUri',
+          httpHeaders: <String, String>{'Authorization': 'Bearer token'},
+        ),
+        <Duration>[Duration.zero, Duration(milliseconds: 1500)],
+        maxWidth: 320,
+        maxHeight: 240,
+        format: VideoFrameFormat.png,
+        quality: 50,
+        outputDirectory: '/frames',
+      );
+      expect(log.log.last, 'extractFrames');
+      expect(log.frameExtractionMessage?.uri, 'someUri');
+      expect(log.frameExtractionMessage?.httpHeaders,
+          <String, String>{'Authorization': 'Bearer token'});
+      expect(log.frameExtractionMessage?.timestamps, <int>[0, 1500]);
+      expect(log.frameExtractionMessage?.maxWidth, 320);
+      expect(log.frameExtractionMessage?.maxHeight, 240);
+      expect(log.frameExtractionMessage?.format, 'png');
+      expect(log.frameExtractionMessage?.quality, 50);
+      expect(log.frameExtractionMessage?.outputDirectory, '/frames');
+    });
+
+    test('extractFrames returns bytes, paths and missing frames', () async {
+      final List<VideoFrame?> frames = await player.extractFrames(
+        DataSource(sourceType: DataSourceType.file, uri: 'someUri'),
+        <Duration>[Duration.zero, Duration(seconds: 1), Duration(seconds: 2)],
+      );
+      expect(log.frameExtractionMessage?.format, 'jpeg');
+      expect(frames, hasLength(3));
+      expect(frames[0]?.bytes, <int>[1, 2, 3]);
+      expect(frames[0]?.path, null);
+      expect(frames[1]?.bytes, null);
+      expect(frames[1]?.path, '/frames/frame_1000_1.jpg');
+      expect(frames[2], null);
+    });
+
     test('videoEventsFor', () async {
       _ambiguate(ServicesBinding.instance)
           ?.defaultBinaryMessenger
@@ -300,6 +427,18 @@ void main() {
                     }),
                     (ByteData? data) {});
 
+            await _ambiguate(ServicesBinding.instance)
+                ?.defaultBinaryMessenger
+                .handlePlatformMessage(
+                    "flutter.io/videoPlayer/videoEvents123",
+                    const StandardMethodCodec()
+                        .encodeSuccessEnvelope(<String, dynamic>{
+                      'event': 'playlistItemChanged',
+                      'index': 1,
+                      'reason': 'auto',
+                    }),
+                    (ByteData? data) {});
+
             return const StandardMethodCodec().encodeSuccessEnvelope(null);
           } else if (methodCall.method == 'cancel') {
             return const StandardMethodCodec().encodeSuccessEnvelope(null);
@@ -331,6 +470,10 @@ void main() {
                 ]),
             VideoEvent(eventType: VideoEventType.bufferingStart),
             VideoEvent(eventType: VideoEventType.bufferingEnd),
+            VideoEvent(
+              eventType: VideoEventType.playlistItemChanged,
+              playlistIndex: 1,
+            ),
           ]));
     });
   });
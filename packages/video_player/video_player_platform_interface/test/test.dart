@@ -24,6 +24,9 @@ abstract class TestHostVideoPlayerApi {
   void seekTo(PositionMessage arg);
   void pause(TextureMessage arg);
   void setMixWithOthers(MixWithOthersMessage arg);
+  void setVisibility(VisibilityMessage arg);
+  void setMaxActiveDecoders(MaxDecodersMessage arg);
+  DecoderPressureMessage decoderPressure();
   static void setup(TestHostVideoPlayerApi? api) {
     {
       const BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
@@ -195,5 +198,74 @@ abstract class TestHostVideoPlayerApi {
         });
       }
     }
+    {
+      const BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.VideoPlayerApi.setVisibility',
+          StandardMessageCodec());
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.VideoPlayerApi.setVisibility was null. Expected VisibilityMessage.');
+          final VisibilityMessage input = VisibilityMessage.decode(message!);
+          api.setVisibility(input);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      const BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.VideoPlayerApi.setMaxActiveDecoders',
+          StandardMessageCodec());
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.VideoPlayerApi.setMaxActiveDecoders was null. Expected MaxDecodersMessage.');
+          final MaxDecodersMessage input = MaxDecodersMessage.decode(message!);
+          api.setMaxActiveDecoders(input);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      const BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.VideoPlayerApi.decoderPressure',
+          StandardMessageCodec());
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          // ignore message
+          final DecoderPressureMessage output = api.decoderPressure();
+          return <Object?, Object?>{'result': output.encode()};
+        });
+      }
+    }
+  }
+}
+
+abstract class TestHostFrameExtractorApi {
+  Future<FramesMessage> extractFrames(FrameExtractionMessage arg);
+  static void setup(TestHostFrameExtractorApi? api) {
+    {
+      const BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.FrameExtractorApi.extractFrames',
+          StandardMessageCodec());
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.FrameExtractorApi.extractFrames was null. Expected FrameExtractionMessage.');
+          final FrameExtractionMessage input =
+              FrameExtractionMessage.decode(message!);
+          final FramesMessage output = await api.extractFrames(input);
+          return <Object?, Object?>{'result': output.encode()};
+        });
+      }
+    }
   }
 }
@@ -47,6 +47,35 @@ public class DownloadListenerFlutterApiImpl extends DownloadListenerFlutterApi {
         callback);
   }
 
+  /**
+   * Passes arguments from {@link StreamingDownloader.DownloadCallbacks#onDownloadProgress} to Dart.
+   */
+  public void onDownloadProgress(
+      DownloadListener downloadListener,
+      String url,
+      long receivedBytes,
+      long totalBytes,
+      Reply<Void> callback) {
+    onDownloadProgress(
+        instanceManager.getInstanceId(downloadListener), url, receivedBytes, totalBytes, callback);
+  }
+
+  /**
+   * Passes arguments from {@link StreamingDownloader.DownloadCallbacks#onDownloadFinished} to Dart.
+   */
+  public void onDownloadFinished(
+      DownloadListener downloadListener, String url, String filePath, Reply<Void> callback) {
+    onDownloadFinished(instanceManager.getInstanceId(downloadListener), url, filePath, callback);
+  }
+
+  /**
+   * Passes arguments from {@link StreamingDownloader.DownloadCallbacks#onDownloadFailed} to Dart.
+   */
+  public void onDownloadFailed(
+      DownloadListener downloadListener, String url, String error, Reply<Void> callback) {
+    onDownloadFailed(instanceManager.getInstanceId(downloadListener), url, error, callback);
+  }
+
   /**
    * Communicates to Dart that the reference to a {@link DownloadListener} was removed.
    *
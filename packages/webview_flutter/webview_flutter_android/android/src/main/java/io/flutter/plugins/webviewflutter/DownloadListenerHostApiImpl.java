@@ -8,6 +8,7 @@ import android.webkit.DownloadListener;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.DownloadListenerHostApi;
+import java.io.File;
 
 /**
  * Host api implementation for {@link DownloadListener}.
@@ -22,10 +23,17 @@ public class DownloadListenerHostApiImpl implements DownloadListenerHostApi {
   /**
    * Implementation of {@link DownloadListener} that passes arguments of callback methods to Dart.
    *
-   * <p>No messages are sent to Dart after {@link DownloadListenerImpl#release} is called.
+   * <p>Once a download directory is set, files are also downloaded natively by a {@link
+   * StreamingDownloader} and their progress is passed to Dart.
+   *
+   * <p>No messages are sent to Dart after {@link DownloadListenerImpl#release} is called, and the
+   * native downloads it started are cancelled.
    */
-  public static class DownloadListenerImpl implements DownloadListener, Releasable {
+  public static class DownloadListenerImpl
+      implements DownloadListener, StreamingDownloader.DownloadCallbacks, Releasable {
     @Nullable private DownloadListenerFlutterApiImpl flutterApi;
+    @Nullable private final StreamingDownloader streamingDownloader;
+    @Nullable private File downloadDirectory;
 
     /**
      * Creates a {@link DownloadListenerImpl} that passes arguments of callbacks methods to Dart.
@@ -33,7 +41,40 @@ public class DownloadListenerHostApiImpl implements DownloadListenerHostApi {
      * @param flutterApi handles sending messages to Dart
      */
     public DownloadListenerImpl(@NonNull DownloadListenerFlutterApiImpl flutterApi) {
+      this(flutterApi, null);
+    }
+
+    /**
+     * Creates a {@link DownloadListenerImpl} that passes arguments of callbacks methods to Dart.
+     *
+     * @param flutterApi handles sending messages to Dart
+     * @param streamingDownloader downloads files once a download directory is set, if not null
+     */
+    public DownloadListenerImpl(
+        @NonNull DownloadListenerFlutterApiImpl flutterApi,
+        @Nullable StreamingDownloader streamingDownloader) {
       this.flutterApi = flutterApi;
+      this.streamingDownloader = streamingDownloader;
+    }
+
+    /**
+     * Sets the directory files are downloaded to natively.
+     *
+     * @param downloadDirectory the directory of the downloaded files
+     */
+    public void setDownloadDirectory(File downloadDirectory) {
+      this.downloadDirectory = downloadDirectory;
+    }
+
+    /**
+     * Cancels the native download of a url.
+     *
+     * @param url the url of the download
+     */
+    public void cancelDownload(String url) {
+      if (streamingDownloader != null) {
+        streamingDownloader.cancel(url);
+      }
     }
 
     @Override
@@ -47,6 +88,31 @@ public class DownloadListenerHostApiImpl implements DownloadListenerHostApi {
         flutterApi.onDownloadStart(
             this, url, userAgent, contentDisposition, mimetype, contentLength, reply -> {});
       }
+      if (streamingDownloader != null && downloadDirectory != null) {
+        streamingDownloader.download(
+            downloadDirectory, url, userAgent, contentDisposition, mimetype, this);
+      }
+    }
+
+    @Override
+    public void onDownloadProgress(String url, long receivedBytes, long totalBytes) {
+      if (flutterApi != null) {
+        flutterApi.onDownloadProgress(this, url, receivedBytes, totalBytes, reply -> {});
+      }
+    }
+
+    @Override
+    public void onDownloadFinished(String url, String filePath) {
+      if (flutterApi != null) {
+        flutterApi.onDownloadFinished(this, url, filePath, reply -> {});
+      }
+    }
+
+    @Override
+    public void onDownloadFailed(String url, String error) {
+      if (flutterApi != null) {
+        flutterApi.onDownloadFailed(this, url, error, reply -> {});
+      }
     }
 
     @Override
@@ -55,11 +121,30 @@ public class DownloadListenerHostApiImpl implements DownloadListenerHostApi {
         flutterApi.dispose(this, reply -> {});
       }
       flutterApi = null;
+      if (streamingDownloader != null) {
+        streamingDownloader.cancelAll(this);
+      }
     }
   }
 
   /** Handles creating {@link DownloadListenerImpl}s for a {@link DownloadListenerHostApiImpl}. */
   public static class DownloadListenerCreator {
+    @Nullable private final StreamingDownloader streamingDownloader;
+
+    /** Creates a {@link DownloadListenerCreator} whose listeners can't download natively. */
+    public DownloadListenerCreator() {
+      this(null);
+    }
+
+    /**
+     * Creates a {@link DownloadListenerCreator}.
+     *
+     * @param streamingDownloader downloads files for the created listeners, if not null
+     */
+    public DownloadListenerCreator(@Nullable StreamingDownloader streamingDownloader) {
+      this.streamingDownloader = streamingDownloader;
+    }
+
     /**
      * Creates a {@link DownloadListenerImpl}.
      *
@@ -67,7 +152,7 @@ public class DownloadListenerHostApiImpl implements DownloadListenerHostApi {
      * @return the created {@link DownloadListenerImpl}
      */
     public DownloadListenerImpl createDownloadListener(DownloadListenerFlutterApiImpl flutterApi) {
-      return new DownloadListenerImpl(flutterApi);
+      return new DownloadListenerImpl(flutterApi, streamingDownloader);
     }
   }
 
@@ -93,4 +178,18 @@ public class DownloadListenerHostApiImpl implements DownloadListenerHostApi {
         downloadListenerCreator.createDownloadListener(flutterApi);
     instanceManager.addInstance(downloadListener, instanceId);
   }
+
+  @Override
+  public void setDownloadDirectory(Long instanceId, String directory) {
+    final DownloadListenerImpl downloadListener =
+        (DownloadListenerImpl) instanceManager.getInstance(instanceId);
+    downloadListener.setDownloadDirectory(new File(directory));
+  }
+
+  @Override
+  public void cancelDownload(Long instanceId, String url) {
+    final DownloadListenerImpl downloadListener =
+        (DownloadListenerImpl) instanceManager.getInstance(instanceId);
+    downloadListener.cancelDownload(url);
+  }
 }
@@ -9,6 +9,7 @@ import androidx.annotation.NonNull;
 import io.flutter.embedding.engine.plugins.FlutterPlugin;
 import io.flutter.plugin.common.PluginRegistry;
 import java.io.IOException;
+import java.io.InputStream;
 
 /** Provides access to the assets registered as part of the App bundle. */
 abstract class FlutterAssetManager {
@@ -47,6 +48,18 @@ abstract class FlutterAssetManager {
     return assetManager.list(path);
   }
 
+  /**
+   * Opens an asset of the App bundle.
+   *
+   * @param path A relative path within the assets, as returned by {@link
+   *     #getAssetFilePathByName(String)}. This value cannot be null.
+   * @return InputStream The content of the asset.
+   * @throws IOException Throws an IOException if the asset doesn't exist or can't be read.
+   */
+  public InputStream open(@NonNull String path) throws IOException {
+    return assetManager.open(path);
+  }
+
   /**
    * Provides access to assets using the {@link PluginRegistry.Registrar} for looking up file paths
    * to Flutter assets.
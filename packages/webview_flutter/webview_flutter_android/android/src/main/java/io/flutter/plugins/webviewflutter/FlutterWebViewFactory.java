@@ -23,6 +23,9 @@ class FlutterWebViewFactory extends PlatformViewFactory {
     if (view == null) {
       throw new IllegalStateException("Unable to find WebView instance: " + args);
     }
+    if (view instanceof WebViewHostApiImpl.PlatformViewWebView) {
+      ((WebViewHostApiImpl.PlatformViewWebView) view).onPlatformViewCreated();
+    }
     return view;
   }
 }
@@ -156,6 +156,301 @@ public class GeneratedAndroidWebView {
     }
   }
 
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class PageLoadMetricsData {
+    private String url;
+
+    public String getUrl() {
+      return url;
+    }
+
+    public void setUrl(String setterArg) {
+      this.url = setterArg;
+    }
+
+    private Long navigationStartTime;
+
+    public Long getNavigationStartTime() {
+      return navigationStartTime;
+    }
+
+    public void setNavigationStartTime(Long setterArg) {
+      this.navigationStartTime = setterArg;
+    }
+
+    private Long commitVisibleDuration;
+
+    public Long getCommitVisibleDuration() {
+      return commitVisibleDuration;
+    }
+
+    public void setCommitVisibleDuration(Long setterArg) {
+      this.commitVisibleDuration = setterArg;
+    }
+
+    private Long finishedDuration;
+
+    public Long getFinishedDuration() {
+      return finishedDuration;
+    }
+
+    public void setFinishedDuration(Long setterArg) {
+      this.finishedDuration = setterArg;
+    }
+
+    private Long progress25Duration;
+
+    public Long getProgress25Duration() {
+      return progress25Duration;
+    }
+
+    public void setProgress25Duration(Long setterArg) {
+      this.progress25Duration = setterArg;
+    }
+
+    private Long progress50Duration;
+
+    public Long getProgress50Duration() {
+      return progress50Duration;
+    }
+
+    public void setProgress50Duration(Long setterArg) {
+      this.progress50Duration = setterArg;
+    }
+
+    private Long progress75Duration;
+
+    public Long getProgress75Duration() {
+      return progress75Duration;
+    }
+
+    public void setProgress75Duration(Long setterArg) {
+      this.progress75Duration = setterArg;
+    }
+
+    private Long progress100Duration;
+
+    public Long getProgress100Duration() {
+      return progress100Duration;
+    }
+
+    public void setProgress100Duration(Long setterArg) {
+      this.progress100Duration = setterArg;
+    }
+
+    private Long resourceErrorCount;
+
+    public Long getResourceErrorCount() {
+      return resourceErrorCount;
+    }
+
+    public void setResourceErrorCount(Long setterArg) {
+      this.resourceErrorCount = setterArg;
+    }
+
+    private Long httpErrorCount;
+
+    public Long getHttpErrorCount() {
+      return httpErrorCount;
+    }
+
+    public void setHttpErrorCount(Long setterArg) {
+      this.httpErrorCount = setterArg;
+    }
+
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("url", url);
+      toMapResult.put("navigationStartTime", navigationStartTime);
+      toMapResult.put("commitVisibleDuration", commitVisibleDuration);
+      toMapResult.put("finishedDuration", finishedDuration);
+      toMapResult.put("progress25Duration", progress25Duration);
+      toMapResult.put("progress50Duration", progress50Duration);
+      toMapResult.put("progress75Duration", progress75Duration);
+      toMapResult.put("progress100Duration", progress100Duration);
+      toMapResult.put("resourceErrorCount", resourceErrorCount);
+      toMapResult.put("httpErrorCount", httpErrorCount);
+      return toMapResult;
+    }
+
+    static PageLoadMetricsData fromMap(Map<String, Object> map) {
+      PageLoadMetricsData fromMapResult = new PageLoadMetricsData();
+      Object url = map.get("url");
+      fromMapResult.url = (String) url;
+      Object navigationStartTime = map.get("navigationStartTime");
+      fromMapResult.navigationStartTime =
+          (navigationStartTime == null)
+              ? null
+              : ((navigationStartTime instanceof Integer)
+                  ? (Integer) navigationStartTime
+                  : (Long) navigationStartTime);
+      Object commitVisibleDuration = map.get("commitVisibleDuration");
+      fromMapResult.commitVisibleDuration =
+          (commitVisibleDuration == null)
+              ? null
+              : ((commitVisibleDuration instanceof Integer)
+                  ? (Integer) commitVisibleDuration
+                  : (Long) commitVisibleDuration);
+      Object finishedDuration = map.get("finishedDuration");
+      fromMapResult.finishedDuration =
+          (finishedDuration == null)
+              ? null
+              : ((finishedDuration instanceof Integer)
+                  ? (Integer) finishedDuration
+                  : (Long) finishedDuration);
+      Object progress25Duration = map.get("progress25Duration");
+      fromMapResult.progress25Duration =
+          (progress25Duration == null)
+              ? null
+              : ((progress25Duration instanceof Integer)
+                  ? (Integer) progress25Duration
+                  : (Long) progress25Duration);
+      Object progress50Duration = map.get("progress50Duration");
+      fromMapResult.progress50Duration =
+          (progress50Duration == null)
+              ? null
+              : ((progress50Duration instanceof Integer)
+                  ? (Integer) progress50Duration
+                  : (Long) progress50Duration);
+      Object progress75Duration = map.get("progress75Duration");
+      fromMapResult.progress75Duration =
+          (progress75Duration == null)
+              ? null
+              : ((progress75Duration instanceof Integer)
+                  ? (Integer) progress75Duration
+                  : (Long) progress75Duration);
+      Object progress100Duration = map.get("progress100Duration");
+      fromMapResult.progress100Duration =
+          (progress100Duration == null)
+              ? null
+              : ((progress100Duration instanceof Integer)
+                  ? (Integer) progress100Duration
+                  : (Long) progress100Duration);
+      Object resourceErrorCount = map.get("resourceErrorCount");
+      fromMapResult.resourceErrorCount =
+          (resourceErrorCount == null)
+              ? null
+              : ((resourceErrorCount instanceof Integer)
+                  ? (Integer) resourceErrorCount
+                  : (Long) resourceErrorCount);
+      Object httpErrorCount = map.get("httpErrorCount");
+      fromMapResult.httpErrorCount =
+          (httpErrorCount == null)
+              ? null
+              : ((httpErrorCount instanceof Integer)
+                  ? (Integer) httpErrorCount
+                  : (Long) httpErrorCount);
+      return fromMapResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class MemoryTrimReportData {
+    private Long level;
+
+    public Long getLevel() {
+      return level;
+    }
+
+    public void setLevel(Long setterArg) {
+      this.level = setterArg;
+    }
+
+    private Boolean timersPaused;
+
+    public Boolean getTimersPaused() {
+      return timersPaused;
+    }
+
+    public void setTimersPaused(Boolean setterArg) {
+      this.timersPaused = setterArg;
+    }
+
+    private Boolean cacheCleared;
+
+    public Boolean getCacheCleared() {
+      return cacheCleared;
+    }
+
+    public void setCacheCleared(Boolean setterArg) {
+      this.cacheCleared = setterArg;
+    }
+
+    private Long releasedPooledWebViewCount;
+
+    public Long getReleasedPooledWebViewCount() {
+      return releasedPooledWebViewCount;
+    }
+
+    public void setReleasedPooledWebViewCount(Long setterArg) {
+      this.releasedPooledWebViewCount = setterArg;
+    }
+
+    private Long destroyedWebViewCount;
+
+    public Long getDestroyedWebViewCount() {
+      return destroyedWebViewCount;
+    }
+
+    public void setDestroyedWebViewCount(Long setterArg) {
+      this.destroyedWebViewCount = setterArg;
+    }
+
+    private Long reclaimedBytes;
+
+    public Long getReclaimedBytes() {
+      return reclaimedBytes;
+    }
+
+    public void setReclaimedBytes(Long setterArg) {
+      this.reclaimedBytes = setterArg;
+    }
+
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("level", level);
+      toMapResult.put("timersPaused", timersPaused);
+      toMapResult.put("cacheCleared", cacheCleared);
+      toMapResult.put("releasedPooledWebViewCount", releasedPooledWebViewCount);
+      toMapResult.put("destroyedWebViewCount", destroyedWebViewCount);
+      toMapResult.put("reclaimedBytes", reclaimedBytes);
+      return toMapResult;
+    }
+
+    static MemoryTrimReportData fromMap(Map<String, Object> map) {
+      MemoryTrimReportData fromMapResult = new MemoryTrimReportData();
+      Object level = map.get("level");
+      fromMapResult.level =
+          (level == null) ? null : ((level instanceof Integer) ? (Integer) level : (Long) level);
+      Object timersPaused = map.get("timersPaused");
+      fromMapResult.timersPaused = (Boolean) timersPaused;
+      Object cacheCleared = map.get("cacheCleared");
+      fromMapResult.cacheCleared = (Boolean) cacheCleared;
+      Object releasedPooledWebViewCount = map.get("releasedPooledWebViewCount");
+      fromMapResult.releasedPooledWebViewCount =
+          (releasedPooledWebViewCount == null)
+              ? null
+              : ((releasedPooledWebViewCount instanceof Integer)
+                  ? (Integer) releasedPooledWebViewCount
+                  : (Long) releasedPooledWebViewCount);
+      Object destroyedWebViewCount = map.get("destroyedWebViewCount");
+      fromMapResult.destroyedWebViewCount =
+          (destroyedWebViewCount == null)
+              ? null
+              : ((destroyedWebViewCount instanceof Integer)
+                  ? (Integer) destroyedWebViewCount
+                  : (Long) destroyedWebViewCount);
+      Object reclaimedBytes = map.get("reclaimedBytes");
+      fromMapResult.reclaimedBytes =
+          (reclaimedBytes == null)
+              ? null
+              : ((reclaimedBytes instanceof Integer)
+                  ? (Integer) reclaimedBytes
+                  : (Long) reclaimedBytes);
+      return fromMapResult;
+    }
+  }
+
   public interface Result<T> {
     void success(T result);
 
@@ -1693,6 +1988,32 @@ public class GeneratedAndroidWebView {
             callback.reply(null);
           });
     }
+
+    public void postMessages(Long instanceIdArg, List<String> messagesArg, Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.JavaScriptChannelFlutterApi.postMessages",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(instanceIdArg, messagesArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
+
+    public void postBinaryMessage(Long instanceIdArg, byte[] messageArg, Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.JavaScriptChannelFlutterApi.postBinaryMessage",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(instanceIdArg, messageArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
   }
 
   private static class WebViewClientHostApiCodec extends StandardMessageCodec {
@@ -1920,6 +2241,10 @@ public class GeneratedAndroidWebView {
   public interface DownloadListenerHostApi {
     void create(Long instanceId);
 
+    void setDownloadDirectory(Long instanceId, String directory);
+
+    void cancelDownload(Long instanceId, String url);
+
     /** The codec used by DownloadListenerHostApi. */
     static MessageCodec<Object> getCodec() {
       return DownloadListenerHostApiCodec.INSTANCE;
@@ -1955,6 +2280,68 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.DownloadListenerHostApi.setDownloadDirectory",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  String directoryArg = (String) args.get(1);
+                  if (directoryArg == null) {
+                    throw new NullPointerException("directoryArg unexpectedly null.");
+                  }
+                  api.setDownloadDirectory(instanceIdArg.longValue(), directoryArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.DownloadListenerHostApi.cancelDownload",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  String urlArg = (String) args.get(1);
+                  if (urlArg == null) {
+                    throw new NullPointerException("urlArg unexpectedly null.");
+                  }
+                  api.cancelDownload(instanceIdArg.longValue(), urlArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
 
@@ -2018,6 +2405,53 @@ public class GeneratedAndroidWebView {
             callback.reply(null);
           });
     }
+
+    public void onDownloadProgress(
+        Long instanceIdArg,
+        String urlArg,
+        Long receivedBytesArg,
+        Long totalBytesArg,
+        Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.DownloadListenerFlutterApi.onDownloadProgress",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(
+              Arrays.asList(instanceIdArg, urlArg, receivedBytesArg, totalBytesArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
+
+    public void onDownloadFinished(
+        Long instanceIdArg, String urlArg, String filePathArg, Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.DownloadListenerFlutterApi.onDownloadFinished",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(instanceIdArg, urlArg, filePathArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
+
+    public void onDownloadFailed(
+        Long instanceIdArg, String urlArg, String errorArg, Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.DownloadListenerFlutterApi.onDownloadFailed",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(instanceIdArg, urlArg, errorArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
   }
 
   private static class WebChromeClientHostApiCodec extends StandardMessageCodec {
@@ -2199,6 +2633,769 @@ public class GeneratedAndroidWebView {
     }
   }
 
+  private static class WebViewPoolHostApiCodec extends StandardMessageCodec {
+    public static final WebViewPoolHostApiCodec INSTANCE = new WebViewPoolHostApiCodec();
+
+    private WebViewPoolHostApiCodec() {}
+  }
+
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface WebViewPoolHostApi {
+    void prewarm(Long poolSize, Boolean useHybridComposition);
+
+    /** The codec used by WebViewPoolHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return WebViewPoolHostApiCodec.INSTANCE;
+    }
+
+    /**
+     * Sets up an instance of `WebViewPoolHostApi` to handle messages through the `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, WebViewPoolHostApi api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewPoolHostApi.prewarm", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number poolSizeArg = (Number) args.get(0);
+                  if (poolSizeArg == null) {
+                    throw new NullPointerException("poolSizeArg unexpectedly null.");
+                  }
+                  Boolean useHybridCompositionArg = (Boolean) args.get(1);
+                  if (useHybridCompositionArg == null) {
+                    throw new NullPointerException("useHybridCompositionArg unexpectedly null.");
+                  }
+                  api.prewarm(poolSizeArg.longValue(), useHybridCompositionArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+    }
+  }
+
+  private static class WebResourceInterceptorHostApiCodec extends StandardMessageCodec {
+    public static final WebResourceInterceptorHostApiCodec INSTANCE =
+        new WebResourceInterceptorHostApiCodec();
+
+    private WebResourceInterceptorHostApiCodec() {}
+  }
+
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface WebResourceInterceptorHostApi {
+    void setAssetRule(String urlPrefix, String assetDirectory);
+
+    void removeAssetRule(String urlPrefix);
+
+    void setCache(List<String> urlPrefixes, Long maxSize);
+
+    void clearCache();
+
+    Map<String, Long> getStats();
+
+    /** The codec used by WebResourceInterceptorHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return WebResourceInterceptorHostApiCodec.INSTANCE;
+    }
+
+    /**
+     * Sets up an instance of `WebResourceInterceptorHostApi` to handle messages through the
+     * `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, WebResourceInterceptorHostApi api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebResourceInterceptorHostApi.setAssetRule",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  String urlPrefixArg = (String) args.get(0);
+                  if (urlPrefixArg == null) {
+                    throw new NullPointerException("urlPrefixArg unexpectedly null.");
+                  }
+                  String assetDirectoryArg = (String) args.get(1);
+                  if (assetDirectoryArg == null) {
+                    throw new NullPointerException("assetDirectoryArg unexpectedly null.");
+                  }
+                  api.setAssetRule(urlPrefixArg, assetDirectoryArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebResourceInterceptorHostApi.removeAssetRule",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  String urlPrefixArg = (String) args.get(0);
+                  if (urlPrefixArg == null) {
+                    throw new NullPointerException("urlPrefixArg unexpectedly null.");
+                  }
+                  api.removeAssetRule(urlPrefixArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebResourceInterceptorHostApi.setCache",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  List<String> urlPrefixesArg = (List<String>) args.get(0);
+                  if (urlPrefixesArg == null) {
+                    throw new NullPointerException("urlPrefixesArg unexpectedly null.");
+                  }
+                  Number maxSizeArg = (Number) args.get(1);
+                  if (maxSizeArg == null) {
+                    throw new NullPointerException("maxSizeArg unexpectedly null.");
+                  }
+                  api.setCache(urlPrefixesArg, maxSizeArg.longValue());
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebResourceInterceptorHostApi.clearCache",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  api.clearCache();
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebResourceInterceptorHostApi.getStats",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  Map<String, Long> output = api.getStats();
+                  wrapped.put("result", output);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+    }
+  }
+
+  private static class JavaScriptChannelBatchingHostApiCodec extends StandardMessageCodec {
+    public static final JavaScriptChannelBatchingHostApiCodec INSTANCE =
+        new JavaScriptChannelBatchingHostApiCodec();
+
+    private JavaScriptChannelBatchingHostApiCodec() {}
+  }
+
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface JavaScriptChannelBatchingHostApi {
+    void setBatchingEnabled(Long instanceId, Boolean enabled);
+
+    /** The codec used by JavaScriptChannelBatchingHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return JavaScriptChannelBatchingHostApiCodec.INSTANCE;
+    }
+
+    /**
+     * Sets up an instance of `JavaScriptChannelBatchingHostApi` to handle messages through the
+     * `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, JavaScriptChannelBatchingHostApi api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.JavaScriptChannelBatchingHostApi.setBatchingEnabled",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  Boolean enabledArg = (Boolean) args.get(1);
+                  if (enabledArg == null) {
+                    throw new NullPointerException("enabledArg unexpectedly null.");
+                  }
+                  api.setBatchingEnabled(instanceIdArg.longValue(), enabledArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+    }
+  }
+
+  private static class JavaScriptBatchHostApiCodec extends StandardMessageCodec {
+    public static final JavaScriptBatchHostApiCodec INSTANCE = new JavaScriptBatchHostApiCodec();
+
+    private JavaScriptBatchHostApiCodec() {}
+  }
+
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface JavaScriptBatchHostApi {
+    void evaluateJavascriptBatch(
+        Long webViewInstanceId, List<String> javascriptStrings, Result<List<String>> result);
+
+    /** The codec used by JavaScriptBatchHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return JavaScriptBatchHostApiCodec.INSTANCE;
+    }
+
+    /**
+     * Sets up an instance of `JavaScriptBatchHostApi` to handle messages through the
+     * `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, JavaScriptBatchHostApi api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.JavaScriptBatchHostApi.evaluateJavascriptBatch",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number webViewInstanceIdArg = (Number) args.get(0);
+                  if (webViewInstanceIdArg == null) {
+                    throw new NullPointerException("webViewInstanceIdArg unexpectedly null.");
+                  }
+                  List<String> javascriptStringsArg = (List<String>) args.get(1);
+                  if (javascriptStringsArg == null) {
+                    throw new NullPointerException("javascriptStringsArg unexpectedly null.");
+                  }
+                  Result<List<String>> resultCallback =
+                      new Result<List<String>>() {
+                        public void success(List<String> result) {
+                          wrapped.put("result", result);
+                          reply.reply(wrapped);
+                        }
+
+                        public void error(Throwable error) {
+                          wrapped.put("error", wrapError(error));
+                          reply.reply(wrapped);
+                        }
+                      };
+
+                  api.evaluateJavascriptBatch(
+                      webViewInstanceIdArg.longValue(), javascriptStringsArg, resultCallback);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                  reply.reply(wrapped);
+                }
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+    }
+  }
+
+  private static class UserScriptHostApiCodec extends StandardMessageCodec {
+    public static final UserScriptHostApiCodec INSTANCE = new UserScriptHostApiCodec();
+
+    private UserScriptHostApiCodec() {}
+  }
+
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface UserScriptHostApi {
+    void addUserScript(
+        Long webViewInstanceId, String scriptId, String source, List<String> allowedOriginRules);
+
+    void removeUserScript(Long webViewInstanceId, String scriptId);
+
+    void removeAllUserScripts(Long webViewInstanceId);
+
+    /** The codec used by UserScriptHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return UserScriptHostApiCodec.INSTANCE;
+    }
+
+    /**
+     * Sets up an instance of `UserScriptHostApi` to handle messages through the `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, UserScriptHostApi api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.UserScriptHostApi.addUserScript", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number webViewInstanceIdArg = (Number) args.get(0);
+                  if (webViewInstanceIdArg == null) {
+                    throw new NullPointerException("webViewInstanceIdArg unexpectedly null.");
+                  }
+                  String scriptIdArg = (String) args.get(1);
+                  if (scriptIdArg == null) {
+                    throw new NullPointerException("scriptIdArg unexpectedly null.");
+                  }
+                  String sourceArg = (String) args.get(2);
+                  if (sourceArg == null) {
+                    throw new NullPointerException("sourceArg unexpectedly null.");
+                  }
+                  List<String> allowedOriginRulesArg = (List<String>) args.get(3);
+                  if (allowedOriginRulesArg == null) {
+                    throw new NullPointerException("allowedOriginRulesArg unexpectedly null.");
+                  }
+                  api.addUserScript(
+                      webViewInstanceIdArg.longValue(),
+                      scriptIdArg,
+                      sourceArg,
+                      allowedOriginRulesArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.UserScriptHostApi.removeUserScript",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number webViewInstanceIdArg = (Number) args.get(0);
+                  if (webViewInstanceIdArg == null) {
+                    throw new NullPointerException("webViewInstanceIdArg unexpectedly null.");
+                  }
+                  String scriptIdArg = (String) args.get(1);
+                  if (scriptIdArg == null) {
+                    throw new NullPointerException("scriptIdArg unexpectedly null.");
+                  }
+                  api.removeUserScript(webViewInstanceIdArg.longValue(), scriptIdArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.UserScriptHostApi.removeAllUserScripts",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number webViewInstanceIdArg = (Number) args.get(0);
+                  if (webViewInstanceIdArg == null) {
+                    throw new NullPointerException("webViewInstanceIdArg unexpectedly null.");
+                  }
+                  api.removeAllUserScripts(webViewInstanceIdArg.longValue());
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+    }
+  }
+
+  private static class PageLoadMetricsHostApiCodec extends StandardMessageCodec {
+    public static final PageLoadMetricsHostApiCodec INSTANCE = new PageLoadMetricsHostApiCodec();
+
+    private PageLoadMetricsHostApiCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 128:
+          return PageLoadMetricsData.fromMap((Map<String, Object>) readValue(buffer));
+
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(ByteArrayOutputStream stream, Object value) {
+      if (value instanceof PageLoadMetricsData) {
+        stream.write(128);
+        writeValue(stream, ((PageLoadMetricsData) value).toMap());
+      } else {
+        super.writeValue(stream, value);
+      }
+    }
+  }
+
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface PageLoadMetricsHostApi {
+    void setEnabled(Boolean enabled);
+
+    List<PageLoadMetricsData> takeMetrics(Long webViewInstanceId);
+
+    /** The codec used by PageLoadMetricsHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return PageLoadMetricsHostApiCodec.INSTANCE;
+    }
+
+    /**
+     * Sets up an instance of `PageLoadMetricsHostApi` to handle messages through the
+     * `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, PageLoadMetricsHostApi api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.PageLoadMetricsHostApi.setEnabled",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Boolean enabledArg = (Boolean) args.get(0);
+                  if (enabledArg == null) {
+                    throw new NullPointerException("enabledArg unexpectedly null.");
+                  }
+                  api.setEnabled(enabledArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.PageLoadMetricsHostApi.takeMetrics",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number webViewInstanceIdArg = (Number) args.get(0);
+                  if (webViewInstanceIdArg == null) {
+                    throw new NullPointerException("webViewInstanceIdArg unexpectedly null.");
+                  }
+                  List<PageLoadMetricsData> output =
+                      api.takeMetrics(webViewInstanceIdArg.longValue());
+                  wrapped.put("result", output);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+    }
+  }
+
+  private static class InstanceManagerHostApiCodec extends StandardMessageCodec {
+    public static final InstanceManagerHostApiCodec INSTANCE = new InstanceManagerHostApiCodec();
+
+    private InstanceManagerHostApiCodec() {}
+  }
+
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface InstanceManagerHostApi {
+    Map<String, Long> getStats();
+
+    /** The codec used by InstanceManagerHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return InstanceManagerHostApiCodec.INSTANCE;
+    }
+
+    /**
+     * Sets up an instance of `InstanceManagerHostApi` to handle messages through the
+     * `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, InstanceManagerHostApi api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.InstanceManagerHostApi.getStats", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  Map<String, Long> output = api.getStats();
+                  wrapped.put("result", output);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+    }
+  }
+
+  private static class InstanceManagerFlutterApiCodec extends StandardMessageCodec {
+    public static final InstanceManagerFlutterApiCodec INSTANCE =
+        new InstanceManagerFlutterApiCodec();
+
+    private InstanceManagerFlutterApiCodec() {}
+  }
+
+  /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
+  public static class InstanceManagerFlutterApi {
+    private final BinaryMessenger binaryMessenger;
+
+    public InstanceManagerFlutterApi(BinaryMessenger argBinaryMessenger) {
+      this.binaryMessenger = argBinaryMessenger;
+    }
+
+    public interface Reply<T> {
+      void reply(T reply);
+    }
+
+    static MessageCodec<Object> getCodec() {
+      return InstanceManagerFlutterApiCodec.INSTANCE;
+    }
+
+    public void onInstancesFinalized(List<Long> instanceIdsArg, Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.InstanceManagerFlutterApi.onInstancesFinalized",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(instanceIdsArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
+  }
+
+  private static class MemoryTrimmerHostApiCodec extends StandardMessageCodec {
+    public static final MemoryTrimmerHostApiCodec INSTANCE = new MemoryTrimmerHostApiCodec();
+
+    private MemoryTrimmerHostApiCodec() {}
+  }
+
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface MemoryTrimmerHostApi {
+    void setPolicy(Boolean pauseTimers, Boolean clearCaches, Boolean destroyOffscreenWebViews);
+
+    /** The codec used by MemoryTrimmerHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return MemoryTrimmerHostApiCodec.INSTANCE;
+    }
+
+    /**
+     * Sets up an instance of `MemoryTrimmerHostApi` to handle messages through the
+     * `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, MemoryTrimmerHostApi api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.MemoryTrimmerHostApi.setPolicy", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Boolean pauseTimersArg = (Boolean) args.get(0);
+                  if (pauseTimersArg == null) {
+                    throw new NullPointerException("pauseTimersArg unexpectedly null.");
+                  }
+                  Boolean clearCachesArg = (Boolean) args.get(1);
+                  if (clearCachesArg == null) {
+                    throw new NullPointerException("clearCachesArg unexpectedly null.");
+                  }
+                  Boolean destroyOffscreenWebViewsArg = (Boolean) args.get(2);
+                  if (destroyOffscreenWebViewsArg == null) {
+                    throw new NullPointerException(
+                        "destroyOffscreenWebViewsArg unexpectedly null.");
+                  }
+                  api.setPolicy(pauseTimersArg, clearCachesArg, destroyOffscreenWebViewsArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+    }
+  }
+
+  private static class MemoryTrimmerFlutterApiCodec extends StandardMessageCodec {
+    public static final MemoryTrimmerFlutterApiCodec INSTANCE = new MemoryTrimmerFlutterApiCodec();
+
+    private MemoryTrimmerFlutterApiCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 128:
+          return MemoryTrimReportData.fromMap((Map<String, Object>) readValue(buffer));
+
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(ByteArrayOutputStream stream, Object value) {
+      if (value instanceof MemoryTrimReportData) {
+        stream.write(128);
+        writeValue(stream, ((MemoryTrimReportData) value).toMap());
+      } else {
+        super.writeValue(stream, value);
+      }
+    }
+  }
+
+  /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
+  public static class MemoryTrimmerFlutterApi {
+    private final BinaryMessenger binaryMessenger;
+
+    public MemoryTrimmerFlutterApi(BinaryMessenger argBinaryMessenger) {
+      this.binaryMessenger = argBinaryMessenger;
+    }
+
+    public interface Reply<T> {
+      void reply(T reply);
+    }
+
+    static MessageCodec<Object> getCodec() {
+      return MemoryTrimmerFlutterApiCodec.INSTANCE;
+    }
+
+    public void onMemoryTrimmed(
+        MemoryTrimReportData reportArg,
+        List<Long> destroyedWebViewInstanceIdsArg,
+        Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.MemoryTrimmerFlutterApi.onMemoryTrimmed",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(reportArg, destroyedWebViewInstanceIdsArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
+  }
+
   private static Map<String, Object> wrapError(Throwable exception) {
     Map<String, Object> errorMap = new HashMap<>();
     errorMap.put("message", exception.toString());
@@ -4,21 +4,95 @@
 
 package io.flutter.plugins.webviewflutter;
 
-import android.util.LongSparseArray;
+import androidx.annotation.Nullable;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Maintains instances to intercommunicate with Dart objects.
  *
  * <p>When an instance is added with an instanceId, either can be used to retrieve the other.
+ * Instances are compared by identity, not with {@link Object#equals}.
+ *
+ * <p>An instance added with {@link #addInstance} is kept alive until it is removed. An instance
+ * added with {@link #addWeakInstance} is only kept alive by the other objects referencing it. Once
+ * it is garbage collected, its instanceId is removed and passed to the {@link
+ * FinalizationListener}, which can notify Dart that the instance is gone.
  */
 public class InstanceManager {
-  private final LongSparseArray<Object> instanceIdsToInstances = new LongSparseArray<>();
-  private final Map<Object, Long> instancesToInstanceIds = new HashMap<>();
+  private final Map<Long, Object> strongInstances = new HashMap<>();
+  private final Map<Long, IdentityWeakReference> weakInstances = new HashMap<>();
+  private final Map<IdentityWeakReference, Long> instanceIds = new HashMap<>();
+  private final ReferenceQueue<Object> referenceQueue = new ReferenceQueue<>();
+  @Nullable private final FinalizationListener finalizationListener;
+  private long finalizedInstanceCount;
+
+  /** Receives the instanceIds of the weak instances that were garbage collected. */
+  public interface FinalizationListener {
+    /**
+     * Called once the instances paired with the instanceIds were garbage collected.
+     *
+     * @param instanceIds the ids of the collected instances
+     */
+    void onInstancesFinalized(List<Long> instanceIds);
+  }
+
+  /**
+   * A weak reference compared by the identity of its referent, so that it can be used as the key of
+   * a map and looked up with a new reference to the same instance.
+   */
+  private static class IdentityWeakReference extends WeakReference<Object> {
+    private final int hashCode;
+
+    IdentityWeakReference(Object instance) {
+      super(instance);
+      hashCode = System.identityHashCode(instance);
+    }
+
+    IdentityWeakReference(Object instance, ReferenceQueue<Object> referenceQueue) {
+      super(instance, referenceQueue);
+      hashCode = System.identityHashCode(instance);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
+      if (!(other instanceof IdentityWeakReference)) {
+        return false;
+      }
+      final Object instance = get();
+      return instance != null && instance == ((IdentityWeakReference) other).get();
+    }
+  }
+
+  /** Creates an {@link InstanceManager} that doesn't report collected instances. */
+  public InstanceManager() {
+    this(null);
+  }
 
   /**
-   * Add a new instance to the manager.
+   * Creates an {@link InstanceManager}.
+   *
+   * @param finalizationListener receives the instanceIds of the collected weak instances
+   */
+  public InstanceManager(@Nullable FinalizationListener finalizationListener) {
+    this.finalizationListener = finalizationListener;
+  }
+
+  /**
+   * Add a new instance to the manager that is kept alive until it is removed.
    *
    * <p>If an instance or instanceId has already been added, it will be replaced by the new values.
    *
@@ -26,8 +100,27 @@ public class InstanceManager {
    * @param instanceId unique id of the added object
    */
   public void addInstance(Object instance, long instanceId) {
-    instancesToInstanceIds.put(instance, instanceId);
-    instanceIdsToInstances.append(instanceId, instance);
+    addWeakInstance(instance, instanceId);
+    strongInstances.put(instanceId, instance);
+  }
+
+  /**
+   * Add a new instance to the manager that is kept alive by other objects, e.g. an object owned by
+   * a {@link android.webkit.WebView}.
+   *
+   * <p>If an instance or instanceId has already been added, it will be replaced by the new values.
+   *
+   * @param instance the new object to be added
+   * @param instanceId unique id of the added object
+   */
+  public void addWeakInstance(Object instance, long instanceId) {
+    releaseFinalizedInstances();
+    removeInstanceWithId(instanceId);
+    removeInstance(instance);
+
+    final IdentityWeakReference reference = new IdentityWeakReference(instance, referenceQueue);
+    weakInstances.put(instanceId, reference);
+    instanceIds.put(reference, instanceId);
   }
 
   /**
@@ -36,13 +129,15 @@ public class InstanceManager {
    * @param instanceId the id of the instance to be removed
    * @return the removed instance if the manager contains the instanceId, otherwise null
    */
+  @Nullable
   public Object removeInstanceWithId(long instanceId) {
-    final Object instance = instanceIdsToInstances.get(instanceId);
-    if (instance != null) {
-      instanceIdsToInstances.remove(instanceId);
-      instancesToInstanceIds.remove(instance);
+    strongInstances.remove(instanceId);
+    final IdentityWeakReference reference = weakInstances.remove(instanceId);
+    if (reference == null) {
+      return null;
     }
-    return instance;
+    instanceIds.remove(reference);
+    return reference.get();
   }
 
   /**
@@ -52,11 +147,12 @@ public class InstanceManager {
    * @return the instanceId of the removed instance if the manager contains the value, otherwise
    *     null
    */
+  @Nullable
   public Long removeInstance(Object instance) {
-    final Long instanceId = instancesToInstanceIds.get(instance);
+    final Long instanceId = instanceIds.remove(new IdentityWeakReference(instance));
     if (instanceId != null) {
-      instanceIdsToInstances.remove(instanceId);
-      instancesToInstanceIds.remove(instance);
+      strongInstances.remove(instanceId);
+      weakInstances.remove(instanceId);
     }
     return instanceId;
   }
@@ -68,8 +164,10 @@ public class InstanceManager {
    * @return the instance stored with the instanceId if the manager contains the value, otherwise
    *     null
    */
+  @Nullable
   public Object getInstance(long instanceId) {
-    return instanceIdsToInstances.get(instanceId);
+    final IdentityWeakReference reference = weakInstances.get(instanceId);
+    return reference != null ? reference.get() : null;
   }
 
   /**
@@ -78,7 +176,70 @@ public class InstanceManager {
    * @param instance the value paired with the desired instanceId
    * @return the instanceId paired with instance if the manager contains the value, otherwise null
    */
+  @Nullable
   public Long getInstanceId(Object instance) {
-    return instancesToInstanceIds.get(instance);
+    return instanceIds.get(new IdentityWeakReference(instance));
+  }
+
+  /**
+   * Retrieve the instances of a type.
+   *
+   * @param type the class of the desired instances
+   * @return the instances of the manager that are instances of {@code type}
+   */
+  public <T> List<T> getInstances(Class<T> type) {
+    final List<T> instances = new ArrayList<>();
+    for (IdentityWeakReference reference : weakInstances.values()) {
+      final Object instance = reference.get();
+      if (type.isInstance(instance)) {
+        instances.add(type.cast(instance));
+      }
+    }
+    return instances;
+  }
+
+  /**
+   * Removes the weak instances that were garbage collected and passes their instanceIds to the
+   * {@link FinalizationListener}.
+   *
+   * <p>This is also done whenever an instance is added.
+   */
+  public void releaseFinalizedInstances() {
+    List<Long> finalizedInstanceIds = null;
+    Reference<?> reference;
+    while ((reference = referenceQueue.poll()) != null) {
+      final Long instanceId = instanceIds.remove(reference);
+      // The instance may have been removed or replaced before it was collected.
+      if (instanceId == null || weakInstances.get(instanceId) != reference) {
+        continue;
+      }
+      weakInstances.remove(instanceId);
+      finalizedInstanceCount++;
+      if (finalizedInstanceIds == null) {
+        finalizedInstanceIds = new ArrayList<>();
+      }
+      finalizedInstanceIds.add(instanceId);
+    }
+    if (finalizedInstanceIds != null && finalizationListener != null) {
+      finalizationListener.onInstancesFinalized(finalizedInstanceIds);
+    }
+  }
+
+  /**
+   * Counts the instances of the manager.
+   *
+   * <p>The keys are {@code instances}, the number of instances, {@code strongInstances}, the number
+   * of instances kept alive by the manager, and {@code finalizedInstances}, the number of weak
+   * instances that were garbage collected so far.
+   *
+   * @return the counts
+   */
+  public Map<String, Long> getStats() {
+    releaseFinalizedInstances();
+    final Map<String, Long> stats = new HashMap<>();
+    stats.put("instances", (long) weakInstances.size());
+    stats.put("strongInstances", (long) strongInstances.size());
+    stats.put("finalizedInstances", finalizedInstanceCount);
+    return stats;
   }
 }
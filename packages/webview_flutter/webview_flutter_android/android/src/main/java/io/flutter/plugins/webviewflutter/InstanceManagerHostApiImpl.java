@@ -0,0 +1,27 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.InstanceManagerHostApi;
+import java.util.Map;
+
+/** Host api implementation for {@link InstanceManager}. */
+public class InstanceManagerHostApiImpl implements InstanceManagerHostApi {
+  private final InstanceManager instanceManager;
+
+  /**
+   * Creates a host API that reads the counts of an {@link InstanceManager}.
+   *
+   * @param instanceManager maintains instances stored to communicate with Dart objects
+   */
+  public InstanceManagerHostApiImpl(InstanceManager instanceManager) {
+    this.instanceManager = instanceManager;
+  }
+
+  @Override
+  public Map<String, Long> getStats() {
+    return instanceManager.getStats();
+  }
+}
@@ -0,0 +1,150 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.webkit.WebView;
+import androidx.annotation.VisibleForTesting;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaScriptBatchHostApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.Result;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.json.JSONArray;
+import org.json.JSONException;
+
+/**
+ * Host api implementation for evaluating several scripts in a {@link WebView} at once.
+ *
+ * <p>The scripts are evaluated in order by a single {@link WebView#evaluateJavascript} call and
+ * their results are returned together, each one formatted as {@link WebView#evaluateJavascript}
+ * would return it.
+ */
+public class JavaScriptBatchHostApiImpl implements JavaScriptBatchHostApi {
+  // Result of a script that evaluated to undefined or threw, as returned by the WebView.
+  private static final String NULL_RESULT = "null";
+
+  private final InstanceManager instanceManager;
+
+  /**
+   * Creates a host API that evaluates scripts in batches.
+   *
+   * @param instanceManager maintains instances stored to communicate with Dart objects
+   */
+  public JavaScriptBatchHostApiImpl(InstanceManager instanceManager) {
+    this.instanceManager = instanceManager;
+  }
+
+  @Override
+  public void evaluateJavascriptBatch(
+      Long webViewInstanceId, List<String> javascriptStrings, Result<List<String>> result) {
+    final WebView webView = (WebView) instanceManager.getInstance(webViewInstanceId);
+    if (javascriptStrings.isEmpty()) {
+      result.success(new ArrayList<>());
+      return;
+    }
+
+    webView.evaluateJavascript(
+        createBatchScript(javascriptStrings),
+        value -> {
+          // The batch script returns null when the page forbids eval, in which case none of the
+          // scripts ran yet.
+          if (value == null || value.equals(NULL_RESULT)) {
+            evaluateEach(webView, javascriptStrings, result);
+            return;
+          }
+          try {
+            final JSONArray values = new JSONArray(value);
+            final List<String> results = new ArrayList<>(values.length());
+            for (int i = 0; i < values.length(); i++) {
+              results.add(values.getString(i));
+            }
+            result.success(results);
+          } catch (JSONException exception) {
+            result.error(exception);
+          }
+        });
+  }
+
+  private static void evaluateEach(
+      WebView webView, List<String> javascriptStrings, Result<List<String>> result) {
+    final String[] results = new String[javascriptStrings.size()];
+    final int[] pendingCount = {results.length};
+    for (int i = 0; i < results.length; i++) {
+      final int index = i;
+      // The WebView evaluates the scripts in the order they are passed.
+      webView.evaluateJavascript(
+          javascriptStrings.get(i),
+          value -> {
+            results[index] = value != null ? value : NULL_RESULT;
+            if (--pendingCount[0] == 0) {
+              result.success(new ArrayList<>(Arrays.asList(results)));
+            }
+          });
+    }
+  }
+
+  /**
+   * Creates a script evaluating each script with an indirect eval, in the global scope like {@link
+   * WebView#evaluateJavascript}, and returning the JSON of their results.
+   */
+  @VisibleForTesting
+  static String createBatchScript(List<String> javascriptStrings) {
+    final StringBuilder script = new StringBuilder("(function() {\nvar scripts = [");
+    for (int i = 0; i < javascriptStrings.size(); i++) {
+      if (i > 0) {
+        script.append(',');
+      }
+      appendQuoted(script, javascriptStrings.get(i));
+    }
+    return script
+        .append("];\n")
+        .append("var results = [];\n")
+        .append("for (var i = 0; i < scripts.length; i++) {\n")
+        .append("  try {\n")
+        .append("    var json = JSON.stringify((0, eval)(scripts[i]));\n")
+        .append("    results.push(json === undefined ? 'null' : json);\n")
+        .append("  } catch (e) {\n")
+        .append("    if (i == 0 && e instanceof EvalError) return null;\n")
+        .append("    results.push('null');\n")
+        .append("  }\n")
+        .append("}\n")
+        .append("return results;\n")
+        .append("})()")
+        .toString();
+  }
+
+  private static void appendQuoted(StringBuilder builder, String string) {
+    builder.append('"');
+    for (int i = 0; i < string.length(); i++) {
+      final char c = string.charAt(i);
+      switch (c) {
+        case '"':
+          builder.append("\\\"");
+          break;
+        case '\\':
+          builder.append("\\\\");
+          break;
+        case '\n':
+          builder.append("\\n");
+          break;
+        case '\r':
+          builder.append("\\r");
+          break;
+        case '\u2028':
+        case '\u2029':
+          // Line terminators in JavaScript string literals.
+          builder.append(String.format("\\u%04x", (int) c));
+          break;
+        default:
+          if (c < 0x20) {
+            builder.append(String.format("\\u%04x", (int) c));
+          } else {
+            builder.append(c);
+          }
+      }
+    }
+    builder.append('"');
+  }
+}
@@ -9,21 +9,35 @@ import android.os.Looper;
 import android.webkit.JavascriptInterface;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Added as a JavaScript interface to the WebView for any JavaScript channel that the Dart code sets
  * up.
  *
- * <p>Exposes a single method named `postMessage` to JavaScript, which sends a message to the Dart
- * code.
+ * <p>Exposes a method named `postMessage` to JavaScript, which sends a message to the Dart code,
+ * and a method named `postBinaryMessage`, which sends bytes to the Dart code.
+ *
+ * <p>When batching is enabled, the messages posted within a frame are sent to Dart together.
  *
  * <p>No messages are sent to Dart after {@link JavaScriptChannel#release} is called.
  */
 public class JavaScriptChannel implements Releasable {
+  // Approximately one frame at 60 frames per second.
+  private static final long BATCH_DELAY_MILLIS = 16;
+  // Sends a batch before the delay when many messages are posted in a loop.
+  private static final int MAX_BATCH_SIZE = 1000;
+
   private final Handler platformThreadHandler;
   final String javaScriptChannelName;
   @Nullable private JavaScriptChannelFlutterApiImpl flutterApi;
 
+  private volatile boolean batchingEnabled;
+  // Guarded by this.
+  private List<String> pendingMessages = new ArrayList<>();
+  private final Runnable sendPendingMessagesRunnable = this::sendPendingMessages;
+
   /**
    * Creates a {@link JavaScriptChannel} that passes arguments of callback methods to Dart.
    *
@@ -40,26 +54,115 @@ public class JavaScriptChannel implements Releasable {
     this.platformThreadHandler = platformThreadHandler;
   }
 
+  /**
+   * Sets whether messages are sent to Dart in batches instead of one by one.
+   *
+   * <p>Messages posted while batching was enabled are still sent once batching is disabled.
+   *
+   * @param enabled whether the messages posted within a frame are sent to Dart together
+   */
+  public void setBatchingEnabled(boolean enabled) {
+    batchingEnabled = enabled;
+  }
+
   // Suppressing unused warning as this is invoked from JavaScript.
   @SuppressWarnings("unused")
   @JavascriptInterface
   public void postMessage(final String message) {
+    if (batchingEnabled) {
+      addPendingMessage(message);
+      return;
+    }
+
     final Runnable postMessageRunnable =
         () -> {
+          // Keeps the order of the messages posted before batching was disabled.
+          sendPendingMessages();
           if (flutterApi != null) {
             flutterApi.postMessage(JavaScriptChannel.this, message, reply -> {});
           }
         };
+    runOnPlatformThread(postMessageRunnable);
+  }
+
+  /**
+   * Sends bytes to Dart without encoding them as text.
+   *
+   * <p>JavaScript passes the bytes as a string holding one byte per character, e.g. {@code
+   * String.fromCharCode.apply(null, uint8Array)}, which crosses the JavaScript bridge without the
+   * size overhead of base64. Only the low byte of each character is kept.
+   *
+   * @param message the bytes to send, one per character
+   */
+  // Suppressing unused warning as this is invoked from JavaScript.
+  @SuppressWarnings("unused")
+  @JavascriptInterface
+  public void postBinaryMessage(final String message) {
+    final byte[] bytes = new byte[message.length()];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) message.charAt(i);
+    }
+
+    final Runnable postBinaryMessageRunnable =
+        () -> {
+          // Keeps the order relative to the batched messages.
+          sendPendingMessages();
+          if (flutterApi != null) {
+            flutterApi.postBinaryMessage(JavaScriptChannel.this, bytes, reply -> {});
+          }
+        };
+    runOnPlatformThread(postBinaryMessageRunnable);
+  }
+
+  private void addPendingMessage(String message) {
+    final int pendingMessageCount;
+    synchronized (this) {
+      pendingMessages.add(message);
+      pendingMessageCount = pendingMessages.size();
+    }
+
+    if (pendingMessageCount == 1) {
+      platformThreadHandler.postDelayed(sendPendingMessagesRunnable, BATCH_DELAY_MILLIS);
+    } else if (pendingMessageCount == MAX_BATCH_SIZE) {
+      platformThreadHandler.removeCallbacks(sendPendingMessagesRunnable);
+      platformThreadHandler.post(sendPendingMessagesRunnable);
+    }
+  }
+
+  private void sendPendingMessages() {
+    final List<String> messages;
+    synchronized (this) {
+      if (pendingMessages.isEmpty()) {
+        return;
+      }
+      messages = pendingMessages;
+      pendingMessages = new ArrayList<>();
+    }
+
+    if (flutterApi == null) {
+      return;
+    }
+    if (messages.size() == 1) {
+      flutterApi.postMessage(this, messages.get(0), reply -> {});
+    } else {
+      flutterApi.postMessages(this, messages, reply -> {});
+    }
+  }
 
+  private void runOnPlatformThread(Runnable runnable) {
     if (platformThreadHandler.getLooper() == Looper.myLooper()) {
-      postMessageRunnable.run();
+      runnable.run();
     } else {
-      platformThreadHandler.post(postMessageRunnable);
+      platformThreadHandler.post(runnable);
     }
   }
 
   @Override
   public void release() {
+    platformThreadHandler.removeCallbacks(sendPendingMessagesRunnable);
+    synchronized (this) {
+      pendingMessages = new ArrayList<>();
+    }
     if (flutterApi != null) {
       flutterApi.dispose(this, reply -> {});
     }
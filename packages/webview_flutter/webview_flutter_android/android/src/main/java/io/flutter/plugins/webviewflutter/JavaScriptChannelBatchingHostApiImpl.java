@@ -0,0 +1,28 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaScriptChannelBatchingHostApi;
+
+/** Host api implementation for batching the messages of a {@link JavaScriptChannel}. */
+public class JavaScriptChannelBatchingHostApiImpl implements JavaScriptChannelBatchingHostApi {
+  private final InstanceManager instanceManager;
+
+  /**
+   * Creates a host API that enables batching on {@link JavaScriptChannel}s.
+   *
+   * @param instanceManager maintains instances stored to communicate with Dart objects
+   */
+  public JavaScriptChannelBatchingHostApiImpl(InstanceManager instanceManager) {
+    this.instanceManager = instanceManager;
+  }
+
+  @Override
+  public void setBatchingEnabled(Long instanceId, Boolean enabled) {
+    final JavaScriptChannel javaScriptChannel =
+        (JavaScriptChannel) instanceManager.getInstance(instanceId);
+    javaScriptChannel.setBatchingEnabled(enabled);
+  }
+}
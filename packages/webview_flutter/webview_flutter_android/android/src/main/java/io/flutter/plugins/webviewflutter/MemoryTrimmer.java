@@ -0,0 +1,243 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.app.Activity;
+import android.app.Application;
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.os.Bundle;
+import android.os.Debug;
+import android.webkit.WebView;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.MemoryTrimReportData;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reduces the memory used by the {@link WebView}s of an {@link InstanceManager} when the system
+ * asks the app to trim its memory.
+ *
+ * <p>The actions depend on the trim level and on the policy set with {@link #setPolicy}:
+ *
+ * <ul>
+ *   <li>Once the UI is hidden, JavaScript timers are paused until an activity resumes.
+ *   <li>When memory runs low, the in-memory cache of the WebViews is cleared and the WebViews of
+ *       the {@link WebViewPool} are destroyed.
+ *   <li>When memory is critical, the WebViews that aren't attached to a window and aren't shown by
+ *       a platform view Flutter didn't dispose are released, removed from the {@link
+ *       InstanceManager} and destroyed.
+ * </ul>
+ *
+ * <p>Each trim that did something is reported to the {@link TrimListener}. Only clearing caches is
+ * enabled by default. All methods must be called on the main thread.
+ */
+public class MemoryTrimmer implements ComponentCallbacks2, Application.ActivityLifecycleCallbacks {
+  private final InstanceManager instanceManager;
+  private final WebViewPool webViewPool;
+  private final MemoryProxy memoryProxy;
+  private final Context context;
+  @Nullable private final TrimListener trimListener;
+
+  private boolean pauseTimers;
+  private boolean clearCaches = true;
+  private boolean destroyOffscreenWebViews;
+  private boolean timersPaused;
+
+  /** Receives the report of each trim. */
+  public interface TrimListener {
+    /**
+     * Called once memory was trimmed.
+     *
+     * @param report what was done and how much memory it reclaimed
+     * @param destroyedWebViewInstanceIds the instanceIds of the destroyed WebViews
+     */
+    void onMemoryTrimmed(MemoryTrimReportData report, List<Long> destroyedWebViewInstanceIds);
+  }
+
+  /** Handles reading memory usage and resuming timers, so that they can be mocked in tests. */
+  public static class MemoryProxy {
+    /**
+     * Measures the memory allocated by the app process.
+     *
+     * @return the bytes allocated on the native and Java heaps
+     */
+    public long getUsedMemory() {
+      final Runtime runtime = Runtime.getRuntime();
+      return Debug.getNativeHeapAllocatedSize() + runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Resumes the timers of all WebViews when none is left to call {@link WebView#resumeTimers}.
+     *
+     * @param context the context used to create a temporary WebView
+     */
+    public void resumeTimers(Context context) {
+      final WebView webView = new WebView(context);
+      webView.resumeTimers();
+      webView.destroy();
+    }
+  }
+
+  /**
+   * Creates a {@link MemoryTrimmer} that must be registered with {@link
+   * Context#registerComponentCallbacks} and {@link Application#registerActivityLifecycleCallbacks}.
+   *
+   * @param instanceManager maintains the WebViews to trim
+   * @param webViewPool the pool of WebViews emptied when memory runs low
+   * @param memoryProxy handles reading memory usage and resuming timers
+   * @param context the application context
+   * @param trimListener receives the report of each trim, if not null
+   */
+  public MemoryTrimmer(
+      InstanceManager instanceManager,
+      WebViewPool webViewPool,
+      MemoryProxy memoryProxy,
+      Context context,
+      @Nullable TrimListener trimListener) {
+    this.instanceManager = instanceManager;
+    this.webViewPool = webViewPool;
+    this.memoryProxy = memoryProxy;
+    this.context = context;
+    this.trimListener = trimListener;
+  }
+
+  /**
+   * Sets the actions taken when memory is trimmed.
+   *
+   * @param pauseTimers whether JavaScript timers are paused while the UI is hidden
+   * @param clearCaches whether caches are cleared when memory runs low
+   * @param destroyOffscreenWebViews whether the WebViews that aren't attached to a window are
+   *     destroyed when memory is critical
+   */
+  public void setPolicy(
+      boolean pauseTimers, boolean clearCaches, boolean destroyOffscreenWebViews) {
+    this.pauseTimers = pauseTimers;
+    this.clearCaches = clearCaches;
+    this.destroyOffscreenWebViews = destroyOffscreenWebViews;
+    if (!pauseTimers) {
+      resumeTimers();
+    }
+  }
+
+  @Override
+  public void onTrimMemory(int level) {
+    final boolean uiHidden = level >= TRIM_MEMORY_UI_HIDDEN;
+    final boolean memoryLow =
+        level == TRIM_MEMORY_RUNNING_LOW
+            || level == TRIM_MEMORY_RUNNING_CRITICAL
+            || level >= TRIM_MEMORY_BACKGROUND;
+    final boolean memoryCritical =
+        level == TRIM_MEMORY_RUNNING_CRITICAL || level >= TRIM_MEMORY_MODERATE;
+
+    final long usedMemory = memoryProxy.getUsedMemory();
+    final List<WebView> webViews = instanceManager.getInstances(WebView.class);
+
+    boolean newlyPausedTimers = false;
+    if (pauseTimers && uiHidden && !timersPaused && !webViews.isEmpty()) {
+      // Timers are paused for all WebViews of the process.
+      webViews.get(0).pauseTimers();
+      timersPaused = true;
+      newlyPausedTimers = true;
+    }
+
+    boolean cacheCleared = false;
+    long releasedPooledWebViewCount = 0;
+    if (clearCaches && memoryLow) {
+      releasedPooledWebViewCount = webViewPool.clear();
+      if (!webViews.isEmpty()) {
+        // The cache is shared by all WebViews of the app, the files on disk are kept.
+        webViews.get(0).clearCache(false);
+        cacheCleared = true;
+      }
+    }
+
+    final List<Long> destroyedWebViewInstanceIds = new ArrayList<>();
+    if (destroyOffscreenWebViews && memoryCritical) {
+      for (WebView webView : webViews) {
+        if (webView.isAttachedToWindow()
+            // Flutter can still attach it and Dart can still use it.
+            || (webView instanceof WebViewHostApiImpl.PlatformViewWebView
+                && ((WebViewHostApiImpl.PlatformViewWebView) webView).isShownByPlatformView())) {
+          continue;
+        }
+        if (webView instanceof WebViewPool.PoolableWebView) {
+          // Releasing a WebView whose platform view was disposed would otherwise recycle it.
+          ((WebViewPool.PoolableWebView) webView).setWebViewPool(null);
+        }
+        final Long instanceId = instanceManager.removeInstance(webView);
+        if (webView instanceof Releasable) {
+          ((Releasable) webView).release();
+        }
+        webView.destroy();
+        destroyedWebViewInstanceIds.add(instanceId);
+      }
+    }
+
+    if (!newlyPausedTimers
+        && !cacheCleared
+        && releasedPooledWebViewCount == 0
+        && destroyedWebViewInstanceIds.isEmpty()) {
+      return;
+    }
+    final MemoryTrimReportData report = new MemoryTrimReportData();
+    report.setLevel((long) level);
+    report.setTimersPaused(newlyPausedTimers);
+    report.setCacheCleared(cacheCleared);
+    report.setReleasedPooledWebViewCount(releasedPooledWebViewCount);
+    report.setDestroyedWebViewCount((long) destroyedWebViewInstanceIds.size());
+    // Approximate, the WebView renderer runs in another process and frees memory asynchronously.
+    report.setReclaimedBytes(Math.max(0, usedMemory - memoryProxy.getUsedMemory()));
+    if (trimListener != null) {
+      trimListener.onMemoryTrimmed(report, destroyedWebViewInstanceIds);
+    }
+  }
+
+  @Override
+  public void onLowMemory() {
+    onTrimMemory(TRIM_MEMORY_COMPLETE);
+  }
+
+  @Override
+  public void onConfigurationChanged(@NonNull Configuration newConfig) {}
+
+  @Override
+  public void onActivityResumed(@NonNull Activity activity) {
+    resumeTimers();
+  }
+
+  private void resumeTimers() {
+    if (!timersPaused) {
+      return;
+    }
+    timersPaused = false;
+    final List<WebView> webViews = instanceManager.getInstances(WebView.class);
+    if (!webViews.isEmpty()) {
+      webViews.get(0).resumeTimers();
+    } else {
+      memoryProxy.resumeTimers(context);
+    }
+  }
+
+  @Override
+  public void onActivityCreated(@NonNull Activity activity, @Nullable Bundle savedInstanceState) {}
+
+  @Override
+  public void onActivityStarted(@NonNull Activity activity) {}
+
+  @Override
+  public void onActivityPaused(@NonNull Activity activity) {}
+
+  @Override
+  public void onActivityStopped(@NonNull Activity activity) {}
+
+  @Override
+  public void onActivitySaveInstanceState(@NonNull Activity activity, @NonNull Bundle outState) {}
+
+  @Override
+  public void onActivityDestroyed(@NonNull Activity activity) {}
+}
@@ -0,0 +1,27 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.MemoryTrimmerHostApi;
+
+/** Host api implementation for {@link MemoryTrimmer}. */
+public class MemoryTrimmerHostApiImpl implements MemoryTrimmerHostApi {
+  private final MemoryTrimmer memoryTrimmer;
+
+  /**
+   * Creates a host API that configures a {@link MemoryTrimmer}.
+   *
+   * @param memoryTrimmer trims the memory used by WebViews
+   */
+  public MemoryTrimmerHostApiImpl(MemoryTrimmer memoryTrimmer) {
+    this.memoryTrimmer = memoryTrimmer;
+  }
+
+  @Override
+  public void setPolicy(
+      Boolean pauseTimers, Boolean clearCaches, Boolean destroyOffscreenWebViews) {
+    memoryTrimmer.setPolicy(pauseTimers, clearCaches, destroyOffscreenWebViews);
+  }
+}
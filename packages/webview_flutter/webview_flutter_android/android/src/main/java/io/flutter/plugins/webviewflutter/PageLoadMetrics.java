@@ -0,0 +1,219 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.os.SystemClock;
+import android.webkit.WebView;
+import androidx.annotation.Nullable;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.PageLoadMetricsData;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Collects the timings of the navigations of each {@link WebView} from the callbacks of its {@link
+ * WebViewClientHostApiImpl} and {@link WebChromeClientHostApiImpl} clients.
+ *
+ * <p>A navigation starts with {@link #onPageStarted} and its metrics are kept once it finished, or
+ * once the next navigation started, until they are taken with {@link #takeMetrics}. Durations are
+ * in milliseconds since the navigation started. Nothing is collected until {@link #setEnabled} is
+ * called. All methods must be called on the main thread.
+ */
+public class PageLoadMetrics {
+  // Limits the memory used by the metrics nobody takes.
+  private static final int MAX_NAVIGATIONS_PER_WEB_VIEW = 50;
+  private static final int[] PROGRESS_MILESTONES = {25, 50, 75, 100};
+
+  private final ClockProxy clockProxy;
+  private final Map<WebView, WebViewMetrics> webViewMetrics = new WeakHashMap<>();
+  private boolean enabled;
+
+  /** Handles reading the time, so that it can be mocked in tests. */
+  public static class ClockProxy {
+    /** Handles calling {@link System#currentTimeMillis}. */
+    public long currentTimeMillis() {
+      return System.currentTimeMillis();
+    }
+
+    /** Handles calling {@link SystemClock#elapsedRealtime}. */
+    public long elapsedRealtime() {
+      return SystemClock.elapsedRealtime();
+    }
+  }
+
+  private static class Navigation {
+    final String url;
+    final long startTime;
+    final long startElapsedRealtime;
+    @Nullable Long commitVisibleDuration;
+    @Nullable Long finishedDuration;
+    final Long[] progressDurations = new Long[PROGRESS_MILESTONES.length];
+    long resourceErrorCount;
+    long httpErrorCount;
+
+    Navigation(String url, long startTime, long startElapsedRealtime) {
+      this.url = url;
+      this.startTime = startTime;
+      this.startElapsedRealtime = startElapsedRealtime;
+    }
+
+    PageLoadMetricsData toData() {
+      final PageLoadMetricsData data = new PageLoadMetricsData();
+      data.setUrl(url);
+      data.setNavigationStartTime(startTime);
+      data.setCommitVisibleDuration(commitVisibleDuration);
+      data.setFinishedDuration(finishedDuration);
+      data.setProgress25Duration(progressDurations[0]);
+      data.setProgress50Duration(progressDurations[1]);
+      data.setProgress75Duration(progressDurations[2]);
+      data.setProgress100Duration(progressDurations[3]);
+      data.setResourceErrorCount(resourceErrorCount);
+      data.setHttpErrorCount(httpErrorCount);
+      return data;
+    }
+  }
+
+  private static class WebViewMetrics {
+    @Nullable Navigation currentNavigation;
+    final ArrayDeque<Navigation> completedNavigations = new ArrayDeque<>();
+
+    void completeCurrentNavigation() {
+      if (currentNavigation == null) {
+        return;
+      }
+      if (completedNavigations.size() == MAX_NAVIGATIONS_PER_WEB_VIEW) {
+        completedNavigations.removeFirst();
+      }
+      completedNavigations.addLast(currentNavigation);
+      currentNavigation = null;
+    }
+  }
+
+  /**
+   * Creates a {@link PageLoadMetrics} that doesn't collect anything until it is enabled.
+   *
+   * @param clockProxy handles reading the time
+   */
+  public PageLoadMetrics(ClockProxy clockProxy) {
+    this.clockProxy = clockProxy;
+  }
+
+  /**
+   * Sets whether the timings of new navigations are collected. Disabling drops the collected
+   * metrics.
+   *
+   * @param enabled whether timings are collected
+   */
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+    if (!enabled) {
+      webViewMetrics.clear();
+    }
+  }
+
+  /**
+   * Returns the metrics of the navigations of a {@link WebView} that completed since the last call
+   * and forgets them.
+   *
+   * @param webView the WebView that navigated
+   * @return the metrics of each navigation, in the order they started
+   */
+  public List<PageLoadMetricsData> takeMetrics(WebView webView) {
+    final List<PageLoadMetricsData> metrics = new ArrayList<>();
+    final WebViewMetrics metricsOfWebView = webViewMetrics.get(webView);
+    if (metricsOfWebView != null) {
+      for (Navigation navigation : metricsOfWebView.completedNavigations) {
+        metrics.add(navigation.toData());
+      }
+      metricsOfWebView.completedNavigations.clear();
+    }
+    return metrics;
+  }
+
+  /**
+   * Drops the metrics of a {@link WebView}, e.g. before it is reused by another user.
+   *
+   * @param webView the WebView whose metrics are dropped
+   */
+  public void forget(WebView webView) {
+    webViewMetrics.remove(webView);
+  }
+
+  /** Starts a navigation, the previous navigation is completed even if it didn't finish. */
+  void onPageStarted(WebView webView, String url) {
+    if (!enabled) {
+      return;
+    }
+    WebViewMetrics metricsOfWebView = webViewMetrics.get(webView);
+    if (metricsOfWebView == null) {
+      metricsOfWebView = new WebViewMetrics();
+      webViewMetrics.put(webView, metricsOfWebView);
+    }
+    metricsOfWebView.completeCurrentNavigation();
+    metricsOfWebView.currentNavigation =
+        new Navigation(url, clockProxy.currentTimeMillis(), clockProxy.elapsedRealtime());
+  }
+
+  /** Records when the page of the current navigation became visible. */
+  void onPageCommitVisible(WebView webView) {
+    final Navigation navigation = currentNavigation(webView);
+    if (navigation != null && navigation.commitVisibleDuration == null) {
+      navigation.commitVisibleDuration = durationSinceStart(navigation);
+    }
+  }
+
+  /** Records when the current navigation finished and completes it. */
+  void onPageFinished(WebView webView) {
+    final Navigation navigation = currentNavigation(webView);
+    if (navigation != null) {
+      navigation.finishedDuration = durationSinceStart(navigation);
+      webViewMetrics.get(webView).completeCurrentNavigation();
+    }
+  }
+
+  /** Records when the progress of the current navigation reached each milestone. */
+  void onProgressChanged(WebView webView, int progress) {
+    final Navigation navigation = currentNavigation(webView);
+    if (navigation == null) {
+      return;
+    }
+    for (int i = 0; i < PROGRESS_MILESTONES.length; i++) {
+      if (progress >= PROGRESS_MILESTONES[i] && navigation.progressDurations[i] == null) {
+        navigation.progressDurations[i] = durationSinceStart(navigation);
+      }
+    }
+  }
+
+  /** Counts a resource of the current navigation that failed to load. */
+  void onReceivedError(WebView webView) {
+    final Navigation navigation = currentNavigation(webView);
+    if (navigation != null) {
+      navigation.resourceErrorCount++;
+    }
+  }
+
+  /** Counts a resource of the current navigation that loaded with an HTTP error status. */
+  void onReceivedHttpError(WebView webView) {
+    final Navigation navigation = currentNavigation(webView);
+    if (navigation != null) {
+      navigation.httpErrorCount++;
+    }
+  }
+
+  @Nullable
+  private Navigation currentNavigation(WebView webView) {
+    if (!enabled) {
+      return null;
+    }
+    final WebViewMetrics metricsOfWebView = webViewMetrics.get(webView);
+    return metricsOfWebView != null ? metricsOfWebView.currentNavigation : null;
+  }
+
+  private long durationSinceStart(Navigation navigation) {
+    return clockProxy.elapsedRealtime() - navigation.startElapsedRealtime;
+  }
+}
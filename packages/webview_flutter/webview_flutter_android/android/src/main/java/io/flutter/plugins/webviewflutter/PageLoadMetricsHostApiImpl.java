@@ -0,0 +1,39 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.webkit.WebView;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.PageLoadMetricsData;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.PageLoadMetricsHostApi;
+import java.util.List;
+
+/** Host api implementation for {@link PageLoadMetrics}. */
+public class PageLoadMetricsHostApiImpl implements PageLoadMetricsHostApi {
+  private final InstanceManager instanceManager;
+  private final PageLoadMetrics pageLoadMetrics;
+
+  /**
+   * Creates a host API that reads the metrics collected by a {@link PageLoadMetrics}.
+   *
+   * @param instanceManager maintains instances stored to communicate with Dart objects
+   * @param pageLoadMetrics collects the timings of the navigations of each WebView
+   */
+  public PageLoadMetricsHostApiImpl(
+      InstanceManager instanceManager, PageLoadMetrics pageLoadMetrics) {
+    this.instanceManager = instanceManager;
+    this.pageLoadMetrics = pageLoadMetrics;
+  }
+
+  @Override
+  public void setEnabled(Boolean enabled) {
+    pageLoadMetrics.setEnabled(enabled);
+  }
+
+  @Override
+  public List<PageLoadMetricsData> takeMetrics(Long webViewInstanceId) {
+    final WebView webView = (WebView) instanceManager.getInstance(webViewInstanceId);
+    return pageLoadMetrics.takeMetrics(webView);
+  }
+}
@@ -0,0 +1,377 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.webkit.URLUtil;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Downloads the files of {@link android.webkit.DownloadListener#onDownloadStart} without a round
+ * trip to Dart.
+ *
+ * <p>Responses are streamed to a partial file next to the destination with NIO channels, sending
+ * the cookies of the WebViews and the user agent of the page. The partial file is kept when a
+ * download fails or is cancelled, and the next download of the same url resumes it with a {@code
+ * Range} request. The partial file is renamed to the destination once it is complete, replacing a
+ * previous file with the same name.
+ *
+ * <p>Downloads run on the background executor and {@link DownloadCallbacks} are called on the main
+ * thread executor. Only one download of a file runs at a time, as the downloads of urls with the
+ * same file name share the partial file.
+ */
+public class StreamingDownloader {
+  @VisibleForTesting static final String PARTIAL_FILE_SUFFIX = ".part";
+  @VisibleForTesting static final String VALIDATOR_FILE_SUFFIX = ".validator";
+  @VisibleForTesting static final long PROGRESS_STEP_BYTES = 256 * 1024;
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final int CONNECT_TIMEOUT_MILLIS = 15000;
+  private static final int READ_TIMEOUT_MILLIS = 30000;
+  private static final int HTTP_RANGE_NOT_SATISFIABLE = 416;
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  private final DownloadProxy downloadProxy;
+  private final Executor backgroundExecutor;
+  private final Executor mainThreadExecutor;
+  // The running downloads by the path of their file.
+  private final Map<String, Download> downloads = new ConcurrentHashMap<>();
+
+  /** Receives the progress and the result of the downloads, on the main thread. */
+  public interface DownloadCallbacks {
+    /**
+     * Called as bytes of a download are written, and once it is complete.
+     *
+     * @param url the url of the download
+     * @param receivedBytes the bytes written so far, including the ones of a resumed download
+     * @param totalBytes the size of the file, or -1 if the server didn't send it
+     */
+    void onDownloadProgress(String url, long receivedBytes, long totalBytes);
+
+    /**
+     * Called once a download is complete.
+     *
+     * @param url the url of the download
+     * @param filePath the path of the downloaded file
+     */
+    void onDownloadFinished(String url, String filePath);
+
+    /**
+     * Called when a download failed or was cancelled, it can be resumed by starting it again.
+     *
+     * @param url the url of the download
+     * @param error a description of the failure
+     */
+    void onDownloadFailed(String url, String error);
+  }
+
+  /** Handles the network, cookie and file name access of a {@link StreamingDownloader}. */
+  public static class DownloadProxy extends WebResourceInterceptor.NetworkProxy {
+    /**
+     * Forwards call to {@link URLUtil#guessFileName}.
+     *
+     * @param url the url of the download
+     * @param contentDisposition the Content-Disposition header of the response
+     * @param mimetype the mime type of the response
+     * @return the name of the downloaded file
+     */
+    public String guessFileName(
+        String url, @Nullable String contentDisposition, @Nullable String mimetype) {
+      return URLUtil.guessFileName(url, contentDisposition, mimetype);
+    }
+  }
+
+  private static class Download {
+    final String url;
+    final String userAgent;
+    final File file;
+    final DownloadCallbacks callbacks;
+    volatile boolean cancelled;
+
+    Download(String url, String userAgent, File file, DownloadCallbacks callbacks) {
+      this.url = url;
+      this.userAgent = userAgent;
+      this.file = file;
+      this.callbacks = callbacks;
+    }
+  }
+
+  /**
+   * Creates a {@link StreamingDownloader}.
+   *
+   * @param downloadProxy handles the network, cookie and file name access
+   * @param backgroundExecutor runs the downloads
+   * @param mainThreadExecutor runs the {@link DownloadCallbacks}
+   */
+  public StreamingDownloader(
+      DownloadProxy downloadProxy, Executor backgroundExecutor, Executor mainThreadExecutor) {
+    this.downloadProxy = downloadProxy;
+    this.backgroundExecutor = backgroundExecutor;
+    this.mainThreadExecutor = mainThreadExecutor;
+  }
+
+  /**
+   * Starts downloading a file into a directory, unless the file is already being downloaded.
+   *
+   * <p>If another url is being downloaded to the same file, the download fails right away.
+   *
+   * @param directory the directory of the downloaded file, created if needed
+   * @param url the url of the download
+   * @param userAgent the user agent of the page that started the download
+   * @param contentDisposition the Content-Disposition header of the response
+   * @param mimetype the mime type of the response
+   * @param callbacks receives the progress and the result of the download
+   */
+  public void download(
+      File directory,
+      String url,
+      String userAgent,
+      @Nullable String contentDisposition,
+      @Nullable String mimetype,
+      DownloadCallbacks callbacks) {
+    final File file =
+        new File(directory, downloadProxy.guessFileName(url, contentDisposition, mimetype));
+    final Download download = new Download(url, userAgent, file, callbacks);
+    final Download runningDownload = downloads.putIfAbsent(file.getPath(), download);
+    if (runningDownload == null) {
+      try {
+        backgroundExecutor.execute(() -> run(download));
+      } catch (RejectedExecutionException e) {
+        // The executor was shut down with the plugin.
+        downloads.remove(file.getPath());
+        postFailed(download, e.toString());
+      }
+    } else if (!runningDownload.url.equals(url)) {
+      postFailed(download, "Another download of " + file + " is running");
+    }
+  }
+
+  /**
+   * Cancels the download of a url, keeping what was downloaded so far.
+   *
+   * @param url the url of the download
+   */
+  public void cancel(String url) {
+    for (Download download : downloads.values()) {
+      if (download.url.equals(url)) {
+        download.cancelled = true;
+      }
+    }
+  }
+
+  /**
+   * Cancels the downloads started with callbacks, keeping what was downloaded so far.
+   *
+   * @param callbacks the callbacks the downloads were started with
+   */
+  public void cancelAll(DownloadCallbacks callbacks) {
+    for (Download download : downloads.values()) {
+      if (download.callbacks == callbacks) {
+        download.cancelled = true;
+      }
+    }
+  }
+
+  private void run(Download download) {
+    final File partialFile = new File(download.file.getPath() + PARTIAL_FILE_SUFFIX);
+    final File validatorFile = new File(partialFile.getPath() + VALIDATOR_FILE_SUFFIX);
+    HttpURLConnection connection = null;
+    try {
+      final File directory = download.file.getParentFile();
+      if (directory != null && !directory.isDirectory() && !directory.mkdirs()) {
+        throw new IOException("Unable to create directory " + directory);
+      }
+
+      final String validator = partialFile.length() > 0 ? readValidator(validatorFile) : null;
+      long offset = validator != null ? partialFile.length() : 0;
+
+      connection = downloadProxy.createConnection(download.url);
+      connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+      connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+      if (!download.userAgent.isEmpty()) {
+        connection.setRequestProperty("User-Agent", download.userAgent);
+      }
+      final String cookies = downloadProxy.getCookie(download.url);
+      if (cookies != null) {
+        connection.setRequestProperty("Cookie", cookies);
+      }
+      if (offset > 0) {
+        connection.setRequestProperty("Range", "bytes=" + offset + "-");
+        // The whole file is sent again if it changed since the partial file was written.
+        connection.setRequestProperty("If-Range", validator);
+      }
+
+      final int statusCode = connection.getResponseCode();
+      final List<String> setCookies = connection.getHeaderFields().get("Set-Cookie");
+      if (setCookies != null) {
+        for (String setCookie : setCookies) {
+          downloadProxy.setCookie(download.url, setCookie);
+        }
+      }
+
+      long totalBytes;
+      if (offset > 0 && statusCode == HTTP_RANGE_NOT_SATISFIABLE) {
+        // The partial file already holds the whole file.
+        totalBytes = offset;
+      } else {
+        if (statusCode == HttpURLConnection.HTTP_OK) {
+          offset = 0;
+        } else if (statusCode != HttpURLConnection.HTTP_PARTIAL
+            || offset == 0
+            || rangeStart(connection.getHeaderField("Content-Range")) != offset) {
+          throw new IOException("Unexpected response status code " + statusCode);
+        }
+        writeValidator(validatorFile, validator(connection));
+        final long contentLength = contentLength(connection);
+        totalBytes = contentLength >= 0 ? offset + contentLength : -1;
+        if (!transfer(download, connection, partialFile, offset, totalBytes)) {
+          postFailed(download, "Download cancelled");
+          return;
+        }
+        totalBytes = partialFile.length();
+      }
+
+      if (!partialFile.renameTo(download.file)) {
+        throw new IOException("Unable to rename " + partialFile + " to " + download.file);
+      }
+      validatorFile.delete();
+      postProgress(download, totalBytes, totalBytes);
+      mainThreadExecutor.execute(
+          () -> download.callbacks.onDownloadFinished(download.url, download.file.getPath()));
+    } catch (IOException | RuntimeException e) {
+      postFailed(download, e.toString());
+    } finally {
+      if (connection != null) {
+        connection.disconnect();
+      }
+      downloads.remove(download.file.getPath());
+    }
+  }
+
+  /** Streams the body of the response to the partial file, returns false if cancelled. */
+  private boolean transfer(
+      Download download,
+      HttpURLConnection connection,
+      File partialFile,
+      long offset,
+      long totalBytes)
+      throws IOException {
+    try (ReadableByteChannel input = Channels.newChannel(connection.getInputStream());
+        FileChannel output = new FileOutputStream(partialFile, offset > 0).getChannel()) {
+      final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+      long receivedBytes = offset;
+      long reportedBytes = offset;
+      while (input.read(buffer) != -1) {
+        if (download.cancelled) {
+          return false;
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+          receivedBytes += output.write(buffer);
+        }
+        buffer.clear();
+        if (receivedBytes - reportedBytes >= PROGRESS_STEP_BYTES) {
+          postProgress(download, receivedBytes, totalBytes);
+          reportedBytes = receivedBytes;
+        }
+      }
+      return !download.cancelled;
+    }
+  }
+
+  private void postProgress(Download download, long receivedBytes, long totalBytes) {
+    mainThreadExecutor.execute(
+        () -> download.callbacks.onDownloadProgress(download.url, receivedBytes, totalBytes));
+  }
+
+  private void postFailed(Download download, String error) {
+    mainThreadExecutor.execute(() -> download.callbacks.onDownloadFailed(download.url, error));
+  }
+
+  /** Returns the strong ETag or the Last-Modified date that can be sent as If-Range. */
+  @Nullable
+  private static String validator(HttpURLConnection connection) {
+    final String etag = connection.getHeaderField("ETag");
+    if (etag != null && !etag.startsWith("W/")) {
+      return etag;
+    }
+    return connection.getHeaderField("Last-Modified");
+  }
+
+  @Nullable
+  private static String readValidator(File validatorFile) throws IOException {
+    if (!validatorFile.isFile()) {
+      return null;
+    }
+    try (FileInputStream input = new FileInputStream(validatorFile)) {
+      final byte[] bytes = new byte[(int) validatorFile.length()];
+      int read = 0;
+      while (read < bytes.length) {
+        final int count = input.read(bytes, read, bytes.length - read);
+        if (count == -1) {
+          break;
+        }
+        read += count;
+      }
+      return read > 0 ? new String(bytes, 0, read, UTF_8) : null;
+    }
+  }
+
+  private static void writeValidator(File validatorFile, @Nullable String validator)
+      throws IOException {
+    if (validator == null) {
+      // Without a validator the partial file can't be resumed safely.
+      validatorFile.delete();
+      return;
+    }
+    try (FileOutputStream output = new FileOutputStream(validatorFile)) {
+      output.write(validator.getBytes(UTF_8));
+    }
+  }
+
+  private static long contentLength(HttpURLConnection connection) {
+    final String contentLength = connection.getHeaderField("Content-Length");
+    if (contentLength == null) {
+      return -1;
+    }
+    try {
+      return Long.parseLong(contentLength.trim());
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  /** Parses the first byte of a {@code Content-Range: bytes <first>-<last>/<size>} header. */
+  @VisibleForTesting
+  static long rangeStart(@Nullable String contentRange) {
+    if (contentRange == null || !contentRange.startsWith("bytes ")) {
+      return -1;
+    }
+    final int dash = contentRange.indexOf('-');
+    if (dash < 0) {
+      return -1;
+    }
+    try {
+      return Long.parseLong(contentRange.substring("bytes ".length(), dash).trim());
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+}
@@ -0,0 +1,47 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.webkit.WebView;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.UserScriptHostApi;
+import java.util.HashSet;
+import java.util.List;
+
+/** Host api implementation for {@link UserScriptManager}. */
+public class UserScriptHostApiImpl implements UserScriptHostApi {
+  private final InstanceManager instanceManager;
+  private final UserScriptManager userScriptManager;
+
+  /**
+   * Creates a host API that registers user scripts with a {@link UserScriptManager}.
+   *
+   * @param instanceManager maintains instances stored to communicate with Dart objects
+   * @param userScriptManager injects the user scripts of each WebView
+   */
+  public UserScriptHostApiImpl(
+      InstanceManager instanceManager, UserScriptManager userScriptManager) {
+    this.instanceManager = instanceManager;
+    this.userScriptManager = userScriptManager;
+  }
+
+  @Override
+  public void addUserScript(
+      Long webViewInstanceId, String scriptId, String source, List<String> allowedOriginRules) {
+    final WebView webView = (WebView) instanceManager.getInstance(webViewInstanceId);
+    userScriptManager.addUserScript(webView, scriptId, source, new HashSet<>(allowedOriginRules));
+  }
+
+  @Override
+  public void removeUserScript(Long webViewInstanceId, String scriptId) {
+    final WebView webView = (WebView) instanceManager.getInstance(webViewInstanceId);
+    userScriptManager.removeUserScript(webView, scriptId);
+  }
+
+  @Override
+  public void removeAllUserScripts(Long webViewInstanceId) {
+    final WebView webView = (WebView) instanceManager.getInstance(webViewInstanceId);
+    userScriptManager.removeAllUserScripts(webView);
+  }
+}
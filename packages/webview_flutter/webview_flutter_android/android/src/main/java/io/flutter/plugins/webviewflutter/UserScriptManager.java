@@ -0,0 +1,252 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.webkit.WebView;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.webkit.ScriptHandler;
+import androidx.webkit.WebViewCompat;
+import androidx.webkit.WebViewFeature;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Keeps the scripts injected in the pages of each {@link WebView} before the scripts of the pages
+ * run.
+ *
+ * <p>A script is registered once per WebView and then injected natively on every navigation to a
+ * page whose origin matches one of its origin rules. When the WebView supports {@link
+ * WebViewFeature#DOCUMENT_START_SCRIPT}, it injects the script in every frame itself. Otherwise the
+ * script is evaluated in the main frame when a {@link WebViewClientHostApiImpl} client is notified
+ * that a page started loading, which can run after the first scripts of the page.
+ *
+ * <p>All methods must be called on the main thread.
+ */
+public class UserScriptManager {
+  private static final String ANY_ORIGIN = "*";
+
+  private final WebViewCompatProxy webViewCompatProxy;
+  // Scripts of each WebView, in the order they were added.
+  private final Map<WebView, Map<String, UserScript>> userScripts = new WeakHashMap<>();
+
+  /** Handles calling {@link WebViewCompat} methods, so that they can be mocked in tests. */
+  public static class WebViewCompatProxy {
+    /**
+     * Whether WebViews can inject scripts themselves.
+     *
+     * @return true if {@link WebViewFeature#DOCUMENT_START_SCRIPT} is supported
+     */
+    public boolean isDocumentStartScriptSupported() {
+      return WebViewFeature.isFeatureSupported(WebViewFeature.DOCUMENT_START_SCRIPT);
+    }
+
+    /**
+     * Handles calling {@link WebViewCompat#addDocumentStartJavaScript}.
+     *
+     * @param webView the WebView injecting the script
+     * @param source the script
+     * @param allowedOriginRules the origins of the pages the script is injected in
+     * @return a handler removing the script
+     */
+    public ScriptHandler addDocumentStartJavaScript(
+        WebView webView, String source, Set<String> allowedOriginRules) {
+      return WebViewCompat.addDocumentStartJavaScript(webView, source, allowedOriginRules);
+    }
+  }
+
+  private static class UserScript {
+    final String source;
+    final Set<String> allowedOriginRules;
+    // Only set when the WebView injects the script itself.
+    @Nullable final ScriptHandler scriptHandler;
+
+    UserScript(
+        String source, Set<String> allowedOriginRules, @Nullable ScriptHandler scriptHandler) {
+      this.source = source;
+      this.allowedOriginRules = allowedOriginRules;
+      this.scriptHandler = scriptHandler;
+    }
+
+    void remove() {
+      if (scriptHandler != null) {
+        scriptHandler.remove();
+      }
+    }
+  }
+
+  /**
+   * Creates a {@link UserScriptManager}.
+   *
+   * @param webViewCompatProxy handles calling {@link WebViewCompat} methods
+   */
+  public UserScriptManager(WebViewCompatProxy webViewCompatProxy) {
+    this.webViewCompatProxy = webViewCompatProxy;
+  }
+
+  /**
+   * Injects a script in the pages loaded by a {@link WebView} from now on, replacing the script
+   * with the same id.
+   *
+   * @param webView the WebView loading the pages
+   * @param scriptId identifies the script to replace or remove it
+   * @param source the script
+   * @param allowedOriginRules rules matching the origins of the pages the script is injected in,
+   *     such as {@code https://example.com}, {@code https://*.example.com} or {@code *}
+   */
+  public void addUserScript(
+      WebView webView, String scriptId, String source, Set<String> allowedOriginRules) {
+    removeUserScript(webView, scriptId);
+
+    ScriptHandler scriptHandler = null;
+    if (webViewCompatProxy.isDocumentStartScriptSupported()) {
+      scriptHandler =
+          webViewCompatProxy.addDocumentStartJavaScript(webView, source, allowedOriginRules);
+    }
+
+    Map<String, UserScript> webViewUserScripts = userScripts.get(webView);
+    if (webViewUserScripts == null) {
+      webViewUserScripts = new LinkedHashMap<>();
+      userScripts.put(webView, webViewUserScripts);
+    }
+    webViewUserScripts.put(
+        scriptId, new UserScript(source, new HashSet<>(allowedOriginRules), scriptHandler));
+  }
+
+  /**
+   * Stops injecting a script in the pages loaded by a {@link WebView}.
+   *
+   * @param webView the WebView loading the pages
+   * @param scriptId the id the script was added with
+   */
+  public void removeUserScript(WebView webView, String scriptId) {
+    final Map<String, UserScript> webViewUserScripts = userScripts.get(webView);
+    if (webViewUserScripts == null) {
+      return;
+    }
+    final UserScript userScript = webViewUserScripts.remove(scriptId);
+    if (userScript != null) {
+      userScript.remove();
+    }
+  }
+
+  /**
+   * Stops injecting any script in the pages loaded by a {@link WebView}.
+   *
+   * @param webView the WebView loading the pages
+   */
+  public void removeAllUserScripts(WebView webView) {
+    final Map<String, UserScript> webViewUserScripts = userScripts.remove(webView);
+    if (webViewUserScripts == null) {
+      return;
+    }
+    for (UserScript userScript : webViewUserScripts.values()) {
+      userScript.remove();
+    }
+  }
+
+  /**
+   * Evaluates the scripts the {@link WebView} doesn't inject itself in a page that started loading.
+   *
+   * @param webView the WebView loading the page
+   * @param url the url of the page
+   */
+  public void onPageStarted(WebView webView, @Nullable String url) {
+    final Map<String, UserScript> webViewUserScripts = userScripts.get(webView);
+    if (webViewUserScripts == null || url == null) {
+      return;
+    }
+    for (UserScript userScript : webViewUserScripts.values()) {
+      if (userScript.scriptHandler == null && matchesOrigin(url, userScript.allowedOriginRules)) {
+        webView.evaluateJavascript(userScript.source, null);
+      }
+    }
+  }
+
+  /**
+   * Whether the origin of {@code url} matches one of the rules, following the rules of {@link
+   * WebViewCompat#addDocumentStartJavaScript}.
+   */
+  @VisibleForTesting
+  static boolean matchesOrigin(String url, Set<String> allowedOriginRules) {
+    final Origin origin = Origin.parse(url);
+    for (String rule : allowedOriginRules) {
+      if (ANY_ORIGIN.equals(rule)) {
+        return true;
+      }
+      final Origin ruleOrigin = Origin.parse(rule);
+      if (origin == null
+          || ruleOrigin == null
+          || !origin.scheme.equals(ruleOrigin.scheme)
+          || origin.port != ruleOrigin.port) {
+        continue;
+      }
+      if (ruleOrigin.host.startsWith("*.")) {
+        final String domain = ruleOrigin.host.substring(2);
+        if (origin.host.equals(domain) || origin.host.endsWith("." + domain)) {
+          return true;
+        }
+      } else if (origin.host.equals(ruleOrigin.host)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Scheme, host and port of a url, parsed leniently so that wildcard hosts are accepted. */
+  private static class Origin {
+    final String scheme;
+    final String host;
+    final int port;
+
+    private Origin(String scheme, String host, int port) {
+      this.scheme = scheme;
+      this.host = host;
+      this.port = port;
+    }
+
+    @Nullable
+    static Origin parse(String url) {
+      final int schemeEnd = url.indexOf("://");
+      if (schemeEnd <= 0) {
+        return null;
+      }
+      final String scheme = url.substring(0, schemeEnd).toLowerCase(Locale.US);
+      int authorityEnd = schemeEnd + 3;
+      while (authorityEnd < url.length() && "/?#".indexOf(url.charAt(authorityEnd)) == -1) {
+        authorityEnd++;
+      }
+      String authority = url.substring(schemeEnd + 3, authorityEnd);
+      authority = authority.substring(authority.lastIndexOf('@') + 1);
+
+      final int portStart = authority.lastIndexOf(':');
+      // A colon inside the brackets of an IPv6 address doesn't start the port.
+      if (portStart != -1 && portStart > authority.lastIndexOf(']')) {
+        try {
+          final int port = Integer.parseInt(authority.substring(portStart + 1));
+          return new Origin(scheme, authority.substring(0, portStart).toLowerCase(Locale.US), port);
+        } catch (NumberFormatException e) {
+          return null;
+        }
+      }
+      return new Origin(scheme, authority.toLowerCase(Locale.US), defaultPort(scheme));
+    }
+
+    private static int defaultPort(String scheme) {
+      switch (scheme) {
+        case "http":
+          return 80;
+        case "https":
+          return 443;
+        default:
+          return -1;
+      }
+    }
+  }
+}
@@ -6,8 +6,10 @@ package io.flutter.plugins.webviewflutter;
 
 import android.webkit.WebChromeClient;
 import android.webkit.WebView;
+import io.flutter.plugin.common.BasicMessageChannel;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebChromeClientFlutterApi;
+import java.util.ArrayList;
 
 /**
  * Flutter Api implementation for {@link WebChromeClient}.
@@ -16,6 +18,9 @@ import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebChromeClient
  */
 public class WebChromeClientFlutterApiImpl extends WebChromeClientFlutterApi {
   private final InstanceManager instanceManager;
+  // Progress is sent several times per page, so its channel is reused instead of created for each
+  // message.
+  private final BasicMessageChannel<Object> onProgressChangedChannel;
 
   /**
    * Creates a Flutter api that sends messages to Dart.
@@ -27,16 +32,22 @@ public class WebChromeClientFlutterApiImpl extends WebChromeClientFlutterApi {
       BinaryMessenger binaryMessenger, InstanceManager instanceManager) {
     super(binaryMessenger);
     this.instanceManager = instanceManager;
+    onProgressChangedChannel =
+        new BasicMessageChannel<>(
+            binaryMessenger,
+            "dev.flutter.pigeon.WebChromeClientFlutterApi.onProgressChanged",
+            WebChromeClientFlutterApi.getCodec());
   }
 
   /** Passes arguments from {@link WebChromeClient#onProgressChanged} to Dart. */
   public void onProgressChanged(
       WebChromeClient webChromeClient, WebView webView, Long progress, Reply<Void> callback) {
-    super.onProgressChanged(
-        instanceManager.getInstanceId(webChromeClient),
-        instanceManager.getInstanceId(webView),
-        progress,
-        callback);
+    // Sends the same message as the generated method, without its intermediate list.
+    final ArrayList<Object> args = new ArrayList<>(3);
+    args.add(instanceManager.getInstanceId(webChromeClient));
+    args.add(instanceManager.getInstanceId(webView));
+    args.add(progress);
+    onProgressChangedChannel.send(args, channelReply -> callback.reply(null));
   }
 
   /**
@@ -30,8 +30,15 @@ public class WebChromeClientHostApiImpl implements WebChromeClientHostApi {
    * Implementation of {@link WebChromeClient} that passes arguments of callback methods to Dart.
    */
   public static class WebChromeClientImpl extends WebChromeClient implements Releasable {
+    // onProgressChanged is called many times per page, only changes of at least this much are sent
+    // to Dart.
+    private static final int PROGRESS_STEP = 10;
+    private static final int NO_PROGRESS = -1;
+
     @Nullable private WebChromeClientFlutterApiImpl flutterApi;
     private WebViewClient webViewClient;
+    @Nullable private final PageLoadMetrics pageLoadMetrics;
+    private int lastSentProgress = NO_PROGRESS;
 
     /**
      * Creates a {@link WebChromeClient} that passes arguments of callbacks methods to Dart.
@@ -41,8 +48,23 @@ public class WebChromeClientHostApiImpl implements WebChromeClientHostApi {
      */
     public WebChromeClientImpl(
         @NonNull WebChromeClientFlutterApiImpl flutterApi, WebViewClient webViewClient) {
+      this(flutterApi, webViewClient, null);
+    }
+
+    /**
+     * Creates a {@link WebChromeClient} that passes arguments of callbacks methods to Dart.
+     *
+     * @param flutterApi handles sending messages to Dart
+     * @param webViewClient receives forwarded calls from {@link WebChromeClient#onCreateWindow}
+     * @param pageLoadMetrics collects the timings of navigations, if not null
+     */
+    public WebChromeClientImpl(
+        @NonNull WebChromeClientFlutterApiImpl flutterApi,
+        WebViewClient webViewClient,
+        @Nullable PageLoadMetrics pageLoadMetrics) {
       this.flutterApi = flutterApi;
       this.webViewClient = webViewClient;
+      this.pageLoadMetrics = pageLoadMetrics;
     }
 
     @Override
@@ -102,11 +124,25 @@ public class WebChromeClientHostApiImpl implements WebChromeClientHostApi {
 
     @Override
     public void onProgressChanged(WebView view, int progress) {
-      if (flutterApi != null) {
+      if (pageLoadMetrics != null) {
+        pageLoadMetrics.onProgressChanged(view, progress);
+      }
+      if (flutterApi != null && shouldSendProgress(progress)) {
+        // Whatever follows a complete page is the progress of the next navigation, which can be
+        // 100 right away for a page loaded from the cache.
+        lastSentProgress = progress == 100 ? NO_PROGRESS : progress;
         flutterApi.onProgressChanged(this, view, (long) progress, reply -> {});
       }
     }
 
+    private boolean shouldSendProgress(int progress) {
+      return lastSentProgress == NO_PROGRESS
+          || progress == 100
+          // A lower progress means that a new page started loading.
+          || progress < lastSentProgress
+          || progress - lastSentProgress >= PROGRESS_STEP;
+    }
+
     /**
      * Set the {@link WebViewClient} that calls to {@link WebChromeClient#onCreateWindow} are passed
      * to.
@@ -128,6 +164,22 @@ public class WebChromeClientHostApiImpl implements WebChromeClientHostApi {
 
   /** Handles creating {@link WebChromeClient}s for a {@link WebChromeClientHostApiImpl}. */
   public static class WebChromeClientCreator {
+    @Nullable private final PageLoadMetrics pageLoadMetrics;
+
+    /** Creates {@link WebChromeClient}s that don't collect page load metrics. */
+    public WebChromeClientCreator() {
+      this(null);
+    }
+
+    /**
+     * Creates {@link WebChromeClient}s that report to a {@link PageLoadMetrics}.
+     *
+     * @param pageLoadMetrics collects the timings of navigations, if not null
+     */
+    public WebChromeClientCreator(@Nullable PageLoadMetrics pageLoadMetrics) {
+      this.pageLoadMetrics = pageLoadMetrics;
+    }
+
     /**
      * Creates a {@link DownloadListenerHostApiImpl.DownloadListenerImpl}.
      *
@@ -137,7 +189,7 @@ public class WebChromeClientHostApiImpl implements WebChromeClientHostApi {
      */
     public WebChromeClientImpl createWebChromeClient(
         WebChromeClientFlutterApiImpl flutterApi, WebViewClient webViewClient) {
-      return new WebChromeClientImpl(flutterApi, webViewClient);
+      return new WebChromeClientImpl(flutterApi, webViewClient, pageLoadMetrics);
     }
   }
 
@@ -0,0 +1,361 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Disk cache of the responses to GET requests, evicting the least recently used responses once the
+ * cache grows over its maximum size.
+ *
+ * <p>Each response is stored as two files named after a hash of its url: the metadata and the body.
+ * Methods can be called from any thread. The responses already on disk are loaded by the first
+ * method reading or writing the cache, so creating the cache or changing its maximum size doesn't
+ * touch the disk.
+ */
+class WebResourceCache {
+  private static final int METADATA_VERSION = 1;
+  private static final String METADATA_SUFFIX = ".meta";
+  private static final String BODY_SUFFIX = ".body";
+  private static final String TEMP_SUFFIX = ".tmp";
+
+  private final File directory;
+  private volatile long maxSize;
+  // Size on disk of each entry, in access order.
+  private final LinkedHashMap<String, Long> entrySizes = new LinkedHashMap<>(16, 0.75f, true);
+  private long size;
+  private boolean loaded;
+
+  /** Metadata of a cached response. */
+  static class Metadata {
+    final String url;
+    final String mimeType;
+    @Nullable final String encoding;
+    final Map<String, String> headers;
+    // Time after which the response must be revalidated, in milliseconds since the epoch.
+    final long expiresAt;
+    @Nullable final String etag;
+    @Nullable final String lastModified;
+
+    Metadata(
+        String url,
+        String mimeType,
+        @Nullable String encoding,
+        Map<String, String> headers,
+        long expiresAt,
+        @Nullable String etag,
+        @Nullable String lastModified) {
+      this.url = url;
+      this.mimeType = mimeType;
+      this.encoding = encoding;
+      this.headers = headers;
+      this.expiresAt = expiresAt;
+      this.etag = etag;
+      this.lastModified = lastModified;
+    }
+
+    Metadata withExpiresAt(long expiresAt) {
+      return new Metadata(url, mimeType, encoding, headers, expiresAt, etag, lastModified);
+    }
+  }
+
+  /** A cached response, the caller must close its body. */
+  static class Entry {
+    final Metadata metadata;
+    final InputStream body;
+
+    Entry(Metadata metadata, InputStream body) {
+      this.metadata = metadata;
+      this.body = body;
+    }
+  }
+
+  /**
+   * Creates a cache storing its responses in {@code directory}, keeping the responses already
+   * stored there.
+   *
+   * @param directory the directory of the cache, created if needed
+   * @param maxSize the maximum size of the cache in bytes
+   */
+  WebResourceCache(File directory, long maxSize) {
+    this.directory = directory;
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Returns the cached response for {@code url}, or null if there is none.
+   *
+   * @param url the url of the request
+   * @return the cached response, with an open body
+   */
+  @Nullable
+  synchronized Entry get(String url) {
+    ensureLoaded();
+    final String key = keyFor(url);
+    // Also marks the entry as the most recently used one.
+    if (entrySizes.get(key) == null) {
+      return null;
+    }
+    final File metadataFile = new File(directory, key + METADATA_SUFFIX);
+    try {
+      final Metadata metadata = readMetadata(metadataFile);
+      if (!metadata.url.equals(url)) {
+        return null;
+      }
+      final InputStream body = new FileInputStream(new File(directory, key + BODY_SUFFIX));
+      // Keeps the access order across restarts.
+      metadataFile.setLastModified(System.currentTimeMillis());
+      return new Entry(metadata, body);
+    } catch (IOException e) {
+      remove(key);
+      return null;
+    }
+  }
+
+  /**
+   * Stores a response, replacing the cached response for the same url.
+   *
+   * @param metadata the metadata of the response
+   * @param body the body of the response
+   */
+  synchronized void put(Metadata metadata, byte[] body) {
+    ensureLoaded();
+    final String key = keyFor(metadata.url);
+    final File bodyFile = new File(directory, key + BODY_SUFFIX);
+    final File metadataFile = new File(directory, key + METADATA_SUFFIX);
+    remove(key);
+    try {
+      writeAtomically(bodyFile, body);
+      writeMetadata(metadataFile, metadata);
+    } catch (IOException e) {
+      bodyFile.delete();
+      metadataFile.delete();
+      return;
+    }
+    final long entrySize = bodyFile.length() + metadataFile.length();
+    entrySizes.put(key, entrySize);
+    size += entrySize;
+    trimToSize();
+  }
+
+  /**
+   * Updates the expiration time of a cached response after it was revalidated.
+   *
+   * @param metadata the metadata of the cached response, with its new expiration time
+   */
+  synchronized void update(Metadata metadata) {
+    ensureLoaded();
+    final String key = keyFor(metadata.url);
+    if (!entrySizes.containsKey(key)) {
+      return;
+    }
+    try {
+      writeMetadata(new File(directory, key + METADATA_SUFFIX), metadata);
+    } catch (IOException e) {
+      remove(key);
+    }
+  }
+
+  /** Removes all cached responses. */
+  synchronized void clear() {
+    ensureLoaded();
+    for (String key : new ArrayList<>(entrySizes.keySet())) {
+      remove(key);
+    }
+  }
+
+  /** Returns the maximum size of the cache in bytes. */
+  long maxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Changes the maximum size of the cache, responses over the new size are evicted by the next
+   * write.
+   *
+   * @param maxSize the maximum size of the cache in bytes
+   */
+  void setMaxSize(long maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  /** Returns the size of the cached responses in bytes. */
+  synchronized long size() {
+    ensureLoaded();
+    return size;
+  }
+
+  private void ensureLoaded() {
+    if (!loaded) {
+      loaded = true;
+      load();
+    }
+  }
+
+  private void load() {
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      return;
+    }
+    final File[] files = directory.listFiles();
+    if (files == null) {
+      return;
+    }
+    final List<File> metadataFiles = new ArrayList<>();
+    for (File file : files) {
+      if (file.getName().endsWith(METADATA_SUFFIX)) {
+        metadataFiles.add(file);
+      } else if (file.getName().endsWith(TEMP_SUFFIX)) {
+        file.delete();
+      }
+    }
+    // The least recently used entries come first.
+    Collections.sort(
+        metadataFiles,
+        (first, second) -> Long.compare(first.lastModified(), second.lastModified()));
+    for (File metadataFile : metadataFiles) {
+      final String name = metadataFile.getName();
+      final String key = name.substring(0, name.length() - METADATA_SUFFIX.length());
+      final File bodyFile = new File(directory, key + BODY_SUFFIX);
+      if (!bodyFile.exists()) {
+        metadataFile.delete();
+        continue;
+      }
+      final long entrySize = bodyFile.length() + metadataFile.length();
+      entrySizes.put(key, entrySize);
+      size += entrySize;
+    }
+    for (File file : files) {
+      final String name = file.getName();
+      if (name.endsWith(BODY_SUFFIX)
+          && !entrySizes.containsKey(name.substring(0, name.length() - BODY_SUFFIX.length()))) {
+        file.delete();
+      }
+    }
+  }
+
+  private void trimToSize() {
+    final Iterator<Map.Entry<String, Long>> iterator = entrySizes.entrySet().iterator();
+    while (size > maxSize && iterator.hasNext()) {
+      final Map.Entry<String, Long> entry = iterator.next();
+      iterator.remove();
+      size -= entry.getValue();
+      deleteFiles(entry.getKey());
+    }
+  }
+
+  private void remove(String key) {
+    final Long entrySize = entrySizes.remove(key);
+    if (entrySize != null) {
+      size -= entrySize;
+    }
+    deleteFiles(key);
+  }
+
+  private void deleteFiles(String key) {
+    new File(directory, key + METADATA_SUFFIX).delete();
+    new File(directory, key + BODY_SUFFIX).delete();
+  }
+
+  private static void writeMetadata(File file, Metadata metadata) throws IOException {
+    final File tempFile = new File(file.getPath() + TEMP_SUFFIX);
+    try (DataOutputStream output = new DataOutputStream(new FileOutputStream(tempFile))) {
+      output.writeInt(METADATA_VERSION);
+      output.writeUTF(metadata.url);
+      output.writeUTF(metadata.mimeType);
+      writeNullableString(output, metadata.encoding);
+      output.writeLong(metadata.expiresAt);
+      writeNullableString(output, metadata.etag);
+      writeNullableString(output, metadata.lastModified);
+      output.writeInt(metadata.headers.size());
+      for (Map.Entry<String, String> header : metadata.headers.entrySet()) {
+        output.writeUTF(header.getKey());
+        output.writeUTF(header.getValue());
+      }
+    }
+    rename(tempFile, file);
+  }
+
+  private static Metadata readMetadata(File file) throws IOException {
+    try (DataInputStream input = new DataInputStream(new FileInputStream(file))) {
+      if (input.readInt() != METADATA_VERSION) {
+        throw new IOException("Unknown metadata version.");
+      }
+      final String url = input.readUTF();
+      final String mimeType = input.readUTF();
+      final String encoding = readNullableString(input);
+      final long expiresAt = input.readLong();
+      final String etag = readNullableString(input);
+      final String lastModified = readNullableString(input);
+      final int headerCount = input.readInt();
+      final Map<String, String> headers = new HashMap<>();
+      for (int i = 0; i < headerCount; i++) {
+        headers.put(input.readUTF(), input.readUTF());
+      }
+      return new Metadata(url, mimeType, encoding, headers, expiresAt, etag, lastModified);
+    }
+  }
+
+  private static void writeAtomically(File file, byte[] data) throws IOException {
+    final File tempFile = new File(file.getPath() + TEMP_SUFFIX);
+    try (FileOutputStream output = new FileOutputStream(tempFile)) {
+      output.write(data);
+    }
+    rename(tempFile, file);
+  }
+
+  private static void rename(File from, File to) throws IOException {
+    if (!from.renameTo(to)) {
+      from.delete();
+      throw new IOException("Could not rename " + from + " to " + to);
+    }
+  }
+
+  private static void writeNullableString(DataOutputStream output, @Nullable String value)
+      throws IOException {
+    output.writeBoolean(value != null);
+    if (value != null) {
+      output.writeUTF(value);
+    }
+  }
+
+  @Nullable
+  private static String readNullableString(DataInputStream input) throws IOException {
+    return input.readBoolean() ? input.readUTF() : null;
+  }
+
+  @NonNull
+  private static String keyFor(String url) {
+    final byte[] digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256").digest(url.getBytes("UTF-8"));
+    } catch (NoSuchAlgorithmException | IOException e) {
+      // Both are guaranteed to be available.
+      throw new IllegalStateException(e);
+    }
+    final StringBuilder key = new StringBuilder(32);
+    for (byte b : Arrays.copyOf(digest, 16)) {
+      key.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+    }
+    return key.toString();
+  }
+}
@@ -0,0 +1,593 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.os.Build;
+import android.webkit.CookieManager;
+import android.webkit.MimeTypeMap;
+import android.webkit.WebResourceResponse;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Answers requests of WebViews without a round trip to Dart, from Flutter assets or from a disk
+ * cache of GET responses.
+ *
+ * <p>Asset rules map a url prefix to a directory of Flutter assets, e.g. {@code
+ * https://app.example/} to {@code assets/web}. Responses to GET requests for urls starting with one
+ * of the cached url prefixes are fetched by this class and stored according to their {@code
+ * Cache-Control}, {@code Expires} and validator headers. A stale response is revalidated and is
+ * still served when the network isn't available.
+ *
+ * <p>{@link #intercept} is called on the threads of the WebView, the rules are set on the main
+ * thread.
+ */
+public class WebResourceInterceptor {
+  @VisibleForTesting static final String ASSET_HITS = "assetHits";
+  @VisibleForTesting static final String CACHE_HITS = "cacheHits";
+  @VisibleForTesting static final String CACHE_MISSES = "cacheMisses";
+  @VisibleForTesting static final String CACHE_SIZE = "cacheSize";
+
+  private static final String DEFAULT_MIME_TYPE = "application/octet-stream";
+  private static final int CONNECT_TIMEOUT_MILLIS = 15000;
+  private static final int READ_TIMEOUT_MILLIS = 30000;
+  // Response headers that don't describe the decoded body or that are handled by the WebView.
+  private static final List<String> SKIPPED_RESPONSE_HEADERS =
+      Arrays.asList(
+          "content-encoding", "content-length", "transfer-encoding", "connection", "set-cookie");
+  // Request headers that would change the response that is stored.
+  private static final List<String> SKIPPED_REQUEST_HEADERS =
+      Arrays.asList("accept-encoding", "range", "if-none-match", "if-modified-since", "cookie");
+
+  private final FlutterAssetManager flutterAssetManager;
+  private final NetworkProxy networkProxy;
+
+  // Replaced, never modified, so that they can be read from the threads of the WebView.
+  private volatile Map<String, String> assetRules = Collections.emptyMap();
+  private volatile List<String> cachedUrlPrefixes = Collections.emptyList();
+  private final WebResourceCache cache;
+
+  private final AtomicLong assetHits = new AtomicLong();
+  private final AtomicLong cacheHits = new AtomicLong();
+  private final AtomicLong cacheMisses = new AtomicLong();
+
+  /** Handles the network and cookie access of a {@link WebResourceInterceptor}. */
+  public static class NetworkProxy {
+    /**
+     * Opens a connection to {@code url}.
+     *
+     * @param url the url of the request
+     * @return the connection, not connected yet
+     * @throws IOException if the url isn't an http url
+     */
+    public HttpURLConnection createConnection(String url) throws IOException {
+      final URLConnection connection = new URL(url).openConnection();
+      if (!(connection instanceof HttpURLConnection)) {
+        throw new IOException("Not an http url: " + url);
+      }
+      return (HttpURLConnection) connection;
+    }
+
+    /**
+     * Forwards call to {@link CookieManager#getCookie(String)}.
+     *
+     * @param url the url of the request
+     * @return the cookies of the WebViews for the url, or null if there are none
+     */
+    @Nullable
+    public String getCookie(String url) {
+      return CookieManager.getInstance().getCookie(url);
+    }
+
+    /**
+     * Forwards call to {@link CookieManager#setCookie(String, String)}.
+     *
+     * @param url the url of the response
+     * @param value the value of a Set-Cookie header of the response
+     */
+    public void setCookie(String url, String value) {
+      CookieManager.getInstance().setCookie(url, value);
+    }
+  }
+
+  /**
+   * Creates an interceptor without rules, which doesn't intercept any request.
+   *
+   * @param flutterAssetManager used to find and open Flutter assets
+   * @param cacheDirectory the directory used by the disk cache
+   * @param networkProxy handles opening connections and accessing cookies
+   */
+  public WebResourceInterceptor(
+      FlutterAssetManager flutterAssetManager, File cacheDirectory, NetworkProxy networkProxy) {
+    this.flutterAssetManager = flutterAssetManager;
+    this.networkProxy = networkProxy;
+    this.cache = new WebResourceCache(cacheDirectory, 0);
+  }
+
+  /**
+   * Serves the urls starting with {@code urlPrefix} from the Flutter assets in {@code
+   * assetDirectory}, a url ending with a slash is served from its {@code index.html}.
+   *
+   * @param urlPrefix the url prefix, e.g. "https://app.example/"
+   * @param assetDirectory the directory of the assets in the Flutter project, e.g. "assets/web"
+   */
+  public void setAssetRule(String urlPrefix, String assetDirectory) {
+    final Map<String, String> rules = new HashMap<>(assetRules);
+    rules.put(urlPrefix, trimSlashes(assetDirectory));
+    assetRules = rules;
+  }
+
+  /**
+   * Stops serving the urls starting with {@code urlPrefix} from assets.
+   *
+   * @param urlPrefix the url prefix of a rule set with {@link #setAssetRule}
+   */
+  public void removeAssetRule(String urlPrefix) {
+    final Map<String, String> rules = new HashMap<>(assetRules);
+    rules.remove(urlPrefix);
+    assetRules = rules;
+  }
+
+  /**
+   * Caches the responses to GET requests for urls starting with one of {@code urlPrefixes}.
+   *
+   * @param urlPrefixes the prefixes of the cached urls
+   * @param maxSize the maximum size of the cache on disk in bytes, 0 disables the cache
+   */
+  public void setCache(List<String> urlPrefixes, long maxSize) {
+    cachedUrlPrefixes = new ArrayList<>(urlPrefixes);
+    // Only updates the limit, the cache is loaded from disk by the first request using it.
+    cache.setMaxSize(maxSize);
+  }
+
+  /** Removes all the responses stored in the cache. */
+  public void clearCache() {
+    cache.clear();
+  }
+
+  /**
+   * Returns the number of requests served from assets and from the cache, the number of requests
+   * for cached urls that needed the network, and the size of the cache in bytes.
+   *
+   * @return the counters keyed by name
+   */
+  public Map<String, Long> getStats() {
+    final Map<String, Long> stats = new HashMap<>();
+    stats.put(ASSET_HITS, assetHits.get());
+    stats.put(CACHE_HITS, cacheHits.get());
+    stats.put(CACHE_MISSES, cacheMisses.get());
+    stats.put(CACHE_SIZE, cache.size());
+    return stats;
+  }
+
+  /**
+   * Returns the response to a request from assets or from the cache, or null to let the WebView
+   * load it.
+   *
+   * @param method the method of the request
+   * @param url the url of the request
+   * @param requestHeaders the headers of the request
+   * @return the response or null
+   */
+  @Nullable
+  public WebResourceResponse intercept(
+      String method, String url, @Nullable Map<String, String> requestHeaders) {
+    if (!"GET".equalsIgnoreCase(method)) {
+      return null;
+    }
+    final WebResourceResponse assetResponse = interceptAsset(url);
+    if (assetResponse != null) {
+      assetHits.incrementAndGet();
+      return assetResponse;
+    }
+    if (cache.maxSize() <= 0 || !isCached(url) || hasHeader(requestHeaders, "range")) {
+      return null;
+    }
+    return interceptWithCache(url, requestHeaders);
+  }
+
+  @Nullable
+  private WebResourceResponse interceptAsset(String url) {
+    String matchedPrefix = null;
+    for (String prefix : assetRules.keySet()) {
+      if (url.startsWith(prefix)
+          && (matchedPrefix == null || prefix.length() > matchedPrefix.length())) {
+        matchedPrefix = prefix;
+      }
+    }
+    if (matchedPrefix == null) {
+      return null;
+    }
+    String path = stripQueryAndFragment(url.substring(matchedPrefix.length()));
+    if (path.isEmpty() || path.endsWith("/")) {
+      path += "index.html";
+    }
+    if (path.startsWith("/")) {
+      path = path.substring(1);
+    }
+    for (String segment : path.split("/")) {
+      if (segment.equals("..")) {
+        return null;
+      }
+    }
+    final String assetDirectory = assetRules.get(matchedPrefix);
+    final String name = assetDirectory.isEmpty() ? path : assetDirectory + "/" + path;
+    final InputStream data;
+    try {
+      data = flutterAssetManager.open(flutterAssetManager.getAssetFilePathByName(name));
+    } catch (IOException e) {
+      // Falls back to the network for the urls that aren't bundled.
+      return null;
+    }
+    final String mimeType = mimeTypeForPath(path);
+    return createResponse(mimeType, encodingFor(mimeType), 200, "OK", Collections.emptyMap(), data);
+  }
+
+  @Nullable
+  private WebResourceResponse interceptWithCache(
+      String url, @Nullable Map<String, String> requestHeaders) {
+    final long now = System.currentTimeMillis();
+    final WebResourceCache.Entry cached = cache.get(url);
+    if (cached != null && now < cached.metadata.expiresAt) {
+      cacheHits.incrementAndGet();
+      return createResponse(cached.metadata, cached.body);
+    }
+    cacheMisses.incrementAndGet();
+
+    HttpURLConnection connection = null;
+    // The stale body stays open until the new one is read, it is served if the request fails.
+    boolean servesCached = false;
+    try {
+      connection = networkProxy.createConnection(url);
+      connection.setInstanceFollowRedirects(false);
+      connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+      connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+      if (requestHeaders != null) {
+        for (Map.Entry<String, String> header : requestHeaders.entrySet()) {
+          if (!SKIPPED_REQUEST_HEADERS.contains(header.getKey().toLowerCase(Locale.US))) {
+            connection.setRequestProperty(header.getKey(), header.getValue());
+          }
+        }
+      }
+      final String cookies = networkProxy.getCookie(url);
+      if (cookies != null) {
+        connection.setRequestProperty("Cookie", cookies);
+      }
+      if (cached != null && cached.metadata.etag != null) {
+        connection.setRequestProperty("If-None-Match", cached.metadata.etag);
+      }
+      if (cached != null && cached.metadata.lastModified != null) {
+        connection.setRequestProperty("If-Modified-Since", cached.metadata.lastModified);
+      }
+
+      final int statusCode = connection.getResponseCode();
+      final List<String> setCookies = connection.getHeaderFields().get("Set-Cookie");
+      if (setCookies != null) {
+        for (String setCookie : setCookies) {
+          networkProxy.setCookie(url, setCookie);
+        }
+      }
+
+      if (statusCode == HttpURLConnection.HTTP_NOT_MODIFIED && cached != null) {
+        final WebResourceCache.Metadata metadata =
+            cached.metadata.withExpiresAt(Math.max(now, expiresAt(connection, now)));
+        connection.disconnect();
+        cache.update(metadata);
+        servesCached = true;
+        return createResponse(metadata, cached.body);
+      }
+
+      if (statusCode != HttpURLConnection.HTTP_OK) {
+        // Redirects and errors are left to the WebView, the request is sent again.
+        connection.disconnect();
+        return null;
+      }
+
+      final String contentType = connection.getContentType();
+      final String mimeType = mimeTypeFromContentType(contentType);
+      final String encoding = charsetFromContentType(contentType);
+      final Map<String, String> responseHeaders = responseHeaders(connection);
+      final long expiresAt = expiresAt(connection, now);
+      final InputStream body = connection.getInputStream();
+      if (expiresAt < 0) {
+        return createResponse(mimeType, encoding, statusCode, "OK", responseHeaders, body);
+      }
+
+      // Buffers bodies that fit in a tenth of the cache, larger ones are streamed.
+      final long maxEntrySize = cache.maxSize() / 10;
+      final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+      final byte[] chunk = new byte[8192];
+      int read;
+      while (buffer.size() <= maxEntrySize && (read = body.read(chunk)) != -1) {
+        buffer.write(chunk, 0, read);
+      }
+      if (buffer.size() > maxEntrySize) {
+        return createResponse(
+            mimeType,
+            encoding,
+            statusCode,
+            "OK",
+            responseHeaders,
+            new SequenceInputStream(new ByteArrayInputStream(buffer.toByteArray()), body));
+      }
+      body.close();
+      final WebResourceCache.Metadata metadata =
+          new WebResourceCache.Metadata(
+              url,
+              mimeType,
+              encoding,
+              responseHeaders,
+              expiresAt,
+              connection.getHeaderField("ETag"),
+              connection.getHeaderField("Last-Modified"));
+      final byte[] data = buffer.toByteArray();
+      cache.put(metadata, data);
+      return createResponse(metadata, new ByteArrayInputStream(data));
+    } catch (IOException e) {
+      if (connection != null) {
+        connection.disconnect();
+      }
+      if (cached != null) {
+        // Serves the stale response when offline.
+        servesCached = true;
+        return createResponse(cached.metadata, cached.body);
+      }
+      return null;
+    } finally {
+      if (!servesCached) {
+        closeQuietly(cached);
+      }
+    }
+  }
+
+  private boolean isCached(String url) {
+    for (String prefix : cachedUrlPrefixes) {
+      if (url.startsWith(prefix)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the time until which a response can be served without revalidation, or -1 if it must
+   * not be stored.
+   */
+  @VisibleForTesting
+  static long expiresAt(
+      @Nullable String cacheControl,
+      @Nullable String expires,
+      @Nullable String date,
+      @Nullable String lastModified,
+      @Nullable String vary,
+      long now) {
+    if (vary != null && !vary.trim().equalsIgnoreCase("accept-encoding")) {
+      return -1;
+    }
+    if (cacheControl != null) {
+      // Directives can come in any order, no-store wins over the others and no-cache over max-age.
+      boolean noCache = false;
+      Long maxAgeMillis = null;
+      for (String directive : cacheControl.toLowerCase(Locale.US).split(",")) {
+        directive = directive.trim();
+        if (directive.equals("no-store")) {
+          return -1;
+        } else if (directive.equals("no-cache")) {
+          noCache = true;
+        } else if (directive.startsWith("max-age=") && maxAgeMillis == null) {
+          try {
+            maxAgeMillis = Long.parseLong(directive.substring(8).replace("\"", "")) * 1000;
+          } catch (NumberFormatException e) {
+            maxAgeMillis = 0L;
+          }
+        }
+      }
+      if (noCache) {
+        return now;
+      }
+      if (maxAgeMillis != null) {
+        return now + maxAgeMillis;
+      }
+    }
+    final long parsedDateMillis = date != null ? parseHttpDate(date) : 0;
+    // The time of the response is used when its date is missing or invalid.
+    final long dateMillis = parsedDateMillis > 0 ? parsedDateMillis : now;
+    if (expires != null) {
+      final long expiresMillis = parseHttpDate(expires);
+      // An invalid date means the response is already expired.
+      return expiresMillis > 0 ? now + Math.max(0, expiresMillis - dateMillis) : now;
+    }
+    if (lastModified != null) {
+      final long lastModifiedMillis = parseHttpDate(lastModified);
+      if (lastModifiedMillis > 0 && lastModifiedMillis < dateMillis) {
+        // Heuristic freshness of RFC 7234: a tenth of the time since the last modification.
+        return now + (dateMillis - lastModifiedMillis) / 10;
+      }
+    }
+    // Stored, but revalidated before use.
+    return now;
+  }
+
+  private static long expiresAt(HttpURLConnection connection, long now) {
+    return expiresAt(
+        connection.getHeaderField("Cache-Control"),
+        connection.getHeaderField("Expires"),
+        connection.getHeaderField("Date"),
+        connection.getHeaderField("Last-Modified"),
+        connection.getHeaderField("Vary"),
+        now);
+  }
+
+  private static long parseHttpDate(String value) {
+    final SimpleDateFormat format =
+        new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.US);
+    format.setTimeZone(TimeZone.getTimeZone("GMT"));
+    try {
+      final Date date = format.parse(value);
+      return date != null ? date.getTime() : 0;
+    } catch (ParseException e) {
+      return 0;
+    }
+  }
+
+  private static Map<String, String> responseHeaders(HttpURLConnection connection) {
+    final Map<String, String> headers = new HashMap<>();
+    for (Map.Entry<String, List<String>> header : connection.getHeaderFields().entrySet()) {
+      final String name = header.getKey();
+      if (name != null
+          && !header.getValue().isEmpty()
+          && !SKIPPED_RESPONSE_HEADERS.contains(name.toLowerCase(Locale.US))) {
+        headers.put(name, header.getValue().get(header.getValue().size() - 1));
+      }
+    }
+    return headers;
+  }
+
+  private static WebResourceResponse createResponse(
+      WebResourceCache.Metadata metadata, InputStream data) {
+    return createResponse(metadata.mimeType, metadata.encoding, 200, "OK", metadata.headers, data);
+  }
+
+  private static WebResourceResponse createResponse(
+      String mimeType,
+      @Nullable String encoding,
+      int statusCode,
+      String reasonPhrase,
+      Map<String, String> headers,
+      InputStream data) {
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+      return new WebResourceResponse(mimeType, encoding, statusCode, reasonPhrase, headers, data);
+    }
+    return new WebResourceResponse(mimeType, encoding, data);
+  }
+
+  @VisibleForTesting
+  static String mimeTypeForPath(String path) {
+    final int dot = path.lastIndexOf('.');
+    final String extension = dot >= 0 ? path.substring(dot + 1).toLowerCase(Locale.US) : "";
+    switch (extension) {
+      case "html":
+      case "htm":
+        return "text/html";
+      case "css":
+        return "text/css";
+      case "js":
+      case "mjs":
+        return "application/javascript";
+      case "json":
+        return "application/json";
+      case "wasm":
+        return "application/wasm";
+      case "svg":
+        return "image/svg+xml";
+      default:
+        final String mimeType = MimeTypeMap.getSingleton().getMimeTypeFromExtension(extension);
+        return mimeType != null ? mimeType : DEFAULT_MIME_TYPE;
+    }
+  }
+
+  @Nullable
+  private static String encodingFor(String mimeType) {
+    return mimeType.startsWith("text/")
+            || mimeType.equals("application/javascript")
+            || mimeType.equals("application/json")
+            || mimeType.equals("image/svg+xml")
+        ? "UTF-8"
+        : null;
+  }
+
+  @NonNull
+  private static String mimeTypeFromContentType(@Nullable String contentType) {
+    if (contentType == null) {
+      return DEFAULT_MIME_TYPE;
+    }
+    final int separator = contentType.indexOf(';');
+    return (separator >= 0 ? contentType.substring(0, separator) : contentType).trim();
+  }
+
+  @Nullable
+  private static String charsetFromContentType(@Nullable String contentType) {
+    if (contentType == null) {
+      return null;
+    }
+    for (String parameter : contentType.split(";")) {
+      parameter = parameter.trim();
+      if (parameter.toLowerCase(Locale.US).startsWith("charset=")) {
+        return parameter.substring(8).replace("\"", "");
+      }
+    }
+    return null;
+  }
+
+  private static String stripQueryAndFragment(String path) {
+    int end = path.length();
+    final int query = path.indexOf('?');
+    if (query >= 0) {
+      end = query;
+    }
+    final int fragment = path.indexOf('#');
+    if (fragment >= 0 && fragment < end) {
+      end = fragment;
+    }
+    return path.substring(0, end);
+  }
+
+  private static String trimSlashes(String path) {
+    int start = 0;
+    int end = path.length();
+    while (start < end && path.charAt(start) == '/') {
+      start++;
+    }
+    while (end > start && path.charAt(end - 1) == '/') {
+      end--;
+    }
+    return path.substring(start, end);
+  }
+
+  private static boolean hasHeader(@Nullable Map<String, String> headers, String name) {
+    if (headers == null) {
+      return false;
+    }
+    for (String key : headers.keySet()) {
+      if (key.equalsIgnoreCase(name)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void closeQuietly(@Nullable WebResourceCache.Entry entry) {
+    if (entry == null) {
+      return;
+    }
+    try {
+      entry.body.close();
+    } catch (IOException e) {
+      // Nothing to do, the body was only read from.
+    }
+  }
+}
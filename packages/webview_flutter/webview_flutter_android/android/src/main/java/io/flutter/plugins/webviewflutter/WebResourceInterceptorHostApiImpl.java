@@ -0,0 +1,48 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebResourceInterceptorHostApi;
+import java.util.List;
+import java.util.Map;
+
+/** Host api implementation for {@link WebResourceInterceptor}. */
+public class WebResourceInterceptorHostApiImpl implements WebResourceInterceptorHostApi {
+  private final WebResourceInterceptor webResourceInterceptor;
+
+  /**
+   * Creates a host API that configures a {@link WebResourceInterceptor}.
+   *
+   * @param webResourceInterceptor the interceptor used by the WebViewClients of the plugin
+   */
+  public WebResourceInterceptorHostApiImpl(WebResourceInterceptor webResourceInterceptor) {
+    this.webResourceInterceptor = webResourceInterceptor;
+  }
+
+  @Override
+  public void setAssetRule(String urlPrefix, String assetDirectory) {
+    webResourceInterceptor.setAssetRule(urlPrefix, assetDirectory);
+  }
+
+  @Override
+  public void removeAssetRule(String urlPrefix) {
+    webResourceInterceptor.removeAssetRule(urlPrefix);
+  }
+
+  @Override
+  public void setCache(List<String> urlPrefixes, Long maxSize) {
+    webResourceInterceptor.setCache(urlPrefixes, maxSize);
+  }
+
+  @Override
+  public void clearCache() {
+    webResourceInterceptor.clearCache();
+  }
+
+  @Override
+  public Map<String, Long> getStats() {
+    return webResourceInterceptor.getStats();
+  }
+}
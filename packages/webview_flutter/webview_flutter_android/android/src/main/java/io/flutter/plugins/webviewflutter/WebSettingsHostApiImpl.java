@@ -45,7 +45,8 @@ public class WebSettingsHostApiImpl implements WebSettingsHostApi {
   @Override
   public void create(Long instanceId, Long webViewInstanceId) {
     final WebView webView = (WebView) instanceManager.getInstance(webViewInstanceId);
-    instanceManager.addInstance(webSettingsCreator.createWebSettings(webView), instanceId);
+    // The WebView keeps its settings alive.
+    instanceManager.addWeakInstance(webSettingsCreator.createWebSettings(webView), instanceId);
   }
 
   @Override
@@ -12,8 +12,10 @@ import android.webkit.WebView;
 import android.webkit.WebViewClient;
 import androidx.annotation.RequiresApi;
 import androidx.webkit.WebResourceErrorCompat;
+import io.flutter.plugin.common.BasicMessageChannel;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewClientFlutterApi;
+import java.util.ArrayList;
 
 /**
  * Flutter Api implementation for {@link WebViewClient}.
@@ -22,6 +24,9 @@ import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewClientFl
  */
 public class WebViewClientFlutterApiImpl extends WebViewClientFlutterApi {
   private final InstanceManager instanceManager;
+  // Callbacks sent for every page reuse their channel instead of creating one for each message.
+  private final BasicMessageChannel<Object> onPageStartedChannel;
+  private final BasicMessageChannel<Object> onPageFinishedChannel;
 
   @RequiresApi(api = Build.VERSION_CODES.M)
   static GeneratedAndroidWebView.WebResourceErrorData createWebResourceErrorData(
@@ -72,26 +77,42 @@ public class WebViewClientFlutterApiImpl extends WebViewClientFlutterApi {
       BinaryMessenger binaryMessenger, InstanceManager instanceManager) {
     super(binaryMessenger);
     this.instanceManager = instanceManager;
+    onPageStartedChannel =
+        new BasicMessageChannel<>(
+            binaryMessenger,
+            "dev.flutter.pigeon.WebViewClientFlutterApi.onPageStarted",
+            WebViewClientFlutterApi.getCodec());
+    onPageFinishedChannel =
+        new BasicMessageChannel<>(
+            binaryMessenger,
+            "dev.flutter.pigeon.WebViewClientFlutterApi.onPageFinished",
+            WebViewClientFlutterApi.getCodec());
   }
 
   /** Passes arguments from {@link WebViewClient#onPageStarted} to Dart. */
   public void onPageStarted(
       WebViewClient webViewClient, WebView webView, String urlArg, Reply<Void> callback) {
-    onPageStarted(
-        instanceManager.getInstanceId(webViewClient),
-        instanceManager.getInstanceId(webView),
-        urlArg,
-        callback);
+    sendPageEvent(onPageStartedChannel, webViewClient, webView, urlArg, callback);
   }
 
   /** Passes arguments from {@link WebViewClient#onPageFinished} to Dart. */
   public void onPageFinished(
       WebViewClient webViewClient, WebView webView, String urlArg, Reply<Void> callback) {
-    onPageFinished(
-        instanceManager.getInstanceId(webViewClient),
-        instanceManager.getInstanceId(webView),
-        urlArg,
-        callback);
+    sendPageEvent(onPageFinishedChannel, webViewClient, webView, urlArg, callback);
+  }
+
+  // Sends the same message as the generated method, without its intermediate list.
+  private void sendPageEvent(
+      BasicMessageChannel<Object> channel,
+      WebViewClient webViewClient,
+      WebView webView,
+      String urlArg,
+      Reply<Void> callback) {
+    final ArrayList<Object> args = new ArrayList<>(3);
+    args.add(instanceManager.getInstanceId(webViewClient));
+    args.add(instanceManager.getInstanceId(webView));
+    args.add(urlArg);
+    channel.send(args, channelReply -> callback.reply(null));
   }
 
   /**
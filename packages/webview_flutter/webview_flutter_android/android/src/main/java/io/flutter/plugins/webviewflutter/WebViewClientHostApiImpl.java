@@ -11,6 +11,7 @@ import android.os.Build;
 import android.view.KeyEvent;
 import android.webkit.WebResourceError;
 import android.webkit.WebResourceRequest;
+import android.webkit.WebResourceResponse;
 import android.webkit.WebView;
 import android.webkit.WebViewClient;
 import androidx.annotation.NonNull;
@@ -39,6 +40,9 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
   public static class WebViewClientImpl extends WebViewClient implements ReleasableWebViewClient {
     @Nullable private WebViewClientFlutterApiImpl flutterApi;
     private final boolean shouldOverrideUrlLoading;
+    @Nullable private final WebResourceInterceptor webResourceInterceptor;
+    @Nullable private final UserScriptManager userScriptManager;
+    @Nullable private final PageLoadMetrics pageLoadMetrics;
 
     /**
      * Creates a {@link WebViewClient} that passes arguments of callbacks methods to Dart.
@@ -48,12 +52,35 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
      */
     public WebViewClientImpl(
         @NonNull WebViewClientFlutterApiImpl flutterApi, boolean shouldOverrideUrlLoading) {
+      this(flutterApi, shouldOverrideUrlLoading, ClientDelegates.NONE);
+    }
+
+    /**
+     * Creates a {@link WebViewClient} that passes arguments of callbacks methods to Dart.
+     *
+     * @param flutterApi handles sending messages to Dart
+     * @param shouldOverrideUrlLoading whether loading a url should be overridden
+     * @param delegates the plugin objects that WebView callbacks are also forwarded to
+     */
+    public WebViewClientImpl(
+        @NonNull WebViewClientFlutterApiImpl flutterApi,
+        boolean shouldOverrideUrlLoading,
+        @NonNull ClientDelegates delegates) {
       this.shouldOverrideUrlLoading = shouldOverrideUrlLoading;
       this.flutterApi = flutterApi;
+      this.webResourceInterceptor = delegates.webResourceInterceptor;
+      this.userScriptManager = delegates.userScriptManager;
+      this.pageLoadMetrics = delegates.pageLoadMetrics;
     }
 
     @Override
     public void onPageStarted(WebView view, String url, Bitmap favicon) {
+      if (pageLoadMetrics != null) {
+        pageLoadMetrics.onPageStarted(view, url);
+      }
+      if (userScriptManager != null) {
+        userScriptManager.onPageStarted(view, url);
+      }
       if (flutterApi != null) {
         flutterApi.onPageStarted(this, view, url, reply -> {});
       }
@@ -61,13 +88,37 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
 
     @Override
     public void onPageFinished(WebView view, String url) {
+      WebViewPool.onPageFinished(view, url);
+      if (pageLoadMetrics != null) {
+        pageLoadMetrics.onPageFinished(view);
+      }
       if (flutterApi != null) {
         flutterApi.onPageFinished(this, view, url, reply -> {});
       }
     }
 
+    @Override
+    public void onPageCommitVisible(@NonNull WebView view, @NonNull String url) {
+      if (pageLoadMetrics != null) {
+        pageLoadMetrics.onPageCommitVisible(view);
+      }
+    }
+
+    @Override
+    public void onReceivedHttpError(
+        @NonNull WebView view,
+        @NonNull WebResourceRequest request,
+        @NonNull WebResourceResponse errorResponse) {
+      if (pageLoadMetrics != null) {
+        pageLoadMetrics.onReceivedHttpError(view);
+      }
+    }
+
     @Override
     public void onReceivedError(WebView view, WebResourceRequest request, WebResourceError error) {
+      if (pageLoadMetrics != null) {
+        pageLoadMetrics.onReceivedError(view);
+      }
       if (flutterApi != null) {
         flutterApi.onReceivedRequestError(this, view, request, error, reply -> {});
       }
@@ -76,6 +127,9 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
     @Override
     public void onReceivedError(
         WebView view, int errorCode, String description, String failingUrl) {
+      if (pageLoadMetrics != null) {
+        pageLoadMetrics.onReceivedError(view);
+      }
       if (flutterApi != null) {
         flutterApi.onReceivedError(
             this, view, (long) errorCode, description, failingUrl, reply -> {});
@@ -98,6 +152,17 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
       return shouldOverrideUrlLoading;
     }
 
+    @Nullable
+    @Override
+    public WebResourceResponse shouldInterceptRequest(
+        @NonNull WebView view, @NonNull WebResourceRequest request) {
+      if (webResourceInterceptor == null) {
+        return null;
+      }
+      return webResourceInterceptor.intercept(
+          request.getMethod(), request.getUrl().toString(), request.getRequestHeaders());
+    }
+
     @Override
     public void onUnhandledKeyEvent(WebView view, KeyEvent event) {
       // Deliberately empty. Occasionally the webview will mark events as having failed to be
@@ -122,14 +187,34 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
     private @Nullable WebViewClientFlutterApiImpl flutterApi;
     private final boolean shouldOverrideUrlLoading;
 
+    @Nullable private final WebResourceInterceptor webResourceInterceptor;
+    @Nullable private final UserScriptManager userScriptManager;
+    @Nullable private final PageLoadMetrics pageLoadMetrics;
+
     public WebViewClientCompatImpl(
         @NonNull WebViewClientFlutterApiImpl flutterApi, boolean shouldOverrideUrlLoading) {
+      this(flutterApi, shouldOverrideUrlLoading, ClientDelegates.NONE);
+    }
+
+    public WebViewClientCompatImpl(
+        @NonNull WebViewClientFlutterApiImpl flutterApi,
+        boolean shouldOverrideUrlLoading,
+        @NonNull ClientDelegates delegates) {
       this.shouldOverrideUrlLoading = shouldOverrideUrlLoading;
       this.flutterApi = flutterApi;
+      this.webResourceInterceptor = delegates.webResourceInterceptor;
+      this.userScriptManager = delegates.userScriptManager;
+      this.pageLoadMetrics = delegates.pageLoadMetrics;
     }
 
     @Override
     public void onPageStarted(WebView view, String url, Bitmap favicon) {
+      if (pageLoadMetrics != null) {
+        pageLoadMetrics.onPageStarted(view, url);
+      }
+      if (userScriptManager != null) {
+        userScriptManager.onPageStarted(view, url);
+      }
       if (flutterApi != null) {
         flutterApi.onPageStarted(this, view, url, reply -> {});
       }
@@ -137,11 +222,32 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
 
     @Override
     public void onPageFinished(WebView view, String url) {
+      WebViewPool.onPageFinished(view, url);
+      if (pageLoadMetrics != null) {
+        pageLoadMetrics.onPageFinished(view);
+      }
       if (flutterApi != null) {
         flutterApi.onPageFinished(this, view, url, reply -> {});
       }
     }
 
+    @Override
+    public void onPageCommitVisible(@NonNull WebView view, @NonNull String url) {
+      if (pageLoadMetrics != null) {
+        pageLoadMetrics.onPageCommitVisible(view);
+      }
+    }
+
+    @Override
+    public void onReceivedHttpError(
+        @NonNull WebView view,
+        @NonNull WebResourceRequest request,
+        @NonNull WebResourceResponse errorResponse) {
+      if (pageLoadMetrics != null) {
+        pageLoadMetrics.onReceivedHttpError(view);
+      }
+    }
+
     // This method is only called when the WebViewFeature.RECEIVE_WEB_RESOURCE_ERROR feature is
     // enabled. The deprecated method is called when a device doesn't support this.
     @RequiresApi(api = Build.VERSION_CODES.LOLLIPOP)
@@ -151,6 +257,9 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
         @NonNull WebView view,
         @NonNull WebResourceRequest request,
         @NonNull WebResourceErrorCompat error) {
+      if (pageLoadMetrics != null) {
+        pageLoadMetrics.onReceivedError(view);
+      }
       if (flutterApi != null) {
         flutterApi.onReceivedRequestError(this, view, request, error, reply -> {});
       }
@@ -159,6 +268,9 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
     @Override
     public void onReceivedError(
         WebView view, int errorCode, String description, String failingUrl) {
+      if (pageLoadMetrics != null) {
+        pageLoadMetrics.onReceivedError(view);
+      }
       if (flutterApi != null) {
         flutterApi.onReceivedError(
             this, view, (long) errorCode, description, failingUrl, reply -> {});
@@ -183,6 +295,28 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
       return shouldOverrideUrlLoading;
     }
 
+    @TargetApi(Build.VERSION_CODES.LOLLIPOP)
+    @Nullable
+    @Override
+    public WebResourceResponse shouldInterceptRequest(
+        @NonNull WebView view, @NonNull WebResourceRequest request) {
+      if (webResourceInterceptor == null) {
+        return null;
+      }
+      return webResourceInterceptor.intercept(
+          request.getMethod(), request.getUrl().toString(), request.getRequestHeaders());
+    }
+
+    // Only called before Lollipop, the request has no method or headers then.
+    @Nullable
+    @Override
+    public WebResourceResponse shouldInterceptRequest(@NonNull WebView view, @NonNull String url) {
+      if (webResourceInterceptor == null) {
+        return null;
+      }
+      return webResourceInterceptor.intercept("GET", url, null);
+    }
+
     @Override
     public void onUnhandledKeyEvent(WebView view, KeyEvent event) {
       // Deliberately empty. Occasionally the webview will mark events as having failed to be
@@ -198,8 +332,51 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
     }
   }
 
+  /**
+   * The plugin objects that the created {@link WebViewClient}s also forward WebView callbacks to.
+   * Each one is optional.
+   */
+  public static class ClientDelegates {
+    /** Forwards the callbacks to Dart only. */
+    public static final ClientDelegates NONE = new ClientDelegates(null, null, null);
+
+    @Nullable final WebResourceInterceptor webResourceInterceptor;
+    @Nullable final UserScriptManager userScriptManager;
+    @Nullable final PageLoadMetrics pageLoadMetrics;
+
+    /**
+     * @param webResourceInterceptor answers requests without loading them, if not null
+     * @param userScriptManager injects the user scripts the WebView doesn't inject, if not null
+     * @param pageLoadMetrics collects the timings of navigations, if not null
+     */
+    public ClientDelegates(
+        @Nullable WebResourceInterceptor webResourceInterceptor,
+        @Nullable UserScriptManager userScriptManager,
+        @Nullable PageLoadMetrics pageLoadMetrics) {
+      this.webResourceInterceptor = webResourceInterceptor;
+      this.userScriptManager = userScriptManager;
+      this.pageLoadMetrics = pageLoadMetrics;
+    }
+  }
+
   /** Handles creating {@link WebViewClient}s for a {@link WebViewClientHostApiImpl}. */
   public static class WebViewClientCreator {
+    private final ClientDelegates delegates;
+
+    /** Creates {@link WebViewClient}s that only forward callbacks to Dart. */
+    public WebViewClientCreator() {
+      this(ClientDelegates.NONE);
+    }
+
+    /**
+     * Creates {@link WebViewClient}s that also forward callbacks to plugin objects.
+     *
+     * @param delegates the plugin objects that WebView callbacks are also forwarded to
+     */
+    public WebViewClientCreator(@NonNull ClientDelegates delegates) {
+      this.delegates = delegates;
+    }
+
     /**
      * Creates a {@link WebViewClient}.
      *
@@ -217,9 +394,9 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
       // to bug https://bugs.chromium.org/p/chromium/issues/detail?id=925887. Also, see
       // https://github.com/flutter/flutter/issues/29446.
       if (android.os.Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
-        return new WebViewClientImpl(flutterApi, shouldOverrideUrlLoading);
+        return new WebViewClientImpl(flutterApi, shouldOverrideUrlLoading, delegates);
       } else {
-        return new WebViewClientCompatImpl(flutterApi, shouldOverrideUrlLoading);
+        return new WebViewClientCompatImpl(flutterApi, shouldOverrideUrlLoading, delegates);
       }
     }
   }
@@ -4,8 +4,10 @@
 
 package io.flutter.plugins.webviewflutter;
 
+import android.app.Application;
 import android.content.Context;
 import android.os.Handler;
+import android.os.Looper;
 import android.view.View;
 import androidx.annotation.NonNull;
 import io.flutter.embedding.engine.plugins.FlutterPlugin;
@@ -16,11 +18,24 @@ import io.flutter.plugin.platform.PlatformViewRegistry;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.CookieManagerHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.DownloadListenerHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.FlutterAssetManagerHostApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.InstanceManagerFlutterApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.InstanceManagerHostApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaScriptBatchHostApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaScriptChannelBatchingHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaScriptChannelHostApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.MemoryTrimmerFlutterApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.MemoryTrimmerHostApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.PageLoadMetricsHostApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.UserScriptHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebChromeClientHostApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebResourceInterceptorHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebSettingsHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewClientHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewHostApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewPoolHostApi;
+import java.io.File;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Java platform implementation of the webview_flutter plugin.
@@ -30,9 +45,15 @@ import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewHostApi;
  * <p>Call {@link #registerWith} to use the stable {@code io.flutter.plugin.common} package instead.
  */
 public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
+  private static final int MAX_CONCURRENT_DOWNLOADS = 3;
+
   private FlutterPluginBinding pluginBinding;
   private WebViewHostApiImpl webViewHostApi;
+  private WebViewPool webViewPool;
   private JavaScriptChannelHostApiImpl javaScriptChannelHostApi;
+  private Context applicationContext;
+  private MemoryTrimmer memoryTrimmer;
+  private ExecutorService downloadExecutor;
 
   /**
    * Add an instance of this to {@link io.flutter.embedding.engine.plugins.PluginRegistry} to
@@ -74,14 +95,40 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
       View containerView,
       FlutterAssetManager flutterAssetManager) {
 
-    InstanceManager instanceManager = new InstanceManager();
+    final InstanceManagerFlutterApi instanceManagerFlutterApi =
+        new InstanceManagerFlutterApi(binaryMessenger);
+    InstanceManager instanceManager =
+        new InstanceManager(
+            instanceIds ->
+                instanceManagerFlutterApi.onInstancesFinalized(instanceIds, reply -> {}));
 
     viewRegistry.registerViewFactory(
         "plugins.flutter.io/webview", new FlutterWebViewFactory(instanceManager));
 
-    webViewHostApi =
-        new WebViewHostApiImpl(
-            instanceManager, new WebViewHostApiImpl.WebViewProxy(), context, containerView);
+    final WebViewHostApiImpl.WebViewProxy webViewProxy = new WebViewHostApiImpl.WebViewProxy();
+    final UserScriptManager userScriptManager =
+        new UserScriptManager(new UserScriptManager.WebViewCompatProxy());
+    final PageLoadMetrics pageLoadMetrics = new PageLoadMetrics(new PageLoadMetrics.ClockProxy());
+    webViewPool =
+        new WebViewPool(webViewProxy, context, containerView, userScriptManager, pageLoadMetrics);
+    webViewHostApi = new WebViewHostApiImpl(instanceManager, webViewProxy, webViewPool);
+
+    final MemoryTrimmerFlutterApi memoryTrimmerFlutterApi =
+        new MemoryTrimmerFlutterApi(binaryMessenger);
+    applicationContext = context.getApplicationContext();
+    memoryTrimmer =
+        new MemoryTrimmer(
+            instanceManager,
+            webViewPool,
+            new MemoryTrimmer.MemoryProxy(),
+            applicationContext,
+            (report, destroyedWebViewInstanceIds) ->
+                memoryTrimmerFlutterApi.onMemoryTrimmed(
+                    report, destroyedWebViewInstanceIds, reply -> {}));
+    applicationContext.registerComponentCallbacks(memoryTrimmer);
+    if (applicationContext instanceof Application) {
+      ((Application) applicationContext).registerActivityLifecycleCallbacks(memoryTrimmer);
+    }
     javaScriptChannelHostApi =
         new JavaScriptChannelHostApiImpl(
             instanceManager,
@@ -89,25 +136,39 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
             new JavaScriptChannelFlutterApiImpl(binaryMessenger, instanceManager),
             new Handler(context.getMainLooper()));
 
+    final WebResourceInterceptor webResourceInterceptor =
+        new WebResourceInterceptor(
+            flutterAssetManager,
+            new File(context.getCacheDir(), "webview_flutter_cache"),
+            new WebResourceInterceptor.NetworkProxy());
+
+    final Handler mainThreadHandler = new Handler(Looper.getMainLooper());
+    downloadExecutor = Executors.newFixedThreadPool(MAX_CONCURRENT_DOWNLOADS);
+    final StreamingDownloader streamingDownloader =
+        new StreamingDownloader(
+            new StreamingDownloader.DownloadProxy(), downloadExecutor, mainThreadHandler::post);
+
     WebViewHostApi.setup(binaryMessenger, webViewHostApi);
     JavaScriptChannelHostApi.setup(binaryMessenger, javaScriptChannelHostApi);
     WebViewClientHostApi.setup(
         binaryMessenger,
         new WebViewClientHostApiImpl(
             instanceManager,
-            new WebViewClientHostApiImpl.WebViewClientCreator(),
+            new WebViewClientHostApiImpl.WebViewClientCreator(
+                new WebViewClientHostApiImpl.ClientDelegates(
+                    webResourceInterceptor, userScriptManager, pageLoadMetrics)),
             new WebViewClientFlutterApiImpl(binaryMessenger, instanceManager)));
     WebChromeClientHostApi.setup(
         binaryMessenger,
         new WebChromeClientHostApiImpl(
             instanceManager,
-            new WebChromeClientHostApiImpl.WebChromeClientCreator(),
+            new WebChromeClientHostApiImpl.WebChromeClientCreator(pageLoadMetrics),
             new WebChromeClientFlutterApiImpl(binaryMessenger, instanceManager)));
     DownloadListenerHostApi.setup(
         binaryMessenger,
         new DownloadListenerHostApiImpl(
             instanceManager,
-            new DownloadListenerHostApiImpl.DownloadListenerCreator(),
+            new DownloadListenerHostApiImpl.DownloadListenerCreator(streamingDownloader),
             new DownloadListenerFlutterApiImpl(binaryMessenger, instanceManager)));
     WebSettingsHostApi.setup(
         binaryMessenger,
@@ -116,6 +177,18 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
     FlutterAssetManagerHostApi.setup(
         binaryMessenger, new FlutterAssetManagerHostApiImpl(flutterAssetManager));
     CookieManagerHostApi.setup(binaryMessenger, new CookieManagerHostApiImpl());
+    WebViewPoolHostApi.setup(binaryMessenger, new WebViewPoolHostApiImpl(webViewPool));
+    WebResourceInterceptorHostApi.setup(
+        binaryMessenger, new WebResourceInterceptorHostApiImpl(webResourceInterceptor));
+    JavaScriptChannelBatchingHostApi.setup(
+        binaryMessenger, new JavaScriptChannelBatchingHostApiImpl(instanceManager));
+    JavaScriptBatchHostApi.setup(binaryMessenger, new JavaScriptBatchHostApiImpl(instanceManager));
+    UserScriptHostApi.setup(
+        binaryMessenger, new UserScriptHostApiImpl(instanceManager, userScriptManager));
+    InstanceManagerHostApi.setup(binaryMessenger, new InstanceManagerHostApiImpl(instanceManager));
+    MemoryTrimmerHostApi.setup(binaryMessenger, new MemoryTrimmerHostApiImpl(memoryTrimmer));
+    PageLoadMetricsHostApi.setup(
+        binaryMessenger, new PageLoadMetricsHostApiImpl(instanceManager, pageLoadMetrics));
   }
 
   @Override
@@ -131,7 +204,21 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
   }
 
   @Override
-  public void onDetachedFromEngine(@NonNull FlutterPluginBinding binding) {}
+  public void onDetachedFromEngine(@NonNull FlutterPluginBinding binding) {
+    if (webViewPool != null) {
+      webViewPool.clear();
+    }
+    if (memoryTrimmer != null) {
+      applicationContext.unregisterComponentCallbacks(memoryTrimmer);
+      if (applicationContext instanceof Application) {
+        ((Application) applicationContext).unregisterActivityLifecycleCallbacks(memoryTrimmer);
+      }
+    }
+    if (downloadExecutor != null) {
+      // Interrupts the running downloads, which keep their partial files.
+      downloadExecutor.shutdownNow();
+    }
+  }
 
   @Override
   public void onAttachedToActivity(@NonNull ActivityPluginBinding activityPluginBinding) {
@@ -6,10 +6,10 @@ package io.flutter.plugins.webviewflutter;
 
 import android.annotation.SuppressLint;
 import android.content.Context;
-import android.hardware.display.DisplayManager;
 import android.view.View;
 import android.webkit.DownloadListener;
 import android.webkit.WebChromeClient;
+import android.webkit.WebSettings;
 import android.webkit.WebView;
 import android.webkit.WebViewClient;
 import androidx.annotation.NonNull;
@@ -35,10 +35,16 @@ public class WebViewHostApiImpl implements WebViewHostApi {
 
   private final InstanceManager instanceManager;
   private final WebViewProxy webViewProxy;
-  // Only used with WebView using virtual displays.
-  @Nullable private final View containerView;
+  private final WebViewPool webViewPool;
 
-  private Context context;
+  /** A {@link WebView} that is shown by a Flutter {@link PlatformView}. */
+  interface PlatformViewWebView {
+    /** Called once Flutter created the platform view showing the WebView. */
+    void onPlatformViewCreated();
+
+    /** Whether a platform view that Flutter didn't dispose yet shows the WebView. */
+    boolean isShownByPlatformView();
+  }
 
   /** Handles creating and calling static methods for {@link WebView}s. */
   public static class WebViewProxy {
@@ -72,6 +78,16 @@ public class WebViewHostApiImpl implements WebViewHostApi {
     public void setWebContentsDebuggingEnabled(boolean enabled) {
       WebView.setWebContentsDebuggingEnabled(enabled);
     }
+
+    /**
+     * Forwards call to {@link WebSettings#getDefaultUserAgent}.
+     *
+     * @param context a Context object used to access application assets
+     * @return the default User-Agent used by a WebView
+     */
+    public String getDefaultUserAgent(Context context) {
+      return WebSettings.getDefaultUserAgent(context);
+    }
   }
 
   private static class ReleasableValue<T extends Releasable> {
@@ -102,7 +118,8 @@ public class WebViewHostApiImpl implements WebViewHostApi {
   }
 
   /** Implementation of {@link WebView} that can be used as a Flutter {@link PlatformView}s. */
-  public static class WebViewPlatformView extends WebView implements PlatformView, Releasable {
+  public static class WebViewPlatformView extends WebView
+      implements PlatformView, Releasable, WebViewPool.PoolableWebView, PlatformViewWebView {
     private final ReleasableValue<WebViewClientHostApiImpl.ReleasableWebViewClient>
         currentWebViewClient = new ReleasableValue<>();
     private final ReleasableValue<DownloadListenerImpl> currentDownloadListener =
@@ -112,6 +129,12 @@ public class WebViewHostApiImpl implements WebViewHostApi {
     private final Map<String, ReleasableValue<JavaScriptChannel>> javaScriptInterfaces =
         new HashMap<>();
 
+    @Nullable private WebViewPool webViewPool;
+    private boolean platformViewCreated;
+    private boolean disposed;
+    private boolean released;
+    private boolean historyReset;
+
     /**
      * Creates a {@link WebViewPlatformView}.
      *
@@ -128,7 +151,14 @@ public class WebViewHostApiImpl implements WebViewHostApi {
 
     @Override
     public void dispose() {
-      destroy();
+      disposed = true;
+      if (webViewPool == null) {
+        destroy();
+        return;
+      }
+      if (released) {
+        webViewPool.recycle(this);
+      }
     }
 
     @Override
@@ -180,10 +210,55 @@ public class WebViewHostApiImpl implements WebViewHostApi {
       currentWebViewClient.release();
       currentDownloadListener.release();
       currentWebChromeClient.release();
-      for (ReleasableValue<JavaScriptChannel> channel : javaScriptInterfaces.values()) {
-        channel.release();
+      for (Map.Entry<String, ReleasableValue<JavaScriptChannel>> entry :
+          javaScriptInterfaces.entrySet()) {
+        super.removeJavascriptInterface(entry.getKey());
+        entry.getValue().release();
       }
       javaScriptInterfaces.clear();
+
+      released = true;
+      if (disposed && webViewPool != null) {
+        webViewPool.recycle(this);
+      }
+    }
+
+    @Override
+    public void setWebViewPool(@Nullable WebViewPool webViewPool) {
+      this.webViewPool = webViewPool;
+    }
+
+    @Override
+    public void onPlatformViewCreated() {
+      platformViewCreated = true;
+    }
+
+    @Override
+    public boolean isShownByPlatformView() {
+      return platformViewCreated && !disposed;
+    }
+
+    @Override
+    public void resetForReuse() {
+      super.setWebViewClient(new WebViewClient());
+      super.setWebChromeClient(null);
+      super.setDownloadListener(null);
+      platformViewCreated = false;
+      disposed = false;
+      released = false;
+      historyReset = true;
+    }
+
+    @Override
+    public boolean consumeHistoryReset() {
+      final boolean result = historyReset;
+      historyReset = false;
+      return result;
+    }
+
+    @Override
+    public boolean isHistoryResetPending() {
+      return historyReset;
     }
   }
 
@@ -193,7 +268,7 @@ public class WebViewHostApiImpl implements WebViewHostApi {
    */
   @SuppressLint("ViewConstructor")
   public static class InputAwareWebViewPlatformView extends InputAwareWebView
-      implements PlatformView, Releasable {
+      implements PlatformView, Releasable, PlatformViewWebView {
     private final ReleasableValue<WebViewClientHostApiImpl.ReleasableWebViewClient>
         currentWebViewClient = new ReleasableValue<>();
     private final ReleasableValue<DownloadListenerImpl> currentDownloadListener =
@@ -203,6 +278,9 @@ public class WebViewHostApiImpl implements WebViewHostApi {
     private final Map<String, ReleasableValue<JavaScriptChannel>> javaScriptInterfaces =
         new HashMap<>();
 
+    private boolean platformViewCreated;
+    private boolean disposed;
+
     /**
      * Creates a {@link InputAwareWebViewPlatformView}.
      *
@@ -229,7 +307,10 @@ public class WebViewHostApiImpl implements WebViewHostApi {
 
     @Override
     public void dispose() {
+      // Not pooled, since disposing resets the input connection to the containerView of the
+      // virtual display the WebView was shown in.
       super.dispose();
+      disposed = true;
       destroy();
     }
 
@@ -292,11 +373,23 @@ public class WebViewHostApiImpl implements WebViewHostApi {
       currentWebViewClient.release();
       currentDownloadListener.release();
       currentWebChromeClient.release();
-      for (ReleasableValue<JavaScriptChannel> channel : javaScriptInterfaces.values()) {
-        channel.release();
+      for (Map.Entry<String, ReleasableValue<JavaScriptChannel>> entry :
+          javaScriptInterfaces.entrySet()) {
+        super.removeJavascriptInterface(entry.getKey());
+        entry.getValue().release();
       }
       javaScriptInterfaces.clear();
     }
+
+    @Override
+    public void onPlatformViewCreated() {
+      platformViewCreated = true;
+    }
+
+    @Override
+    public boolean isShownByPlatformView() {
+      return platformViewCreated && !disposed;
+    }
   }
 
   /**
@@ -312,10 +405,21 @@ public class WebViewHostApiImpl implements WebViewHostApi {
       WebViewProxy webViewProxy,
       Context context,
       @Nullable View containerView) {
+    this(instanceManager, webViewProxy, new WebViewPool(webViewProxy, context, containerView));
+  }
+
+  /**
+   * Creates a host API that handles creating {@link WebView}s and invoking its methods.
+   *
+   * @param instanceManager maintains instances stored to communicate with Dart objects
+   * @param webViewProxy handles calling static methods of {@link WebView}
+   * @param webViewPool creates {@link WebView}s or hands out pooled ones
+   */
+  public WebViewHostApiImpl(
+      InstanceManager instanceManager, WebViewProxy webViewProxy, WebViewPool webViewPool) {
     this.instanceManager = instanceManager;
     this.webViewProxy = webViewProxy;
-    this.context = context;
-    this.containerView = containerView;
+    this.webViewPool = webViewPool;
   }
 
   /**
@@ -324,22 +428,12 @@ public class WebViewHostApiImpl implements WebViewHostApi {
    * @param context the new context.
    */
   public void setContext(Context context) {
-    this.context = context;
+    webViewPool.setContext(context);
   }
 
   @Override
   public void create(Long instanceId, Boolean useHybridComposition) {
-    DisplayListenerProxy displayListenerProxy = new DisplayListenerProxy();
-    DisplayManager displayManager =
-        (DisplayManager) context.getSystemService(Context.DISPLAY_SERVICE);
-    displayListenerProxy.onPreWebViewInitialization(displayManager);
-
-    final WebView webView =
-        useHybridComposition
-            ? webViewProxy.createWebView(context)
-            : webViewProxy.createInputAwareWebView(context, containerView);
-
-    displayListenerProxy.onPostWebViewInitialization(displayManager);
+    final WebView webView = webViewPool.obtain(useHybridComposition);
     instanceManager.addInstance(webView, instanceId);
   }
 
@@ -398,25 +492,30 @@ public class WebViewHostApiImpl implements WebViewHostApi {
   @Override
   public Boolean canGoBack(Long instanceId) {
     final WebView webView = (WebView) instanceManager.getInstance(instanceId);
-    return webView.canGoBack();
+    // A reused WebView has the history of its previous user until its first page finished loading.
+    return !WebViewPool.isHistoryResetPending(webView) && webView.canGoBack();
   }
 
   @Override
   public Boolean canGoForward(Long instanceId) {
     final WebView webView = (WebView) instanceManager.getInstance(instanceId);
-    return webView.canGoForward();
+    return !WebViewPool.isHistoryResetPending(webView) && webView.canGoForward();
   }
 
   @Override
   public void goBack(Long instanceId) {
     final WebView webView = (WebView) instanceManager.getInstance(instanceId);
-    webView.goBack();
+    if (!WebViewPool.isHistoryResetPending(webView)) {
+      webView.goBack();
+    }
   }
 
   @Override
   public void goForward(Long instanceId) {
     final WebView webView = (WebView) instanceManager.getInstance(instanceId);
-    webView.goForward();
+    if (!WebViewPool.isHistoryResetPending(webView)) {
+      webView.goForward();
+    }
   }
 
   @Override
@@ -0,0 +1,292 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.content.Context;
+import android.graphics.Color;
+import android.hardware.display.DisplayManager;
+import android.view.View;
+import android.view.ViewGroup;
+import android.view.ViewParent;
+import android.webkit.WebSettings;
+import android.webkit.WebView;
+import androidx.annotation.Nullable;
+import io.flutter.plugins.webviewflutter.WebViewHostApiImpl.WebViewPlatformView;
+import java.util.ArrayDeque;
+
+/**
+ * Creates {@link WebView}s and keeps a pool of created WebViews that aren't attached to a window,
+ * so that showing a WebView doesn't pay for loading the WebView provider and creating the view.
+ *
+ * <p>The pool is empty until {@link #prewarm} sets its size. A pooled WebView is handed back with
+ * {@link #recycle} once Flutter disposed its platform view and Dart released it. Only WebViews used
+ * with hybrid composition are pooled: disposing a WebView shown in a virtual display resets its
+ * input connection to the container view of that display. All methods must be called on the main
+ * thread.
+ */
+public class WebViewPool {
+  private static final String BLANK_URL = "about:blank";
+
+  private final WebViewHostApiImpl.WebViewProxy webViewProxy;
+  // Only used with WebView using virtual displays.
+  @Nullable private final View containerView;
+  @Nullable private final UserScriptManager userScriptManager;
+  @Nullable private final PageLoadMetrics pageLoadMetrics;
+  private final ArrayDeque<WebView> webViews = new ArrayDeque<>();
+
+  private Context context;
+  private int maxSize;
+  @Nullable private DefaultSettings defaultSettings;
+
+  /** A {@link WebView} that can be returned to a {@link WebViewPool}. */
+  interface PoolableWebView {
+    /**
+     * Sets the pool the WebView is returned to once it is both disposed and released.
+     *
+     * @param webViewPool the pool or null to destroy the WebView when it is disposed
+     */
+    void setWebViewPool(@Nullable WebViewPool webViewPool);
+
+    /** Removes the clients and listeners set by the previous user of the WebView. */
+    void resetForReuse();
+
+    /**
+     * Whether the history of the previous user still has to be cleared, the flag is cleared by this
+     * call.
+     */
+    boolean consumeHistoryReset();
+
+    /** Whether the history of the previous user still has to be cleared. */
+    boolean isHistoryResetPending();
+  }
+
+  /** Values of the {@link WebSettings} the plugin can change, as set on a new WebView. */
+  private static class DefaultSettings {
+    final boolean domStorageEnabled;
+    final boolean javaScriptCanOpenWindowsAutomatically;
+    final boolean supportMultipleWindows;
+    final boolean javaScriptEnabled;
+    final boolean mediaPlaybackRequiresUserGesture;
+    final boolean supportZoom;
+    final boolean loadWithOverviewMode;
+    final boolean useWideViewPort;
+    final boolean displayZoomControls;
+    final boolean builtInZoomControls;
+    final boolean allowFileAccess;
+
+    DefaultSettings(WebSettings settings) {
+      domStorageEnabled = settings.getDomStorageEnabled();
+      javaScriptCanOpenWindowsAutomatically = settings.getJavaScriptCanOpenWindowsAutomatically();
+      supportMultipleWindows = settings.supportMultipleWindows();
+      javaScriptEnabled = settings.getJavaScriptEnabled();
+      mediaPlaybackRequiresUserGesture = settings.getMediaPlaybackRequiresUserGesture();
+      supportZoom = settings.supportZoom();
+      loadWithOverviewMode = settings.getLoadWithOverviewMode();
+      useWideViewPort = settings.getUseWideViewPort();
+      displayZoomControls = settings.getDisplayZoomControls();
+      builtInZoomControls = settings.getBuiltInZoomControls();
+      allowFileAccess = settings.getAllowFileAccess();
+    }
+
+    void applyTo(WebSettings settings) {
+      settings.setDomStorageEnabled(domStorageEnabled);
+      settings.setJavaScriptCanOpenWindowsAutomatically(javaScriptCanOpenWindowsAutomatically);
+      settings.setSupportMultipleWindows(supportMultipleWindows);
+      settings.setJavaScriptEnabled(javaScriptEnabled);
+      // A null user agent restores the default one.
+      settings.setUserAgentString(null);
+      settings.setMediaPlaybackRequiresUserGesture(mediaPlaybackRequiresUserGesture);
+      settings.setSupportZoom(supportZoom);
+      settings.setLoadWithOverviewMode(loadWithOverviewMode);
+      settings.setUseWideViewPort(useWideViewPort);
+      settings.setDisplayZoomControls(displayZoomControls);
+      settings.setBuiltInZoomControls(builtInZoomControls);
+      settings.setAllowFileAccess(allowFileAccess);
+    }
+  }
+
+  /**
+   * Creates a pool that is empty until {@link #prewarm} is called.
+   *
+   * @param webViewProxy handles creating {@link WebView}s
+   * @param context an Activity Context to access application assets. This value cannot be null.
+   * @param containerView parent of the WebViews using virtual displays
+   */
+  public WebViewPool(
+      WebViewHostApiImpl.WebViewProxy webViewProxy, Context context, @Nullable View containerView) {
+    this(webViewProxy, context, containerView, null, null);
+  }
+
+  /**
+   * Creates a pool that is empty until {@link #prewarm} is called.
+   *
+   * @param webViewProxy handles creating {@link WebView}s
+   * @param context an Activity Context to access application assets. This value cannot be null.
+   * @param containerView parent of the WebViews using virtual displays
+   * @param userScriptManager removes the user scripts of recycled WebViews, if not null
+   * @param pageLoadMetrics drops the metrics of recycled WebViews, if not null
+   */
+  public WebViewPool(
+      WebViewHostApiImpl.WebViewProxy webViewProxy,
+      Context context,
+      @Nullable View containerView,
+      @Nullable UserScriptManager userScriptManager,
+      @Nullable PageLoadMetrics pageLoadMetrics) {
+    this.webViewProxy = webViewProxy;
+    this.context = context;
+    this.containerView = containerView;
+    this.userScriptManager = userScriptManager;
+    this.pageLoadMetrics = pageLoadMetrics;
+  }
+
+  /**
+   * Sets the context to construct {@link WebView}s. Pooled WebViews created with another context
+   * are destroyed.
+   *
+   * @param context the new context.
+   */
+  public void setContext(Context context) {
+    if (context != this.context) {
+      clear();
+      this.context = context;
+    }
+  }
+
+  /**
+   * Loads the WebView provider and, with hybrid composition, creates WebViews until the pool holds
+   * {@code poolSize} of them.
+   *
+   * @param poolSize the number of WebViews kept by the pool, 0 disables pooling
+   * @param useHybridComposition whether the WebViews are used with hybrid composition, WebViews
+   *     using virtual displays aren't pooled
+   */
+  public void prewarm(int poolSize, boolean useHybridComposition) {
+    // Loads the WebView provider, even when no WebView is created.
+    webViewProxy.getDefaultUserAgent(context);
+    maxSize = Math.max(0, poolSize);
+    while (webViews.size() > maxSize) {
+      webViews.removeFirst().destroy();
+    }
+    if (!useHybridComposition) {
+      return;
+    }
+    while (webViews.size() < maxSize) {
+      final WebView webView = createWebView(useHybridComposition);
+      webView.loadUrl(BLANK_URL);
+      webViews.addLast(webView);
+    }
+  }
+
+  /**
+   * Returns a pooled {@link WebView} of the requested kind, or creates a new one.
+   *
+   * @param useHybridComposition whether the WebView is used with hybrid composition
+   * @return a WebView that isn't attached to a window
+   */
+  public WebView obtain(boolean useHybridComposition) {
+    if (useHybridComposition && !webViews.isEmpty()) {
+      return webViews.removeFirst();
+    }
+    return createWebView(useHybridComposition);
+  }
+
+  /**
+   * Resets a disposed and released {@link WebView} and keeps it for a later user if the pool isn't
+   * full, otherwise destroys it.
+   *
+   * @param webView a WebView created by this pool
+   */
+  public void recycle(WebView webView) {
+    if (webViews.size() >= maxSize
+        || webView.getContext() != context
+        || !(webView instanceof WebViewPlatformView)) {
+      webView.destroy();
+      return;
+    }
+    ((PoolableWebView) webView).resetForReuse();
+    if (userScriptManager != null) {
+      userScriptManager.removeAllUserScripts(webView);
+    }
+    if (pageLoadMetrics != null) {
+      pageLoadMetrics.forget(webView);
+    }
+    webView.stopLoading();
+    // Unloads the page, its history is cleared once the next user loads a page.
+    webView.loadUrl(BLANK_URL);
+    webView.scrollTo(0, 0);
+    webView.setBackgroundColor(Color.WHITE);
+    if (defaultSettings != null) {
+      defaultSettings.applyTo(webView.getSettings());
+    }
+    final ViewParent parent = webView.getParent();
+    if (parent instanceof ViewGroup) {
+      ((ViewGroup) parent).removeView(webView);
+    }
+    webViews.addLast(webView);
+  }
+
+  /**
+   * Destroys the pooled {@link WebView}s.
+   *
+   * @return the number of destroyed WebViews
+   */
+  public int clear() {
+    final int count = webViews.size();
+    while (!webViews.isEmpty()) {
+      webViews.removeFirst().destroy();
+    }
+    return count;
+  }
+
+  /**
+   * Clears the history left by the previous user of a reused {@link WebView} once the first page of
+   * the new user finished loading.
+   *
+   * @param webView the WebView that finished loading a page
+   * @param url the url of the page
+   */
+  static void onPageFinished(WebView webView, String url) {
+    if (webView instanceof PoolableWebView
+        && !BLANK_URL.equals(url)
+        && ((PoolableWebView) webView).consumeHistoryReset()) {
+      webView.clearHistory();
+    }
+  }
+
+  /**
+   * Whether a reused {@link WebView} still has the history of its previous user, which is cleared
+   * once the first page of the new user finished loading.
+   *
+   * @param webView the WebView
+   * @return true if its back/forward list must not be used yet
+   */
+  static boolean isHistoryResetPending(WebView webView) {
+    return webView instanceof PoolableWebView
+        && ((PoolableWebView) webView).isHistoryResetPending();
+  }
+
+  private WebView createWebView(boolean useHybridComposition) {
+    DisplayListenerProxy displayListenerProxy = new DisplayListenerProxy();
+    DisplayManager displayManager =
+        (DisplayManager) context.getSystemService(Context.DISPLAY_SERVICE);
+    displayListenerProxy.onPreWebViewInitialization(displayManager);
+
+    final WebView webView =
+        useHybridComposition
+            ? webViewProxy.createWebView(context)
+            : webViewProxy.createInputAwareWebView(context, containerView);
+
+    displayListenerProxy.onPostWebViewInitialization(displayManager);
+
+    // WebViews created without pooling are destroyed when they are disposed, as before.
+    if (maxSize > 0 && useHybridComposition) {
+      if (defaultSettings == null) {
+        defaultSettings = new DefaultSettings(webView.getSettings());
+      }
+      ((PoolableWebView) webView).setWebViewPool(this);
+    }
+    return webView;
+  }
+}
@@ -0,0 +1,26 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewPoolHostApi;
+
+/** Host api implementation for {@link WebViewPool}. */
+public class WebViewPoolHostApiImpl implements WebViewPoolHostApi {
+  private final WebViewPool webViewPool;
+
+  /**
+   * Creates a host API that prewarms a {@link WebViewPool}.
+   *
+   * @param webViewPool the pool used to create WebViews
+   */
+  public WebViewPoolHostApiImpl(WebViewPool webViewPool) {
+    this.webViewPool = webViewPool;
+  }
+
+  @Override
+  public void prewarm(Long poolSize, Boolean useHybridComposition) {
+    webViewPool.prewarm(poolSize.intValue(), useHybridComposition);
+  }
+}
@@ -13,6 +13,7 @@ import static org.mockito.Mockito.verify;
 import android.webkit.DownloadListener;
 import io.flutter.plugins.webviewflutter.DownloadListenerHostApiImpl.DownloadListenerCreator;
 import io.flutter.plugins.webviewflutter.DownloadListenerHostApiImpl.DownloadListenerImpl;
+import java.io.File;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -25,6 +26,8 @@ public class DownloadListenerTest {
 
   @Mock public DownloadListenerFlutterApiImpl mockFlutterApi;
 
+  @Mock public StreamingDownloader mockStreamingDownloader;
+
   InstanceManager instanceManager;
   DownloadListenerHostApiImpl hostApiImpl;
   DownloadListenerImpl downloadListener;
@@ -34,7 +37,7 @@ public class DownloadListenerTest {
     instanceManager = new InstanceManager();
 
     final DownloadListenerCreator downloadListenerCreator =
-        new DownloadListenerCreator() {
+        new DownloadListenerCreator(mockStreamingDownloader) {
           @Override
           public DownloadListenerImpl createDownloadListener(
               DownloadListenerFlutterApiImpl flutterApi) {
@@ -68,4 +71,39 @@ public class DownloadListenerTest {
     verify(mockFlutterApi, never())
         .onDownloadStart((DownloadListener) any(), any(), any(), any(), any(), eq(23), any());
   }
+
+  @Test
+  public void downloadNatively() {
+    downloadListener.onDownloadStart("https://www.google.com", "userAgent", "", "mimetype", 54);
+    verify(mockStreamingDownloader, never()).download(any(), any(), any(), any(), any(), any());
+
+    hostApiImpl.setDownloadDirectory(0L, "/downloads");
+    downloadListener.onDownloadStart("https://www.google.com", "userAgent", "", "mimetype", 54);
+    verify(mockStreamingDownloader)
+        .download(
+            new File("/downloads"),
+            "https://www.google.com",
+            "userAgent",
+            "",
+            "mimetype",
+            downloadListener);
+
+    hostApiImpl.cancelDownload(0L, "https://www.google.com");
+    verify(mockStreamingDownloader).cancel("https://www.google.com");
+
+    downloadListener.onDownloadProgress("https://www.google.com", 10, 54);
+    verify(mockFlutterApi)
+        .onDownloadProgress(
+            eq(downloadListener), eq("https://www.google.com"), eq(10L), eq(54L), any());
+  }
+
+  @Test
+  public void releaseCancelsNativeDownloads() {
+    hostApiImpl.setDownloadDirectory(0L, "/downloads");
+    downloadListener.onDownloadStart("https://www.google.com", "userAgent", "", "mimetype", 54);
+
+    downloadListener.release();
+
+    verify(mockStreamingDownloader).cancelAll(downloadListener);
+  }
 }
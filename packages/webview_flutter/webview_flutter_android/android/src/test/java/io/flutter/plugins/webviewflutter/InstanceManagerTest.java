@@ -0,0 +1,75 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+
+public class InstanceManagerTest {
+  InstanceManager testInstanceManager;
+
+  @Before
+  public void setUp() {
+    testInstanceManager = new InstanceManager();
+  }
+
+  @Test
+  public void addInstanceComparesByIdentity() {
+    final String instance = new String("instance");
+    final String equalInstance = new String("instance");
+    testInstanceManager.addInstance(instance, 0L);
+    testInstanceManager.addInstance(equalInstance, 1L);
+
+    assertSame(instance, testInstanceManager.getInstance(0L));
+    assertSame(equalInstance, testInstanceManager.getInstance(1L));
+    assertEquals((Long) 0L, testInstanceManager.getInstanceId(instance));
+    assertEquals((Long) 1L, testInstanceManager.getInstanceId(equalInstance));
+  }
+
+  @Test
+  public void addInstanceReplacesInstanceAndInstanceId() {
+    final Object instance = new Object();
+    final Object otherInstance = new Object();
+    testInstanceManager.addInstance(instance, 0L);
+    testInstanceManager.addInstance(instance, 1L);
+    testInstanceManager.addInstance(otherInstance, 1L);
+
+    assertNull(testInstanceManager.getInstance(0L));
+    assertNull(testInstanceManager.getInstanceId(instance));
+    assertSame(otherInstance, testInstanceManager.getInstance(1L));
+  }
+
+  @Test
+  public void removeInstance() {
+    final Object instance = new Object();
+    final Object otherInstance = new Object();
+    testInstanceManager.addInstance(instance, 0L);
+    testInstanceManager.addWeakInstance(otherInstance, 1L);
+
+    assertEquals((Long) 0L, testInstanceManager.removeInstance(instance));
+    assertSame(otherInstance, testInstanceManager.removeInstanceWithId(1L));
+    assertNull(testInstanceManager.getInstance(0L));
+    assertNull(testInstanceManager.getInstanceId(otherInstance));
+    assertNull(testInstanceManager.removeInstance(instance));
+  }
+
+  @Test
+  public void getStats() {
+    final Object instance = new Object();
+    final Object weakInstance = new Object();
+    testInstanceManager.addInstance(instance, 0L);
+    testInstanceManager.addWeakInstance(weakInstance, 1L);
+
+    final Map<String, Long> stats = testInstanceManager.getStats();
+    assertEquals((Long) 2L, stats.get("instances"));
+    assertEquals((Long) 1L, stats.get("strongInstances"));
+    assertEquals((Long) 0L, stats.get("finalizedInstances"));
+  }
+}
@@ -0,0 +1,72 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import android.webkit.ValueCallback;
+import android.webkit.WebView;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.Result;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class JavaScriptBatchTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public WebView mockWebView;
+
+  @Mock public Result<List<String>> mockResult;
+
+  InstanceManager testInstanceManager;
+  JavaScriptBatchHostApiImpl testHostApiImpl;
+
+  @Before
+  public void setUp() {
+    testInstanceManager = new InstanceManager();
+    testInstanceManager.addInstance(mockWebView, 0L);
+    testHostApiImpl = new JavaScriptBatchHostApiImpl(testInstanceManager);
+  }
+
+  @Test
+  public void evaluateJavascriptBatchUsesOneCall() {
+    testHostApiImpl.evaluateJavascriptBatch(0L, Arrays.asList("1 + 1", "'a\"b'"), mockResult);
+
+    final ArgumentCaptor<String> scriptCaptor = ArgumentCaptor.forClass(String.class);
+    verify(mockWebView).evaluateJavascript(scriptCaptor.capture(), any());
+    assertTrue(scriptCaptor.getValue().contains("[\"1 + 1\",\"'a\\\"b'\"]"));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void evaluateJavascriptBatchFallsBackWhenEvalIsForbidden() {
+    testHostApiImpl.evaluateJavascriptBatch(0L, Arrays.asList("first", "second"), mockResult);
+
+    final ArgumentCaptor<ValueCallback<String>> callbackCaptor =
+        ArgumentCaptor.forClass(ValueCallback.class);
+    verify(mockWebView).evaluateJavascript(anyString(), callbackCaptor.capture());
+    callbackCaptor.getValue().onReceiveValue("null");
+
+    verify(mockWebView).evaluateJavascript(eq("first"), callbackCaptor.capture());
+    verify(mockWebView).evaluateJavascript(eq("second"), callbackCaptor.capture());
+    final List<ValueCallback<String>> callbacks = callbackCaptor.getAllValues();
+    callbacks.get(callbacks.size() - 2).onReceiveValue("1");
+    callbacks.get(callbacks.size() - 1).onReceiveValue("2");
+
+    verify(mockWebView, times(3)).evaluateJavascript(anyString(), any());
+    verify(mockResult).success(Arrays.asList("1", "2"));
+  }
+}
@@ -4,17 +4,22 @@
 
 package io.flutter.plugins.webviewflutter;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import android.os.Handler;
 import io.flutter.plugins.webviewflutter.JavaScriptChannelHostApiImpl.JavaScriptChannelCreator;
+import java.util.Arrays;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
@@ -24,6 +29,8 @@ public class JavaScriptChannelTest {
 
   @Mock public JavaScriptChannelFlutterApiImpl mockFlutterApi;
 
+  @Mock public Handler mockHandler;
+
   InstanceManager instanceManager;
   JavaScriptChannelHostApiImpl hostApiImpl;
   JavaScriptChannel javaScriptChannel;
@@ -62,4 +69,30 @@ public class JavaScriptChannelTest {
     javaScriptChannel.postMessage("a message");
     verify(mockFlutterApi, never()).postMessage((JavaScriptChannel) any(), any(), any());
   }
+
+  @Test
+  public void postMessageWithBatching() {
+    final JavaScriptChannel batchingChannel =
+        new JavaScriptChannel(mockFlutterApi, "aChannelName", mockHandler);
+    batchingChannel.setBatchingEnabled(true);
+
+    batchingChannel.postMessage("first");
+    batchingChannel.postMessage("second");
+    verify(mockFlutterApi, never()).postMessages((JavaScriptChannel) any(), any(), any());
+
+    final ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(mockHandler, times(1)).postDelayed(runnableCaptor.capture(), anyLong());
+    runnableCaptor.getValue().run();
+    verify(mockFlutterApi)
+        .postMessages(eq(batchingChannel), eq(Arrays.asList("first", "second")), any());
+  }
+
+  @Test
+  public void postBinaryMessage() {
+    javaScriptChannel.postBinaryMessage("\u0000\u007f\u00ff");
+
+    final ArgumentCaptor<byte[]> bytesCaptor = ArgumentCaptor.forClass(byte[].class);
+    verify(mockFlutterApi).postBinaryMessage(eq(javaScriptChannel), bytesCaptor.capture(), any());
+    assertArrayEquals(new byte[] {0, 127, (byte) 255}, bytesCaptor.getValue());
+  }
 }
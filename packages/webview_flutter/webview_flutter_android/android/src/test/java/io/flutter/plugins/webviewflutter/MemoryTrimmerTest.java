@@ -0,0 +1,152 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.app.Activity;
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.webkit.WebView;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.MemoryTrimReportData;
+import io.flutter.plugins.webviewflutter.WebViewHostApiImpl.WebViewPlatformView;
+import java.util.Collections;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class MemoryTrimmerTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public WebView mockAttachedWebView;
+
+  @Mock public WebView mockOffscreenWebView;
+
+  @Mock public WebViewPool mockWebViewPool;
+
+  @Mock public MemoryTrimmer.MemoryProxy mockMemoryProxy;
+
+  @Mock public MemoryTrimmer.TrimListener mockTrimListener;
+
+  @Mock public Context mockContext;
+
+  @Mock public Activity mockActivity;
+
+  InstanceManager testInstanceManager;
+  MemoryTrimmer testMemoryTrimmer;
+
+  @Before
+  public void setUp() {
+    when(mockAttachedWebView.isAttachedToWindow()).thenReturn(true);
+    testInstanceManager = new InstanceManager();
+    testInstanceManager.addInstance(mockAttachedWebView, 0);
+    testInstanceManager.addInstance(mockOffscreenWebView, 1);
+    testMemoryTrimmer =
+        new MemoryTrimmer(
+            testInstanceManager, mockWebViewPool, mockMemoryProxy, mockContext, mockTrimListener);
+  }
+
+  @Test
+  public void runningLowClearsCaches() {
+    when(mockWebViewPool.clear()).thenReturn(2);
+    when(mockMemoryProxy.getUsedMemory()).thenReturn(3000L, 1000L);
+
+    testMemoryTrimmer.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW);
+
+    verify(mockWebViewPool).clear();
+    final ArgumentCaptor<MemoryTrimReportData> reportCaptor =
+        ArgumentCaptor.forClass(MemoryTrimReportData.class);
+    verify(mockTrimListener).onMemoryTrimmed(reportCaptor.capture(), eq(Collections.emptyList()));
+    final MemoryTrimReportData report = reportCaptor.getValue();
+    assertEquals((Long) (long) ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW, report.getLevel());
+    assertTrue(report.getCacheCleared());
+    assertFalse(report.getTimersPaused());
+    assertEquals((Long) 2L, report.getReleasedPooledWebViewCount());
+    assertEquals((Long) 0L, report.getDestroyedWebViewCount());
+    assertEquals((Long) 2000L, report.getReclaimedBytes());
+    verify(mockOffscreenWebView, never()).destroy();
+  }
+
+  @Test
+  public void criticalDestroysOffscreenWebViews() {
+    testMemoryTrimmer.setPolicy(false, false, true);
+
+    testMemoryTrimmer.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL);
+
+    verify(mockOffscreenWebView).destroy();
+    verify(mockAttachedWebView, never()).destroy();
+    verify(mockAttachedWebView, never()).clearCache(anyBoolean());
+    assertNull(testInstanceManager.getInstance(1));
+    assertEquals(mockAttachedWebView, testInstanceManager.getInstance(0));
+    verify(mockTrimListener).onMemoryTrimmed(any(), eq(Collections.singletonList(1L)));
+  }
+
+  @Test
+  public void criticalKeepsWebViewsShownByPlatformViews() {
+    final WebViewPlatformView webView = spy(new WebViewPlatformView(mockContext));
+    webView.setWebViewPool(mockWebViewPool);
+    webView.onPlatformViewCreated();
+    testInstanceManager.addInstance(webView, 2);
+    testMemoryTrimmer.setPolicy(false, false, true);
+
+    testMemoryTrimmer.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL);
+    assertEquals(webView, testInstanceManager.getInstance(2));
+
+    webView.dispose();
+    webView.release();
+    verify(mockWebViewPool).recycle(webView);
+    verify(webView, never()).destroy();
+  }
+
+  @Test
+  public void criticalDoesNotRecycleDestroyedPooledWebViews() {
+    final WebViewPlatformView webView = spy(new WebViewPlatformView(mockContext));
+    webView.setWebViewPool(mockWebViewPool);
+    webView.onPlatformViewCreated();
+    testInstanceManager.addInstance(webView, 2);
+    testMemoryTrimmer.setPolicy(false, false, true);
+    // The platform view is disposed, the WebView waits for Dart to release it.
+    webView.dispose();
+
+    testMemoryTrimmer.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL);
+
+    verify(webView).destroy();
+    verify(mockWebViewPool, never()).recycle(any());
+    assertNull(testInstanceManager.getInstance(2));
+  }
+
+  @Test
+  public void pausesTimersUntilActivityResumes() {
+    testMemoryTrimmer.setPolicy(true, false, false);
+
+    testMemoryTrimmer.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN);
+    testMemoryTrimmer.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN);
+    testInstanceManager.removeInstanceWithId(0);
+    testInstanceManager.removeInstanceWithId(1);
+    testMemoryTrimmer.onActivityResumed(mockActivity);
+    testMemoryTrimmer.onActivityResumed(mockActivity);
+
+    final ArgumentCaptor<MemoryTrimReportData> reportCaptor =
+        ArgumentCaptor.forClass(MemoryTrimReportData.class);
+    verify(mockTrimListener).onMemoryTrimmed(reportCaptor.capture(), eq(Collections.emptyList()));
+    assertTrue(reportCaptor.getValue().getTimersPaused());
+    verify(mockMemoryProxy).resumeTimers(mockContext);
+    verify(mockWebViewPool, never()).clear();
+  }
+}
@@ -0,0 +1,97 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+import android.webkit.WebView;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.PageLoadMetricsData;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class PageLoadMetricsTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public WebView mockWebView;
+
+  @Mock PageLoadMetrics.ClockProxy mockClockProxy;
+
+  PageLoadMetrics testPageLoadMetrics;
+
+  @Before
+  public void setUp() {
+    testPageLoadMetrics = new PageLoadMetrics(mockClockProxy);
+    testPageLoadMetrics.setEnabled(true);
+    when(mockClockProxy.currentTimeMillis()).thenReturn(1000L);
+  }
+
+  @Test
+  public void collectsTimingsOfNavigation() {
+    when(mockClockProxy.elapsedRealtime()).thenReturn(100L);
+    testPageLoadMetrics.onPageStarted(mockWebView, "https://www.google.com");
+    when(mockClockProxy.elapsedRealtime()).thenReturn(150L);
+    testPageLoadMetrics.onProgressChanged(mockWebView, 60);
+    testPageLoadMetrics.onReceivedHttpError(mockWebView);
+    when(mockClockProxy.elapsedRealtime()).thenReturn(200L);
+    testPageLoadMetrics.onPageCommitVisible(mockWebView);
+    testPageLoadMetrics.onReceivedError(mockWebView);
+    when(mockClockProxy.elapsedRealtime()).thenReturn(300L);
+    testPageLoadMetrics.onProgressChanged(mockWebView, 100);
+    testPageLoadMetrics.onPageFinished(mockWebView);
+
+    final List<PageLoadMetricsData> metrics = testPageLoadMetrics.takeMetrics(mockWebView);
+    assertEquals(1, metrics.size());
+    final PageLoadMetricsData data = metrics.get(0);
+    assertEquals("https://www.google.com", data.getUrl());
+    assertEquals((Long) 1000L, data.getNavigationStartTime());
+    assertEquals((Long) 100L, data.getCommitVisibleDuration());
+    assertEquals((Long) 200L, data.getFinishedDuration());
+    assertEquals((Long) 50L, data.getProgress25Duration());
+    assertEquals((Long) 50L, data.getProgress50Duration());
+    assertEquals((Long) 200L, data.getProgress75Duration());
+    assertEquals((Long) 200L, data.getProgress100Duration());
+    assertEquals((Long) 1L, data.getResourceErrorCount());
+    assertEquals((Long) 1L, data.getHttpErrorCount());
+
+    assertTrue(testPageLoadMetrics.takeMetrics(mockWebView).isEmpty());
+  }
+
+  @Test
+  public void nextNavigationCompletesUnfinishedNavigation() {
+    testPageLoadMetrics.onPageStarted(mockWebView, "https://www.google.com");
+    testPageLoadMetrics.onPageStarted(mockWebView, "https://www.flutter.dev");
+
+    final List<PageLoadMetricsData> metrics = testPageLoadMetrics.takeMetrics(mockWebView);
+    assertEquals(1, metrics.size());
+    assertEquals("https://www.google.com", metrics.get(0).getUrl());
+    assertNull(metrics.get(0).getFinishedDuration());
+  }
+
+  @Test
+  public void forgetDropsMetrics() {
+    testPageLoadMetrics.onPageStarted(mockWebView, "https://www.google.com");
+    testPageLoadMetrics.onPageFinished(mockWebView);
+
+    testPageLoadMetrics.forget(mockWebView);
+    assertTrue(testPageLoadMetrics.takeMetrics(mockWebView).isEmpty());
+  }
+
+  @Test
+  public void collectsNothingWhenDisabled() {
+    testPageLoadMetrics.setEnabled(false);
+    testPageLoadMetrics.onPageStarted(mockWebView, "https://www.google.com");
+    testPageLoadMetrics.onPageFinished(mockWebView);
+
+    assertTrue(testPageLoadMetrics.takeMetrics(mockWebView).isEmpty());
+  }
+}
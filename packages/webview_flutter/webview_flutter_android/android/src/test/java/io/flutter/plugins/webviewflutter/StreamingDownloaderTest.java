@@ -0,0 +1,197 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class StreamingDownloaderTest {
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+  private static final String URL = "https://files.example/report.pdf";
+
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Mock StreamingDownloader.DownloadProxy mockDownloadProxy;
+
+  @Mock StreamingDownloader.DownloadCallbacks mockCallbacks;
+
+  @Mock HttpURLConnection mockConnection;
+
+  File directory;
+  File file;
+  StreamingDownloader testDownloader;
+
+  @Before
+  public void setUp() throws IOException {
+    directory = temporaryFolder.newFolder();
+    file = new File(directory, "report.pdf");
+    when(mockDownloadProxy.guessFileName(URL, "attachment", "application/pdf"))
+        .thenReturn("report.pdf");
+    when(mockDownloadProxy.createConnection(URL)).thenReturn(mockConnection);
+    testDownloader = new StreamingDownloader(mockDownloadProxy, Runnable::run, Runnable::run);
+  }
+
+  @Test
+  public void download() throws IOException {
+    when(mockDownloadProxy.getCookie(URL)).thenReturn("session=1");
+    when(mockConnection.getResponseCode()).thenReturn(200);
+    when(mockConnection.getHeaderField("ETag")).thenReturn("\"v1\"");
+    when(mockConnection.getHeaderField("Content-Length")).thenReturn("5");
+    when(mockConnection.getInputStream())
+        .thenReturn(new ByteArrayInputStream("hello".getBytes(UTF_8)));
+
+    testDownloader.download(
+        directory, URL, "userAgent", "attachment", "application/pdf", mockCallbacks);
+
+    verify(mockConnection).setRequestProperty("Cookie", "session=1");
+    verify(mockConnection).setRequestProperty("User-Agent", "userAgent");
+    verify(mockConnection, never()).setRequestProperty(eq("Range"), anyString());
+    assertEquals("hello", new String(Files.readAllBytes(file.toPath()), UTF_8));
+    assertFalse(new File(file.getPath() + StreamingDownloader.PARTIAL_FILE_SUFFIX).exists());
+    verify(mockCallbacks).onDownloadProgress(URL, 5, 5);
+    verify(mockCallbacks).onDownloadFinished(URL, file.getPath());
+  }
+
+  @Test
+  public void downloadResumesPartialFile() throws IOException {
+    final File partialFile = new File(file.getPath() + StreamingDownloader.PARTIAL_FILE_SUFFIX);
+    write(partialFile, "hel");
+    write(new File(partialFile.getPath() + StreamingDownloader.VALIDATOR_FILE_SUFFIX), "\"v1\"");
+    when(mockConnection.getResponseCode()).thenReturn(206);
+    when(mockConnection.getHeaderField("ETag")).thenReturn("\"v1\"");
+    when(mockConnection.getHeaderField("Content-Range")).thenReturn("bytes 3-4/5");
+    when(mockConnection.getHeaderField("Content-Length")).thenReturn("2");
+    when(mockConnection.getInputStream())
+        .thenReturn(new ByteArrayInputStream("lo".getBytes(UTF_8)));
+
+    testDownloader.download(directory, URL, "", "attachment", "application/pdf", mockCallbacks);
+
+    verify(mockConnection).setRequestProperty("Range", "bytes=3-");
+    verify(mockConnection).setRequestProperty("If-Range", "\"v1\"");
+    assertEquals("hello", new String(Files.readAllBytes(file.toPath()), UTF_8));
+    verify(mockCallbacks).onDownloadFinished(URL, file.getPath());
+  }
+
+  @Test
+  public void downloadFailureKeepsPartialFile() throws IOException {
+    final File partialFile = new File(file.getPath() + StreamingDownloader.PARTIAL_FILE_SUFFIX);
+    write(partialFile, "hel");
+    write(new File(partialFile.getPath() + StreamingDownloader.VALIDATOR_FILE_SUFFIX), "\"v1\"");
+    when(mockConnection.getResponseCode()).thenReturn(503);
+
+    testDownloader.download(directory, URL, "", "attachment", "application/pdf", mockCallbacks);
+
+    verify(mockCallbacks).onDownloadFailed(eq(URL), startsWith("java.io.IOException"));
+    assertTrue(partialFile.exists());
+    assertFalse(file.exists());
+  }
+
+  @Test
+  public void downloadOfSameFileFailsWhileRunning() {
+    final String otherUrl = "https://mirror.example/report.pdf";
+    when(mockDownloadProxy.guessFileName(otherUrl, "attachment", "application/pdf"))
+        .thenReturn("report.pdf");
+    final List<Runnable> backgroundTasks = new ArrayList<>();
+    testDownloader =
+        new StreamingDownloader(mockDownloadProxy, backgroundTasks::add, Runnable::run);
+
+    testDownloader.download(directory, URL, "", "attachment", "application/pdf", mockCallbacks);
+    testDownloader.download(directory, URL, "", "attachment", "application/pdf", mockCallbacks);
+    testDownloader.download(
+        directory, otherUrl, "", "attachment", "application/pdf", mockCallbacks);
+
+    assertEquals(1, backgroundTasks.size());
+    verify(mockCallbacks, never()).onDownloadFailed(eq(URL), anyString());
+    verify(mockCallbacks).onDownloadFailed(eq(otherUrl), anyString());
+  }
+
+  @Test
+  public void cancelAllCancelsDownloadsOfCallbacks() throws IOException {
+    final StreamingDownloader.DownloadCallbacks otherCallbacks =
+        mock(StreamingDownloader.DownloadCallbacks.class);
+    final String otherUrl = "https://files.example/notes.txt";
+    final HttpURLConnection otherConnection = mock(HttpURLConnection.class);
+    when(mockDownloadProxy.guessFileName(otherUrl, "attachment", "text/plain"))
+        .thenReturn("notes.txt");
+    when(mockDownloadProxy.createConnection(otherUrl)).thenReturn(otherConnection);
+    for (HttpURLConnection connection : Arrays.asList(mockConnection, otherConnection)) {
+      when(connection.getResponseCode()).thenReturn(200);
+      when(connection.getInputStream())
+          .thenReturn(new ByteArrayInputStream("hello".getBytes(UTF_8)));
+    }
+    final List<Runnable> backgroundTasks = new ArrayList<>();
+    testDownloader =
+        new StreamingDownloader(mockDownloadProxy, backgroundTasks::add, Runnable::run);
+    testDownloader.download(directory, URL, "", "attachment", "application/pdf", mockCallbacks);
+    testDownloader.download(directory, otherUrl, "", "attachment", "text/plain", otherCallbacks);
+
+    testDownloader.cancelAll(mockCallbacks);
+    for (Runnable task : backgroundTasks) {
+      task.run();
+    }
+
+    verify(mockCallbacks).onDownloadFailed(URL, "Download cancelled");
+    verify(otherCallbacks).onDownloadFinished(otherUrl, new File(directory, "notes.txt").getPath());
+  }
+
+  @Test
+  public void downloadFailsOnceExecutorIsShutDown() {
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    executor.shutdownNow();
+    testDownloader = new StreamingDownloader(mockDownloadProxy, executor, Runnable::run);
+
+    testDownloader.download(directory, URL, "", "attachment", "application/pdf", mockCallbacks);
+    // Isn't ignored as if the first download was still running.
+    testDownloader.download(directory, URL, "", "attachment", "application/pdf", mockCallbacks);
+
+    verify(mockCallbacks, times(2))
+        .onDownloadFailed(eq(URL), startsWith("java.util.concurrent.RejectedExecutionException"));
+  }
+
+  @Test
+  public void rangeStart() {
+    assertEquals(3, StreamingDownloader.rangeStart("bytes 3-4/5"));
+    assertEquals(0, StreamingDownloader.rangeStart("bytes 0-4/*"));
+    assertEquals(-1, StreamingDownloader.rangeStart("bytes */5"));
+    assertEquals(-1, StreamingDownloader.rangeStart(null));
+  }
+
+  private static void write(File file, String content) throws IOException {
+    try (FileOutputStream output = new FileOutputStream(file)) {
+      output.write(content.getBytes(UTF_8));
+    }
+  }
+}
@@ -0,0 +1,82 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.webkit.WebView;
+import androidx.webkit.ScriptHandler;
+import java.util.Collections;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class UserScriptManagerTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public WebView mockWebView;
+
+  @Mock public ScriptHandler mockScriptHandler;
+
+  @Mock UserScriptManager.WebViewCompatProxy mockWebViewCompatProxy;
+
+  UserScriptManager testUserScriptManager;
+
+  final Set<String> exampleOriginRules = Collections.singleton("https://*.example.com");
+
+  @Before
+  public void setUp() {
+    testUserScriptManager = new UserScriptManager(mockWebViewCompatProxy);
+  }
+
+  @Test
+  public void addUserScriptWithDocumentStartScriptSupport() {
+    when(mockWebViewCompatProxy.isDocumentStartScriptSupported()).thenReturn(true);
+    when(mockWebViewCompatProxy.addDocumentStartJavaScript(
+            mockWebView, "bootstrap()", exampleOriginRules))
+        .thenReturn(mockScriptHandler);
+
+    testUserScriptManager.addUserScript(
+        mockWebView, "bootstrap", "bootstrap()", exampleOriginRules);
+    testUserScriptManager.onPageStarted(mockWebView, "https://www.example.com/");
+    verify(mockWebView, never()).evaluateJavascript(anyString(), any());
+
+    testUserScriptManager.removeUserScript(mockWebView, "bootstrap");
+    verify(mockScriptHandler).remove();
+  }
+
+  @Test
+  public void addUserScriptWithoutDocumentStartScriptSupport() {
+    testUserScriptManager.addUserScript(
+        mockWebView, "bootstrap", "bootstrap()", exampleOriginRules);
+    verify(mockWebViewCompatProxy, never()).addDocumentStartJavaScript(any(), any(), any());
+
+    testUserScriptManager.onPageStarted(mockWebView, "https://other.com/");
+    verify(mockWebView, never()).evaluateJavascript(anyString(), any());
+
+    testUserScriptManager.onPageStarted(mockWebView, "https://www.example.com/");
+    verify(mockWebView).evaluateJavascript("bootstrap()", null);
+  }
+
+  @Test
+  public void matchesOrigin() {
+    assertTrue(UserScriptManager.matchesOrigin("https://example.com/a", exampleOriginRules));
+    assertTrue(UserScriptManager.matchesOrigin("https://a.b.example.com:443", exampleOriginRules));
+    assertFalse(UserScriptManager.matchesOrigin("http://www.example.com", exampleOriginRules));
+    assertFalse(UserScriptManager.matchesOrigin("https://example.com:8443", exampleOriginRules));
+    assertFalse(UserScriptManager.matchesOrigin("https://notexample.com", exampleOriginRules));
+    assertTrue(UserScriptManager.matchesOrigin("file:///a", Collections.singleton("*")));
+  }
+}
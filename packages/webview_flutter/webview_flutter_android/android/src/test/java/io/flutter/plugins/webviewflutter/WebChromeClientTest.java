@@ -11,6 +11,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -76,6 +77,31 @@ public class WebChromeClientTest {
     verify(mockFlutterApi, never()).onProgressChanged((WebChromeClient) any(), any(), any(), any());
   }
 
+  @Test
+  public void onProgressChangedIsRateLimited() {
+    for (int progress = 10; progress <= 100; progress++) {
+      webChromeClient.onProgressChanged(mockWebView, progress);
+    }
+    // A page loaded from the cache.
+    webChromeClient.onProgressChanged(mockWebView, 100);
+    // A page that starts higher than the previous one, then stops before completing.
+    webChromeClient.onProgressChanged(mockWebView, 30);
+    webChromeClient.onProgressChanged(mockWebView, 35);
+    // A page that starts lower than the stopped one.
+    webChromeClient.onProgressChanged(mockWebView, 10);
+
+    verify(mockFlutterApi, times(13))
+        .onProgressChanged((WebChromeClient) any(), any(), any(), any());
+    verify(mockFlutterApi, times(2))
+        .onProgressChanged(eq(webChromeClient), eq(mockWebView), eq(10L), any());
+    verify(mockFlutterApi, times(2))
+        .onProgressChanged(eq(webChromeClient), eq(mockWebView), eq(30L), any());
+    verify(mockFlutterApi, never())
+        .onProgressChanged(eq(webChromeClient), eq(mockWebView), eq(35L), any());
+    verify(mockFlutterApi, times(2))
+        .onProgressChanged(eq(webChromeClient), eq(mockWebView), eq(100L), any());
+  }
+
   @Test
   public void onCreateWindow() {
     final WebView mockOnCreateWindowWebView = mock(WebView.class);
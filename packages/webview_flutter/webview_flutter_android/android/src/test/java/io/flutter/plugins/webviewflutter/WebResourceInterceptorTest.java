@@ -0,0 +1,179 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.webkit.WebResourceResponse;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class WebResourceInterceptorTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Mock FlutterAssetManager mockFlutterAssetManager;
+
+  @Mock WebResourceInterceptor.NetworkProxy mockNetworkProxy;
+
+  @Mock HttpURLConnection mockConnection;
+
+  WebResourceInterceptor testInterceptor;
+
+  @Before
+  public void setUp() throws IOException {
+    testInterceptor =
+        new WebResourceInterceptor(
+            mockFlutterAssetManager, temporaryFolder.newFolder(), mockNetworkProxy);
+  }
+
+  @Test
+  public void interceptAsset() throws IOException {
+    when(mockFlutterAssetManager.getAssetFilePathByName("assets/web/index.html"))
+        .thenReturn("flutter_assets/assets/web/index.html");
+    when(mockFlutterAssetManager.open("flutter_assets/assets/web/index.html"))
+        .thenReturn(new ByteArrayInputStream(new byte[] {'h', 'i'}));
+    testInterceptor.setAssetRule("https://app.example/", "/assets/web/");
+
+    assertNotNull(testInterceptor.intercept("GET", "https://app.example/?page=1", null));
+    assertNull(testInterceptor.intercept("POST", "https://app.example/", null));
+    assertNull(testInterceptor.intercept("GET", "https://other.example/", null));
+    assertNull(testInterceptor.intercept("GET", "https://app.example/../secret", null));
+    assertEquals((Long) 1L, testInterceptor.getStats().get(WebResourceInterceptor.ASSET_HITS));
+  }
+
+  @Test
+  public void interceptMissingAsset() throws IOException {
+    when(mockFlutterAssetManager.getAssetFilePathByName(anyString())).thenReturn("missing.js");
+    when(mockFlutterAssetManager.open("missing.js")).thenThrow(new IOException());
+    testInterceptor.setAssetRule("https://app.example/", "assets/web");
+
+    assertNull(testInterceptor.intercept("GET", "https://app.example/missing.js", null));
+  }
+
+  @Test
+  public void interceptWithCache() throws IOException {
+    final Map<String, List<String>> headers = new HashMap<>();
+    headers.put("Cache-Control", Collections.singletonList("max-age=60"));
+    headers.put("Content-Type", Collections.singletonList("application/json; charset=utf-8"));
+    when(mockNetworkProxy.createConnection("https://api.example/items")).thenReturn(mockConnection);
+    when(mockConnection.getResponseCode()).thenReturn(200);
+    when(mockConnection.getHeaderFields()).thenReturn(headers);
+    when(mockConnection.getHeaderField("Cache-Control")).thenReturn("max-age=60");
+    when(mockConnection.getContentType()).thenReturn("application/json; charset=utf-8");
+    when(mockConnection.getInputStream())
+        .thenReturn(new ByteArrayInputStream(new byte[] {'[', ']'}));
+    testInterceptor.setCache(Collections.singletonList("https://api.example/"), 1024 * 1024);
+
+    assertNotNull(testInterceptor.intercept("GET", "https://api.example/items", null));
+    assertNotNull(testInterceptor.intercept("GET", "https://api.example/items", null));
+    verify(mockNetworkProxy, times(1)).createConnection(any());
+
+    final Map<String, Long> stats = testInterceptor.getStats();
+    assertEquals((Long) 1L, stats.get(WebResourceInterceptor.CACHE_HITS));
+    assertEquals((Long) 1L, stats.get(WebResourceInterceptor.CACHE_MISSES));
+
+    testInterceptor.clearCache();
+    assertEquals((Long) 0L, testInterceptor.getStats().get(WebResourceInterceptor.CACHE_SIZE));
+  }
+
+  @Test
+  public void setCacheKeepsCachedResponses() throws IOException {
+    final Map<String, List<String>> headers = new HashMap<>();
+    headers.put("Cache-Control", Collections.singletonList("max-age=60"));
+    when(mockNetworkProxy.createConnection("https://api.example/items")).thenReturn(mockConnection);
+    when(mockConnection.getResponseCode()).thenReturn(200);
+    when(mockConnection.getHeaderFields()).thenReturn(headers);
+    when(mockConnection.getHeaderField("Cache-Control")).thenReturn("max-age=60");
+    when(mockConnection.getContentType()).thenReturn("application/json");
+    when(mockConnection.getInputStream())
+        .thenReturn(new ByteArrayInputStream(new byte[] {'[', ']'}));
+    testInterceptor.setCache(Collections.singletonList("https://api.example/"), 1024 * 1024);
+    assertNotNull(testInterceptor.intercept("GET", "https://api.example/items", null));
+
+    testInterceptor.setCache(Collections.singletonList("https://api.example/"), 2 * 1024 * 1024);
+
+    assertNotNull(testInterceptor.intercept("GET", "https://api.example/items", null));
+    verify(mockNetworkProxy, times(1)).createConnection(any());
+  }
+
+  @Test
+  public void interceptWithCacheServesStaleResponseWhenRefreshFails() throws IOException {
+    final Map<String, List<String>> headers = new HashMap<>();
+    headers.put("Cache-Control", Collections.singletonList("no-cache"));
+    when(mockNetworkProxy.createConnection("https://api.example/items")).thenReturn(mockConnection);
+    when(mockConnection.getResponseCode()).thenReturn(200);
+    when(mockConnection.getHeaderFields()).thenReturn(headers);
+    when(mockConnection.getHeaderField("Cache-Control")).thenReturn("no-cache");
+    when(mockConnection.getContentType()).thenReturn("application/json");
+    when(mockConnection.getInputStream())
+        .thenReturn(new ByteArrayInputStream(new byte[] {'[', ']'}))
+        .thenThrow(new IOException("Connection reset"));
+    testInterceptor.setCache(Collections.singletonList("https://api.example/"), 1024 * 1024);
+    assertNotNull(testInterceptor.intercept("GET", "https://api.example/items", null));
+
+    final WebResourceResponse response =
+        testInterceptor.intercept("GET", "https://api.example/items", null);
+
+    assertNotNull(response);
+    final byte[] body = new byte[3];
+    assertEquals(2, response.getData().read(body));
+    assertEquals('[', body[0]);
+    assertEquals(']', body[1]);
+  }
+
+  @Test
+  public void interceptWithCacheIgnoresOtherUrls() throws IOException {
+    testInterceptor.setCache(Collections.singletonList("https://api.example/"), 1024 * 1024);
+
+    assertNull(testInterceptor.intercept("GET", "https://other.example/items", null));
+    verify(mockNetworkProxy, never()).createConnection(any());
+  }
+
+  @Test
+  public void expiresAt() {
+    assertEquals(-1, WebResourceInterceptor.expiresAt("no-store", null, null, null, null, 0));
+    assertEquals(60000, WebResourceInterceptor.expiresAt("max-age=60", null, null, null, null, 0));
+    assertEquals(0, WebResourceInterceptor.expiresAt("no-cache", null, null, null, null, 0));
+    assertEquals(-1, WebResourceInterceptor.expiresAt(null, null, null, null, "Cookie", 0));
+    assertEquals(
+        -1,
+        WebResourceInterceptor.expiresAt(
+            "no-cache, no-store, must-revalidate", null, null, null, null, 0));
+    assertEquals(
+        -1, WebResourceInterceptor.expiresAt("max-age=60, no-store", null, null, null, null, 0));
+    assertEquals(
+        0, WebResourceInterceptor.expiresAt("max-age=60, no-cache", null, null, null, null, 0));
+    assertEquals(
+        3600000,
+        WebResourceInterceptor.expiresAt(
+            null, "Thu, 01 Jan 1970 02:00:00 GMT", "Thu, 01 Jan 1970 01:00:00 GMT", null, null, 0));
+    assertEquals(
+        3600000,
+        WebResourceInterceptor.expiresAt(
+            null, "Thu, 01 Jan 1970 01:00:00 GMT", "invalid", null, null, 1800000));
+  }
+}
@@ -0,0 +1,124 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.content.Context;
+import android.webkit.WebSettings;
+import io.flutter.plugins.webviewflutter.WebViewHostApiImpl.InputAwareWebViewPlatformView;
+import io.flutter.plugins.webviewflutter.WebViewHostApiImpl.WebViewPlatformView;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class WebViewPoolTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public WebViewPlatformView mockWebView;
+
+  @Mock WebViewHostApiImpl.WebViewProxy mockWebViewProxy;
+
+  @Mock WebSettings mockWebSettings;
+
+  @Mock Context mockContext;
+
+  WebViewPool testWebViewPool;
+
+  @Before
+  public void setUp() {
+    when(mockWebViewProxy.createWebView(mockContext)).thenReturn(mockWebView);
+    when(mockWebView.getContext()).thenReturn(mockContext);
+    when(mockWebView.getSettings()).thenReturn(mockWebSettings);
+    testWebViewPool = new WebViewPool(mockWebViewProxy, mockContext, null);
+  }
+
+  @Test
+  public void obtainWithoutPrewarm() {
+    assertEquals(testWebViewPool.obtain(true), mockWebView);
+    verify(mockWebView, never()).setWebViewPool(any());
+  }
+
+  @Test
+  public void prewarm() {
+    testWebViewPool.prewarm(1, true);
+    verify(mockWebViewProxy).createWebView(mockContext);
+    verify(mockWebView).setWebViewPool(testWebViewPool);
+
+    assertEquals(testWebViewPool.obtain(true), mockWebView);
+    verify(mockWebViewProxy).createWebView(mockContext);
+  }
+
+  @Test
+  public void recycle() {
+    testWebViewPool.prewarm(1, true);
+    testWebViewPool.obtain(true);
+
+    testWebViewPool.recycle(mockWebView);
+    verify(mockWebView).resetForReuse();
+    verify(mockWebView, never()).destroy();
+
+    assertEquals(testWebViewPool.obtain(true), mockWebView);
+    verify(mockWebViewProxy).createWebView(mockContext);
+  }
+
+  @Test
+  public void recycleDestroysWebViewWhenPoolIsFull() {
+    testWebViewPool.prewarm(1, true);
+
+    testWebViewPool.recycle(mockWebView);
+    verify(mockWebView).destroy();
+    verify(mockWebView, never()).resetForReuse();
+  }
+
+  @Test
+  public void prewarmWithoutHybridCompositionOnlyLoadsProvider() {
+    testWebViewPool.prewarm(1, false);
+
+    verify(mockWebViewProxy).getDefaultUserAgent(mockContext);
+    verify(mockWebViewProxy, never()).createWebView(any());
+    verify(mockWebViewProxy, never()).createInputAwareWebView(any(), any());
+  }
+
+  @Test
+  public void recycleDestroysInputAwareWebView() {
+    // Disposing it reset the input connection to the container view of its virtual display.
+    final InputAwareWebViewPlatformView mockInputAwareWebView =
+        mock(InputAwareWebViewPlatformView.class);
+    when(mockInputAwareWebView.getContext()).thenReturn(mockContext);
+    testWebViewPool.prewarm(1, false);
+
+    testWebViewPool.recycle(mockInputAwareWebView);
+    verify(mockInputAwareWebView).destroy();
+  }
+
+  @Test
+  public void recycleForgetsPageLoadMetrics() {
+    final PageLoadMetrics mockPageLoadMetrics = mock(PageLoadMetrics.class);
+    testWebViewPool =
+        new WebViewPool(mockWebViewProxy, mockContext, null, null, mockPageLoadMetrics);
+    testWebViewPool.prewarm(1, true);
+    testWebViewPool.obtain(true);
+
+    testWebViewPool.recycle(mockWebView);
+    verify(mockPageLoadMetrics).forget(mockWebView);
+  }
+
+  @Test
+  public void setContextDestroysPooledWebViews() {
+    testWebViewPool.prewarm(1, true);
+
+    testWebViewPool.setContext(mock(Context.class));
+    verify(mockWebView).destroy();
+  }
+}
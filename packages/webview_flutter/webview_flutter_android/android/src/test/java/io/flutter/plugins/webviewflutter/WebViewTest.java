@@ -7,6 +7,7 @@ package io.flutter.plugins.webviewflutter;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -238,6 +239,20 @@ public class WebViewTest {
     verify(mockWebView).goBack();
   }
 
+  @Test
+  public void historyOfPreviousUserIsHiddenUntilReset() {
+    when(mockWebView.isHistoryResetPending()).thenReturn(true);
+    when(mockWebView.canGoBack()).thenReturn(true);
+    when(mockWebView.canGoForward()).thenReturn(true);
+
+    assertEquals(testHostApiImpl.canGoBack(0L), false);
+    assertEquals(testHostApiImpl.canGoForward(0L), false);
+    testHostApiImpl.goBack(0L);
+    testHostApiImpl.goForward(0L);
+    verify(mockWebView, never()).goBack();
+    verify(mockWebView, never()).goForward();
+  }
+
   @Test
   public void goForward() {
     testHostApiImpl.goForward(0L);
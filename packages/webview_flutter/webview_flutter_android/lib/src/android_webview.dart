@@ -70,6 +70,26 @@ class WebView {
     return api.setWebContentsDebuggingEnabled(enabled);
   }
 
+  /// Pigeon Host Api implementation for the pool of native WebViews.
+  @visibleForTesting
+  static WebViewPoolHostApi poolApi = WebViewPoolHostApi();
+
+  /// Loads the native WebView implementation and keeps [poolSize] created
+  /// WebViews ready to be used by the next [WebView]s.
+  ///
+  /// Calling this early, e.g. at startup, moves the cost of loading the WebView
+  /// implementation out of the first page shown with a WebView. Once released,
+  /// pooled WebViews are reset and returned to the pool. A [poolSize] of 0
+  /// only loads the implementation and disables pooling.
+  ///
+  /// [useHybridComposition] must match the [WebView]s that use the pool.
+  static Future<void> prewarm({
+    int poolSize = 1,
+    bool useHybridComposition = false,
+  }) {
+    return poolApi.prewarm(poolSize, useHybridComposition);
+  }
+
   /// Loads the given data into this WebView using a 'data' scheme URL.
   ///
   /// Note that JavaScript's same origin policy means that script running in a
@@ -246,6 +266,121 @@ class WebView {
     return result;
   }
 
+  /// Pigeon Host Api implementation for evaluating JavaScript in batches.
+  @visibleForTesting
+  static JavaScriptBatchHostApi javaScriptBatchApi = JavaScriptBatchHostApi();
+
+  /// Asynchronously evaluates several scripts, in order, in the context of the
+  /// currently displayed page.
+  ///
+  /// The scripts are evaluated with a single platform call, which is cheaper
+  /// than calling [evaluateJavascript] for each one. The returned list holds
+  /// the JSON of the result of each script, `null` when a script threw or
+  /// returned `undefined`.
+  ///
+  /// Each script is run with an indirect `eval`, as a separate global script.
+  /// Variables declared with `var` and function declarations become globals
+  /// that the next scripts can use, but top-level `let`, `const` and `class`
+  /// declarations only exist in the script declaring them. Assign to a global
+  /// instead, e.g. `window.value = ...`, to share such values between scripts.
+  ///
+  /// Also see compatibility note on [evaluateJavascript].
+  Future<List<String>> evaluateJavascriptBatch(
+    List<String> javascriptStrings,
+  ) async {
+    final List<String?> results =
+        await javaScriptBatchApi.evaluateJavascriptBatch(
+      api.instanceManager.getInstanceId(this)!,
+      javascriptStrings,
+    );
+    return results.cast<String>();
+  }
+
+  /// Pigeon Host Api implementation for the user scripts of a [WebView].
+  @visibleForTesting
+  static UserScriptHostApi userScriptApi = UserScriptHostApi();
+
+  /// Injects [source] in the pages this WebView loads from now on, before the
+  /// scripts of the pages run, replacing the script added with [scriptId].
+  ///
+  /// The script is registered once and injected natively on every navigation
+  /// to a page whose origin matches one of [allowedOriginRules], such as
+  /// `https://example.com`, `https://*.example.com` or `*` for any origin.
+  ///
+  /// When the WebView implementation doesn't support injecting scripts at
+  /// document start, the script is evaluated in the main frame once the page
+  /// started loading, which requires a [WebViewClient] to be set.
+  Future<void> addUserScript(
+    String scriptId,
+    String source, {
+    Set<String> allowedOriginRules = const <String>{'*'},
+  }) {
+    return userScriptApi.addUserScript(
+      api.instanceManager.getInstanceId(this)!,
+      scriptId,
+      source,
+      allowedOriginRules.toList(),
+    );
+  }
+
+  /// Stops injecting the script added with [scriptId].
+  Future<void> removeUserScript(String scriptId) {
+    return userScriptApi.removeUserScript(
+      api.instanceManager.getInstanceId(this)!,
+      scriptId,
+    );
+  }
+
+  /// Stops injecting any script added with [addUserScript].
+  Future<void> removeAllUserScripts() {
+    return userScriptApi.removeAllUserScripts(
+      api.instanceManager.getInstanceId(this)!,
+    );
+  }
+
+  /// Pigeon Host Api implementation for the native instance manager.
+  @visibleForTesting
+  static InstanceManagerHostApi instanceManagerApi = InstanceManagerHostApi();
+
+  /// Counts the native objects paired with the Dart objects of this plugin,
+  /// e.g. to detect objects that were never released.
+  static Future<InstanceManagerStats> getInstanceManagerStats() async {
+    final Map<String?, int?> stats = await instanceManagerApi.getStats();
+    return InstanceManagerStats(
+      instances: stats['instances']!,
+      strongInstances: stats['strongInstances']!,
+      finalizedInstances: stats['finalizedInstances']!,
+    );
+  }
+
+  /// Pigeon Host Api implementation for the page load metrics of [WebView]s.
+  @visibleForTesting
+  static PageLoadMetricsHostApi pageLoadMetricsApi = PageLoadMetricsHostApi();
+
+  /// Sets whether the timings of the navigations of all WebViews are collected.
+  ///
+  /// Timings are only collected for the WebViews with a [WebViewClient] and a
+  /// [WebChromeClient]. Disabling drops the metrics that weren't taken. The
+  /// default is false.
+  static Future<void> setPageLoadMetricsEnabled(bool enabled) {
+    return pageLoadMetricsApi.setEnabled(enabled);
+  }
+
+  /// Gets the metrics of the navigations of this WebView that completed since
+  /// the last call, in the order they started.
+  ///
+  /// A navigation completes when its page finished loading or when the next
+  /// navigation started. At most the last 50 navigations are kept.
+  Future<List<PageLoadMetrics>> takePageLoadMetrics() async {
+    final List<PageLoadMetricsData?> metrics =
+        await pageLoadMetricsApi.takeMetrics(
+      api.instanceManager.getInstanceId(this)!,
+    );
+    return metrics
+        .map((PageLoadMetricsData? data) => PageLoadMetrics._fromData(data!))
+        .toList();
+  }
+
   // TODO(bparrishMines): Update documentation when WebViewClient.onReceivedTitle is added.
   /// Gets the title for the current page.
   ///
@@ -563,7 +698,12 @@ class WebSettings {
 /// See [WebView.addJavaScriptChannel].
 abstract class JavaScriptChannel {
   /// Constructs a [JavaScriptChannel].
-  JavaScriptChannel(this.channelName) {
+  ///
+  /// When [batchMessages] is true, the messages posted within a frame are sent
+  /// from the platform together, which reduces the overhead of channels
+  /// receiving many small messages. [postMessage] is still called once per
+  /// message, in order.
+  JavaScriptChannel(this.channelName, {this.batchMessages = false}) {
     AndroidWebViewFlutterApis.instance.ensureSetUp();
   }
 
@@ -571,11 +711,26 @@ abstract class JavaScriptChannel {
   @visibleForTesting
   static JavaScriptChannelHostApiImpl api = JavaScriptChannelHostApiImpl();
 
+  /// Pigeon Host Api implementation for batching the messages of a [JavaScriptChannel].
+  @visibleForTesting
+  static JavaScriptChannelBatchingHostApi batchingApi =
+      JavaScriptChannelBatchingHostApi();
+
   /// Used to identify this object to receive messages from javaScript.
   final String channelName;
 
+  /// Whether the messages posted within a frame are sent together.
+  final bool batchMessages;
+
   /// Callback method when javaScript calls `postMessage` on the object instance passed.
   void postMessage(String message);
+
+  /// Callback method when javaScript calls `postBinaryMessage` on the object instance passed.
+  ///
+  /// JavaScript passes the bytes as a string holding one byte per character,
+  /// e.g. `String.fromCharCode.apply(null, uint8Array)`, which avoids the size
+  /// overhead of base64.
+  void postBinaryMessage(Uint8List message) {}
 }
 
 /// Receive various notifications and requests for [WebView].
@@ -766,6 +921,32 @@ abstract class DownloadListener {
     String mimetype,
     int contentLength,
   );
+
+  /// Downloads the files of [onDownloadStart] natively into [directory].
+  ///
+  /// The response is streamed to disk with the cookies of the WebViews and
+  /// the user agent of the page. A failed or cancelled download is resumed the
+  /// next time the same url is downloaded. [onDownloadStart] is still called.
+  Future<void> setDownloadDirectory(String directory) {
+    return api.setDownloadDirectoryFromInstance(this, directory);
+  }
+
+  /// Cancels the native download of [url], see [setDownloadDirectory].
+  Future<void> cancelDownload(String url) {
+    return api.cancelDownloadFromInstance(this, url);
+  }
+
+  /// Notify the host application of the progress of a native download.
+  ///
+  /// [totalBytes] is -1 when the size of the file isn't known.
+  void onDownloadProgress(String url, int receivedBytes, int totalBytes) {}
+
+  /// Notify the host application that a native download is complete.
+  void onDownloadFinished(String url, String filePath) {}
+
+  /// Notify the host application that a native download failed or was
+  /// cancelled.
+  void onDownloadFailed(String url, String error) {}
 }
 
 /// Handles JavaScript dialogs, favicons, titles, and the progress for [WebView].
@@ -852,3 +1033,239 @@ class FlutterAssetManager {
   Future<String> getAssetFilePathByName(String name) =>
       api.getAssetFilePathByName(name);
 }
+
+/// Answers the requests of all WebViews natively, from Flutter assets or from a
+/// disk cache of GET responses, without a round trip to Dart.
+class WebResourceInterceptor {
+  /// Constructs the [WebResourceInterceptor].
+  const WebResourceInterceptor();
+
+  /// Pigeon Host Api implementation for [WebResourceInterceptor].
+  @visibleForTesting
+  static WebResourceInterceptorHostApi api = WebResourceInterceptorHostApi();
+
+  /// Serves the urls starting with [urlPrefix] from the Flutter assets in
+  /// [assetDirectory].
+  ///
+  /// The rest of the url is the path of the asset in [assetDirectory], a url
+  /// ending with a slash is served from its `index.html`. Urls without a
+  /// matching asset are loaded from the network.
+  Future<void> setAssetRule(String urlPrefix, String assetDirectory) {
+    return api.setAssetRule(urlPrefix, assetDirectory);
+  }
+
+  /// Removes the rule set for [urlPrefix] with [setAssetRule].
+  Future<void> removeAssetRule(String urlPrefix) {
+    return api.removeAssetRule(urlPrefix);
+  }
+
+  /// Caches the responses to GET requests for urls starting with one of
+  /// [urlPrefixes] on disk, using at most [maxSize] bytes.
+  ///
+  /// Responses are stored according to their `Cache-Control` and `Expires`
+  /// headers. Stale responses are revalidated and are served when the network
+  /// isn't available. A [maxSize] of 0 disables the cache.
+  Future<void> setCache(List<String> urlPrefixes, int maxSize) {
+    return api.setCache(urlPrefixes, maxSize);
+  }
+
+  /// Removes all the cached responses.
+  Future<void> clearCache() => api.clearCache();
+
+  /// Gets the number of requests served by this interceptor.
+  Future<WebResourceInterceptorStats> getStats() async {
+    final Map<String?, int?> stats = await api.getStats();
+    return WebResourceInterceptorStats(
+      assetHits: stats['assetHits']!,
+      cacheHits: stats['cacheHits']!,
+      cacheMisses: stats['cacheMisses']!,
+      cacheSize: stats['cacheSize']!,
+    );
+  }
+}
+
+/// Counters of a [WebResourceInterceptor].
+class WebResourceInterceptorStats {
+  /// Constructs a [WebResourceInterceptorStats].
+  WebResourceInterceptorStats({
+    required this.assetHits,
+    required this.cacheHits,
+    required this.cacheMisses,
+    required this.cacheSize,
+  });
+
+  /// The number of requests served from Flutter assets.
+  final int assetHits;
+
+  /// The number of requests served from the cache without the network.
+  final int cacheHits;
+
+  /// The number of requests for cached urls that needed the network.
+  final int cacheMisses;
+
+  /// The size of the cache in bytes.
+  final int cacheSize;
+}
+
+/// Reduces the memory used by [WebView]s when the system asks the app to trim
+/// its memory.
+///
+/// Only clearing caches is enabled by default, see [setPolicy].
+class MemoryTrimmer {
+  MemoryTrimmer._();
+
+  /// Pigeon Host Api implementation for [MemoryTrimmer].
+  @visibleForTesting
+  static MemoryTrimmerHostApi api = MemoryTrimmerHostApi();
+
+  /// Called after memory was trimmed.
+  ///
+  /// The [WebView]s in [MemoryTrimReport.destroyedWebViews] can't be used
+  /// anymore and must be replaced by new ones.
+  static ValueChanged<MemoryTrimReport>? onMemoryTrimmed;
+
+  /// Sets the actions taken when the system asks the app to trim its memory.
+  ///
+  /// When [pauseTimers] is true, the JavaScript timers of all WebViews are
+  /// paused once the UI is hidden and resumed once an activity resumes. When
+  /// [clearCaches] is true, the in-memory cache of the WebViews is cleared and
+  /// the pooled WebViews, see [WebView.prewarm], are destroyed when memory runs
+  /// low. When [destroyOffscreenWebViews] is true, the [WebView]s that aren't
+  /// attached to a window are released and destroyed when memory is critical.
+  static Future<void> setPolicy({
+    bool pauseTimers = false,
+    bool clearCaches = true,
+    bool destroyOffscreenWebViews = false,
+  }) {
+    return api.setPolicy(pauseTimers, clearCaches, destroyOffscreenWebViews);
+  }
+}
+
+/// What was done to trim memory, see [MemoryTrimmer.onMemoryTrimmed].
+class MemoryTrimReport {
+  /// Constructs a [MemoryTrimReport].
+  MemoryTrimReport({
+    required this.level,
+    required this.timersPaused,
+    required this.cacheCleared,
+    required this.releasedPooledWebViewCount,
+    required this.destroyedWebViews,
+    required this.reclaimedBytes,
+  });
+
+  /// The level passed to `ComponentCallbacks2.onTrimMemory`.
+  final int level;
+
+  /// Whether the JavaScript timers of all WebViews were paused.
+  final bool timersPaused;
+
+  /// Whether the in-memory cache of the WebViews was cleared.
+  final bool cacheCleared;
+
+  /// The number of pooled WebViews that were destroyed.
+  final int releasedPooledWebViewCount;
+
+  /// The [WebView]s that were released and destroyed.
+  final List<WebView> destroyedWebViews;
+
+  /// An approximation of the memory reclaimed in the app process, in bytes.
+  ///
+  /// The memory of the WebView renderer process isn't included.
+  final int reclaimedBytes;
+}
+
+/// Counts of the native objects paired with Dart objects, see
+/// [WebView.getInstanceManagerStats].
+class InstanceManagerStats {
+  /// Constructs an [InstanceManagerStats].
+  InstanceManagerStats({
+    required this.instances,
+    required this.strongInstances,
+    required this.finalizedInstances,
+  });
+
+  /// The number of native objects paired with a Dart object.
+  final int instances;
+
+  /// The number of native objects kept alive until their Dart object is
+  /// released, e.g. [WebView]s and their clients.
+  ///
+  /// The other objects, e.g. [WebSettings], are kept alive by the objects that
+  /// own them.
+  final int strongInstances;
+
+  /// The number of native objects that were garbage collected before their
+  /// Dart object was released, after which their Dart object was forgotten.
+  final int finalizedInstances;
+}
+
+/// Timings of a navigation of a [WebView], see [WebView.takePageLoadMetrics].
+///
+/// Durations are measured from the start of the navigation and are null when
+/// the navigation completed before reaching the corresponding event.
+class PageLoadMetrics {
+  /// Constructs a [PageLoadMetrics].
+  PageLoadMetrics({
+    required this.url,
+    required this.navigationStart,
+    this.commitVisibleDuration,
+    this.finishedDuration,
+    this.progress25Duration,
+    this.progress50Duration,
+    this.progress75Duration,
+    this.progress100Duration,
+    required this.resourceErrorCount,
+    required this.httpErrorCount,
+  });
+
+  PageLoadMetrics._fromData(PageLoadMetricsData data)
+      : this(
+          url: data.url!,
+          navigationStart:
+              DateTime.fromMillisecondsSinceEpoch(data.navigationStartTime!),
+          commitVisibleDuration: _duration(data.commitVisibleDuration),
+          finishedDuration: _duration(data.finishedDuration),
+          progress25Duration: _duration(data.progress25Duration),
+          progress50Duration: _duration(data.progress50Duration),
+          progress75Duration: _duration(data.progress75Duration),
+          progress100Duration: _duration(data.progress100Duration),
+          resourceErrorCount: data.resourceErrorCount!,
+          httpErrorCount: data.httpErrorCount!,
+        );
+
+  /// The url the navigation started loading.
+  final String url;
+
+  /// When the navigation started.
+  final DateTime navigationStart;
+
+  /// When the page became visible, see `WebViewClient.onPageCommitVisible`.
+  ///
+  /// Only reported on Android 6.0 and above.
+  final Duration? commitVisibleDuration;
+
+  /// When the page finished loading, see [WebViewClient.onPageFinished].
+  final Duration? finishedDuration;
+
+  /// When the progress of the navigation reached 25%.
+  final Duration? progress25Duration;
+
+  /// When the progress of the navigation reached 50%.
+  final Duration? progress50Duration;
+
+  /// When the progress of the navigation reached 75%.
+  final Duration? progress75Duration;
+
+  /// When the progress of the navigation reached 100%.
+  final Duration? progress100Duration;
+
+  /// The number of resources that failed to load.
+  final int resourceErrorCount;
+
+  /// The number of resources that loaded with an HTTP error status.
+  final int httpErrorCount;
+
+  static Duration? _duration(int? milliseconds) {
+    return milliseconds != null ? Duration(milliseconds: milliseconds) : null;
+  }
+}
@@ -63,6 +63,81 @@ class WebResourceErrorData {
   }
 }
 
+class PageLoadMetricsData {
+  String? url;
+  int? navigationStartTime;
+  int? commitVisibleDuration;
+  int? finishedDuration;
+  int? progress25Duration;
+  int? progress50Duration;
+  int? progress75Duration;
+  int? progress100Duration;
+  int? resourceErrorCount;
+  int? httpErrorCount;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['url'] = url;
+    pigeonMap['navigationStartTime'] = navigationStartTime;
+    pigeonMap['commitVisibleDuration'] = commitVisibleDuration;
+    pigeonMap['finishedDuration'] = finishedDuration;
+    pigeonMap['progress25Duration'] = progress25Duration;
+    pigeonMap['progress50Duration'] = progress50Duration;
+    pigeonMap['progress75Duration'] = progress75Duration;
+    pigeonMap['progress100Duration'] = progress100Duration;
+    pigeonMap['resourceErrorCount'] = resourceErrorCount;
+    pigeonMap['httpErrorCount'] = httpErrorCount;
+    return pigeonMap;
+  }
+
+  static PageLoadMetricsData decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return PageLoadMetricsData()
+      ..url = pigeonMap['url'] as String?
+      ..navigationStartTime = pigeonMap['navigationStartTime'] as int?
+      ..commitVisibleDuration = pigeonMap['commitVisibleDuration'] as int?
+      ..finishedDuration = pigeonMap['finishedDuration'] as int?
+      ..progress25Duration = pigeonMap['progress25Duration'] as int?
+      ..progress50Duration = pigeonMap['progress50Duration'] as int?
+      ..progress75Duration = pigeonMap['progress75Duration'] as int?
+      ..progress100Duration = pigeonMap['progress100Duration'] as int?
+      ..resourceErrorCount = pigeonMap['resourceErrorCount'] as int?
+      ..httpErrorCount = pigeonMap['httpErrorCount'] as int?;
+  }
+}
+
+class MemoryTrimReportData {
+  int? level;
+  bool? timersPaused;
+  bool? cacheCleared;
+  int? releasedPooledWebViewCount;
+  int? destroyedWebViewCount;
+  int? reclaimedBytes;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['level'] = level;
+    pigeonMap['timersPaused'] = timersPaused;
+    pigeonMap['cacheCleared'] = cacheCleared;
+    pigeonMap['releasedPooledWebViewCount'] = releasedPooledWebViewCount;
+    pigeonMap['destroyedWebViewCount'] = destroyedWebViewCount;
+    pigeonMap['reclaimedBytes'] = reclaimedBytes;
+    return pigeonMap;
+  }
+
+  static MemoryTrimReportData decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return MemoryTrimReportData()
+      ..level = pigeonMap['level'] as int?
+      ..timersPaused = pigeonMap['timersPaused'] as bool?
+      ..cacheCleared = pigeonMap['cacheCleared'] as bool?
+      ..releasedPooledWebViewCount =
+          pigeonMap['releasedPooledWebViewCount'] as int?
+      ..destroyedWebViewCount = pigeonMap['destroyedWebViewCount'] as int?
+      ..reclaimedBytes = pigeonMap['reclaimedBytes'] as int?;
+  }
+}
+
 class _CookieManagerHostApiCodec extends StandardMessageCodec {
   const _CookieManagerHostApiCodec();
 }
@@ -1258,6 +1333,8 @@ abstract class JavaScriptChannelFlutterApi {
 
   void dispose(int instanceId);
   void postMessage(int instanceId, String message);
+  void postMessages(int instanceId, List<String?> messages);
+  void postBinaryMessage(int instanceId, Uint8List message);
   static void setup(JavaScriptChannelFlutterApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -1301,6 +1378,52 @@ abstract class JavaScriptChannelFlutterApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.JavaScriptChannelFlutterApi.postMessages', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelFlutterApi.postMessages was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelFlutterApi.postMessages was null, expected non-null int.');
+          final List<String?>? arg_messages =
+              (args[1] as List<Object?>?)?.cast<String?>();
+          assert(arg_messages != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelFlutterApi.postMessages was null, expected non-null List<String?>.');
+          api.postMessages(arg_instanceId!, arg_messages!);
+          return;
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.JavaScriptChannelFlutterApi.postBinaryMessage',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelFlutterApi.postBinaryMessage was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelFlutterApi.postBinaryMessage was null, expected non-null int.');
+          final Uint8List? arg_message = (args[1] as Uint8List?);
+          assert(arg_message != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelFlutterApi.postBinaryMessage was null, expected non-null Uint8List.');
+          api.postBinaryMessage(arg_instanceId!, arg_message!);
+          return;
+        });
+      }
+    }
   }
 }
 
@@ -1619,6 +1742,58 @@ class DownloadListenerHostApi {
       return;
     }
   }
+
+  Future<void> setDownloadDirectory(int arg_instanceId, String arg_directory) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.DownloadListenerHostApi.setDownloadDirectory', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object>[arg_instanceId, arg_directory])
+            as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> cancelDownload(int arg_instanceId, String arg_url) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.DownloadListenerHostApi.cancelDownload', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object>[arg_instanceId, arg_url])
+            as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
 }
 
 class _DownloadListenerFlutterApiCodec extends StandardMessageCodec {
@@ -1631,6 +1806,10 @@ abstract class DownloadListenerFlutterApi {
   void dispose(int instanceId);
   void onDownloadStart(int instanceId, String url, String userAgent,
       String contentDisposition, String mimetype, int contentLength);
+  void onDownloadProgress(
+      int instanceId, String url, int receivedBytes, int totalBytes);
+  void onDownloadFinished(int instanceId, String url, String filePath);
+  void onDownloadFailed(int instanceId, String url, String error);
   static void setup(DownloadListenerFlutterApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -1688,6 +1867,84 @@ abstract class DownloadListenerFlutterApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.DownloadListenerFlutterApi.onDownloadProgress', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.DownloadListenerFlutterApi.onDownloadProgress was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.DownloadListenerFlutterApi.onDownloadProgress was null, expected non-null int.');
+          final String? arg_url = (args[1] as String?);
+          assert(arg_url != null,
+              'Argument for dev.flutter.pigeon.DownloadListenerFlutterApi.onDownloadProgress was null, expected non-null String.');
+          final int? arg_receivedBytes = (args[2] as int?);
+          assert(arg_receivedBytes != null,
+              'Argument for dev.flutter.pigeon.DownloadListenerFlutterApi.onDownloadProgress was null, expected non-null int.');
+          final int? arg_totalBytes = (args[3] as int?);
+          assert(arg_totalBytes != null,
+              'Argument for dev.flutter.pigeon.DownloadListenerFlutterApi.onDownloadProgress was null, expected non-null int.');
+          api.onDownloadProgress(arg_instanceId!, arg_url!, arg_receivedBytes!, arg_totalBytes!);
+          return;
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.DownloadListenerFlutterApi.onDownloadFinished', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.DownloadListenerFlutterApi.onDownloadFinished was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.DownloadListenerFlutterApi.onDownloadFinished was null, expected non-null int.');
+          final String? arg_url = (args[1] as String?);
+          assert(arg_url != null,
+              'Argument for dev.flutter.pigeon.DownloadListenerFlutterApi.onDownloadFinished was null, expected non-null String.');
+          final String? arg_filePath = (args[2] as String?);
+          assert(arg_filePath != null,
+              'Argument for dev.flutter.pigeon.DownloadListenerFlutterApi.onDownloadFinished was null, expected non-null String.');
+          api.onDownloadFinished(arg_instanceId!, arg_url!, arg_filePath!);
+          return;
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.DownloadListenerFlutterApi.onDownloadFailed', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.DownloadListenerFlutterApi.onDownloadFailed was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.DownloadListenerFlutterApi.onDownloadFailed was null, expected non-null int.');
+          final String? arg_url = (args[1] as String?);
+          assert(arg_url != null,
+              'Argument for dev.flutter.pigeon.DownloadListenerFlutterApi.onDownloadFailed was null, expected non-null String.');
+          final String? arg_error = (args[2] as String?);
+          assert(arg_error != null,
+              'Argument for dev.flutter.pigeon.DownloadListenerFlutterApi.onDownloadFailed was null, expected non-null String.');
+          api.onDownloadFailed(arg_instanceId!, arg_url!, arg_error!);
+          return;
+        });
+      }
+    }
   }
 }
 
@@ -1860,3 +2117,645 @@ abstract class WebChromeClientFlutterApi {
     }
   }
 }
+
+class _WebViewPoolHostApiCodec extends StandardMessageCodec {
+  const _WebViewPoolHostApiCodec();
+}
+
+class WebViewPoolHostApi {
+  /// Constructor for [WebViewPoolHostApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  WebViewPoolHostApi({BinaryMessenger? binaryMessenger})
+      : _binaryMessenger = binaryMessenger;
+
+  final BinaryMessenger? _binaryMessenger;
+
+  static const MessageCodec<Object?> codec = _WebViewPoolHostApiCodec();
+
+  Future<void> prewarm(int arg_poolSize, bool arg_useHybridComposition) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewPoolHostApi.prewarm', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object>[arg_poolSize, arg_useHybridComposition])
+            as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+}
+
+class _WebResourceInterceptorHostApiCodec extends StandardMessageCodec {
+  const _WebResourceInterceptorHostApiCodec();
+}
+
+class WebResourceInterceptorHostApi {
+  /// Constructor for [WebResourceInterceptorHostApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  WebResourceInterceptorHostApi({BinaryMessenger? binaryMessenger})
+      : _binaryMessenger = binaryMessenger;
+
+  final BinaryMessenger? _binaryMessenger;
+
+  static const MessageCodec<Object?> codec =
+      _WebResourceInterceptorHostApiCodec();
+
+  Future<void> setAssetRule(
+      String arg_urlPrefix, String arg_assetDirectory) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebResourceInterceptorHostApi.setAssetRule', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object>[arg_urlPrefix, arg_assetDirectory])
+            as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> removeAssetRule(String arg_urlPrefix) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebResourceInterceptorHostApi.removeAssetRule',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object>[arg_urlPrefix]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setCache(List<String?> arg_urlPrefixes, int arg_maxSize) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebResourceInterceptorHostApi.setCache', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap = await channel
+        .send(<Object>[arg_urlPrefixes, arg_maxSize]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> clearCache() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebResourceInterceptorHostApi.clearCache', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(null) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<Map<String?, int?>> getStats() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebResourceInterceptorHostApi.getStats', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(null) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return (replyMap['result'] as Map<Object?, Object?>?)!
+          .cast<String?, int?>();
+    }
+  }
+}
+
+class _JavaScriptChannelBatchingHostApiCodec extends StandardMessageCodec {
+  const _JavaScriptChannelBatchingHostApiCodec();
+}
+
+class JavaScriptChannelBatchingHostApi {
+  /// Constructor for [JavaScriptChannelBatchingHostApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  JavaScriptChannelBatchingHostApi({BinaryMessenger? binaryMessenger})
+      : _binaryMessenger = binaryMessenger;
+
+  final BinaryMessenger? _binaryMessenger;
+
+  static const MessageCodec<Object?> codec =
+      _JavaScriptChannelBatchingHostApiCodec();
+
+  Future<void> setBatchingEnabled(int arg_instanceId, bool arg_enabled) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.JavaScriptChannelBatchingHostApi.setBatchingEnabled',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap = await channel
+        .send(<Object>[arg_instanceId, arg_enabled]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+}
+
+class _JavaScriptBatchHostApiCodec extends StandardMessageCodec {
+  const _JavaScriptBatchHostApiCodec();
+}
+
+class JavaScriptBatchHostApi {
+  /// Constructor for [JavaScriptBatchHostApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  JavaScriptBatchHostApi({BinaryMessenger? binaryMessenger})
+      : _binaryMessenger = binaryMessenger;
+
+  final BinaryMessenger? _binaryMessenger;
+
+  static const MessageCodec<Object?> codec = _JavaScriptBatchHostApiCodec();
+
+  Future<List<String?>> evaluateJavascriptBatch(
+      int arg_webViewInstanceId, List<String?> arg_javascriptStrings) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.JavaScriptBatchHostApi.evaluateJavascriptBatch',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap = await channel
+            .send(<Object>[arg_webViewInstanceId, arg_javascriptStrings])
+        as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return (replyMap['result'] as List<Object?>?)!.cast<String?>();
+    }
+  }
+}
+
+class _UserScriptHostApiCodec extends StandardMessageCodec {
+  const _UserScriptHostApiCodec();
+}
+
+class UserScriptHostApi {
+  /// Constructor for [UserScriptHostApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  UserScriptHostApi({BinaryMessenger? binaryMessenger})
+      : _binaryMessenger = binaryMessenger;
+
+  final BinaryMessenger? _binaryMessenger;
+
+  static const MessageCodec<Object?> codec = _UserScriptHostApiCodec();
+
+  Future<void> addUserScript(int arg_webViewInstanceId, String arg_scriptId,
+      String arg_source, List<String?> arg_allowedOriginRules) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.UserScriptHostApi.addUserScript', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap = await channel.send(<Object>[
+      arg_webViewInstanceId,
+      arg_scriptId,
+      arg_source,
+      arg_allowedOriginRules
+    ]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> removeUserScript(
+      int arg_webViewInstanceId, String arg_scriptId) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.UserScriptHostApi.removeUserScript', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object>[arg_webViewInstanceId, arg_scriptId])
+            as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> removeAllUserScripts(int arg_webViewInstanceId) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.UserScriptHostApi.removeAllUserScripts', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object>[arg_webViewInstanceId])
+            as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+}
+
+class _PageLoadMetricsHostApiCodec extends StandardMessageCodec {
+  const _PageLoadMetricsHostApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is PageLoadMetricsData) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return PageLoadMetricsData.decode(readValue(buffer)!);
+
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
+class PageLoadMetricsHostApi {
+  /// Constructor for [PageLoadMetricsHostApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  PageLoadMetricsHostApi({BinaryMessenger? binaryMessenger})
+      : _binaryMessenger = binaryMessenger;
+
+  final BinaryMessenger? _binaryMessenger;
+
+  static const MessageCodec<Object?> codec = _PageLoadMetricsHostApiCodec();
+
+  Future<void> setEnabled(bool arg_enabled) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.PageLoadMetricsHostApi.setEnabled', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object>[arg_enabled]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<List<PageLoadMetricsData?>> takeMetrics(
+      int arg_webViewInstanceId) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.PageLoadMetricsHostApi.takeMetrics', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object>[arg_webViewInstanceId])
+            as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return (replyMap['result'] as List<Object?>?)!
+          .cast<PageLoadMetricsData?>();
+    }
+  }
+}
+
+class _InstanceManagerHostApiCodec extends StandardMessageCodec {
+  const _InstanceManagerHostApiCodec();
+}
+
+class InstanceManagerHostApi {
+  /// Constructor for [InstanceManagerHostApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  InstanceManagerHostApi({BinaryMessenger? binaryMessenger})
+      : _binaryMessenger = binaryMessenger;
+
+  final BinaryMessenger? _binaryMessenger;
+
+  static const MessageCodec<Object?> codec = _InstanceManagerHostApiCodec();
+
+  Future<Map<String?, int?>> getStats() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.InstanceManagerHostApi.getStats', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(null) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return (replyMap['result'] as Map<Object?, Object?>?)!
+          .cast<String?, int?>();
+    }
+  }
+}
+
+class _InstanceManagerFlutterApiCodec extends StandardMessageCodec {
+  const _InstanceManagerFlutterApiCodec();
+}
+
+abstract class InstanceManagerFlutterApi {
+  static const MessageCodec<Object?> codec = _InstanceManagerFlutterApiCodec();
+
+  void onInstancesFinalized(List<int?> instanceIds);
+  static void setup(InstanceManagerFlutterApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.InstanceManagerFlutterApi.onInstancesFinalized',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.InstanceManagerFlutterApi.onInstancesFinalized was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final List<int?>? arg_instanceIds =
+              (args[0] as List<Object?>?)?.cast<int?>();
+          assert(arg_instanceIds != null,
+              'Argument for dev.flutter.pigeon.InstanceManagerFlutterApi.onInstancesFinalized was null, expected non-null List<int?>.');
+          api.onInstancesFinalized(arg_instanceIds!);
+          return;
+        });
+      }
+    }
+  }
+}
+
+class _MemoryTrimmerHostApiCodec extends StandardMessageCodec {
+  const _MemoryTrimmerHostApiCodec();
+}
+
+class MemoryTrimmerHostApi {
+  /// Constructor for [MemoryTrimmerHostApi].  The [binaryMessenger] named argument is
+  /// available for dependency injection.  If it is left null, the default
+  /// BinaryMessenger will be used which routes to the host platform.
+  MemoryTrimmerHostApi({BinaryMessenger? binaryMessenger})
+      : _binaryMessenger = binaryMessenger;
+
+  final BinaryMessenger? _binaryMessenger;
+
+  static const MessageCodec<Object?> codec = _MemoryTrimmerHostApiCodec();
+
+  Future<void> setPolicy(bool arg_pauseTimers, bool arg_clearCaches,
+      bool arg_destroyOffscreenWebViews) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.MemoryTrimmerHostApi.setPolicy', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap = await channel.send(<Object>[
+      arg_pauseTimers,
+      arg_clearCaches,
+      arg_destroyOffscreenWebViews
+    ]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+}
+
+class _MemoryTrimmerFlutterApiCodec extends StandardMessageCodec {
+  const _MemoryTrimmerFlutterApiCodec();
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is MemoryTrimReportData) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return MemoryTrimReportData.decode(readValue(buffer)!);
+
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
+abstract class MemoryTrimmerFlutterApi {
+  static const MessageCodec<Object?> codec = _MemoryTrimmerFlutterApiCodec();
+
+  void onMemoryTrimmed(
+      MemoryTrimReportData report, List<int?> destroyedWebViewInstanceIds);
+  static void setup(MemoryTrimmerFlutterApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.MemoryTrimmerFlutterApi.onMemoryTrimmed', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.MemoryTrimmerFlutterApi.onMemoryTrimmed was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final MemoryTrimReportData? arg_report =
+              (args[0] as MemoryTrimReportData?);
+          assert(arg_report != null,
+              'Argument for dev.flutter.pigeon.MemoryTrimmerFlutterApi.onMemoryTrimmed was null, expected non-null MemoryTrimReportData.');
+          final List<int?>? arg_destroyedWebViewInstanceIds =
+              (args[1] as List<Object?>?)?.cast<int?>();
+          assert(arg_destroyedWebViewInstanceIds != null,
+              'Argument for dev.flutter.pigeon.MemoryTrimmerFlutterApi.onMemoryTrimmed was null, expected non-null List<int?>.');
+          api.onMemoryTrimmed(arg_report!, arg_destroyedWebViewInstanceIds!);
+          return;
+        });
+      }
+    }
+  }
+}
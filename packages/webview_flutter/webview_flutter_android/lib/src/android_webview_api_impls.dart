@@ -39,6 +39,8 @@ class AndroidWebViewFlutterApis {
     WebViewClientFlutterApiImpl? webViewClientFlutterApi,
     WebChromeClientFlutterApiImpl? webChromeClientFlutterApi,
     JavaScriptChannelFlutterApiImpl? javaScriptChannelFlutterApi,
+    InstanceManagerFlutterApiImpl? instanceManagerFlutterApi,
+    MemoryTrimmerFlutterApiImpl? memoryTrimmerFlutterApi,
   }) {
     this.downloadListenerFlutterApi =
         downloadListenerFlutterApi ?? DownloadListenerFlutterApiImpl();
@@ -48,6 +50,10 @@ class AndroidWebViewFlutterApis {
         webChromeClientFlutterApi ?? WebChromeClientFlutterApiImpl();
     this.javaScriptChannelFlutterApi =
         javaScriptChannelFlutterApi ?? JavaScriptChannelFlutterApiImpl();
+    this.instanceManagerFlutterApi =
+        instanceManagerFlutterApi ?? InstanceManagerFlutterApiImpl();
+    this.memoryTrimmerFlutterApi =
+        memoryTrimmerFlutterApi ?? MemoryTrimmerFlutterApiImpl();
   }
 
   static bool _haveBeenSetUp = false;
@@ -69,6 +75,12 @@ class AndroidWebViewFlutterApis {
   /// Flutter Api for [JavaScriptChannel].
   late final JavaScriptChannelFlutterApiImpl javaScriptChannelFlutterApi;
 
+  /// Flutter Api for [InstanceManager].
+  late final InstanceManagerFlutterApiImpl instanceManagerFlutterApi;
+
+  /// Flutter Api for [MemoryTrimmer].
+  late final MemoryTrimmerFlutterApiImpl memoryTrimmerFlutterApi;
+
   /// Ensures all the Flutter APIs have been setup to receive calls from native code.
   void ensureSetUp() {
     if (!_haveBeenSetUp) {
@@ -76,6 +88,8 @@ class AndroidWebViewFlutterApis {
       WebViewClientFlutterApi.setup(webViewClientFlutterApi);
       WebChromeClientFlutterApi.setup(webChromeClientFlutterApi);
       JavaScriptChannelFlutterApi.setup(javaScriptChannelFlutterApi);
+      InstanceManagerFlutterApi.setup(instanceManagerFlutterApi);
+      MemoryTrimmerFlutterApi.setup(memoryTrimmerFlutterApi);
       _haveBeenSetUp = true;
     }
   }
@@ -467,7 +481,13 @@ class JavaScriptChannelHostApiImpl extends JavaScriptChannelHostApi {
   Future<void> createFromInstance(JavaScriptChannel instance) async {
     final int? instanceId = instanceManager.tryAddInstance(instance);
     if (instanceId != null) {
-      return create(instanceId, instance.channelName);
+      await create(instanceId, instance.channelName);
+      if (instance.batchMessages) {
+        await JavaScriptChannel.batchingApi.setBatchingEnabled(
+          instanceId,
+          true,
+        );
+      }
     }
   }
 }
@@ -484,7 +504,7 @@ class JavaScriptChannelFlutterApiImpl extends JavaScriptChannelFlutterApi {
 
   @override
   void dispose(int instanceId) {
-    instanceManager.removeInstance(instanceId);
+    instanceManager.removeInstanceWithId(instanceId);
   }
 
   @override
@@ -497,6 +517,30 @@ class JavaScriptChannelFlutterApiImpl extends JavaScriptChannelFlutterApi {
     );
     instance!.postMessage(message);
   }
+
+  @override
+  void postMessages(int instanceId, List<String?> messages) {
+    final JavaScriptChannel? instance =
+        instanceManager.getInstance(instanceId) as JavaScriptChannel?;
+    assert(
+      instance != null,
+      'InstanceManager does not contain an JavaScriptChannel with instanceId: $instanceId',
+    );
+    for (final String? message in messages) {
+      instance!.postMessage(message!);
+    }
+  }
+
+  @override
+  void postBinaryMessage(int instanceId, Uint8List message) {
+    final JavaScriptChannel? instance =
+        instanceManager.getInstance(instanceId) as JavaScriptChannel?;
+    assert(
+      instance != null,
+      'InstanceManager does not contain an JavaScriptChannel with instanceId: $instanceId',
+    );
+    instance!.postBinaryMessage(message);
+  }
 }
 
 /// Host api implementation for [WebViewClient].
@@ -533,7 +577,7 @@ class WebViewClientFlutterApiImpl extends WebViewClientFlutterApi {
 
   @override
   void dispose(int instanceId) {
-    instanceManager.removeInstance(instanceId);
+    instanceManager.removeInstanceWithId(instanceId);
   }
 
   @override
@@ -688,6 +732,25 @@ class DownloadListenerHostApiImpl extends DownloadListenerHostApi {
       return create(instanceId);
     }
   }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> setDownloadDirectoryFromInstance(
+    DownloadListener instance,
+    String directory,
+  ) {
+    return setDownloadDirectory(
+      instanceManager.getInstanceId(instance)!,
+      directory,
+    );
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> cancelDownloadFromInstance(
+    DownloadListener instance,
+    String url,
+  ) {
+    return cancelDownload(instanceManager.getInstanceId(instance)!, url);
+  }
 }
 
 /// Flutter api implementation for [DownloadListener].
@@ -702,7 +765,7 @@ class DownloadListenerFlutterApiImpl extends DownloadListenerFlutterApi {
 
   @override
   void dispose(int instanceId) {
-    instanceManager.removeInstance(instanceId);
+    instanceManager.removeInstanceWithId(instanceId);
   }
 
   @override
@@ -728,6 +791,40 @@ class DownloadListenerFlutterApiImpl extends DownloadListenerFlutterApi {
       contentLength,
     );
   }
+
+  @override
+  void onDownloadProgress(
+    int instanceId,
+    String url,
+    int receivedBytes,
+    int totalBytes,
+  ) {
+    _getDownloadListener(instanceId).onDownloadProgress(
+      url,
+      receivedBytes,
+      totalBytes,
+    );
+  }
+
+  @override
+  void onDownloadFinished(int instanceId, String url, String filePath) {
+    _getDownloadListener(instanceId).onDownloadFinished(url, filePath);
+  }
+
+  @override
+  void onDownloadFailed(int instanceId, String url, String error) {
+    _getDownloadListener(instanceId).onDownloadFailed(url, error);
+  }
+
+  DownloadListener _getDownloadListener(int instanceId) {
+    final DownloadListener? instance =
+        instanceManager.getInstance(instanceId) as DownloadListener?;
+    assert(
+      instance != null,
+      'InstanceManager does not contain an DownloadListener with instanceId: $instanceId',
+    );
+    return instance!;
+  }
 }
 
 /// Host api implementation for [DownloadListener].
@@ -767,7 +864,7 @@ class WebChromeClientFlutterApiImpl extends WebChromeClientFlutterApi {
 
   @override
   void dispose(int instanceId) {
-    instanceManager.removeInstance(instanceId);
+    instanceManager.removeInstanceWithId(instanceId);
   }
 
   @override
@@ -787,3 +884,56 @@ class WebChromeClientFlutterApiImpl extends WebChromeClientFlutterApi {
     instance!.onProgressChanged(webViewInstance!, progress);
   }
 }
+
+/// Flutter api implementation for [InstanceManager].
+class InstanceManagerFlutterApiImpl extends InstanceManagerFlutterApi {
+  /// Constructs a [InstanceManagerFlutterApiImpl].
+  InstanceManagerFlutterApiImpl({InstanceManager? instanceManager}) {
+    this.instanceManager = instanceManager ?? InstanceManager.instance;
+  }
+
+  /// Maintains instances stored to communicate with java objects.
+  late final InstanceManager instanceManager;
+
+  @override
+  void onInstancesFinalized(List<int?> instanceIds) {
+    for (final int? instanceId in instanceIds) {
+      instanceManager.removeInstanceWithId(instanceId!);
+    }
+  }
+}
+
+/// Flutter api implementation for [MemoryTrimmer].
+class MemoryTrimmerFlutterApiImpl extends MemoryTrimmerFlutterApi {
+  /// Constructs a [MemoryTrimmerFlutterApiImpl].
+  MemoryTrimmerFlutterApiImpl({InstanceManager? instanceManager}) {
+    this.instanceManager = instanceManager ?? InstanceManager.instance;
+  }
+
+  /// Maintains instances stored to communicate with java objects.
+  late final InstanceManager instanceManager;
+
+  @override
+  void onMemoryTrimmed(
+    MemoryTrimReportData report,
+    List<int?> destroyedWebViewInstanceIds,
+  ) {
+    final List<WebView> destroyedWebViews = <WebView>[];
+    for (final int? instanceId in destroyedWebViewInstanceIds) {
+      final Object? instance = instanceManager.removeInstanceWithId(
+        instanceId!,
+      );
+      if (instance is WebView) {
+        destroyedWebViews.add(instance);
+      }
+    }
+    MemoryTrimmer.onMemoryTrimmed?.call(MemoryTrimReport(
+      level: report.level!,
+      timersPaused: report.timersPaused!,
+      cacheCleared: report.cacheCleared!,
+      releasedPooledWebViewCount: report.releasedPooledWebViewCount!,
+      destroyedWebViews: destroyedWebViews,
+      reclaimedBytes: report.reclaimedBytes!,
+    ));
+  }
+}
@@ -40,6 +40,18 @@ class InstanceManager {
     return instanceId;
   }
 
+  /// Remove the instance with [instanceId] from the manager.
+  ///
+  /// Returns null if the manager doesn't contain [instanceId]. Otherwise,
+  /// returns the removed instance.
+  Object? removeInstanceWithId(int instanceId) {
+    final Object? instance = _instanceIdsToInstances.remove(instanceId);
+    if (instance != null) {
+      _instancesToInstanceIds.remove(instance);
+    }
+    return instance;
+  }
+
   /// Retrieve the Object paired with instanceId.
   Object? getInstance(int instanceId) {
     return _instanceIdsToInstances[instanceId];
@@ -20,6 +20,21 @@ import 'webview_android_widget.dart';
 /// an [AndroidView] to embed the webview in the widget hierarchy, and uses a method channel to
 /// communicate with the platform code.
 class AndroidWebView implements WebViewPlatform {
+  /// Loads the native WebView implementation and keeps [poolSize] WebViews
+  /// ready to be shown by the next [AndroidWebView]s.
+  ///
+  /// See [WebView.prewarm]. Pass `useHybridComposition: true` when the
+  /// WebViews are built with `SurfaceAndroidWebView`.
+  static Future<void> prewarm({
+    int poolSize = 1,
+    bool useHybridComposition = false,
+  }) {
+    return WebView.prewarm(
+      poolSize: poolSize,
+      useHybridComposition: useHybridComposition,
+    );
+  }
+
   @override
   Widget build({
     required BuildContext context,
@@ -2,6 +2,8 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:typed_data';
+
 import 'package:pigeon/pigeon.dart';
 
 class WebResourceRequestData {
@@ -18,6 +20,28 @@ class WebResourceErrorData {
   String? description;
 }
 
+class PageLoadMetricsData {
+  String? url;
+  int? navigationStartTime;
+  int? commitVisibleDuration;
+  int? finishedDuration;
+  int? progress25Duration;
+  int? progress50Duration;
+  int? progress75Duration;
+  int? progress100Duration;
+  int? resourceErrorCount;
+  int? httpErrorCount;
+}
+
+class MemoryTrimReportData {
+  int? level;
+  bool? timersPaused;
+  bool? cacheCleared;
+  int? releasedPooledWebViewCount;
+  int? destroyedWebViewCount;
+  int? reclaimedBytes;
+}
+
 @HostApi()
 abstract class CookieManagerHostApi {
   @async
@@ -146,6 +170,10 @@ abstract class JavaScriptChannelFlutterApi {
   void dispose(int instanceId);
 
   void postMessage(int instanceId, String message);
+
+  void postMessages(int instanceId, List<String> messages);
+
+  void postBinaryMessage(int instanceId, Uint8List message);
 }
 
 @HostApi(dartHostTestHandler: 'TestWebViewClientHostApi')
@@ -188,6 +216,10 @@ abstract class WebViewClientFlutterApi {
 @HostApi(dartHostTestHandler: 'TestDownloadListenerHostApi')
 abstract class DownloadListenerHostApi {
   void create(int instanceId);
+
+  void setDownloadDirectory(int instanceId, String directory);
+
+  void cancelDownload(int instanceId, String url);
 }
 
 @FlutterApi()
@@ -202,6 +234,17 @@ abstract class DownloadListenerFlutterApi {
     String mimetype,
     int contentLength,
   );
+
+  void onDownloadProgress(
+    int instanceId,
+    String url,
+    int receivedBytes,
+    int totalBytes,
+  );
+
+  void onDownloadFinished(int instanceId, String url, String filePath);
+
+  void onDownloadFailed(int instanceId, String url, String error);
 }
 
 @HostApi(dartHostTestHandler: 'TestWebChromeClientHostApi')
@@ -222,3 +265,83 @@ abstract class WebChromeClientFlutterApi {
 
   void onProgressChanged(int instanceId, int webViewInstanceId, int progress);
 }
+
+@HostApi()
+abstract class WebViewPoolHostApi {
+  void prewarm(int poolSize, bool useHybridComposition);
+}
+
+@HostApi()
+abstract class WebResourceInterceptorHostApi {
+  void setAssetRule(String urlPrefix, String assetDirectory);
+
+  void removeAssetRule(String urlPrefix);
+
+  void setCache(List<String> urlPrefixes, int maxSize);
+
+  void clearCache();
+
+  Map<String, int> getStats();
+}
+
+@HostApi()
+abstract class JavaScriptChannelBatchingHostApi {
+  void setBatchingEnabled(int instanceId, bool enabled);
+}
+
+@HostApi()
+abstract class JavaScriptBatchHostApi {
+  @async
+  List<String> evaluateJavascriptBatch(
+    int webViewInstanceId,
+    List<String> javascriptStrings,
+  );
+}
+
+@HostApi()
+abstract class UserScriptHostApi {
+  void addUserScript(
+    int webViewInstanceId,
+    String scriptId,
+    String source,
+    List<String> allowedOriginRules,
+  );
+
+  void removeUserScript(int webViewInstanceId, String scriptId);
+
+  void removeAllUserScripts(int webViewInstanceId);
+}
+
+@HostApi()
+abstract class PageLoadMetricsHostApi {
+  void setEnabled(bool enabled);
+
+  List<PageLoadMetricsData> takeMetrics(int webViewInstanceId);
+}
+
+@HostApi()
+abstract class InstanceManagerHostApi {
+  Map<String, int> getStats();
+}
+
+@FlutterApi()
+abstract class InstanceManagerFlutterApi {
+  void onInstancesFinalized(List<int> instanceIds);
+}
+
+@HostApi()
+abstract class MemoryTrimmerHostApi {
+  void setPolicy(
+    bool pauseTimers,
+    bool clearCaches,
+    bool destroyOffscreenWebViews,
+  );
+}
+
+@FlutterApi()
+abstract class MemoryTrimmerFlutterApi {
+  void onMemoryTrimmed(
+    MemoryTrimReportData report,
+    List<int> destroyedWebViewInstanceIds,
+  );
+}
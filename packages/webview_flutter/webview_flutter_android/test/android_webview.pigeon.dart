@@ -1046,6 +1046,8 @@ abstract class TestDownloadListenerHostApi {
       _TestDownloadListenerHostApiCodec();
 
   void create(int instanceId);
+  void setDownloadDirectory(int instanceId, String directory);
+  void cancelDownload(int instanceId, String url);
   static void setup(TestDownloadListenerHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -1067,6 +1069,50 @@ abstract class TestDownloadListenerHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.DownloadListenerHostApi.setDownloadDirectory', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.DownloadListenerHostApi.setDownloadDirectory was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.DownloadListenerHostApi.setDownloadDirectory was null, expected non-null int.');
+          final String? arg_directory = (args[1] as String?);
+          assert(arg_directory != null,
+              'Argument for dev.flutter.pigeon.DownloadListenerHostApi.setDownloadDirectory was null, expected non-null String.');
+          api.setDownloadDirectory(arg_instanceId!, arg_directory!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.DownloadListenerHostApi.cancelDownload', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.DownloadListenerHostApi.cancelDownload was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.DownloadListenerHostApi.cancelDownload was null, expected non-null int.');
+          final String? arg_url = (args[1] as String?);
+          assert(arg_url != null,
+              'Argument for dev.flutter.pigeon.DownloadListenerHostApi.cancelDownload was null, expected non-null String.');
+          api.cancelDownload(arg_instanceId!, arg_url!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
   }
 }
 
@@ -2,6 +2,8 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:typed_data';
+
 import 'package:flutter_test/flutter_test.dart';
 import 'package:mockito/annotations.dart';
 import 'package:mockito/mockito.dart';
@@ -16,6 +18,7 @@ import 'android_webview_test.mocks.dart';
 @GenerateMocks(<Type>[
   CookieManagerHostApi,
   DownloadListener,
+  JavaScriptBatchHostApi,
   JavaScriptChannel,
   TestDownloadListenerHostApi,
   TestJavaScriptChannelHostApi,
@@ -167,6 +170,21 @@ void main() {
         );
       });
 
+      test('evaluateJavascriptBatch', () {
+        final MockJavaScriptBatchHostApi mockJavaScriptBatchApi =
+            MockJavaScriptBatchHostApi();
+        WebView.javaScriptBatchApi = mockJavaScriptBatchApi;
+        when(mockJavaScriptBatchApi.evaluateJavascriptBatch(
+          webViewInstanceId,
+          <String>['var a = 1', 'a + 1'],
+        )).thenAnswer((_) => Future<List<String?>>.value(<String?>['1', '2']));
+
+        expect(
+          webView.evaluateJavascriptBatch(<String>['var a = 1', 'a + 1']),
+          completion(<String>['1', '2']),
+        );
+      });
+
       test('getTitle', () {
         when(mockPlatformHostApi.getTitle(webViewInstanceId))
             .thenReturn('aTitle');
@@ -466,6 +484,23 @@ void main() {
         );
         verify(mockJavaScriptChannel.postMessage('Hello, World!'));
       });
+
+      test('postMessages', () {
+        flutterApi.postMessages(
+          mockJavaScriptChannelInstanceId,
+          <String>['Hello', 'World'],
+        );
+        expect(
+          verify(mockJavaScriptChannel.postMessage(captureAny)).captured,
+          <String>['Hello', 'World'],
+        );
+      });
+
+      test('postBinaryMessage', () {
+        final Uint8List message = Uint8List.fromList(<int>[0, 127, 255]);
+        flutterApi.postBinaryMessage(mockJavaScriptChannelInstanceId, message);
+        verify(mockJavaScriptChannel.postBinaryMessage(message));
+      });
     });
 
     group('$WebViewClient', () {
@@ -619,6 +654,46 @@ void main() {
           45,
         ));
       });
+
+      test('onDownloadProgress', () {
+        flutterApi.onDownloadProgress(
+          mockDownloadListenerInstanceId,
+          'url',
+          10,
+          45,
+        );
+        verify(mockDownloadListener.onDownloadProgress('url', 10, 45));
+      });
+
+      test('onDownloadFinished', () {
+        flutterApi.onDownloadFinished(
+          mockDownloadListenerInstanceId,
+          'url',
+          '/downloads/file.pdf',
+        );
+        verify(mockDownloadListener.onDownloadFinished(
+          'url',
+          '/downloads/file.pdf',
+        ));
+      });
+
+      test('setDownloadDirectory', () {
+        final MockTestDownloadListenerHostApi mockHostApi =
+            MockTestDownloadListenerHostApi();
+        TestDownloadListenerHostApi.setup(mockHostApi);
+        final DownloadListenerHostApiImpl hostApi = DownloadListenerHostApiImpl(
+          instanceManager: instanceManager,
+        );
+
+        hostApi.setDownloadDirectoryFromInstance(
+          mockDownloadListener,
+          '/downloads',
+        );
+        verify(mockHostApi.setDownloadDirectory(
+          mockDownloadListenerInstanceId,
+          '/downloads',
+        ));
+      });
     });
 
     group('$WebChromeClient', () {
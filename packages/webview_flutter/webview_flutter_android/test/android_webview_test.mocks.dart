@@ -61,6 +61,51 @@ class MockDownloadListener extends _i1.Mock implements _i2.DownloadListener {
               [url, userAgent, contentDisposition, mimetype, contentLength]),
           returnValueForMissingStub: null);
   @override
+  _i4.Future<void> setDownloadDirectory(String? directory) =>
+      (super.noSuchMethod(Invocation.method(#setDownloadDirectory, [directory]),
+          returnValue: Future<void>.value(),
+          returnValueForMissingStub: Future<void>.value()) as _i4.Future<void>);
+  @override
+  _i4.Future<void> cancelDownload(String? url) =>
+      (super.noSuchMethod(Invocation.method(#cancelDownload, [url]),
+          returnValue: Future<void>.value(),
+          returnValueForMissingStub: Future<void>.value()) as _i4.Future<void>);
+  @override
+  void onDownloadProgress(String? url, int? receivedBytes, int? totalBytes) =>
+      super.noSuchMethod(
+          Invocation.method(
+              #onDownloadProgress, [url, receivedBytes, totalBytes]),
+          returnValueForMissingStub: null);
+  @override
+  void onDownloadFinished(String? url, String? filePath) => super.noSuchMethod(
+      Invocation.method(#onDownloadFinished, [url, filePath]),
+      returnValueForMissingStub: null);
+  @override
+  void onDownloadFailed(String? url, String? error) => super.noSuchMethod(
+      Invocation.method(#onDownloadFailed, [url, error]),
+      returnValueForMissingStub: null);
+  @override
+  String toString() => super.toString();
+}
+
+/// A class which mocks [JavaScriptBatchHostApi].
+///
+/// See the documentation for Mockito's code generation for more information.
+class MockJavaScriptBatchHostApi extends _i1.Mock
+    implements _i3.JavaScriptBatchHostApi {
+  MockJavaScriptBatchHostApi() {
+    _i1.throwOnMissingStub(this);
+  }
+
+  @override
+  _i4.Future<List<String?>> evaluateJavascriptBatch(
+          int? arg_webViewInstanceId, List<String?>? arg_javascriptStrings) =>
+      (super.noSuchMethod(
+              Invocation.method(#evaluateJavascriptBatch,
+                  [arg_webViewInstanceId, arg_javascriptStrings]),
+              returnValue: Future<List<String?>>.value(<String?>[]))
+          as _i4.Future<List<String?>>);
+  @override
   String toString() => super.toString();
 }
 
@@ -77,10 +122,18 @@ class MockJavaScriptChannel extends _i1.Mock implements _i2.JavaScriptChannel {
       (super.noSuchMethod(Invocation.getter(#channelName), returnValue: '')
           as String);
   @override
+  bool get batchMessages =>
+      (super.noSuchMethod(Invocation.getter(#batchMessages), returnValue: false)
+          as bool);
+  @override
   void postMessage(String? message) =>
       super.noSuchMethod(Invocation.method(#postMessage, [message]),
           returnValueForMissingStub: null);
   @override
+  void postBinaryMessage(_i6.Uint8List? message) =>
+      super.noSuchMethod(Invocation.method(#postBinaryMessage, [message]),
+          returnValueForMissingStub: null);
+  @override
   String toString() => super.toString();
 }
 
@@ -98,6 +151,15 @@ class MockTestDownloadListenerHostApi extends _i1.Mock
       super.noSuchMethod(Invocation.method(#create, [instanceId]),
           returnValueForMissingStub: null);
   @override
+  void setDownloadDirectory(int? instanceId, String? directory) =>
+      super.noSuchMethod(
+          Invocation.method(#setDownloadDirectory, [instanceId, directory]),
+          returnValueForMissingStub: null);
+  @override
+  void cancelDownload(int? instanceId, String? url) => super.noSuchMethod(
+      Invocation.method(#cancelDownload, [instanceId, url]),
+      returnValueForMissingStub: null);
+  @override
   String toString() => super.toString();
 }
 
@@ -31,5 +31,15 @@ void main() {
       expect(testInstanceManager.getInstance(0), null);
       expect(testInstanceManager.removeInstance(object), null);
     });
+
+    test('removeInstanceWithId', () {
+      final Object object = Object();
+      testInstanceManager.tryAddInstance(object);
+
+      expect(testInstanceManager.removeInstanceWithId(0), object);
+      expect(testInstanceManager.getInstanceId(object), null);
+      expect(testInstanceManager.getInstance(0), null);
+      expect(testInstanceManager.removeInstanceWithId(0), null);
+    });
   });
 }
@@ -299,6 +299,30 @@ class MockWebViewAndroidDownloadListener extends _i1.Mock
               [url, userAgent, contentDisposition, mimetype, contentLength]),
           returnValueForMissingStub: null);
   @override
+  _i4.Future<void> setDownloadDirectory(String? directory) =>
+      (super.noSuchMethod(Invocation.method(#setDownloadDirectory, [directory]),
+          returnValue: Future<void>.value(),
+          returnValueForMissingStub: Future<void>.value()) as _i4.Future<void>);
+  @override
+  _i4.Future<void> cancelDownload(String? url) =>
+      (super.noSuchMethod(Invocation.method(#cancelDownload, [url]),
+          returnValue: Future<void>.value(),
+          returnValueForMissingStub: Future<void>.value()) as _i4.Future<void>);
+  @override
+  void onDownloadProgress(String? url, int? receivedBytes, int? totalBytes) =>
+      super.noSuchMethod(
+          Invocation.method(
+              #onDownloadProgress, [url, receivedBytes, totalBytes]),
+          returnValueForMissingStub: null);
+  @override
+  void onDownloadFinished(String? url, String? filePath) => super.noSuchMethod(
+      Invocation.method(#onDownloadFinished, [url, filePath]),
+      returnValueForMissingStub: null);
+  @override
+  void onDownloadFailed(String? url, String? error) => super.noSuchMethod(
+      Invocation.method(#onDownloadFailed, [url, error]),
+      returnValueForMissingStub: null);
+  @override
   String toString() => super.toString();
 }
 
@@ -321,10 +345,18 @@ class MockWebViewAndroidJavaScriptChannel extends _i1.Mock
       (super.noSuchMethod(Invocation.getter(#channelName), returnValue: '')
           as String);
   @override
+  bool get batchMessages =>
+      (super.noSuchMethod(Invocation.getter(#batchMessages), returnValue: false)
+          as bool);
+  @override
   void postMessage(String? message) =>
       super.noSuchMethod(Invocation.method(#postMessage, [message]),
           returnValueForMissingStub: null);
   @override
+  void postBinaryMessage(_i5.Uint8List? message) =>
+      super.noSuchMethod(Invocation.method(#postBinaryMessage, [message]),
+          returnValueForMissingStub: null);
+  @override
   String toString() => super.toString();
 }
 